@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.codec.PostgreSQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLDataRowPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for MySQL and PostgreSQL packet codec engines, encoding result set rows and decoding framed packets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class PacketCodecBenchmark {
+    
+    private static final int DECODE_PACKET_COUNT = 100;
+    
+    @Param({"MySQL", "PostgreSQL"})
+    private String databaseType;
+    
+    @Param({"8", "64"})
+    private int columnCount;
+    
+    @Param({"16", "1024"})
+    private int columnValueLength;
+    
+    private EmbeddedChannel channel;
+    
+    private DatabasePacket<?> rowPacket;
+    
+    private ByteBuf framedPackets;
+    
+    /**
+     * Set up codec channel, row packet and framed packets to decode.
+     */
+    @Setup
+    public void setUp() {
+        Collection<Object> data = createRowData();
+        DatabasePacketCodecEngine<?> codecEngine;
+        if ("MySQL".equals(databaseType)) {
+            codecEngine = new MySQLPacketCodecEngine();
+            rowPacket = new MySQLTextResultSetRowPacket(1, data);
+        } else {
+            codecEngine = new PostgreSQLPacketCodecEngine();
+            rowPacket = new PostgreSQLDataRowPacket(data);
+        }
+        channel = new EmbeddedChannel(new PacketCodec(codecEngine));
+        framedPackets = Unpooled.buffer();
+        for (int i = 0; i < DECODE_PACKET_COUNT; i++) {
+            ByteBuf encoded = encode();
+            framedPackets.writeBytes(encoded);
+            encoded.release();
+        }
+    }
+    
+    private Collection<Object> createRowData() {
+        Collection<Object> result = new ArrayList<>(columnCount);
+        StringBuilder value = new StringBuilder(columnValueLength);
+        for (int i = 0; i < columnValueLength; i++) {
+            value.append((char) ('a' + i % 26));
+        }
+        for (int i = 0; i < columnCount; i++) {
+            result.add(0 == i % 2 ? value.toString() : Long.valueOf(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down codec channel and framed packets.
+     */
+    @TearDown
+    public void tearDown() {
+        framedPackets.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    /**
+     * Encode one result set row packet.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    public int encodeRow() {
+        ByteBuf encoded = encode();
+        int result = encoded.readableBytes();
+        encoded.release();
+        return result;
+    }
+    
+    private ByteBuf encode() {
+        channel.writeOutbound(rowPacket);
+        return channel.readOutbound();
+    }
+    
+    /**
+     * Decode framed packets.
+     *
+     * @return decoded packet count
+     */
+    @Benchmark
+    public int decodePackets() {
+        channel.writeInbound(framedPackets.retainedDuplicate());
+        int result = 0;
+        Object each;
+        while (null != (each = channel.readInbound())) {
+            ReferenceCountUtil.release(each);
+            result++;
+        }
+        return result;
+    }
+}
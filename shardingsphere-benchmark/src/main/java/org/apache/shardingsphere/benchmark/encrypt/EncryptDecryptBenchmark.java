@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.benchmark.encrypt;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkQueryResult;
+import org.apache.shardingsphere.benchmark.fixture.ShardingBenchmarkFixture;
+import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
+import org.apache.shardingsphere.encrypt.merge.dql.EncryptAlgorithmMetaData;
+import org.apache.shardingsphere.encrypt.merge.dql.EncryptDQLResultDecorator;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for decrypting 1 million rows with two AES encrypted columns, the score is rows per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class EncryptDecryptBenchmark {
+    
+    private static final int ROW_COUNT = 1000000;
+    
+    private static final String SQL = "SELECT order_id, user_id, status FROM t_order";
+    
+    private static final List<String> COLUMN_LABELS = Arrays.asList("order_id", "user_id", "status");
+    
+    private static final List<String> COLUMN_TYPE_NAMES = Arrays.asList("BIGINT", "VARCHAR", "VARCHAR");
+    
+    @Param({"0", "4096"})
+    private int readAheadRows;
+    
+    private EncryptRule encryptRule;
+    
+    private ShardingSphereSchema schema;
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private List<Object[]> rows;
+    
+    /**
+     * Set up encrypt rule, bound select statement and synthetic rows with ciphertext.
+     */
+    @Setup
+    public void setUp() {
+        Properties props = new Properties();
+        props.setProperty("aes-key-value", "123456abc");
+        EncryptTableRuleConfiguration tableConfig = new EncryptTableRuleConfiguration("t_order", Arrays.asList(
+                new EncryptColumnRuleConfiguration("user_id", "user_id", null, null, "aes_encryptor"), new EncryptColumnRuleConfiguration("status", "status", null, null, "aes_encryptor")));
+        encryptRule = new EncryptRule(
+                new EncryptRuleConfiguration(Collections.singleton(tableConfig), Collections.singletonMap("aes_encryptor", new ShardingSphereAlgorithmConfiguration("AES", props))));
+        schema = ShardingBenchmarkFixture.createSchema();
+        selectStatementContext = (SelectStatementContext) SQLStatementContextFactory.newInstance(schema, Collections.emptyList(), new ShardingSphereSQLParserEngine("MySQL").parse(SQL, false));
+        EncryptAlgorithm encryptAlgorithm = encryptRule.findEncryptor("t_order", "status").orElseThrow(IllegalStateException::new);
+        rows = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows.add(new Object[]{(long) i, encryptAlgorithm.encrypt(i % 10000), encryptAlgorithm.encrypt(0 == i % 2 ? "PAID" : "INIT")});
+        }
+    }
+    
+    /**
+     * Read and decrypt all rows.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void decryptRows(final Blackhole blackhole) throws SQLException {
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(new EncryptAlgorithmMetaData(schema, encryptRule, selectStatementContext), true, readAheadRows);
+        MergedResult mergedResult = decorator.decorate(new BenchmarkQueryResult(COLUMN_LABELS, COLUMN_TYPE_NAMES, rows), selectStatementContext, encryptRule);
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+            blackhole.consume(mergedResult.getValue(2, Object.class));
+            blackhole.consume(mergedResult.getValue(3, Object.class));
+        }
+    }
+}
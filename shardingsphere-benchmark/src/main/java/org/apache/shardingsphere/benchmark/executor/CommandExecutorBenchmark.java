@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.benchmark.executor;
+
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.executor.kernel.thread.VirtualThreadExecutorBuilder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmark for executing one command on each of many concurrent connections, every command fans out to shards by executor engine.
+ *
+ * <p>
+ * Connections are served by single thread executors as {@code ChannelThreadExecutorGroup} does, the storage latency is simulated by sleeping.
+ * Sample time mode reports the p99 of one round, and the peak platform thread count of each iteration is reported as an auxiliary counter.
+ * Run with {@code virtualThreadEnabled=true} on JDK 21 or later, otherwise it falls back to platform threads.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xss256k")
+public class CommandExecutorBenchmark {
+    
+    @Param({"false", "true"})
+    private boolean virtualThreadEnabled;
+    
+    @Param({"1000", "10000"})
+    private int connectionCount;
+    
+    @Param("4")
+    private int shardCount;
+    
+    @Param("1")
+    private int storageLatencyMillis;
+    
+    private ExecutorEngine executorEngine;
+    
+    private List<ExecutorService> connectionExecutors;
+    
+    private Collection<ExecutionGroup<Integer>> executionGroups;
+    
+    private ExecutorCallback<Integer, Integer> callback;
+    
+    /**
+     * Set up executor engine and executors of connections.
+     */
+    @Setup
+    public void setUp() {
+        executorEngine = new ExecutorEngine(0, virtualThreadEnabled);
+        ThreadFactory threadFactory = virtualThreadEnabled
+                ? VirtualThreadExecutorBuilder.buildThreadFactory("Command-").orElseGet(() -> ExecutorThreadFactoryBuilder.build("Command-%d"))
+                : ExecutorThreadFactoryBuilder.build("Command-%d");
+        connectionExecutors = new ArrayList<>(connectionCount);
+        for (int i = 0; i < connectionCount; i++) {
+            connectionExecutors.add(Executors.newSingleThreadExecutor(threadFactory));
+        }
+        executionGroups = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            executionGroups.add(new ExecutionGroup<>(Collections.singletonList(i)));
+        }
+        callback = (inputs, isTrunkThread, dataMap) -> {
+            sleep(storageLatencyMillis);
+            return new ArrayList<>(inputs);
+        };
+    }
+    
+    /**
+     * Tear down executors.
+     */
+    @TearDown
+    public void tearDown() {
+        connectionExecutors.forEach(ExecutorService::shutdownNow);
+        executorEngine.close();
+    }
+    
+    /**
+     * Execute one command on every connection concurrently.
+     *
+     * @param threadCounters thread counters
+     * @return count of executed shards
+     * @throws InterruptedException interrupted exception
+     */
+    @Benchmark
+    public int executeOneRound(final ThreadCounters threadCounters) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(connectionCount);
+        AtomicInteger result = new AtomicInteger();
+        for (ExecutorService each : connectionExecutors) {
+            each.execute(() -> {
+                try {
+                    result.addAndGet(executorEngine.execute(executionGroups, null, callback, false).size());
+                } catch (final SQLException ex) {
+                    throw new IllegalStateException(ex);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        threadCounters.record();
+        return result.get();
+    }
+    
+    private static void sleep(final int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Thread counters reported by JMH along with the latency.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ThreadCounters {
+        
+        private long peakPlatformThreadCount;
+        
+        /**
+         * Reset peak thread count before each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+            peakPlatformThreadCount = 0;
+        }
+        
+        private void record() {
+            peakPlatformThreadCount = Math.max(peakPlatformThreadCount, ManagementFactory.getThreadMXBean().getPeakThreadCount());
+        }
+        
+        /**
+         * Get peak platform thread count of current iteration.
+         *
+         * @return peak platform thread count
+         */
+        public long peakPlatformThreadCount() {
+            return peakPlatformThreadCount;
+        }
+    }
+}
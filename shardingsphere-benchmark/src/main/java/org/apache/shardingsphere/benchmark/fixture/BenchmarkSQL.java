@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL used by benchmarks, named after the routing engine it hits.
+ */
+@Getter
+public enum BenchmarkSQL {
+    
+    STANDARD("SELECT i.item_id, i.price FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.order_id = ?", 1, 10L),
+    
+    COMPLEX("SELECT o.order_id, u.user_name FROM t_order o JOIN t_user u ON o.user_id = u.user_id WHERE o.user_id IN (?, ?) ORDER BY o.order_id", 1, 2),
+    
+    BROADCAST("UPDATE t_config SET config_value = ? WHERE config_id = ?", "value", 1),
+    
+    INSERT("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?), (?, ?, ?)", 10L, 1, "init", 11L, 2, "init");
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    BenchmarkSQL(final String sql, final Object... parameters) {
+        this.sql = sql;
+        this.parameters = Collections.unmodifiableList(Arrays.asList(parameters));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.DatabaseAccessConfiguration;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.h2.jdbcx.JdbcDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+
+/**
+ * Sharding benchmark fixture.
+ *
+ * <p>
+ * Tables {@code t_order} and {@code t_order_item} are binding tables sharded by {@code user_id} and {@code order_id},
+ * {@code t_user} is a standalone sharding table and {@code t_config} is a broadcast table, all of them are on H2 memory data sources.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingBenchmarkFixture {
+    
+    public static final String SCHEMA_NAME = "sharding_db";
+    
+    private static final int DATA_SOURCE_COUNT = 2;
+    
+    private static final DatabaseType DATABASE_TYPE = DatabaseTypeRegistry.getActualDatabaseType("H2");
+    
+    /**
+     * Create ShardingSphere meta data.
+     *
+     * @return ShardingSphere meta data
+     */
+    public static ShardingSphereMetaData createMetaData() {
+        Map<String, DataSource> dataSourceMap = createDataSourceMap();
+        ShardingRule shardingRule = new ShardingRule(createShardingRuleConfiguration(), DATABASE_TYPE, dataSourceMap);
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.singleton(shardingRule));
+        return new ShardingSphereMetaData(SCHEMA_NAME, createResource(dataSourceMap), ruleMetaData, createSchema());
+    }
+    
+    private static Map<String, DataSource> createDataSourceMap() {
+        Map<String, DataSource> result = new LinkedHashMap<>(DATA_SOURCE_COUNT, 1);
+        for (int i = 0; i < DATA_SOURCE_COUNT; i++) {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL(String.format("jdbc:h2:mem:benchmark_ds_%d;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", i));
+            dataSource.setUser("sa");
+            result.put("ds_" + i, dataSource);
+        }
+        return result;
+    }
+    
+    private static ShardingRuleConfiguration createShardingRuleConfiguration() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTables().add(createTableRuleConfiguration("t_order", "order_id"));
+        result.getTables().add(createTableRuleConfiguration("t_order_item", "order_id"));
+        result.getTables().add(createTableRuleConfiguration("t_user", "user_id"));
+        result.getBindingTableGroups().add("t_order,t_order_item");
+        result.getBroadcastTables().add("t_config");
+        result.getShardingAlgorithms().put("database_inline", createInlineAlgorithmConfiguration("ds_${user_id % 2}"));
+        result.getShardingAlgorithms().put("t_order_inline", createInlineAlgorithmConfiguration("t_order_${order_id % 4}"));
+        result.getShardingAlgorithms().put("t_order_item_inline", createInlineAlgorithmConfiguration("t_order_item_${order_id % 4}"));
+        result.getShardingAlgorithms().put("t_user_inline", createInlineAlgorithmConfiguration("t_user_${user_id % 4}"));
+        return result;
+    }
+    
+    private static ShardingTableRuleConfiguration createTableRuleConfiguration(final String logicTable, final String tableShardingColumn) {
+        ShardingTableRuleConfiguration result = new ShardingTableRuleConfiguration(logicTable, String.format("ds_${0..%d}.%s_${0..3}", DATA_SOURCE_COUNT - 1, logicTable));
+        result.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        result.setTableShardingStrategy(new StandardShardingStrategyConfiguration(tableShardingColumn, logicTable + "_inline"));
+        return result;
+    }
+    
+    private static ShardingSphereAlgorithmConfiguration createInlineAlgorithmConfiguration(final String algorithmExpression) {
+        Properties props = new Properties();
+        props.setProperty("algorithm-expression", algorithmExpression);
+        return new ShardingSphereAlgorithmConfiguration("INLINE", props);
+    }
+    
+    private static ShardingSphereResource createResource(final Map<String, DataSource> dataSourceMap) {
+        Map<String, DatabaseAccessConfiguration> databaseAccessConfigs = new LinkedHashMap<>(dataSourceMap.size(), 1);
+        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+            databaseAccessConfigs.put(entry.getKey(), new DatabaseAccessConfiguration(((JdbcDataSource) entry.getValue()).getURL(), "sa"));
+        }
+        return new ShardingSphereResource(dataSourceMap, new DataSourcesMetaData(DATABASE_TYPE, databaseAccessConfigs), null);
+    }
+    
+    /**
+     * Create schema.
+     *
+     * @return schema
+     */
+    public static ShardingSphereSchema createSchema() {
+        Map<String, TableMetaData> tables = new HashMap<>(4, 1);
+        tables.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", Types.BIGINT, "bigint", true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, "int", false, false, false), new ColumnMetaData("status", Types.VARCHAR, "varchar", false, false, false)), Collections.emptyList()));
+        tables.put("t_order_item", new TableMetaData(Arrays.asList(new ColumnMetaData("item_id", Types.BIGINT, "bigint", true, false, false),
+                new ColumnMetaData("order_id", Types.BIGINT, "bigint", false, false, false), new ColumnMetaData("user_id", Types.INTEGER, "int", false, false, false),
+                new ColumnMetaData("price", Types.DECIMAL, "decimal", false, false, false)), Collections.emptyList()));
+        tables.put("t_user", new TableMetaData(Arrays.asList(new ColumnMetaData("user_id", Types.INTEGER, "int", true, false, false),
+                new ColumnMetaData("user_name", Types.VARCHAR, "varchar", false, false, false)), Collections.emptyList()));
+        tables.put("t_config", new TableMetaData(Arrays.asList(new ColumnMetaData("config_id", Types.INTEGER, "int", true, false, false),
+                new ColumnMetaData("config_value", Types.VARCHAR, "varchar", false, false, false)), Collections.emptyList()));
+        return new ShardingSphereSchema(tables);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQL;
+import org.apache.shardingsphere.benchmark.fixture.ShardingBenchmarkFixture;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code KernelProcessor.generateExecutionContext}, which binds, routes and rewrites a cached SQL statement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class KernelProcessorBenchmark {
+    
+    @Param({"STANDARD", "COMPLEX", "BROADCAST", "INSERT"})
+    private BenchmarkSQL benchmarkSQL;
+    
+    private ShardingSphereMetaData metaData;
+    
+    private ConfigurationProperties props;
+    
+    private SQLStatement sqlStatement;
+    
+    private KernelProcessor kernelProcessor;
+    
+    /**
+     * Set up meta data and parsed SQL statement.
+     */
+    @Setup
+    public void setUp() {
+        metaData = ShardingBenchmarkFixture.createMetaData();
+        props = new ConfigurationProperties(new Properties());
+        sqlStatement = new ShardingSphereSQLParserEngine("MySQL").parse(benchmarkSQL.getSql(), false);
+        kernelProcessor = new KernelProcessor();
+    }
+    
+    /**
+     * Generate execution context.
+     *
+     * @return execution context
+     */
+    @Benchmark
+    public ExecutionContext generateExecutionContext() {
+        LogicSQL logicSQL = new LogicSQL(SQLStatementContextFactory.newInstance(metaData.getSchema(), benchmarkSQL.getParameters(), sqlStatement), benchmarkSQL.getSql(), benchmarkSQL.getParameters());
+        return kernelProcessor.generateExecutionContext(logicSQL, metaData, props);
+    }
+}
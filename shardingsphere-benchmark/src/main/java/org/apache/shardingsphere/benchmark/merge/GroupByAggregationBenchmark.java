@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkQueryResult;
+import org.apache.shardingsphere.benchmark.fixture.ShardingBenchmarkFixture;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for group by memory merging with aggregations over 10 million synthetic rows of 32 shards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class GroupByAggregationBenchmark {
+    
+    private static final String SQL = "SELECT user_id, SUM(order_id) AS order_id_sum, COUNT(order_id) AS order_count, MAX(order_id) AS max_order_id FROM t_order GROUP BY user_id";
+    
+    private static final List<String> COLUMN_LABELS = Arrays.asList("user_id", "order_id_sum", "order_count", "max_order_id");
+    
+    private static final List<String> COLUMN_TYPE_NAMES = Arrays.asList("INT", "DECIMAL", "BIGINT", "BIGINT");
+    
+    @Param({"32"})
+    private int shardCount;
+    
+    @Param({"312500"})
+    private int rowCountPerShard;
+    
+    @Param({"100", "100000"})
+    private int groupCount;
+    
+    private ShardingSphereSchema schema;
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private List<Object[]> rows;
+    
+    /**
+     * Set up bound select statement and synthetic rows shared by every shard.
+     */
+    @Setup
+    public void setUp() {
+        schema = ShardingBenchmarkFixture.createSchema();
+        selectStatementContext = (SelectStatementContext) SQLStatementContextFactory.newInstance(schema, Collections.emptyList(), new ShardingSphereSQLParserEngine("MySQL").parse(SQL, false));
+        Map<String, Integer> columnLabelIndexMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < COLUMN_LABELS.size(); i++) {
+            columnLabelIndexMap.put(COLUMN_LABELS.get(i), i + 1);
+        }
+        selectStatementContext.setIndexes(columnLabelIndexMap);
+        rows = new ArrayList<>(rowCountPerShard);
+        for (int i = 0; i < rowCountPerShard; i++) {
+            rows.add(new Object[]{i % groupCount, BigDecimal.valueOf(i * 10L), 10L, (long) i});
+        }
+    }
+    
+    /**
+     * Merge shard results by group by items with aggregations in memory.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeGroupByAggregation(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            queryResults.add(new BenchmarkQueryResult(COLUMN_LABELS, COLUMN_TYPE_NAMES, rows));
+        }
+        MergedResult mergedResult = new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(2, Object.class));
+            blackhole.consume(mergedResult.getValue(3, Object.class));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkQueryResult;
+import org.apache.shardingsphere.benchmark.fixture.ShardingBenchmarkFixture;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for order by stream merging and group by memory merging over synthetic query results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ShardingMergeBenchmark {
+    
+    private static final String ORDER_BY_SQL = "SELECT order_id, user_id, status FROM t_order ORDER BY order_id";
+    
+    private static final String GROUP_BY_SQL = "SELECT user_id, SUM(order_id) AS order_id_sum, COUNT(order_id) AS order_count FROM t_order GROUP BY user_id";
+    
+    @Param({"4", "32"})
+    private int shardCount;
+    
+    @Param({"10000"})
+    private int rowCountPerShard;
+    
+    @Param({"1000"})
+    private int groupCount;
+    
+    private ShardingSphereSchema schema;
+    
+    private SelectStatementContext orderBySelectStatementContext;
+    
+    private SelectStatementContext groupBySelectStatementContext;
+    
+    private List<List<Object[]>> orderByRows;
+    
+    private List<List<Object[]>> groupByRows;
+    
+    /**
+     * Set up bound select statements and synthetic rows of every shard.
+     */
+    @Setup
+    public void setUp() {
+        schema = ShardingBenchmarkFixture.createSchema();
+        ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine("MySQL");
+        orderBySelectStatementContext = createSelectStatementContext(sqlParserEngine, ORDER_BY_SQL, Arrays.asList("order_id", "user_id", "status"));
+        groupBySelectStatementContext = createSelectStatementContext(sqlParserEngine, GROUP_BY_SQL, Arrays.asList("user_id", "order_id_sum", "order_count"));
+        orderByRows = new ArrayList<>(shardCount);
+        groupByRows = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            List<Object[]> shardOrderByRows = new ArrayList<>(rowCountPerShard);
+            List<Object[]> shardGroupByRows = new ArrayList<>(rowCountPerShard);
+            for (int i = 0; i < rowCountPerShard; i++) {
+                long orderId = (long) i * shardCount + shard;
+                shardOrderByRows.add(new Object[]{orderId, (int) (orderId % groupCount), "init"});
+                shardGroupByRows.add(new Object[]{i % groupCount, orderId, 1L});
+            }
+            orderByRows.add(shardOrderByRows);
+            groupByRows.add(shardGroupByRows);
+        }
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final ShardingSphereSQLParserEngine sqlParserEngine, final String sql, final List<String> columnLabels) {
+        SelectStatementContext result = (SelectStatementContext) SQLStatementContextFactory.newInstance(schema, Collections.emptyList(), sqlParserEngine.parse(sql, false));
+        Map<String, Integer> columnLabelIndexMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < columnLabels.size(); i++) {
+            columnLabelIndexMap.put(columnLabels.get(i), i + 1);
+        }
+        result.setIndexes(columnLabelIndexMap);
+        return result;
+    }
+    
+    /**
+     * Merge shard results by order by items.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeOrderByStream(final Blackhole blackhole) throws SQLException {
+        consume(new OrderByStreamMergedResult(createQueryResults(orderByRows, Arrays.asList("order_id", "user_id", "status"), Arrays.asList("BIGINT", "INT", "VARCHAR")),
+                orderBySelectStatementContext, schema), blackhole);
+    }
+    
+    /**
+     * Merge shard results by group by items in memory.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeGroupByMemory(final Blackhole blackhole) throws SQLException {
+        consume(new GroupByMemoryMergedResult(createQueryResults(groupByRows, Arrays.asList("user_id", "order_id_sum", "order_count"), Arrays.asList("INT", "DECIMAL", "BIGINT")),
+                groupBySelectStatementContext, schema), blackhole);
+    }
+    
+    private List<QueryResult> createQueryResults(final List<List<Object[]>> rows, final List<String> columnLabels, final List<String> columnTypeNames) {
+        List<QueryResult> result = new ArrayList<>(rows.size());
+        for (List<Object[]> each : rows) {
+            result.add(new BenchmarkQueryResult(columnLabels, columnTypeNames, each));
+        }
+        return result;
+    }
+    
+    private void consume(final MergedResult mergedResult, final Blackhole blackhole) throws SQLException {
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+            blackhole.consume(mergedResult.getValue(2, Object.class));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.proxy;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.MySQLCommandExecuteEngine;
+import org.apache.shardingsphere.transaction.core.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for rows per second written through {@code MySQLCommandExecuteEngine.writeQueryData} and encoded by MySQL packet codec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class MySQLQueryDataWriteBenchmark {
+    
+    private static final int ROW_COUNT = 1000;
+    
+    @Param({"8", "64"})
+    private int columnCount;
+    
+    @Param({"16", "1024"})
+    private int columnValueLength;
+    
+    private final MySQLCommandExecuteEngine commandExecuteEngine = new MySQLCommandExecuteEngine();
+    
+    private final BackendConnection backendConnection = new BackendConnection(TransactionType.LOCAL);
+    
+    private EmbeddedChannel channel;
+    
+    private ChannelHandlerContext context;
+    
+    private FixedRowsQueryCommandExecutor queryCommandExecutor;
+    
+    /**
+     * Set up channel with MySQL packet codec and query command executor.
+     */
+    @Setup
+    public void setUp() {
+        channel = new EmbeddedChannel(new PacketCodec(new MySQLPacketCodecEngine()), new ChannelInboundHandlerAdapter());
+        channel.config().setWriteBufferHighWaterMark(Integer.MAX_VALUE);
+        context = channel.pipeline().lastContext();
+        queryCommandExecutor = new FixedRowsQueryCommandExecutor(new MySQLTextResultSetRowPacket(1, createRowData()));
+    }
+    
+    private Collection<Object> createRowData() {
+        Collection<Object> result = new ArrayList<>(columnCount);
+        StringBuilder value = new StringBuilder(columnValueLength);
+        for (int i = 0; i < columnValueLength; i++) {
+            value.append((char) ('a' + i % 26));
+        }
+        for (int i = 0; i < columnCount; i++) {
+            result.add(0 == i % 2 ? value.toString() : Long.valueOf(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down channel.
+     */
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+    
+    /**
+     * Write query data rows.
+     *
+     * @return written message count
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public int writeQueryData() throws SQLException {
+        queryCommandExecutor.reset();
+        commandExecuteEngine.writeQueryData(context, backendConnection, queryCommandExecutor, 0);
+        context.flush();
+        int result = channel.outboundMessages().size();
+        channel.releaseOutbound();
+        return result;
+    }
+    
+    private static final class FixedRowsQueryCommandExecutor implements QueryCommandExecutor {
+        
+        private final DatabasePacket<?> rowPacket;
+        
+        private int remainingRows;
+        
+        FixedRowsQueryCommandExecutor(final DatabasePacket<?> rowPacket) {
+            this.rowPacket = rowPacket;
+        }
+        
+        void reset() {
+            remainingRows = ROW_COUNT;
+        }
+        
+        @Override
+        public Collection<DatabasePacket<?>> execute() {
+            return Collections.emptyList();
+        }
+        
+        @Override
+        public ResponseType getResponseType() {
+            return ResponseType.QUERY;
+        }
+        
+        @Override
+        public boolean next() {
+            return remainingRows-- > 0;
+        }
+        
+        @Override
+        public DatabasePacket<?> getQueryData() {
+            return rowPacket;
+        }
+    }
+}
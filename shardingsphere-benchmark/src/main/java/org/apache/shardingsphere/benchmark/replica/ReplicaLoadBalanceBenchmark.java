@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.replica;
+
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatisticsSQLExecutionHook;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.replicaquery.spi.ReplicaLoadBalanceAlgorithm;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for replica load-balance algorithms over H2 replicas, one of which is artificially slowed down.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class ReplicaLoadBalanceBenchmark {
+    
+    private static final String PRIMARY_DATA_SOURCE_NAME = "primary_ds";
+    
+    private static final String SLOW_REPLICA_DATA_SOURCE_NAME = "replica_ds_0";
+    
+    private static final String SQL = "CALL REPLICA_DELAY()";
+    
+    private static final long SLOW_REPLICA_DELAY_MILLIS = 5L;
+    
+    static {
+        ShardingSphereServiceLoader.register(ReplicaLoadBalanceAlgorithm.class);
+    }
+    
+    @Param({"ROUND_ROBIN", "RANDOM", "LATENCY_AWARE"})
+    private String loadBalancerType;
+    
+    @Param({"4"})
+    private int replicaCount;
+    
+    private ReplicaLoadBalanceAlgorithm loadBalanceAlgorithm;
+    
+    private List<String> replicaDataSourceNames;
+    
+    private Map<String, DataSource> dataSources;
+    
+    /**
+     * Set up load-balance algorithm and H2 replicas.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        loadBalanceAlgorithm = ShardingSphereAlgorithmFactory.createAlgorithm(new ShardingSphereAlgorithmConfiguration(loadBalancerType, new Properties()), ReplicaLoadBalanceAlgorithm.class);
+        replicaDataSourceNames = new ArrayList<>(replicaCount);
+        dataSources = new HashMap<>(replicaCount, 1);
+        for (int i = 0; i < replicaCount; i++) {
+            String dataSourceName = "replica_ds_" + i;
+            replicaDataSourceNames.add(dataSourceName);
+            dataSources.put(dataSourceName, createDataSource(dataSourceName, SLOW_REPLICA_DATA_SOURCE_NAME.equals(dataSourceName) ? "slowDown" : "noDelay"));
+        }
+    }
+    
+    private DataSource createDataSource(final String dataSourceName, final String delayMethodName) throws SQLException {
+        JdbcDataSource result = new JdbcDataSource();
+        result.setURL(String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1", dataSourceName));
+        result.setUser("sa");
+        try (
+                Connection connection = result.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(String.format("CREATE ALIAS IF NOT EXISTS REPLICA_DELAY FOR \"%s.%s\"", ReplicaLoadBalanceBenchmark.class.getName(), delayMethodName));
+        }
+        return result;
+    }
+    
+    /**
+     * Delay of slow replica.
+     * 
+     * @throws InterruptedException interrupted exception
+     */
+    public static void slowDown() throws InterruptedException {
+        Thread.sleep(SLOW_REPLICA_DELAY_MILLIS);
+    }
+    
+    /**
+     * Delay of normal replica.
+     */
+    public static void noDelay() {
+    }
+    
+    /**
+     * Route query to replica selected by load-balance algorithm and execute it.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void routeAndExecute() throws SQLException {
+        String dataSourceName = loadBalanceAlgorithm.getDataSource("pr_ds", PRIMARY_DATA_SOURCE_NAME, replicaDataSourceNames);
+        SQLExecutionHook hook = new DataSourceExecutionStatisticsSQLExecutionHook();
+        hook.start(dataSourceName, SQL, Collections.emptyList(), null, true, Collections.emptyMap());
+        try (
+                Connection connection = dataSources.get(dataSourceName).getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(SQL);
+            hook.finishSuccess();
+        } catch (final SQLException ex) {
+            hook.finishFailure(ex);
+            throw ex;
+        }
+    }
+}
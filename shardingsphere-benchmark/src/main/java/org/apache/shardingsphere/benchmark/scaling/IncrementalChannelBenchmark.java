@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.scaling;
+
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.scaling.core.execute.executor.channel.Channel;
+import org.apache.shardingsphere.scaling.core.execute.executor.channel.ChannelFactory;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
+import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmark for incremental sync lag of scaling channels under sustained write load.
+ *
+ * <p>
+ * One dumper thread pushes records at a fixed rate, importer threads fetch batches and flush them with a simulated latency.
+ * One invocation pushes {@code recordCount} records and returns after all of them are acknowledged,
+ * the average and max lag from commit to acknowledgement of each iteration are reported as auxiliary counters.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class IncrementalChannelBenchmark {
+    
+    @Param({"DISTRIBUTION", "RING_BUFFER"})
+    private String channelType;
+    
+    @Param("3")
+    private int importerCount;
+    
+    @Param("20000")
+    private int recordsPerSecond;
+    
+    @Param("20000")
+    private int recordCount;
+    
+    @Param("1")
+    private int flushLatencyMillis;
+    
+    private final AtomicLong acknowledgedCount = new AtomicLong();
+    
+    private final AtomicLong lagSampleCount = new AtomicLong();
+    
+    private final AtomicLong totalLagMillis = new AtomicLong();
+    
+    private final AtomicLong maxLagMillis = new AtomicLong();
+    
+    private Channel channel;
+    
+    private volatile boolean running;
+    
+    private long pushedCount;
+    
+    /**
+     * Set up channel and importer threads.
+     */
+    @Setup
+    public void setUp() {
+        ServerConfiguration serverConfig = new ServerConfiguration();
+        serverConfig.setChannelType(channelType);
+        ScalingContext.getInstance().init(serverConfig);
+        channel = ChannelFactory.newInstance(importerCount, this::onAck);
+        running = true;
+        for (int i = 0; i < importerCount; i++) {
+            Channel importerChannel = ChannelFactory.getImporterChannel(channel, i);
+            Thread importer = new Thread(() -> importRecords(importerChannel), "Importer-" + i);
+            importer.setDaemon(true);
+            importer.start();
+        }
+    }
+    
+    /**
+     * Reset lag before each iteration.
+     */
+    @Setup(Level.Iteration)
+    public void resetLag() {
+        lagSampleCount.set(0L);
+        totalLagMillis.set(0L);
+        maxLagMillis.set(0L);
+    }
+    
+    private void onAck(final List<Record> records) {
+        long now = System.currentTimeMillis();
+        for (Record each : records) {
+            long lag = now - each.getCommitTime();
+            totalLagMillis.addAndGet(lag);
+            maxLagMillis.accumulateAndGet(lag, Math::max);
+        }
+        lagSampleCount.addAndGet(records.size());
+        acknowledgedCount.addAndGet(records.size());
+    }
+    
+    private void importRecords(final Channel importerChannel) {
+        while (running) {
+            List<Record> records = importerChannel.fetchRecords(1024, 3);
+            if (!records.isEmpty()) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushLatencyMillis));
+            }
+            importerChannel.ack();
+        }
+    }
+    
+    /**
+     * Tear down channel.
+     */
+    @TearDown
+    public void tearDown() {
+        running = false;
+        channel.close();
+    }
+    
+    /**
+     * Push records at the configured rate and wait until all of them are acknowledged.
+     *
+     * @param lagCounters lag counters
+     * @return acknowledged count
+     * @throws InterruptedException interrupted exception
+     */
+    @Benchmark
+    public long pushAndAcknowledge(final LagCounters lagCounters) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1L) / recordsPerSecond;
+        long start = System.nanoTime();
+        for (int i = 0; i < recordCount; i++) {
+            long waitNanos = start + i * intervalNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            channel.pushRecord(newRecord(pushedCount++));
+        }
+        while (acknowledgedCount.get() < pushedCount) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100L));
+        }
+        lagCounters.averageLagMillis = totalLagMillis.get() / Math.max(lagSampleCount.get(), 1L);
+        lagCounters.maxLagMillis = maxLagMillis.get();
+        return acknowledgedCount.get();
+    }
+    
+    private DataRecord newRecord(final long id) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 1);
+        result.setTableName("t_order");
+        result.addColumn(new Column("order_id", id, true, true));
+        result.setCommitTime(System.currentTimeMillis());
+        return result;
+    }
+    
+    /**
+     * Lag counters reported by JMH along with the latency.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LagCounters {
+        
+        private long averageLagMillis;
+        
+        private long maxLagMillis;
+        
+        /**
+         * Get average lag from commit to acknowledgement of current iteration.
+         *
+         * @return average lag millis
+         */
+        public long averageLagMillis() {
+            return averageLagMillis;
+        }
+        
+        /**
+         * Get max lag from commit to acknowledgement of current iteration.
+         *
+         * @return max lag millis
+         */
+        public long maxLagMillis() {
+            return maxLagMillis;
+        }
+    }
+}
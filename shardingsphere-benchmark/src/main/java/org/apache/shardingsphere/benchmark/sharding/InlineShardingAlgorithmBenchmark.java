@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.sharding;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineExpressionParser;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for inline sharding algorithm, comparing the compiled expression, the groovy fallback and the legacy closure per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class InlineShardingAlgorithmBenchmark {
+    
+    @Param({"t_order_${order_id % 4}", "t_order_${order_id.hashCode() % 4}", "t_order_${(order_id % 4).abs()}"})
+    private String algorithmExpression;
+    
+    private final Collection<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+    
+    private InlineShardingAlgorithm shardingAlgorithm;
+    
+    /**
+     * Set up inline sharding algorithm.
+     */
+    @Setup
+    public void setUp() {
+        shardingAlgorithm = new InlineShardingAlgorithm();
+        shardingAlgorithm.getProps().setProperty("algorithm-expression", algorithmExpression);
+        shardingAlgorithm.init();
+    }
+    
+    /**
+     * Shard with inline sharding algorithm.
+     *
+     * @return target name
+     */
+    @Benchmark
+    public String doSharding() {
+        return shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", ThreadLocalRandom.current().nextLong(Long.MAX_VALUE)));
+    }
+    
+    /**
+     * Shard with a new groovy closure per call, as inline sharding algorithm did before expressions were compiled.
+     *
+     * @return target name
+     */
+    @Benchmark
+    public String doShardingWithClosurePerCall() {
+        Closure<?> closure = new InlineExpressionParser(InlineExpressionParser.handlePlaceHolder(algorithmExpression)).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        closure.setProperty("order_id", ThreadLocalRandom.current().nextLong(Long.MAX_VALUE));
+        return closure.call().toString();
+    }
+}
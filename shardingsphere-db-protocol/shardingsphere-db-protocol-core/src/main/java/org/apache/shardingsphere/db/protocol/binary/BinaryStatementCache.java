@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.binary;
+
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Connection scope binary prepared statement cache.
+ *
+ * <p>
+ * The cache starts small and grows with the statements prepared by the connection.
+ * When the size exceeds max statement count, the least recently used statement is evicted,
+ * the oldest statement is only searched while evicting so that registering and getting are lock free.
+ * </p>
+ *
+ * @param <K> type of statement ID
+ * @param <V> type of binary statement
+ */
+public final class BinaryStatementCache<K, V extends BinaryStatement> {
+    
+    public static final int DEFAULT_MAX_STATEMENT_COUNT = 1024;
+    
+    private final ConcurrentMap<K, CachedStatement<V>> statements = new ConcurrentHashMap<>();
+    
+    private final AtomicLong accessSequence = new AtomicLong();
+    
+    private final int maxStatementCount;
+    
+    private final BinaryStatementListener listener;
+    
+    public BinaryStatementCache() {
+        this(DEFAULT_MAX_STATEMENT_COUNT, null);
+    }
+    
+    public BinaryStatementCache(final int maxStatementCount, final BinaryStatementListener listener) {
+        this.maxStatementCount = maxStatementCount > 0 ? maxStatementCount : DEFAULT_MAX_STATEMENT_COUNT;
+        this.listener = listener;
+    }
+    
+    /**
+     * Put binary statement.
+     *
+     * @param statementId statement ID
+     * @param binaryStatement binary statement
+     */
+    public void put(final K statementId, final V binaryStatement) {
+        if (null != listener) {
+            listener.onRegistered(binaryStatement.getSql());
+        }
+        CachedStatement<V> previous = statements.put(statementId, new CachedStatement<>(binaryStatement, accessSequence.incrementAndGet()));
+        if (null != previous) {
+            fireRemoved(previous.binaryStatement);
+        }
+        if (statements.size() > maxStatementCount) {
+            evictLeastRecentlyUsed(statementId);
+        }
+    }
+    
+    /**
+     * Get binary statement and mark it as recently used.
+     *
+     * @param statementId statement ID
+     * @return binary statement, null if absent
+     */
+    public V get(final K statementId) {
+        CachedStatement<V> result = statements.get(statementId);
+        if (null == result) {
+            return null;
+        }
+        result.lastAccessSequence = accessSequence.incrementAndGet();
+        return result.binaryStatement;
+    }
+    
+    /**
+     * Remove binary statement.
+     *
+     * @param statementId statement ID
+     */
+    public void remove(final K statementId) {
+        CachedStatement<V> removed = statements.remove(statementId);
+        if (null != removed) {
+            fireRemoved(removed.binaryStatement);
+        }
+    }
+    
+    /**
+     * Remove all binary statements.
+     */
+    public void clear() {
+        for (K each : statements.keySet()) {
+            remove(each);
+        }
+    }
+    
+    /**
+     * Get count of cached binary statements.
+     *
+     * @return count of cached binary statements
+     */
+    public int size() {
+        return statements.size();
+    }
+    
+    private void evictLeastRecentlyUsed(final K excludedStatementId) {
+        K evictedStatementId = null;
+        long oldestAccessSequence = Long.MAX_VALUE;
+        for (Entry<K, CachedStatement<V>> entry : statements.entrySet()) {
+            if (!entry.getKey().equals(excludedStatementId) && entry.getValue().lastAccessSequence < oldestAccessSequence) {
+                evictedStatementId = entry.getKey();
+                oldestAccessSequence = entry.getValue().lastAccessSequence;
+            }
+        }
+        if (null != evictedStatementId) {
+            remove(evictedStatementId);
+        }
+    }
+    
+    private void fireRemoved(final V binaryStatement) {
+        if (null != listener) {
+            listener.onRemoved(binaryStatement.getSql());
+        }
+    }
+    
+    private static final class CachedStatement<V> {
+        
+        private final V binaryStatement;
+        
+        private volatile long lastAccessSequence;
+        
+        CachedStatement(final V binaryStatement, final long lastAccessSequence) {
+            this.binaryStatement = binaryStatement;
+            this.lastAccessSequence = lastAccessSequence;
+        }
+    }
+}
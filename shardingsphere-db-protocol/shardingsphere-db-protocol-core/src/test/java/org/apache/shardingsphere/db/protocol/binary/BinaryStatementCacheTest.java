@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.db.protocol.binary;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class BinaryStatementCacheTest {
+    
+    @Mock
+    private BinaryStatementListener listener;
+    
+    @Test
+    public void assertPutAndGet() {
+        BinaryStatementCache<Integer, BinaryStatement> cache = new BinaryStatementCache<>(2, listener);
+        cache.put(1, () -> "SELECT 1");
+        assertThat(cache.get(1).getSql(), is("SELECT 1"));
+        assertNull(cache.get(2));
+        verify(listener).onRegistered("SELECT 1");
+    }
+    
+    @Test
+    public void assertPutWithSameStatementId() {
+        BinaryStatementCache<Integer, BinaryStatement> cache = new BinaryStatementCache<>(2, listener);
+        cache.put(1, () -> "SELECT 1");
+        cache.put(1, () -> "SELECT 2");
+        assertThat(cache.get(1).getSql(), is("SELECT 2"));
+        assertThat(cache.size(), is(1));
+        verify(listener).onRemoved("SELECT 1");
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyUsed() {
+        BinaryStatementCache<Integer, BinaryStatement> cache = new BinaryStatementCache<>(2, listener);
+        cache.put(1, () -> "SELECT 1");
+        cache.put(2, () -> "SELECT 2");
+        cache.get(1);
+        cache.put(3, () -> "SELECT 3");
+        assertThat(cache.size(), is(2));
+        assertNotNull(cache.get(1));
+        assertNull(cache.get(2));
+        assertNotNull(cache.get(3));
+        verify(listener).onRemoved("SELECT 2");
+        verify(listener, never()).onRemoved("SELECT 1");
+    }
+    
+    @Test
+    public void assertRemove() {
+        BinaryStatementCache<Integer, BinaryStatement> cache = new BinaryStatementCache<>(2, listener);
+        cache.put(1, () -> "SELECT 1");
+        cache.remove(1);
+        cache.remove(1);
+        assertNull(cache.get(1));
+        verify(listener, times(1)).onRemoved("SELECT 1");
+    }
+    
+    @Test
+    public void assertClear() {
+        BinaryStatementCache<Integer, BinaryStatement> cache = new BinaryStatementCache<>(2, listener);
+        cache.put(1, () -> "SELECT 1");
+        cache.put(2, () -> "SELECT 2");
+        cache.clear();
+        assertThat(cache.size(), is(0));
+        verify(listener).onRemoved("SELECT 1");
+        verify(listener).onRemoved("SELECT 2");
+    }
+    
+    @Test
+    public void assertWithoutListener() {
+        BinaryStatementCache<Integer, BinaryStatement> cache = new BinaryStatementCache<>();
+        cache.put(1, () -> "SELECT 1");
+        cache.remove(1);
+        assertThat(cache.size(), is(0));
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
@@ -30,6 +32,12 @@ import java.util.List;
  */
 public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<MySQLPacket> {
     
+    private static final int HEADER_LENGTH = MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    private static final AttributeKey<Integer> SEQUENCE_ID_OFFSET = AttributeKey.valueOf(MySQLPacketCodecEngine.class.getName() + ".SEQUENCE_ID_OFFSET");
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
         return readableBytes >= MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
@@ -44,15 +52,43 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
             return;
         }
         out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+        context.channel().attr(SEQUENCE_ID_OFFSET).set(null);
     }
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
+        int headerIndex = out.writerIndex();
+        out.writeZero(HEADER_LENGTH);
+        message.write(new MySQLPacketPayload(out));
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        Attribute<Integer> sequenceIdOffset = context.channel().attr(SEQUENCE_ID_OFFSET);
+        int sequenceId = null == sequenceIdOffset.get() ? message.getSequenceId() : message.getSequenceId() + sequenceIdOffset.get();
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            out.setMediumLE(headerIndex, payloadLength);
+            out.setByte(headerIndex + MySQLPacket.PAYLOAD_LENGTH, sequenceId);
+            return;
+        }
+        // Packets of a response are created with sequence IDs before encoding, shift the following ones by the extra split packets until next client packet.
+        int splitPacketCount = splitLargePacket(context, sequenceId, out, headerIndex, payloadLength);
+        sequenceIdOffset.set(sequenceId - message.getSequenceId() + splitPacketCount - 1);
+    }
+    
+    private int splitLargePacket(final ChannelHandlerContext context, final int sequenceId, final ByteBuf out, final int headerIndex, final int payloadLength) {
+        ByteBuf payload = context.alloc().buffer(payloadLength);
+        try {
+            payload.writeBytes(out, headerIndex + HEADER_LENGTH, payloadLength);
+            out.writerIndex(headerIndex);
+            int currentSequenceId = sequenceId;
+            int length;
+            do {
+                length = Math.min(payload.readableBytes(), MAX_PAYLOAD_LENGTH);
+                out.writeMediumLE(length);
+                out.writeByte(currentSequenceId++);
+                out.writeBytes(payload, length);
+            } while (MAX_PAYLOAD_LENGTH == length);
+            return currentSequenceId - sequenceId;
+        } finally {
+            payload.release();
         }
     }
     
@@ -37,7 +37,9 @@ public enum MySQLAuthenticationMethod {
     
     WINDOWS_NATIVE_AUTHENTICATION("authentication_windows_client"),
     
-    SHA256("sha256_password");
+    SHA256("sha256_password"),
+    
+    CACHING_SHA2("caching_sha2_password");
     
     private final String methodName;
 }
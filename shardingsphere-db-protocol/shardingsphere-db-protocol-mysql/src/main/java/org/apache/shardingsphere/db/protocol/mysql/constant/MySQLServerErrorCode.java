@@ -40,6 +40,8 @@ public enum MySQLServerErrorCode implements SQLErrorCode {
     
     ER_INTERNAL_ERROR(1815, "HY000", "Internal error: %s"),
     
+    ER_UNKNOWN_STMT_HANDLER(1243, "HY000", "Unknown prepared statement handler (%s) given to %s"),
+    
     ER_UNSUPPORTED_PS(1295, "HY000", "This command is not supported in the prepared statement protocol yet"),
     
     ER_DB_CREATE_EXISTS_ERROR(1007, "HY000", "Can't create database '%s'; database exists"),
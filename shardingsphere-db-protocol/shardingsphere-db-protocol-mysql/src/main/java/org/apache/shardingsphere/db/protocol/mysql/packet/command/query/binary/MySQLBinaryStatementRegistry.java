@@ -14,15 +14,15 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.db.protocol.binary.BinaryStatementCache;
+import org.apache.shardingsphere.db.protocol.binary.BinaryStatementListener;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * MySQL binary prepared statement registry.
@@ -32,11 +32,7 @@ public final class MySQLBinaryStatementRegistry {
     
     private static final MySQLBinaryStatementRegistry INSTANCE = new MySQLBinaryStatementRegistry();
     
-    private final ConcurrentMap<String, Integer> statementIdAssigner = new ConcurrentHashMap<>(65535, 1);
-    
-    private final ConcurrentMap<Integer, MySQLBinaryStatement> binaryStatements = new ConcurrentHashMap<>(65535, 1);
-    
-    private final AtomicInteger sequence = new AtomicInteger();
+    private final ConcurrentMap<Integer, MySQLConnectionScopeBinaryStatementRegistry> registries = new ConcurrentHashMap<>();
     
     /**
      * Get prepared statement registry instance.
@@ -48,43 +44,47 @@ public final class MySQLBinaryStatementRegistry {
     }
     
     /**
-     * Register SQL.
+     * Register connection.
      *
-     * @param sql SQL
-     * @param parameterCount parameter count
-     * @return statement ID
+     * @param connectionId connection ID
      */
-    public synchronized int register(final String sql, final int parameterCount) {
-        Integer result = statementIdAssigner.get(sql);
-        if (null != result) {
-            return result;
-        }
-        result = sequence.incrementAndGet();
-        statementIdAssigner.putIfAbsent(sql, result);
-        binaryStatements.putIfAbsent(result, new MySQLBinaryStatement(sql, parameterCount));
-        return result;
+    public void register(final int connectionId) {
+        register(connectionId, BinaryStatementCache.DEFAULT_MAX_STATEMENT_COUNT, null);
     }
     
     /**
-     * Get binary prepared statement.
+     * Register connection.
      *
-     * @param statementId statement ID
-     * @return binary prepared statement
+     * @param connectionId connection ID
+     * @param maxStatementCount max count of binary statements cached by the connection
+     * @param listener listener of binary statement lifecycle, null if no need to listen
      */
-    public MySQLBinaryStatement getBinaryStatement(final int statementId) {
-        return binaryStatements.get(statementId);
+    public void register(final int connectionId, final int maxStatementCount, final BinaryStatementListener listener) {
+        MySQLConnectionScopeBinaryStatementRegistry previous = registries.put(connectionId, new MySQLConnectionScopeBinaryStatementRegistry(maxStatementCount, listener));
+        if (null != previous) {
+            previous.clear();
+        }
     }
     
     /**
-     * Remove expired cache statement.
+     * Unregister connection.
      *
-     * @param statementId statement ID
+     * @param connectionId connection ID
      */
-    public synchronized void remove(final int statementId) {
-        MySQLBinaryStatement binaryStatement = getBinaryStatement(statementId);
-        if (null != binaryStatement) {
-            statementIdAssigner.remove(binaryStatement.getSql());
-            binaryStatements.remove(statementId);
+    public void unregister(final int connectionId) {
+        MySQLConnectionScopeBinaryStatementRegistry removed = registries.remove(connectionId);
+        if (null != removed) {
+            removed.clear();
         }
     }
+    
+    /**
+     * Get connection scope binary statement registry.
+     *
+     * @param connectionId connection ID
+     * @return connection scope binary statement registry
+     */
+    public MySQLConnectionScopeBinaryStatementRegistry get(final int connectionId) {
+        return registries.get(connectionId);
+    }
 }
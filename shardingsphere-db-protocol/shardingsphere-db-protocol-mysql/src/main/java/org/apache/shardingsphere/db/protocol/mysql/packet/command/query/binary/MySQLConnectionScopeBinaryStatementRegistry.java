@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
+
+import org.apache.shardingsphere.db.protocol.binary.BinaryStatementCache;
+import org.apache.shardingsphere.db.protocol.binary.BinaryStatementListener;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection scope binary prepared statement registry for MySQL.
+ */
+public final class MySQLConnectionScopeBinaryStatementRegistry {
+    
+    private final BinaryStatementCache<Integer, MySQLBinaryStatement> binaryStatements;
+    
+    private final AtomicInteger sequence = new AtomicInteger();
+    
+    public MySQLConnectionScopeBinaryStatementRegistry() {
+        binaryStatements = new BinaryStatementCache<>();
+    }
+    
+    public MySQLConnectionScopeBinaryStatementRegistry(final int maxStatementCount, final BinaryStatementListener listener) {
+        binaryStatements = new BinaryStatementCache<>(maxStatementCount, listener);
+    }
+    
+    /**
+     * Register SQL.
+     *
+     * @param sql SQL
+     * @param parameterCount parameter count
+     * @return statement ID
+     */
+    public int register(final String sql, final int parameterCount) {
+        int result = sequence.incrementAndGet();
+        binaryStatements.put(result, new MySQLBinaryStatement(sql, parameterCount));
+        return result;
+    }
+    
+    /**
+     * Get binary prepared statement.
+     *
+     * @param statementId statement ID
+     * @return binary prepared statement, null if absent
+     */
+    public MySQLBinaryStatement getBinaryStatement(final int statementId) {
+        return binaryStatements.get(statementId);
+    }
+    
+    /**
+     * Remove binary prepared statement.
+     *
+     * @param statementId statement ID
+     */
+    public void remove(final int statementId) {
+        binaryStatements.remove(statementId);
+    }
+    
+    /**
+     * Remove all binary prepared statements.
+     */
+    public void clear() {
+        binaryStatements.clear();
+    }
+}
@@ -18,12 +18,16 @@
 package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -34,8 +38,9 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -59,6 +64,7 @@ public final class MySQLPacketCodecEngineTest {
     
     @Test
     public void assertDecode() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
         when(byteBuf.readMediumLE()).thenReturn(50);
         when(byteBuf.readRetainedSlice(51)).thenReturn(byteBuf);
@@ -69,6 +75,7 @@ public final class MySQLPacketCodecEngineTest {
 
     @Test
     public void assertDecodeWithEmptyPacket() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
         when(byteBuf.readMediumLE()).thenReturn(0);
         List<Object> out = new LinkedList<>();
@@ -87,18 +94,88 @@ public final class MySQLPacketCodecEngineTest {
     
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
+        when(context.channel()).thenReturn(new EmbeddedChannel());
         MySQLPacket actualMessage = mock(MySQLPacket.class);
         when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(50)).when(actualMessage).write(any(MySQLPacketPayload.class));
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, actualMessage, out);
+        assertThat(out.readableBytes(), is(54));
+        assertThat(out.readMediumLE(), is(50));
+        assertThat(out.readByte(), is((byte) 1));
+    }
+    
+    @Test
+    public void assertEncodeWithLargePacket() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacket actualMessage = mock(MySQLPacket.class);
+        when(actualMessage.getSequenceId()).thenReturn(1);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(0xFFFFFF + 10)).when(actualMessage).write(any(MySQLPacketPayload.class));
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, actualMessage, out);
+        assertThat(out.readableBytes(), is(0xFFFFFF + 10 + 8));
+        assertThat(out.readMediumLE(), is(0xFFFFFF));
+        assertThat(out.readByte(), is((byte) 1));
+        out.skipBytes(0xFFFFFF);
+        assertThat(out.readMediumLE(), is(10));
+        assertThat(out.readByte(), is((byte) 2));
+    }
+    
+    @Test
+    public void assertEncodeWithMaxPayloadLength() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacket actualMessage = mock(MySQLPacket.class);
+        when(actualMessage.getSequenceId()).thenReturn(1);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(0xFFFFFF)).when(actualMessage).write(any(MySQLPacketPayload.class));
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, actualMessage, out);
+        assertThat(out.readableBytes(), is(0xFFFFFF + 8));
+        out.skipBytes(0xFFFFFF + 4);
+        assertThat(out.readMediumLE(), is(0));
+        assertThat(out.readByte(), is((byte) 2));
+    }
+    
+    @Test
+    public void assertEncodeWithPacketAfterLargePacket() {
+        EmbeddedChannel channel = new EmbeddedChannel(new PacketCodec(new MySQLPacketCodecEngine()));
+        MySQLPacket largeRowPacket = mock(MySQLPacket.class);
+        when(largeRowPacket.getSequenceId()).thenReturn(1);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(0xFFFFFF * 2 + 10)).when(largeRowPacket).write(any(MySQLPacketPayload.class));
+        channel.writeOutbound(largeRowPacket, new MySQLEofPacket(2));
+        ByteBuf largeRowOut = channel.readOutbound();
+        assertThat(largeRowOut.readableBytes(), is(0xFFFFFF * 2 + 10 + 12));
+        assertThat(largeRowOut.readMediumLE(), is(0xFFFFFF));
+        assertThat(largeRowOut.readByte(), is((byte) 1));
+        largeRowOut.skipBytes(0xFFFFFF);
+        assertThat(largeRowOut.readMediumLE(), is(0xFFFFFF));
+        assertThat(largeRowOut.readByte(), is((byte) 2));
+        largeRowOut.skipBytes(0xFFFFFF);
+        assertThat(largeRowOut.readMediumLE(), is(10));
+        assertThat(largeRowOut.readByte(), is((byte) 3));
+        largeRowOut.release();
+        ByteBuf eofOut = channel.readOutbound();
+        eofOut.skipBytes(MySQLPacket.PAYLOAD_LENGTH);
+        assertThat(eofOut.readByte(), is((byte) 4));
+        eofOut.release();
+    }
+    
+    @Test
+    public void assertDecodeResetsSequenceIdOffset() {
+        EmbeddedChannel channel = new EmbeddedChannel(new PacketCodec(new MySQLPacketCodecEngine()));
+        MySQLPacket largeRowPacket = mock(MySQLPacket.class);
+        when(largeRowPacket.getSequenceId()).thenReturn(1);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(0xFFFFFF)).when(largeRowPacket).write(any(MySQLPacketPayload.class));
+        channel.writeOutbound(largeRowPacket);
+        ((ByteBuf) channel.readOutbound()).release();
+        channel.writeInbound(Unpooled.wrappedBuffer(new byte[]{1, 0, 0, 0, 1}));
+        ((ByteBuf) channel.readInbound()).release();
+        channel.writeOutbound(new MySQLEofPacket(1));
+        ByteBuf eofOut = channel.readOutbound();
+        eofOut.skipBytes(MySQLPacket.PAYLOAD_LENGTH);
+        assertThat(eofOut.readByte(), is((byte) 1));
+        eofOut.release();
     }
     
     @Test
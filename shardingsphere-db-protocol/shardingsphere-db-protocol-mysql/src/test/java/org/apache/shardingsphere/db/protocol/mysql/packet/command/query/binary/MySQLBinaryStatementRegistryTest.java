@@ -14,10 +14,8 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
 
-import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -31,33 +29,54 @@ public final class MySQLBinaryStatementRegistryTest {
     private final String sql = "SELECT * FROM tbl WHERE id=?";
     
     @Before
+    public void setUp() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+    }
+    
     @After
-    public void reset() {
-        BinaryStatementRegistryUtil.reset();
+    public void tearDown() {
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
     }
     
     @Test
     public void assertRegisterIfAbsent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(1);
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1), is(1));
+        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(1);
         assertThat(actual.getSql(), is(sql));
         assertThat(actual.getParameterCount(), is(1));
     }
     
     @Test
     public void assertRegisterIfPresent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(1);
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1), is(2));
+        MySQLBinaryStatementRegistry.getInstance().get(1).remove(1);
+        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(2);
         assertThat(actual.getSql(), is(sql));
         assertThat(actual.getParameterCount(), is(1));
     }
     
+    @Test
+    public void assertRegisterWithConnectionScope() {
+        MySQLBinaryStatementRegistry.getInstance().register(2);
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(2).register(sql, 1), is(1));
+        MySQLBinaryStatementRegistry.getInstance().get(2).remove(1);
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(1).getSql(), is(sql));
+        MySQLBinaryStatementRegistry.getInstance().unregister(2);
+    }
+    
     @Test
     public void assertRemoveIfPresent() {
-        MySQLBinaryStatementRegistry.getInstance().register(sql, 1);
-        MySQLBinaryStatementRegistry.getInstance().remove(1);
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(1);
+        MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1);
+        MySQLBinaryStatementRegistry.getInstance().get(1).remove(1);
+        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(1);
         assertNull(actual);
     }
+    
+    @Test
+    public void assertUnregister() {
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1));
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
 
+import io.netty.buffer.ByteBuf;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -25,6 +26,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.math.BigDecimal;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Arrays;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -39,13 +41,20 @@ public final class MySQLTextResultSetRowPacketTest {
     @Mock
     private MySQLPacketPayload payload;
     
+    @Mock
+    private ByteBuf byteBuf;
+    
     @Test
     public void assertNew() {
         when(payload.readInt1()).thenReturn(1);
-        when(payload.readStringLenenc()).thenReturn("value_a", null, "value_c");
+        when(payload.getByteBuf()).thenReturn(byteBuf);
+        when(byteBuf.getUnsignedByte(0)).thenReturn((short) 7, (short) 0xfb, (short) 7);
+        when(payload.readStringLenenc()).thenReturn("value_a", "value_c");
         MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(payload, 3);
         assertThat(actual.getSequenceId(), is(1));
-        verify(payload, times(3)).readStringLenenc();
+        assertThat(new ArrayList<>(actual.getData()), is(Arrays.<Object>asList("value_a", null, "value_c")));
+        verify(payload, times(2)).readStringLenenc();
+        verify(payload).skipReserved(1);
     }
     
     @Test
@@ -25,6 +25,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -43,4 +44,10 @@ public final class MySQLAuthSwitchResponsePacketTest {
         assertThat(authSwitchResponsePacket.getSequenceId(), is(0x11));
         assertThat(authSwitchResponsePacket.getAuthPluginResponse(), is(authPluginResponse));
     }
+    
+    @Test
+    public void assertWrite() {
+        new MySQLAuthSwitchResponsePacket(1, authPluginResponse).write(payload);
+        verify(payload).writeBytes(authPluginResponse);
+    }
 }
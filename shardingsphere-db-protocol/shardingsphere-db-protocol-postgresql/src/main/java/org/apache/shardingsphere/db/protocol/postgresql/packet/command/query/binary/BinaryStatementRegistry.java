@@ -19,6 +19,8 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.bi
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.db.protocol.binary.BinaryStatementCache;
+import org.apache.shardingsphere.db.protocol.binary.BinaryStatementListener;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -48,7 +50,21 @@ public final class BinaryStatementRegistry {
      * @param connectionId connection id
      */
     public void register(final int connectionId) {
-        registries.put(connectionId, new ConnectionScopeBinaryStatementRegistry());
+        register(connectionId, BinaryStatementCache.DEFAULT_MAX_STATEMENT_COUNT, null);
+    }
+    
+    /**
+     * Register.
+     *
+     * @param connectionId connection id
+     * @param maxStatementCount max count of binary statements cached by the connection
+     * @param listener listener of binary statement lifecycle, null if no need to listen
+     */
+    public void register(final int connectionId, final int maxStatementCount, final BinaryStatementListener listener) {
+        ConnectionScopeBinaryStatementRegistry previous = registries.put(connectionId, new ConnectionScopeBinaryStatementRegistry(maxStatementCount, listener));
+        if (null != previous) {
+            previous.clear();
+        }
     }
     
     /**
@@ -57,7 +73,10 @@ public final class BinaryStatementRegistry {
      * @param connectionId connection id
      */
     public void unregister(final int connectionId) {
-        registries.remove(connectionId);
+        ConnectionScopeBinaryStatementRegistry removed = registries.remove(connectionId);
+        if (null != removed) {
+            removed.clear();
+        }
     }
     
     /**
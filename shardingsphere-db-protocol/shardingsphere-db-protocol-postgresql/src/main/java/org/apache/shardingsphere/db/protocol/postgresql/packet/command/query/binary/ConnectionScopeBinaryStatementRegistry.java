@@ -14,19 +14,27 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary;
 
+import org.apache.shardingsphere.db.protocol.binary.BinaryStatementCache;
+import org.apache.shardingsphere.db.protocol.binary.BinaryStatementListener;
+
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 /**
  * Connection scope binary statement registry.
  */
 public final class ConnectionScopeBinaryStatementRegistry {
     
-    private final ConcurrentMap<String, PostgreSQLBinaryStatement> binaryStatements = new ConcurrentHashMap<>(65535, 1);
+    private final BinaryStatementCache<String, PostgreSQLBinaryStatement> binaryStatements;
+    
+    public ConnectionScopeBinaryStatementRegistry() {
+        binaryStatements = new BinaryStatementCache<>();
+    }
+    
+    public ConnectionScopeBinaryStatementRegistry(final int maxStatementCount, final BinaryStatementListener listener) {
+        binaryStatements = new BinaryStatementCache<>(maxStatementCount, listener);
+    }
     
     /**
      * Register SQL.
@@ -49,4 +57,11 @@ public final class ConnectionScopeBinaryStatementRegistry {
     public PostgreSQLBinaryStatement getBinaryStatement(final String statementId) {
         return binaryStatements.get(statementId);
     }
+    
+    /**
+     * Close all binary prepared statements.
+     */
+    public void clear() {
+        binaryStatements.clear();
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.bi
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.db.protocol.binary.BinaryStatement;
 
 import java.util.List;
 
@@ -29,7 +30,7 @@ import java.util.List;
 @RequiredArgsConstructor
 @Getter
 @Setter
-public final class PostgreSQLBinaryStatement {
+public final class PostgreSQLBinaryStatement implements BinaryStatement {
     
     private final String sql;
     
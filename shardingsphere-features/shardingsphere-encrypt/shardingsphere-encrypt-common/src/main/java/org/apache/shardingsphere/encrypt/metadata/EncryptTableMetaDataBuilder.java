@@ -31,9 +31,12 @@ import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
 
 /**
  * Table meta data builder for encrypt.
@@ -46,6 +49,13 @@ public final class EncryptTableMetaDataBuilder implements RuleBasedTableMetaData
         return encryptRule.findEncryptTable(tableName).isPresent() ? TableMetaDataLoader.load(dataSourceMap.values().iterator().next(), tableName, databaseType) : Optional.empty();
     }
     
+    @Override
+    public Map<String, TableMetaData> load(final Collection<String> tableNames, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final DataNodes dataNodes,
+                                           final EncryptRule encryptRule, final ConfigurationProperties props, final ExecutorService executorService) throws SQLException {
+        Collection<String> encryptTableNames = tableNames.stream().filter(each -> encryptRule.findEncryptTable(each).isPresent()).collect(Collectors.toList());
+        return encryptTableNames.isEmpty() ? Collections.emptyMap() : TableMetaDataLoader.load(dataSourceMap.values().iterator().next(), encryptTableNames, databaseType);
+    }
+    
     @Override
     public TableMetaData decorate(final String tableName, final TableMetaData tableMetaData, final EncryptRule encryptRule) {
         Optional<EncryptTable> encryptTable = encryptRule.findEncryptTable(tableName);
@@ -26,10 +26,12 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Properties;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class RC4EncryptAlgorithmTest {
     
@@ -73,6 +75,11 @@ public final class RC4EncryptAlgorithmTest {
         assertThat(encryptAlgorithm.decrypt("qn36NQ==").toString(), is("test"));
     }
     
+    @Test
+    public void assertDecodeConcurrently() {
+        assertTrue(IntStream.range(0, 1000).parallel().allMatch(each -> "test".equals(encryptAlgorithm.decrypt("qn36NQ=="))));
+    }
+    
     @Test
     public void assertDecryptWithNullCiphertext() {
         assertNull(encryptAlgorithm.decrypt(null));
@@ -25,7 +25,9 @@ import org.apache.shardingsphere.infra.binder.segment.select.projection.Projecti
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -40,6 +42,10 @@ public final class EncryptAlgorithmMetaData {
     
     private final SelectStatementContext selectStatementContext;
     
+    private final Map<Integer, Optional<EncryptAlgorithm>> encryptors = new HashMap<>();
+    
+    private List<Projection> expandProjections;
+    
     /**
      * Find encryptor.
      *
@@ -47,11 +53,29 @@ public final class EncryptAlgorithmMetaData {
      * @return encryptor
      */
     public Optional<EncryptAlgorithm> findEncryptor(final int columnIndex) {
-        List<Projection> expandProjections = selectStatementContext.getProjectionsContext().getExpandProjections();
-        if (expandProjections.isEmpty()) {
-            return Optional.empty();
+        Optional<EncryptAlgorithm> result = encryptors.get(columnIndex);
+        if (null == result) {
+            List<Projection> expandProjections = getExpandProjections();
+            result = expandProjections.isEmpty() ? Optional.empty() : findEncryptor(columnIndex, expandProjections);
+            encryptors.put(columnIndex, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Get column count of expand projections.
+     *
+     * @return column count of expand projections
+     */
+    public int getColumnCount() {
+        return getExpandProjections().size();
+    }
+    
+    private List<Projection> getExpandProjections() {
+        if (null == expandProjections) {
+            expandProjections = selectStatementContext.getProjectionsContext().getExpandProjections();
         }
-        return findEncryptor(columnIndex, expandProjections);
+        return expandProjections;
     }
     
     private Optional<EncryptAlgorithm> findEncryptor(final int columnIndex, final List<Projection> expandProjections) {
@@ -35,13 +35,35 @@ public final class EncryptDQLResultDecorator implements ResultDecorator<EncryptR
     
     private final boolean queryWithCipherColumn;
     
+    private final int readAheadRows;
+    
+    public EncryptDQLResultDecorator(final EncryptAlgorithmMetaData metaData, final boolean queryWithCipherColumn) {
+        this(metaData, queryWithCipherColumn, 0);
+    }
+    
     @Override
     public MergedResult decorate(final QueryResult queryResult, final SQLStatementContext<?> sqlStatementContext, final EncryptRule rule) {
-        return new EncryptMergedResult(metaData, new TransparentMergedResult(queryResult), queryWithCipherColumn);
+        return decorate(new TransparentMergedResult(queryResult));
     }
     
     @Override
     public MergedResult decorate(final MergedResult mergedResult, final SQLStatementContext<?> sqlStatementContext, final EncryptRule rule) {
-        return new EncryptMergedResult(metaData, mergedResult, queryWithCipherColumn);
+        return decorate(mergedResult);
+    }
+    
+    private MergedResult decorate(final MergedResult mergedResult) {
+        return isReadAhead() ? new EncryptReadAheadMergedResult(metaData, mergedResult, readAheadRows) : new EncryptMergedResult(metaData, mergedResult, queryWithCipherColumn);
+    }
+    
+    private boolean isReadAhead() {
+        if (!queryWithCipherColumn || readAheadRows <= 0) {
+            return false;
+        }
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (metaData.findEncryptor(i).isPresent()) {
+                return true;
+            }
+        }
+        return false;
     }
 }
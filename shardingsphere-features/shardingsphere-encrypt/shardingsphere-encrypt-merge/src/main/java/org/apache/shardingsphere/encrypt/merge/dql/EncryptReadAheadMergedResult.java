@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Merged result for encrypt which reads ahead rows and decrypts them in parallel.
+ * 
+ * <p>
+ * The first row is read from merged result directly. Rows are read ahead from the second row only if the first row was read by objects,
+ * because values of read ahead rows are kept as objects. Typed, calendar or input stream values of plain columns are delegated to merged result.
+ * Encrypt algorithms are called from multiple threads, so they have to be thread-safe.
+ * </p>
+ */
+public final class EncryptReadAheadMergedResult implements MergedResult {
+    
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+    
+    private static final int MIN_ROWS_PER_TASK = 64;
+    
+    private static final ExecutorService DECRYPT_EXECUTOR = Executors.newFixedThreadPool(PARALLELISM, ExecutorThreadFactoryBuilder.build("EncryptDecrypt-%d"));
+    
+    private final MergedResult mergedResult;
+    
+    private final int readAheadRows;
+    
+    private final EncryptAlgorithm[] encryptors;
+    
+    private final List<Object[]> rows;
+    
+    private int nextRowIndex;
+    
+    private Object[] currentRow;
+    
+    private boolean exhausted;
+    
+    private boolean wasNull;
+    
+    private boolean firstRowRead;
+    
+    private boolean delegated;
+    
+    private boolean readAhead;
+    
+    public EncryptReadAheadMergedResult(final EncryptAlgorithmMetaData metaData, final MergedResult mergedResult, final int readAheadRows) {
+        this.mergedResult = mergedResult;
+        this.readAheadRows = readAheadRows;
+        encryptors = new EncryptAlgorithm[metaData.getColumnCount()];
+        for (int i = 0; i < encryptors.length; i++) {
+            encryptors[i] = metaData.findEncryptor(i + 1).orElse(null);
+        }
+        rows = new ArrayList<>(readAheadRows);
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (!readAhead) {
+            if (!firstRowRead || delegated) {
+                firstRowRead = true;
+                exhausted = !mergedResult.next();
+                return !exhausted;
+            }
+            readAhead = true;
+        }
+        if (nextRowIndex >= rows.size()) {
+            if (exhausted) {
+                return false;
+            }
+            readAhead();
+            if (rows.isEmpty()) {
+                return false;
+            }
+        }
+        currentRow = rows.get(nextRowIndex++);
+        return true;
+    }
+    
+    private void readAhead() throws SQLException {
+        rows.clear();
+        nextRowIndex = 0;
+        while (rows.size() < readAheadRows) {
+            if (!mergedResult.next()) {
+                exhausted = true;
+                break;
+            }
+            rows.add(readRow());
+        }
+        decrypt();
+    }
+    
+    private Object[] readRow() throws SQLException {
+        Object[] result = new Object[encryptors.length];
+        for (int i = 0; i < encryptors.length; i++) {
+            result[i] = mergedResult.getValue(i + 1, null == encryptors[i] ? Object.class : String.class);
+        }
+        return result;
+    }
+    
+    private void decrypt() throws SQLException {
+        int rowsPerTask = Math.max((rows.size() + PARALLELISM - 1) / PARALLELISM, MIN_ROWS_PER_TASK);
+        Collection<Future<?>> futures = new LinkedList<>();
+        int start = rowsPerTask;
+        while (start < rows.size()) {
+            List<Object[]> each = rows.subList(start, Math.min(start + rowsPerTask, rows.size()));
+            futures.add(DECRYPT_EXECUTOR.submit(() -> decrypt(each)));
+            start += rowsPerTask;
+        }
+        try {
+            decrypt(rows.subList(0, Math.min(rowsPerTask, rows.size())));
+            for (Future<?> each : futures) {
+                waitDecrypted(each);
+            }
+        } finally {
+            cancel(futures);
+        }
+    }
+    
+    private void decrypt(final List<Object[]> rows) {
+        for (Object[] each : rows) {
+            for (int i = 0; i < encryptors.length; i++) {
+                if (null != encryptors[i] && null != each[i]) {
+                    each[i] = encryptors[i].decrypt((String) each[i]);
+                }
+            }
+        }
+    }
+    
+    private void cancel(final Collection<Future<?>> futures) {
+        boolean interrupted = false;
+        for (Future<?> each : futures) {
+            if (!each.cancel(false)) {
+                interrupted = !awaitQuietly(each) || interrupted;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private boolean awaitQuietly(final Future<?> future) {
+        try {
+            future.get();
+            return true;
+        } catch (final InterruptedException ex) {
+            return false;
+        } catch (final ExecutionException | CancellationException ex) {
+            return true;
+        }
+    }
+    
+    private void waitDecrypted(final Future<?> future) throws SQLException {
+        try {
+            future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new SQLException(ex.getCause());
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (!readAhead) {
+            return getDelegatedValue(columnIndex, type);
+        }
+        if (columnIndex < 1 || columnIndex > currentRow.length) {
+            throw new SQLException(String.format("Column index `%s` is out of range.", columnIndex));
+        }
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    private Object getDelegatedValue(final int columnIndex, final Class<?> type) throws SQLException {
+        EncryptAlgorithm encryptor = columnIndex < 1 || columnIndex > encryptors.length ? null : encryptors[columnIndex - 1];
+        if (null == encryptor) {
+            delegated = delegated || Object.class != type;
+            return mergedResult.getValue(columnIndex, type);
+        }
+        String ciphertext = (String) mergedResult.getValue(columnIndex, String.class);
+        return null == ciphertext ? null : encryptor.decrypt(ciphertext);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        if (!readAhead) {
+            delegated = true;
+            return mergedResult.getCalendarValue(columnIndex, type, calendar);
+        }
+        // TODO implement with calendar
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        if (!readAhead) {
+            delegated = true;
+            return mergedResult.getInputStream(columnIndex, type);
+        }
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s` of read ahead row", type));
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return readAhead ? wasNull : mergedResult.wasNull();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+}
@@ -69,6 +69,7 @@ public final class EncryptResultDecoratorEngineTest {
     @Before
     public void setUp() {
         when(props.getValue(ConfigurationPropertyKey.QUERY_WITH_CIPHER_COLUMN)).thenReturn(true);
+        when(props.getValue(ConfigurationPropertyKey.ENCRYPT_READ_AHEAD_ROWS)).thenReturn(0);
     }
     
     @Test
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class EncryptReadAheadMergedResultTest {
+    
+    private static final int ROW_COUNT = 1000;
+    
+    @Mock
+    private EncryptAlgorithmMetaData metaData;
+    
+    @Test
+    public void assertNextAndGetValue() throws SQLException {
+        MergedResult actual = new EncryptReadAheadMergedResult(mockMetaData(), new FixtureMergedResult(), 300);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(i));
+            assertThat(actual.getValue(2, String.class), is("plain_" + i));
+            assertFalse(actual.wasNull());
+        }
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextAndGetTypedValue() throws SQLException {
+        FixtureMergedResult mergedResult = new FixtureMergedResult();
+        MergedResult actual = new EncryptReadAheadMergedResult(mockMetaData(), mergedResult, 300);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(actual.next());
+            assertThat(mergedResult.current, is(i));
+            assertThat(actual.getValue(1, int.class), is(i));
+            assertThat(mergedResult.requestedType, is((Object) int.class));
+            assertThat(actual.getValue(2, String.class), is("plain_" + i));
+        }
+    }
+    
+    @Test
+    public void assertGetNullValue() throws SQLException {
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.findEncryptor(1)).thenReturn(Optional.of(mock(EncryptAlgorithm.class)));
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, false);
+        MergedResult actual = new EncryptReadAheadMergedResult(metaData, mergedResult, 10);
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, String.class));
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, String.class));
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetValueWithOutOfRangeColumnIndex() throws SQLException {
+        MergedResult actual = new EncryptReadAheadMergedResult(mockMetaData(), new FixtureMergedResult(), 10);
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        actual.getValue(3, Object.class);
+    }
+    
+    @Test
+    public void assertGetInputStream() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        InputStream inputStream = mock(InputStream.class);
+        when(mergedResult.next()).thenReturn(true);
+        when(mergedResult.getInputStream(1, "Ascii")).thenReturn(inputStream);
+        MergedResult actual = new EncryptReadAheadMergedResult(mockMetaData(), mergedResult, 10);
+        assertTrue(actual.next());
+        assertThat(actual.getInputStream(1, "Ascii"), is(inputStream));
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        Calendar calendar = Calendar.getInstance();
+        Date date = new Date(0L);
+        when(mergedResult.next()).thenReturn(true);
+        when(mergedResult.getCalendarValue(1, Date.class, calendar)).thenReturn(date);
+        MergedResult actual = new EncryptReadAheadMergedResult(mockMetaData(), mergedResult, 10);
+        assertTrue(actual.next());
+        assertThat(actual.getCalendarValue(1, Date.class, calendar), is((Object) date));
+        assertTrue(actual.next());
+        verify(mergedResult, times(2)).next();
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertGetInputStreamOfReadAheadRow() throws SQLException {
+        MergedResult actual = new EncryptReadAheadMergedResult(mockMetaData(), new FixtureMergedResult(), 10);
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        actual.getInputStream(1, "Ascii");
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertNextWithDecryptFailure() throws SQLException {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt(anyString())).thenThrow(new IllegalStateException("decrypt failed"));
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.findEncryptor(1)).thenReturn(Optional.of(encryptAlgorithm));
+        MergedResult actual = new EncryptReadAheadMergedResult(metaData, new FixtureMergedResult(), 300);
+        assertTrue(actual.next());
+        actual.next();
+    }
+    
+    private EncryptAlgorithmMetaData mockMetaData() {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt(anyString())).thenAnswer(invocation -> "plain_" + ((String) invocation.getArgument(0)).substring("cipher_".length()));
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.findEncryptor(1)).thenReturn(Optional.empty());
+        when(metaData.findEncryptor(2)).thenReturn(Optional.of(encryptAlgorithm));
+        return metaData;
+    }
+    
+    private static final class FixtureMergedResult implements MergedResult {
+        
+        private int current = -1;
+        
+        private Class<?> requestedType;
+        
+        @Override
+        public boolean next() {
+            return ++current < ROW_COUNT;
+        }
+        
+        @Override
+        public Object getValue(final int columnIndex, final Class<?> type) {
+            requestedType = type;
+            return 1 == columnIndex ? (Object) current : "cipher_" + current;
+        }
+        
+        @Override
+        public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+            return null;
+        }
+        
+        @Override
+        public InputStream getInputStream(final int columnIndex, final String type) {
+            return null;
+        }
+        
+        @Override
+        public boolean wasNull() {
+            return false;
+        }
+    }
+}
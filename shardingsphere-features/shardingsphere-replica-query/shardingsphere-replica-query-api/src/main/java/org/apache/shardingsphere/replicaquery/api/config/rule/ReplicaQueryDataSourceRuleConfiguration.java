@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.Properties;
 
 /**
  * Replica query data source rule configuration.
@@ -36,4 +37,10 @@ public final class ReplicaQueryDataSourceRuleConfiguration {
     private final List<String> replicaDataSourceNames;
     
     private final String loadBalancerName;
+    
+    private final Properties props;
+    
+    public ReplicaQueryDataSourceRuleConfiguration(final String name, final String primaryDataSourceName, final List<String> replicaDataSourceNames, final String loadBalancerName) {
+        this(name, primaryDataSourceName, replicaDataSourceNames, loadBalancerName, new Properties());
+    }
 }
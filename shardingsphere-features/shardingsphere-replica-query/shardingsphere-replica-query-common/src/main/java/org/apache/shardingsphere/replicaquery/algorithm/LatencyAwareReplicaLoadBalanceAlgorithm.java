@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replicaquery.algorithm;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatistics;
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatisticsRegistry;
+import org.apache.shardingsphere.replicaquery.spi.ReplicaLoadBalanceAlgorithm;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency-aware replica load-balance algorithm.
+ * 
+ * <p>
+ * Two available replicas are picked randomly, and the one with lower cost is selected (power of two choices).
+ * Cost is moving average latency multiplied by in-flight executions, so that slow or busy replicas receive less queries.
+ * Replicas with high error rate or outlier latency are ejected for a while.
+ * Replicas without samples are assumed to have the average latency of sampled replicas.
+ * </p>
+ */
+public final class LatencyAwareReplicaLoadBalanceAlgorithm implements ReplicaLoadBalanceAlgorithm, ShardingSphereAlgorithmPostProcessor {
+    
+    private static final String EJECTION_ERROR_RATE_KEY = "ejection-error-rate";
+    
+    private static final String EJECTION_LATENCY_FACTOR_KEY = "ejection-latency-factor";
+    
+    private static final String EJECTION_MILLIS_KEY = "ejection-millis";
+    
+    private static final String MIN_SAMPLE_COUNT_KEY = "min-sample-count";
+    
+    @Getter
+    @Setter
+    private Properties props = new Properties();
+    
+    private double ejectionErrorRate;
+    
+    private double ejectionLatencyFactor;
+    
+    private long ejectionMillis;
+    
+    private long minSampleCount;
+    
+    @Override
+    public void init() {
+        ejectionErrorRate = Double.parseDouble(props.getProperty(EJECTION_ERROR_RATE_KEY, "0.5"));
+        ejectionLatencyFactor = Double.parseDouble(props.getProperty(EJECTION_LATENCY_FACTOR_KEY, "5"));
+        ejectionMillis = Long.parseLong(props.getProperty(EJECTION_MILLIS_KEY, "10000"));
+        minSampleCount = Long.parseLong(props.getProperty(MIN_SAMPLE_COUNT_KEY, "20"));
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String primaryDataSourceName, final List<String> replicaDataSourceNames) {
+        if (1 == replicaDataSourceNames.size()) {
+            return replicaDataSourceNames.get(0);
+        }
+        Map<String, DataSourceExecutionStatistics> statistics = getStatistics(replicaDataSourceNames);
+        List<String> availableReplicaDataSourceNames = getAvailableReplicaDataSourceNames(replicaDataSourceNames, statistics);
+        int size = availableReplicaDataSourceNames.size();
+        if (1 == size) {
+            return availableReplicaDataSourceNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        String firstDataSourceName = availableReplicaDataSourceNames.get(first);
+        String secondDataSourceName = availableReplicaDataSourceNames.get(second);
+        double defaultLatencyNanos = getAverageLatencyNanos(availableReplicaDataSourceNames, statistics);
+        double firstCost = getCost(statistics.get(firstDataSourceName), defaultLatencyNanos);
+        double secondCost = getCost(statistics.get(secondDataSourceName), defaultLatencyNanos);
+        return firstCost <= secondCost ? firstDataSourceName : secondDataSourceName;
+    }
+    
+    private Map<String, DataSourceExecutionStatistics> getStatistics(final List<String> replicaDataSourceNames) {
+        String schemaName = DataSourceExecutionStatisticsRegistry.getCurrentSchemaName();
+        Map<String, DataSourceExecutionStatistics> result = new LinkedHashMap<>(replicaDataSourceNames.size(), 1);
+        for (String each : replicaDataSourceNames) {
+            result.put(each, DataSourceExecutionStatisticsRegistry.get(schemaName, each));
+        }
+        return result;
+    }
+    
+    private List<String> getAvailableReplicaDataSourceNames(final List<String> replicaDataSourceNames, final Map<String, DataSourceExecutionStatistics> statistics) {
+        double minLatencyNanos = Double.MAX_VALUE;
+        for (String each : replicaDataSourceNames) {
+            DataSourceExecutionStatistics replicaStatistics = statistics.get(each);
+            if (!replicaStatistics.isEjected() && isSampled(replicaStatistics)) {
+                minLatencyNanos = Math.min(minLatencyNanos, replicaStatistics.getLatencyNanos());
+            }
+        }
+        List<String> result = new ArrayList<>(replicaDataSourceNames.size());
+        for (String each : replicaDataSourceNames) {
+            DataSourceExecutionStatistics replicaStatistics = statistics.get(each);
+            if (replicaStatistics.isEjected()) {
+                continue;
+            }
+            if (isOutlier(replicaStatistics, minLatencyNanos)) {
+                replicaStatistics.eject(ejectionMillis);
+                continue;
+            }
+            result.add(each);
+        }
+        return result.isEmpty() ? replicaDataSourceNames : result;
+    }
+    
+    private double getAverageLatencyNanos(final List<String> replicaDataSourceNames, final Map<String, DataSourceExecutionStatistics> statistics) {
+        double totalLatencyNanos = 0D;
+        int sampledCount = 0;
+        for (String each : replicaDataSourceNames) {
+            DataSourceExecutionStatistics replicaStatistics = statistics.get(each);
+            if (replicaStatistics.getSampleCount() > 0L) {
+                totalLatencyNanos += replicaStatistics.getLatencyNanos();
+                sampledCount++;
+            }
+        }
+        return 0 == sampledCount ? 1D : totalLatencyNanos / sampledCount;
+    }
+    
+    private boolean isSampled(final DataSourceExecutionStatistics statistics) {
+        return statistics.getSampleCount() >= minSampleCount;
+    }
+    
+    private boolean isOutlier(final DataSourceExecutionStatistics statistics, final double minLatencyNanos) {
+        if (!isSampled(statistics)) {
+            return false;
+        }
+        return statistics.getErrorRate() > ejectionErrorRate || statistics.getLatencyNanos() > minLatencyNanos * ejectionLatencyFactor;
+    }
+    
+    private double getCost(final DataSourceExecutionStatistics statistics, final double defaultLatencyNanos) {
+        double latencyNanos = statistics.getSampleCount() > 0L ? statistics.getLatencyNanos() : defaultLatencyNanos;
+        return latencyNanos * (statistics.getInFlightCount() + 1);
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.replicaquery.lag;
+
+import org.apache.shardingsphere.replicaquery.spi.ReplicaLagProbe;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Replica lag probe for MySQL.
+ */
+public final class MySQLReplicaLagProbe implements ReplicaLagProbe {
+    
+    private static final String SHOW_SLAVE_STATUS = "SHOW SLAVE STATUS";
+    
+    private static final String SECONDS_BEHIND_MASTER = "Seconds_Behind_Master";
+    
+    @Override
+    public long getLagMillis(final Statement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(SHOW_SLAVE_STATUS)) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            long secondsBehindMaster = resultSet.getLong(SECONDS_BEHIND_MASTER);
+            return resultSet.wasNull() ? -1L : secondsBehindMaster * 1000L;
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
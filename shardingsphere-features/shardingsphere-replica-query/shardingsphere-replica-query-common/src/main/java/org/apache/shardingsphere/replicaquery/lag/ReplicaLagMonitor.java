@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replicaquery.lag;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.replicaquery.rule.ReplicaQueryDataSourceRule;
+import org.apache.shardingsphere.replicaquery.spi.ReplicaLagProbe;
+
+import javax.sql.DataSource;
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replica lag monitor.
+ * 
+ * <p>
+ * Probes replication lag of replicas in background and updates it into {@code ReplicaQueryDataSourceRule}.
+ * Each replica is probed in its own task with query timeout, so that a hung replica does not delay probing of others,
+ * and it is not probed again until its previous probe finished.
+ * Probing stops when the monitor is closed, e.g. after rule configuration or data sources changed, or once the data source rule is discarded.
+ * </p>
+ */
+@Slf4j
+public final class ReplicaLagMonitor implements AutoCloseable {
+    
+    private static final Map<String, ReplicaLagProbe> PROBES = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("ReplicaLagMonitor-%d"));
+    
+    private static final ExecutorService PROBE_EXECUTOR = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("ReplicaLagProbe-%d"));
+    
+    private final WeakReference<ReplicaQueryDataSourceRule> dataSourceRule;
+    
+    private final Collection<String> replicaDataSourceNames;
+    
+    private final ReplicaLagProbe probe;
+    
+    private final Map<String, DataSource> dataSourceMap;
+    
+    private final int queryTimeoutSeconds;
+    
+    private final Collection<String> probingReplicaDataSourceNames = ConcurrentHashMap.newKeySet();
+    
+    private final ScheduledFuture<?> future;
+    
+    private volatile boolean closed;
+    
+    static {
+        ShardingSphereServiceLoader.register(ReplicaLagProbe.class);
+        for (ReplicaLagProbe each : ShardingSphereServiceLoader.newServiceInstances(ReplicaLagProbe.class)) {
+            PROBES.put(each.getDatabaseType(), each);
+        }
+    }
+    
+    private ReplicaLagMonitor(final ReplicaQueryDataSourceRule dataSourceRule, final Collection<String> replicaDataSourceNames, final ReplicaLagProbe probe, final Map<String, DataSource> dataSourceMap) {
+        this.dataSourceRule = new WeakReference<>(dataSourceRule);
+        this.replicaDataSourceNames = replicaDataSourceNames;
+        this.probe = probe;
+        this.dataSourceMap = dataSourceMap;
+        long intervalMillis = Math.max(dataSourceRule.getLagProbeIntervalMillis(), 1L);
+        queryTimeoutSeconds = (int) Math.max(TimeUnit.MILLISECONDS.toSeconds(intervalMillis), 1L);
+        future = SCHEDULER.scheduleWithFixedDelay(this::probeReplicas, 0L, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Start probing replication lag if max staleness is configured.
+     * 
+     * @param dataSourceRule replica query data source rule
+     * @param replicaDataSourceNames configured replica data source names
+     * @param databaseType database type
+     * @param dataSourceMap data source map
+     * @return started replica lag monitor, or empty if max staleness is not configured or probe of database type is not found
+     */
+    public static Optional<ReplicaLagMonitor> start(final ReplicaQueryDataSourceRule dataSourceRule, final Collection<String> replicaDataSourceNames,
+                                                    final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap) {
+        if (dataSourceRule.getMaxStalenessMillis() <= 0 || null == databaseType || null == dataSourceMap) {
+            return Optional.empty();
+        }
+        Optional<ReplicaLagProbe> probe = findProbe(databaseType);
+        if (!probe.isPresent()) {
+            log.warn("Replica lag probe of database type '{}' is not found, max staleness of '{}' is ignored.", databaseType.getName(), dataSourceRule.getName());
+            return Optional.empty();
+        }
+        return Optional.of(new ReplicaLagMonitor(dataSourceRule, replicaDataSourceNames, probe.get(), dataSourceMap));
+    }
+    
+    /**
+     * Find replica lag probe.
+     * 
+     * @param databaseType database type
+     * @return replica lag probe
+     */
+    public static Optional<ReplicaLagProbe> findProbe(final DatabaseType databaseType) {
+        return Optional.ofNullable(PROBES.get(databaseType.getName()));
+    }
+    
+    private void probeReplicas() {
+        if (null == dataSourceRule.get()) {
+            close();
+            return;
+        }
+        for (String each : replicaDataSourceNames) {
+            if (!probingReplicaDataSourceNames.add(each)) {
+                continue;
+            }
+            try {
+                PROBE_EXECUTOR.execute(() -> probeReplica(each));
+            } catch (final RejectedExecutionException ex) {
+                probingReplicaDataSourceNames.remove(each);
+            }
+        }
+    }
+    
+    private void probeReplica(final String replicaDataSourceName) {
+        try {
+            long lagMillis = probe(replicaDataSourceName);
+            ReplicaQueryDataSourceRule rule = dataSourceRule.get();
+            if (null != rule && !closed) {
+                rule.updateReplicaLag(replicaDataSourceName, lagMillis);
+            }
+        } finally {
+            probingReplicaDataSourceNames.remove(replicaDataSourceName);
+        }
+    }
+    
+    private long probe(final String replicaDataSourceName) {
+        DataSource dataSource = dataSourceMap.get(replicaDataSourceName);
+        if (null == dataSource) {
+            return -1L;
+        }
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            return probe.getLagMillis(statement);
+        } catch (final SQLException ex) {
+            log.warn("Probe replication lag of '{}' failed.", replicaDataSourceName, ex);
+            return -1L;
+        }
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        future.cancel(false);
+    }
+}
@@ -21,15 +21,21 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.replicaquery.api.config.rule.ReplicaQueryDataSourceRuleConfiguration;
 import org.apache.shardingsphere.replicaquery.spi.ReplicaLoadBalanceAlgorithm;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +44,14 @@ import java.util.stream.Collectors;
 @Getter
 public final class ReplicaQueryDataSourceRule {
     
+    private static final String MAX_STALENESS_MILLIS_KEY = "max-staleness-millis";
+    
+    private static final String LAG_PROBE_INTERVAL_MILLIS_KEY = "lag-probe-interval-millis";
+    
+    private static final long DEFAULT_LAG_PROBE_INTERVAL_MILLIS = 1000L;
+    
+    private static final int LAG_SAMPLE_EXPIRY_INTERVALS = 3;
+    
     private final String name;
     
     private final String primaryDataSourceName;
@@ -49,12 +63,22 @@ public final class ReplicaQueryDataSourceRule {
     @Getter(AccessLevel.NONE)
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
+    private final long maxStalenessMillis;
+    
+    private final long lagProbeIntervalMillis;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, ReplicaLagSample> replicaLagSamples = new ConcurrentHashMap<>();
+    
     public ReplicaQueryDataSourceRule(final ReplicaQueryDataSourceRuleConfiguration config, final ReplicaLoadBalanceAlgorithm loadBalancer) {
         checkConfiguration(config);
         name = config.getName();
         primaryDataSourceName = config.getPrimaryDataSourceName();
         replicaDataSourceNames = config.getReplicaDataSourceNames();
         this.loadBalancer = loadBalancer;
+        Properties props = null == config.getProps() ? new Properties() : config.getProps();
+        maxStalenessMillis = Long.parseLong(props.getProperty(MAX_STALENESS_MILLIS_KEY, "0"));
+        lagProbeIntervalMillis = Long.parseLong(props.getProperty(LAG_PROBE_INTERVAL_MILLIS_KEY, String.valueOf(DEFAULT_LAG_PROBE_INTERVAL_MILLIS)));
     }
     
     private void checkConfiguration(final ReplicaQueryDataSourceRuleConfiguration config) {
@@ -66,10 +90,48 @@ public final class ReplicaQueryDataSourceRule {
     /**
      * Get replica data source names.
      *
-     * @return available replica data source names
+     * @return available replica data source names, replicas which are disabled or lag behind max staleness are excluded
      */
     public List<String> getReplicaDataSourceNames() {
-        return replicaDataSourceNames.stream().filter(each -> !disabledDataSourceNames.contains(each)).collect(Collectors.toList());
+        return replicaDataSourceNames.stream().filter(each -> !disabledDataSourceNames.contains(each) && !isStale(each)).collect(Collectors.toList());
+    }
+    
+    private boolean isStale(final String replicaDataSourceName) {
+        if (maxStalenessMillis <= 0) {
+            return false;
+        }
+        ReplicaLagSample sample = replicaLagSamples.get(replicaDataSourceName);
+        if (null == sample) {
+            return false;
+        }
+        return isExpired(sample) || sample.getLagMillis() < 0 || sample.getLagMillis() > maxStalenessMillis;
+    }
+    
+    private boolean isExpired(final ReplicaLagSample sample) {
+        return System.nanoTime() - sample.getProbedNanos() > TimeUnit.MILLISECONDS.toNanos(Math.max(lagProbeIntervalMillis, 1L) * LAG_SAMPLE_EXPIRY_INTERVALS);
+    }
+    
+    /**
+     * Update replication lag of replica.
+     *
+     * @param replicaDataSourceName replica data source name
+     * @param lagMillis replication lag in milliseconds, negative if replication is not running or can not be probed
+     */
+    public void updateReplicaLag(final String replicaDataSourceName, final long lagMillis) {
+        replicaLagSamples.put(replicaDataSourceName, new ReplicaLagSample(lagMillis, System.nanoTime()));
+    }
+    
+    /**
+     * Get measured replication lag of replicas.
+     *
+     * @return replication lag in milliseconds of replica data source names, negative if it is not probed within expiry intervals
+     */
+    public Map<String, Long> getReplicaLagMillis() {
+        Map<String, Long> result = new HashMap<>(replicaLagSamples.size(), 1);
+        for (Entry<String, ReplicaLagSample> entry : replicaLagSamples.entrySet()) {
+            result.put(entry.getKey(), isExpired(entry.getValue()) ? -1L : entry.getValue().getLagMillis());
+        }
+        return Collections.unmodifiableMap(result);
     }
     
     /**
@@ -99,4 +161,13 @@ public final class ReplicaQueryDataSourceRule {
         result.put(name, actualDataSourceNames);
         return result;
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ReplicaLagSample {
+        
+        private final long lagMillis;
+        
+        private final long probedNanos;
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.replicaquery.rule;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.rule.type.DataSourceContainedRule;
 import org.apache.shardingsphere.infra.rule.type.StatusContainedRule;
 import org.apache.shardingsphere.infra.rule.event.RuleChangedEvent;
@@ -29,11 +30,14 @@ import org.apache.shardingsphere.infra.spi.typed.TypedSPIRegistry;
 import org.apache.shardingsphere.replicaquery.algorithm.config.AlgorithmProvidedReplicaQueryRuleConfiguration;
 import org.apache.shardingsphere.replicaquery.api.config.ReplicaQueryRuleConfiguration;
 import org.apache.shardingsphere.replicaquery.api.config.rule.ReplicaQueryDataSourceRuleConfiguration;
+import org.apache.shardingsphere.replicaquery.lag.ReplicaLagMonitor;
 import org.apache.shardingsphere.replicaquery.spi.ReplicaLoadBalanceAlgorithm;
 
+import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -41,7 +45,7 @@ import java.util.Optional;
 /**
  * Replica query rule.
  */
-public final class ReplicaQueryRule implements DataSourceContainedRule, StatusContainedRule {
+public final class ReplicaQueryRule implements DataSourceContainedRule, StatusContainedRule, AutoCloseable {
     
     static {
         ShardingSphereServiceLoader.register(ReplicaLoadBalanceAlgorithm.class);
@@ -51,7 +55,13 @@ public final class ReplicaQueryRule implements DataSourceContainedRule, StatusCo
     
     private final Map<String, ReplicaQueryDataSourceRule> dataSourceRules;
     
+    private final Collection<ReplicaLagMonitor> lagMonitors = new LinkedList<>();
+    
     public ReplicaQueryRule(final ReplicaQueryRuleConfiguration config) {
+        this(config, null, null);
+    }
+    
+    public ReplicaQueryRule(final ReplicaQueryRuleConfiguration config, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap) {
         Preconditions.checkArgument(!config.getDataSources().isEmpty(), "Replica query data source rules can not be empty.");
         config.getLoadBalancers().forEach((key, value) -> loadBalancers.put(key, ShardingSphereAlgorithmFactory.createAlgorithm(value, ReplicaLoadBalanceAlgorithm.class)));
         dataSourceRules = new HashMap<>(config.getDataSources().size(), 1);
@@ -59,11 +69,17 @@ public final class ReplicaQueryRule implements DataSourceContainedRule, StatusCo
             // TODO check if can not find load balancer should throw exception.
             ReplicaLoadBalanceAlgorithm loadBalanceAlgorithm = Strings.isNullOrEmpty(each.getLoadBalancerName()) || !loadBalancers.containsKey(each.getLoadBalancerName())
                     ? TypedSPIRegistry.getRegisteredService(ReplicaLoadBalanceAlgorithm.class) : loadBalancers.get(each.getLoadBalancerName());
-            dataSourceRules.put(each.getName(), new ReplicaQueryDataSourceRule(each, loadBalanceAlgorithm));
+            ReplicaQueryDataSourceRule dataSourceRule = new ReplicaQueryDataSourceRule(each, loadBalanceAlgorithm);
+            dataSourceRules.put(each.getName(), dataSourceRule);
+            ReplicaLagMonitor.start(dataSourceRule, each.getReplicaDataSourceNames(), databaseType, dataSourceMap).ifPresent(lagMonitors::add);
         }
     }
     
     public ReplicaQueryRule(final AlgorithmProvidedReplicaQueryRuleConfiguration config) {
+        this(config, null, null);
+    }
+    
+    public ReplicaQueryRule(final AlgorithmProvidedReplicaQueryRuleConfiguration config, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap) {
         Preconditions.checkArgument(!config.getDataSources().isEmpty(), "Replica query data source rules can not be empty.");
         loadBalancers.putAll(config.getLoadBalanceAlgorithms());
         dataSourceRules = new HashMap<>(config.getDataSources().size(), 1);
@@ -71,7 +87,9 @@ public final class ReplicaQueryRule implements DataSourceContainedRule, StatusCo
             // TODO check if can not find load balancer should throw exception.
             ReplicaLoadBalanceAlgorithm loadBalanceAlgorithm = Strings.isNullOrEmpty(each.getLoadBalancerName()) || !loadBalancers.containsKey(each.getLoadBalancerName())
                     ? TypedSPIRegistry.getRegisteredService(ReplicaLoadBalanceAlgorithm.class) : loadBalancers.get(each.getLoadBalancerName());
-            dataSourceRules.put(each.getName(), new ReplicaQueryDataSourceRule(each, loadBalanceAlgorithm));
+            ReplicaQueryDataSourceRule dataSourceRule = new ReplicaQueryDataSourceRule(each, loadBalanceAlgorithm);
+            dataSourceRules.put(each.getName(), dataSourceRule);
+            ReplicaLagMonitor.start(dataSourceRule, each.getReplicaDataSourceNames(), databaseType, dataSourceMap).ifPresent(lagMonitors::add);
         }
     }
     
@@ -120,4 +138,9 @@ public final class ReplicaQueryRule implements DataSourceContainedRule, StatusCo
             }
         }
     }
+    
+    @Override
+    public void close() {
+        lagMonitors.forEach(ReplicaLagMonitor::close);
+    }
 }
@@ -17,19 +17,30 @@
 
 package org.apache.shardingsphere.replicaquery.rule.biulder;
 
+import lombok.Setter;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.rule.builder.ShardingSphereRuleBuilder;
+import org.apache.shardingsphere.infra.rule.builder.aware.ResourceAware;
 import org.apache.shardingsphere.replicaquery.algorithm.config.AlgorithmProvidedReplicaQueryRuleConfiguration;
 import org.apache.shardingsphere.replicaquery.constant.ReplicaQueryOrder;
 import org.apache.shardingsphere.replicaquery.rule.ReplicaQueryRule;
 
+import javax.sql.DataSource;
+import java.util.Map;
+
 /**
  * Algorithm provided replica query rule builder.
  */
-public final class AlgorithmProvidedReplicaQueryRuleBuilder implements ShardingSphereRuleBuilder<ReplicaQueryRule, AlgorithmProvidedReplicaQueryRuleConfiguration> {
+@Setter
+public final class AlgorithmProvidedReplicaQueryRuleBuilder implements ShardingSphereRuleBuilder<ReplicaQueryRule, AlgorithmProvidedReplicaQueryRuleConfiguration>, ResourceAware {
+    
+    private DatabaseType databaseType;
+    
+    private Map<String, DataSource> dataSourceMap;
     
     @Override
     public ReplicaQueryRule build(final AlgorithmProvidedReplicaQueryRuleConfiguration ruleConfig) {
-        return new ReplicaQueryRule(ruleConfig);
+        return new ReplicaQueryRule(ruleConfig, databaseType, dataSourceMap);
     }
     
     @Override
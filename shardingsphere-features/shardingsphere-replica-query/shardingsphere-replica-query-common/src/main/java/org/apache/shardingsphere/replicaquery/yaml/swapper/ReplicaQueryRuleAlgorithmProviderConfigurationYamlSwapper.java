@@ -29,6 +29,7 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map.Entry;
+import java.util.Properties;
 import java.util.stream.Collectors;
 
 /**
@@ -54,6 +55,9 @@ public final class ReplicaQueryRuleAlgorithmProviderConfigurationYamlSwapper
         result.setPrimaryDataSourceName(dataSourceRuleConfig.getPrimaryDataSourceName());
         result.setReplicaDataSourceNames(dataSourceRuleConfig.getReplicaDataSourceNames());
         result.setLoadBalancerName(dataSourceRuleConfig.getLoadBalancerName());
+        if (null != dataSourceRuleConfig.getProps()) {
+            result.setProps(dataSourceRuleConfig.getProps());
+        }
         return result;
     }
     
@@ -70,7 +74,8 @@ public final class ReplicaQueryRuleAlgorithmProviderConfigurationYamlSwapper
     
     private ReplicaQueryDataSourceRuleConfiguration swapToObject(final String name, final YamlReplicaQueryDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
         return new ReplicaQueryDataSourceRuleConfiguration(name, 
-                yamlDataSourceRuleConfig.getPrimaryDataSourceName(), yamlDataSourceRuleConfig.getReplicaDataSourceNames(), yamlDataSourceRuleConfig.getLoadBalancerName());
+                yamlDataSourceRuleConfig.getPrimaryDataSourceName(), yamlDataSourceRuleConfig.getReplicaDataSourceNames(), yamlDataSourceRuleConfig.getLoadBalancerName(),
+                null == yamlDataSourceRuleConfig.getProps() ? new Properties() : yamlDataSourceRuleConfig.getProps());
     }
     
     @Override
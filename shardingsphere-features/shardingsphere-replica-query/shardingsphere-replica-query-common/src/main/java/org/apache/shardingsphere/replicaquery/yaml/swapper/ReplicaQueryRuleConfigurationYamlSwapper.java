@@ -31,6 +31,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Properties;
 import java.util.stream.Collectors;
 
 /**
@@ -58,6 +59,9 @@ public final class ReplicaQueryRuleConfigurationYamlSwapper
         result.setPrimaryDataSourceName(dataSourceRuleConfig.getPrimaryDataSourceName());
         result.setReplicaDataSourceNames(dataSourceRuleConfig.getReplicaDataSourceNames());
         result.setLoadBalancerName(dataSourceRuleConfig.getLoadBalancerName());
+        if (null != dataSourceRuleConfig.getProps()) {
+            result.setProps(dataSourceRuleConfig.getProps());
+        }
         return result;
     }
     
@@ -76,7 +80,8 @@ public final class ReplicaQueryRuleConfigurationYamlSwapper
     
     private ReplicaQueryDataSourceRuleConfiguration swapToObject(final String name, final YamlReplicaQueryDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
         return new ReplicaQueryDataSourceRuleConfiguration(name, 
-                yamlDataSourceRuleConfig.getPrimaryDataSourceName(), yamlDataSourceRuleConfig.getReplicaDataSourceNames(), yamlDataSourceRuleConfig.getLoadBalancerName());
+                yamlDataSourceRuleConfig.getPrimaryDataSourceName(), yamlDataSourceRuleConfig.getReplicaDataSourceNames(), yamlDataSourceRuleConfig.getLoadBalancerName(),
+                null == yamlDataSourceRuleConfig.getProps() ? new Properties() : yamlDataSourceRuleConfig.getProps());
     }
     
     @Override
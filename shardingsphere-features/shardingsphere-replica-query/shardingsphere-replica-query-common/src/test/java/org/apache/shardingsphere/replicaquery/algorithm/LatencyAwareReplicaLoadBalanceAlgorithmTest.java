@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replicaquery.algorithm;
+
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatistics;
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatisticsRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LatencyAwareReplicaLoadBalanceAlgorithmTest {
+    
+    private static final String SCHEMA_NAME = "latency_aware_db";
+    
+    private final LatencyAwareReplicaLoadBalanceAlgorithm latencyAwareReplicaLoadBalanceAlgorithm = new LatencyAwareReplicaLoadBalanceAlgorithm();
+    
+    @Before
+    public void setUp() {
+        latencyAwareReplicaLoadBalanceAlgorithm.getProps().setProperty("min-sample-count", "5");
+        latencyAwareReplicaLoadBalanceAlgorithm.init();
+        DataSourceExecutionStatisticsRegistry.setCurrentSchemaName(SCHEMA_NAME);
+    }
+    
+    @After
+    public void tearDown() {
+        DataSourceExecutionStatisticsRegistry.remove(SCHEMA_NAME);
+    }
+    
+    @Test
+    public void assertGetDataSourceWithSingleReplica() {
+        assertThat(latencyAwareReplicaLoadBalanceAlgorithm.getDataSource("ds", "single_primary_ds", Collections.singletonList("single_replica_ds")), is("single_replica_ds"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithLowerCost() {
+        List<String> replicaDataSourceNames = Arrays.asList("cost_replica_ds_0", "cost_replica_ds_1");
+        record("cost_replica_ds_0", 1000L, false, 5);
+        record("cost_replica_ds_1", 2000L, false, 5);
+        assertThat(latencyAwareReplicaLoadBalanceAlgorithm.getDataSource("ds", "cost_primary_ds", replicaDataSourceNames), is("cost_replica_ds_0"));
+        DataSourceExecutionStatisticsRegistry.get(SCHEMA_NAME, "cost_replica_ds_0").start();
+        DataSourceExecutionStatisticsRegistry.get(SCHEMA_NAME, "cost_replica_ds_0").start();
+        assertThat(latencyAwareReplicaLoadBalanceAlgorithm.getDataSource("ds", "cost_primary_ds", replicaDataSourceNames), is("cost_replica_ds_1"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithSlowReplicaEjected() {
+        List<String> replicaDataSourceNames = Arrays.asList("slow_replica_ds_0", "slow_replica_ds_1", "slow_replica_ds_2");
+        record("slow_replica_ds_0", 1000L, false, 5);
+        record("slow_replica_ds_1", 1000L, false, 5);
+        record("slow_replica_ds_2", 100000L, false, 5);
+        for (int i = 0; i < 100; i++) {
+            assertFalse("slow_replica_ds_2".equals(latencyAwareReplicaLoadBalanceAlgorithm.getDataSource("ds", "slow_primary_ds", replicaDataSourceNames)));
+        }
+        assertTrue(DataSourceExecutionStatisticsRegistry.get(SCHEMA_NAME, "slow_replica_ds_2").isEjected());
+    }
+    
+    @Test
+    public void assertGetDataSourceWithFailedReplicaEjected() {
+        List<String> replicaDataSourceNames = Arrays.asList("failed_replica_ds_0", "failed_replica_ds_1");
+        record("failed_replica_ds_0", 1000L, false, 5);
+        record("failed_replica_ds_1", 1000L, true, 10);
+        assertThat(latencyAwareReplicaLoadBalanceAlgorithm.getDataSource("ds", "failed_primary_ds", replicaDataSourceNames), is("failed_replica_ds_0"));
+        assertTrue(DataSourceExecutionStatisticsRegistry.get(SCHEMA_NAME, "failed_replica_ds_1").isEjected());
+        assertThat(DataSourceExecutionStatisticsRegistry.get(SCHEMA_NAME, "failed_replica_ds_1").getSampleCount(), is(0L));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithAllReplicasEjected() {
+        List<String> replicaDataSourceNames = Arrays.asList("ejected_replica_ds_0", "ejected_replica_ds_1");
+        DataSourceExecutionStatisticsRegistry.get(SCHEMA_NAME, "ejected_replica_ds_0").eject(60000L);
+        DataSourceExecutionStatisticsRegistry.get(SCHEMA_NAME, "ejected_replica_ds_1").eject(60000L);
+        assertTrue(replicaDataSourceNames.contains(latencyAwareReplicaLoadBalanceAlgorithm.getDataSource("ds", "ejected_primary_ds", replicaDataSourceNames)));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithUnsampledReplicaOfAverageLatency() {
+        List<String> replicaDataSourceNames = Arrays.asList("unsampled_replica_ds_0", "unsampled_replica_ds_1");
+        record("unsampled_replica_ds_0", 1000L, false, 5);
+        DataSourceExecutionStatisticsRegistry.get(SCHEMA_NAME, "unsampled_replica_ds_1").start();
+        for (int i = 0; i < 10; i++) {
+            assertThat(latencyAwareReplicaLoadBalanceAlgorithm.getDataSource("ds", "unsampled_primary_ds", replicaDataSourceNames), is("unsampled_replica_ds_0"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithStatisticsOfCurrentSchema() {
+        List<String> replicaDataSourceNames = Arrays.asList("schema_replica_ds_0", "schema_replica_ds_1");
+        record("schema_replica_ds_0", 1000L, false, 5);
+        record("schema_replica_ds_1", 2000L, false, 5);
+        DataSourceExecutionStatistics otherSchemaStatistics = DataSourceExecutionStatisticsRegistry.get("other_db", "schema_replica_ds_0");
+        for (int i = 0; i < 10; i++) {
+            otherSchemaStatistics.start();
+        }
+        assertThat(latencyAwareReplicaLoadBalanceAlgorithm.getDataSource("ds", "schema_primary_ds", replicaDataSourceNames), is("schema_replica_ds_0"));
+        DataSourceExecutionStatisticsRegistry.remove("other_db");
+    }
+    
+    private void record(final String dataSourceName, final long elapsedNanos, final boolean failed, final int times) {
+        DataSourceExecutionStatistics statistics = DataSourceExecutionStatisticsRegistry.get(SCHEMA_NAME, dataSourceName);
+        for (int i = 0; i < times; i++) {
+            statistics.start();
+            statistics.finish(elapsedNanos, failed);
+        }
+    }
+}
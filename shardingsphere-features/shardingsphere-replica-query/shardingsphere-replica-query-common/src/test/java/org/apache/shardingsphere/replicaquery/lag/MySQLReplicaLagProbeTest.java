@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.replicaquery.lag;
+
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MySQLReplicaLagProbeTest {
+    
+    @Test
+    public void assertGetLagMillis() throws SQLException {
+        assertThat(new MySQLReplicaLagProbe().getLagMillis(mockStatement(true, 3L, false)), is(3000L));
+    }
+    
+    @Test
+    public void assertGetLagMillisWithStoppedReplication() throws SQLException {
+        assertThat(new MySQLReplicaLagProbe().getLagMillis(mockStatement(true, 0L, true)), is(-1L));
+    }
+    
+    @Test
+    public void assertGetLagMillisWithoutReplicationStatus() throws SQLException {
+        assertThat(new MySQLReplicaLagProbe().getLagMillis(mockStatement(false, 0L, false)), is(0L));
+    }
+    
+    private Statement mockStatement(final boolean hasStatus, final long secondsBehindMaster, final boolean isNull) throws SQLException {
+        Statement result = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(result.executeQuery("SHOW SLAVE STATUS")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(hasStatus);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(secondsBehindMaster);
+        when(resultSet.wasNull()).thenReturn(isNull);
+        return result;
+    }
+}
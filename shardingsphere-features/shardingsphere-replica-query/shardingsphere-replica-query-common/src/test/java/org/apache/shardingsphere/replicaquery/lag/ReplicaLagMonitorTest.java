@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replicaquery.lag;
+
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.replicaquery.algorithm.RandomReplicaLoadBalanceAlgorithm;
+import org.apache.shardingsphere.replicaquery.api.config.rule.ReplicaQueryDataSourceRuleConfiguration;
+import org.apache.shardingsphere.replicaquery.rule.ReplicaQueryDataSourceRule;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ReplicaLagMonitorTest {
+    
+    @Test
+    public void assertStartWithoutMaxStaleness() {
+        ReplicaQueryDataSourceRule dataSourceRule = createDataSourceRule(new Properties());
+        assertFalse(ReplicaLagMonitor.start(dataSourceRule, Collections.singletonList("replica_ds"), new MySQLDatabaseType(), Collections.emptyMap()).isPresent());
+    }
+    
+    @Test
+    public void assertProbe() throws SQLException, InterruptedException {
+        Properties props = new Properties();
+        props.setProperty("max-staleness-millis", "1000");
+        props.setProperty("lag-probe-interval-millis", "2000");
+        ReplicaQueryDataSourceRule dataSourceRule = createDataSourceRule(props);
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection().createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SHOW SLAVE STATUS")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(5L);
+        Optional<ReplicaLagMonitor> actual = ReplicaLagMonitor.start(dataSourceRule, Collections.singletonList("replica_ds"), new MySQLDatabaseType(), Collections.singletonMap("replica_ds", dataSource));
+        assertTrue(actual.isPresent());
+        try {
+            for (int i = 0; i < 100 && !dataSourceRule.getReplicaLagMillis().containsKey("replica_ds"); i++) {
+                Thread.sleep(50L);
+            }
+            assertThat(dataSourceRule.getReplicaLagMillis().get("replica_ds"), is(5000L));
+            verify(statement).setQueryTimeout(2);
+        } finally {
+            actual.get().close();
+        }
+    }
+    
+    private ReplicaQueryDataSourceRule createDataSourceRule(final Properties props) {
+        return new ReplicaQueryDataSourceRule(
+                new ReplicaQueryDataSourceRuleConfiguration("test_pr", "primary_ds", Collections.singletonList("replica_ds"), "random", props), new RandomReplicaLoadBalanceAlgorithm());
+    }
+}
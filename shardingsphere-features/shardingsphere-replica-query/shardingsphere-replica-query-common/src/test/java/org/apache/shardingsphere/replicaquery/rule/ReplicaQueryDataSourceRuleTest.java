@@ -27,6 +27,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -80,6 +81,56 @@ public final class ReplicaQueryDataSourceRuleTest {
         assertThat(replicaQueryDataSourceRule.getReplicaDataSourceNames(), is(Arrays.asList("replica_ds_0", "replica_ds_1")));
     }
     
+    @Test
+    public void assertGetReplicaDataSourceNamesWithoutMaxStaleness() {
+        replicaQueryDataSourceRule.updateReplicaLag("replica_ds_0", 60000L);
+        assertThat(replicaQueryDataSourceRule.getReplicaDataSourceNames(), is(Arrays.asList("replica_ds_0", "replica_ds_1")));
+    }
+    
+    @Test
+    public void assertGetReplicaDataSourceNamesWithStaleReplica() {
+        ReplicaQueryDataSourceRule actual = createReplicaQueryDataSourceRuleWithMaxStaleness();
+        actual.updateReplicaLag("replica_ds_0", 5000L);
+        actual.updateReplicaLag("replica_ds_1", 500L);
+        assertThat(actual.getReplicaDataSourceNames(), is(Collections.singletonList("replica_ds_1")));
+        assertThat(actual.getReplicaLagMillis().get("replica_ds_0"), is(5000L));
+    }
+    
+    @Test
+    public void assertGetReplicaDataSourceNamesWithStoppedReplication() {
+        ReplicaQueryDataSourceRule actual = createReplicaQueryDataSourceRuleWithMaxStaleness();
+        actual.updateReplicaLag("replica_ds_0", -1L);
+        assertThat(actual.getReplicaDataSourceNames(), is(Collections.singletonList("replica_ds_1")));
+    }
+    
+    @Test
+    public void assertGetReplicaDataSourceNamesWithCaughtUpReplica() {
+        ReplicaQueryDataSourceRule actual = createReplicaQueryDataSourceRuleWithMaxStaleness();
+        actual.updateReplicaLag("replica_ds_0", 5000L);
+        actual.updateReplicaLag("replica_ds_0", 0L);
+        assertThat(actual.getReplicaDataSourceNames(), is(Arrays.asList("replica_ds_0", "replica_ds_1")));
+    }
+    
+    @Test
+    public void assertGetReplicaDataSourceNamesWithExpiredLag() throws InterruptedException {
+        Properties props = new Properties();
+        props.setProperty("max-staleness-millis", "1000");
+        props.setProperty("lag-probe-interval-millis", "1");
+        ReplicaQueryDataSourceRule actual = new ReplicaQueryDataSourceRule(
+                new ReplicaQueryDataSourceRuleConfiguration("test_pr", "primary_ds", Arrays.asList("replica_ds_0", "replica_ds_1"), "random", props), new RandomReplicaLoadBalanceAlgorithm());
+        actual.updateReplicaLag("replica_ds_0", 0L);
+        Thread.sleep(10L);
+        assertThat(actual.getReplicaDataSourceNames(), is(Collections.singletonList("replica_ds_1")));
+        assertThat(actual.getReplicaLagMillis().get("replica_ds_0"), is(-1L));
+    }
+    
+    private ReplicaQueryDataSourceRule createReplicaQueryDataSourceRuleWithMaxStaleness() {
+        Properties props = new Properties();
+        props.setProperty("max-staleness-millis", "1000");
+        return new ReplicaQueryDataSourceRule(
+                new ReplicaQueryDataSourceRuleConfiguration("test_pr", "primary_ds", Arrays.asList("replica_ds_0", "replica_ds_1"), "random", props), new RandomReplicaLoadBalanceAlgorithm());
+    }
+    
     @Test
     public void assertGetDataSourceMapper() {
         Map<String, Collection<String>> actual = replicaQueryDataSourceRule.getDataSourceMapper();
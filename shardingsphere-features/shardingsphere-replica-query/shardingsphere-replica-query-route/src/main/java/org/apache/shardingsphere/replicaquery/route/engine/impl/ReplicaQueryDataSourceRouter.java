@@ -24,6 +24,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 
+import java.util.List;
+
 /**
  * Data source router for replica query.
  */
@@ -43,7 +45,11 @@ public final class ReplicaQueryDataSourceRouter {
             PrimaryVisitedManager.setPrimaryVisited();
             return rule.getPrimaryDataSourceName();
         }
-        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getPrimaryDataSourceName(), rule.getReplicaDataSourceNames());
+        List<String> replicaDataSourceNames = rule.getReplicaDataSourceNames();
+        if (replicaDataSourceNames.isEmpty()) {
+            return rule.getPrimaryDataSourceName();
+        }
+        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getPrimaryDataSourceName(), replicaDataSourceNames);
     }
     
     private boolean isPrimaryRoute(final SQLStatement sqlStatement) {
@@ -140,6 +140,20 @@ public final class ReplicaQuerySQLRouterTest {
         assertThat(routedDataSourceNames.next(), is(REPLICA_DATASOURCE));
     }
     
+    @Test
+    public void assertCreateRouteContextToPrimaryDataSourceWithoutAvailableReplica() {
+        rule.getSingleDataSourceRule().updateDisabledDataSourceNames(REPLICA_DATASOURCE, true);
+        MySQLSelectStatement selectStatement = mock(MySQLSelectStatement.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(selectStatement);
+        when(selectStatement.getLock()).thenReturn(Optional.empty());
+        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, "", Collections.emptyList());
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.singleton(rule));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("logic_schema", mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), ruleMetaData, mock(ShardingSphereSchema.class));
+        RouteContext actual = sqlRouter.createRouteContext(logicSQL, metaData, rule, new ConfigurationProperties(new Properties()));
+        Iterator<String> routedDataSourceNames = actual.getActualDataSourceNames().iterator();
+        assertThat(routedDataSourceNames.next(), is(PRIMARY_DATASOURCE));
+    }
+    
     @Test
     public void assertCreateRouteContextToPrimaryDataSourceWithLock() {
         MySQLSelectStatement selectStatement = mock(MySQLSelectStatement.class);
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled inline sharding expression.
+ *
+ * <p>
+ * Only the common subset {@code prefix${column}suffix}, {@code prefix${column % N}suffix}, {@code prefix${column.hashCode() % N}suffix}
+ * and {@code prefix${Math.abs(column.hashCode()) % N}suffix} can be compiled, other expressions have to be evaluated by groovy.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineShardingExpression {
+    
+    private static final Pattern EXPRESSION_PATTERN = Pattern.compile("([^${}\"\\\\]*)\\$\\{([^${}\"\\\\]+)}([^${}\"\\\\]*)");
+    
+    private static final Pattern IDENTITY_PATTERN = Pattern.compile("\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*");
+    
+    private static final Pattern MOD_PATTERN = Pattern.compile("\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*%\\s*(\\d{1,9})\\s*");
+    
+    private static final Pattern HASH_MOD_PATTERN = Pattern.compile("\\s*([A-Za-z_][A-Za-z0-9_]*)\\.hashCode\\(\\)\\s*%\\s*(\\d{1,9})\\s*");
+    
+    private static final Pattern ABS_HASH_MOD_PATTERN = Pattern.compile("\\s*Math\\.abs\\(\\s*([A-Za-z_][A-Za-z0-9_]*)\\.hashCode\\(\\)\\s*\\)\\s*%\\s*(\\d{1,9})\\s*");
+    
+    private final String prefix;
+    
+    @Getter
+    private final String columnName;
+    
+    private final OperatorType operatorType;
+    
+    private final int modulus;
+    
+    private final String suffix;
+    
+    /**
+     * Compile inline sharding expression.
+     *
+     * @param inlineExpression inline expression with {@code $} placeholder
+     * @return compiled inline sharding expression, empty if the expression is out of the compilable subset
+     */
+    public static Optional<CompiledInlineShardingExpression> compile(final String inlineExpression) {
+        Matcher matcher = EXPRESSION_PATTERN.matcher(inlineExpression);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String prefix = matcher.group(1);
+        String body = matcher.group(2);
+        String suffix = matcher.group(3);
+        Matcher bodyMatcher = IDENTITY_PATTERN.matcher(body);
+        if (bodyMatcher.matches()) {
+            return Optional.of(new CompiledInlineShardingExpression(prefix, bodyMatcher.group(1), OperatorType.IDENTITY, 0, suffix));
+        }
+        bodyMatcher = MOD_PATTERN.matcher(body);
+        if (bodyMatcher.matches()) {
+            return createModExpression(prefix, bodyMatcher, OperatorType.MOD, suffix);
+        }
+        bodyMatcher = HASH_MOD_PATTERN.matcher(body);
+        if (bodyMatcher.matches()) {
+            return createModExpression(prefix, bodyMatcher, OperatorType.HASH_MOD, suffix);
+        }
+        bodyMatcher = ABS_HASH_MOD_PATTERN.matcher(body);
+        if (bodyMatcher.matches()) {
+            return createModExpression(prefix, bodyMatcher, OperatorType.ABS_HASH_MOD, suffix);
+        }
+        return Optional.empty();
+    }
+    
+    private static Optional<CompiledInlineShardingExpression> createModExpression(final String prefix, final Matcher bodyMatcher, final OperatorType operatorType, final String suffix) {
+        int modulus = Integer.parseInt(bodyMatcher.group(2));
+        return 0 == modulus ? Optional.empty() : Optional.of(new CompiledInlineShardingExpression(prefix, bodyMatcher.group(1), operatorType, modulus, suffix));
+    }
+    
+    /**
+     * Evaluate compiled expression.
+     *
+     * @param columnName sharding column name
+     * @param value sharding value
+     * @return evaluated result, empty if the column name or value type can not be handled without groovy
+     */
+    public Optional<String> evaluate(final String columnName, final Comparable<?> value) {
+        if (!this.columnName.equals(columnName) || null == value) {
+            return Optional.empty();
+        }
+        switch (operatorType) {
+            case IDENTITY:
+                return isIntegral(value) || value instanceof String ? Optional.of(prefix + value + suffix) : Optional.empty();
+            case MOD:
+                return isIntegral(value) ? Optional.of(prefix + ((Number) value).longValue() % modulus + suffix) : Optional.empty();
+            case HASH_MOD:
+                return isIntegral(value) || value instanceof String ? Optional.of(prefix + value.hashCode() % modulus + suffix) : Optional.empty();
+            case ABS_HASH_MOD:
+                return isIntegral(value) || value instanceof String ? Optional.of(prefix + Math.abs(value.hashCode()) % modulus + suffix) : Optional.empty();
+            default:
+                return Optional.empty();
+        }
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private enum OperatorType {
+        
+        IDENTITY, MOD, HASH_MOD, ABS_HASH_MOD
+    }
+}
@@ -32,6 +32,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -80,6 +81,11 @@ public final class InlineExpressionParser {
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
+            Optional<List<String>> evaluatedSegments = InlineSegmentEvaluator.evaluate(handlePlaceHolder(each));
+            if (evaluatedSegments.isPresent()) {
+                result.addAll(evaluatedSegments.get());
+                continue;
+            }
             StringBuilder expression = new StringBuilder(handlePlaceHolder(each));
             if (!each.startsWith("\"")) {
                 expression.insert(0, "\"");
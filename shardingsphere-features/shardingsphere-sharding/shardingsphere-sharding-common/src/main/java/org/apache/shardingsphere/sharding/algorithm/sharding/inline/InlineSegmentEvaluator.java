@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import com.google.common.collect.Sets;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inline segment evaluator without groovy.
+ *
+ * <p>
+ * Only segments whose placeholders are integer ranges such as {@code ${0..3}} or {@code ${0..<4}}
+ * and literal lists such as {@code ${[0, 1]}} or {@code ${['a', 'b']}} can be evaluated, other segments have to be evaluated by groovy.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InlineSegmentEvaluator {
+    
+    private static final String INTEGER_REGEX = "(0|-?[1-9]\\d{0,8})";
+    
+    private static final String LIST_ITEM_REGEX = "(?:0|-?[1-9]\\d{0,8}|'[^'\\\\]*')";
+    
+    private static final Pattern RANGE_PATTERN = Pattern.compile("\\s*" + INTEGER_REGEX + "\\s*\\.\\.(<?)\\s*" + INTEGER_REGEX + "\\s*");
+    
+    private static final Pattern LIST_PATTERN = Pattern.compile("\\s*\\[\\s*" + LIST_ITEM_REGEX + "(?:\\s*,\\s*" + LIST_ITEM_REGEX + ")*\\s*]\\s*");
+    
+    private static final Pattern LIST_ITEM_PATTERN = Pattern.compile(LIST_ITEM_REGEX);
+    
+    /**
+     * Evaluate inline segment.
+     *
+     * @param segment inline segment with {@code $} placeholder
+     * @return evaluated results, empty if the segment can not be evaluated without groovy
+     */
+    public static Optional<List<String>> evaluate(final String segment) {
+        List<String> literals = new ArrayList<>();
+        List<Set<String>> values = new ArrayList<>();
+        int index = 0;
+        while (index < segment.length()) {
+            int start = segment.indexOf("${", index);
+            int end = -1 == start ? -1 : segment.indexOf('}', start);
+            String literal = -1 == start ? segment.substring(index) : segment.substring(index, start);
+            if (!isPlainLiteral(literal) || -1 != start && -1 == end) {
+                return Optional.empty();
+            }
+            literals.add(literal);
+            if (-1 == start) {
+                break;
+            }
+            Optional<Set<String>> placeholderValues = evaluatePlaceholder(segment.substring(start + 2, end));
+            if (!placeholderValues.isPresent()) {
+                return Optional.empty();
+            }
+            values.add(placeholderValues.get());
+            index = end + 1;
+            if (index == segment.length()) {
+                literals.add("");
+            }
+        }
+        return values.isEmpty() ? Optional.of(Collections.singletonList(segment)) : Optional.of(assemble(literals, values));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return -1 == literal.indexOf('$') && -1 == literal.indexOf('"') && -1 == literal.indexOf('\\') && -1 == literal.indexOf('{') && -1 == literal.indexOf('}');
+    }
+    
+    private static Optional<Set<String>> evaluatePlaceholder(final String placeholder) {
+        Matcher rangeMatcher = RANGE_PATTERN.matcher(placeholder);
+        if (rangeMatcher.matches()) {
+            return evaluateRange(Integer.parseInt(rangeMatcher.group(1)), Integer.parseInt(rangeMatcher.group(3)), !rangeMatcher.group(2).isEmpty());
+        }
+        if (LIST_PATTERN.matcher(placeholder).matches()) {
+            Set<String> result = new LinkedHashSet<>();
+            Matcher itemMatcher = LIST_ITEM_PATTERN.matcher(placeholder);
+            while (itemMatcher.find()) {
+                String item = itemMatcher.group();
+                result.add(item.startsWith("'") ? item.substring(1, item.length() - 1) : item);
+            }
+            return Optional.of(result);
+        }
+        return Optional.empty();
+    }
+    
+    private static Optional<Set<String>> evaluateRange(final int from, final int to, final boolean exclusive) {
+        int upper = exclusive ? to - 1 : to;
+        if (from > upper) {
+            return Optional.empty();
+        }
+        Set<String> result = new LinkedHashSet<>(upper - from + 1, 1);
+        for (int i = from; i <= upper; i++) {
+            result.add(String.valueOf(i));
+        }
+        return Optional.of(result);
+    }
+    
+    private static List<String> assemble(final List<String> literals, final List<Set<String>> values) {
+        Set<List<String>> cartesianValues = Sets.cartesianProduct(values);
+        List<String> result = new ArrayList<>(cartesianValues.size());
+        for (List<String> each : cartesianValues) {
+            StringBuilder segment = new StringBuilder();
+            for (int i = 0; i < each.size(); i++) {
+                segment.append(literals.get(i)).append(each.get(i));
+            }
+            result.add(segment.append(literals.get(each.size())).toString());
+        }
+        return result;
+    }
+}
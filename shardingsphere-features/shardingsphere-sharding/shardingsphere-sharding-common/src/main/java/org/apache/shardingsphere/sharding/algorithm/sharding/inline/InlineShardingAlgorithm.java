@@ -27,6 +27,7 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingVal
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -40,6 +41,12 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private boolean allowRangeQuery;
     
+    private String algorithmExpression;
+    
+    private CompiledInlineShardingExpression compiledExpression;
+    
+    private ThreadLocal<Closure<?>> threadLocalClosure;
+    
     @Getter
     @Setter
     private Properties props = new Properties();
@@ -47,12 +54,18 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     @Override
     public void init() {
         allowRangeQuery = isAllowRangeQuery();
+        algorithmExpression = getAlgorithmExpression();
+        compiledExpression = CompiledInlineShardingExpression.compile(algorithmExpression).orElse(null);
+        threadLocalClosure = ThreadLocal.withInitial(this::createClosure);
     }
     
-    private Closure<?> createClosure() {
+    private String getAlgorithmExpression() {
         String expression = props.getProperty(ALGORITHM_EXPRESSION_KEY);
         Preconditions.checkNotNull(expression, "Inline sharding algorithm expression cannot be null.");
-        String algorithmExpression = InlineExpressionParser.handlePlaceHolder(expression.trim());
+        return InlineExpressionParser.handlePlaceHolder(expression.trim());
+    }
+    
+    private Closure<?> createClosure() {
         Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         return result;
@@ -64,7 +77,13 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        Closure<?> closure = createClosure();
+        if (null != compiledExpression) {
+            Optional<String> result = compiledExpression.evaluate(shardingValue.getColumnName(), shardingValue.getValue());
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        Closure<?> closure = threadLocalClosure.get();
         closure.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
         return closure.call().toString();
     }
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datanode.DataNodes;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.TableMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.TableMetaDataLoadingExecutor;
 import org.apache.shardingsphere.infra.metadata.schema.builder.spi.RuleBasedTableMetaDataBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
@@ -39,11 +40,14 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -82,6 +86,56 @@ public final class ShardingTableMetaDataBuilder implements RuleBasedTableMetaDat
         return Optional.of(actualTableMetaDataMap.values().iterator().next());
     }
     
+    @Override
+    public Map<String, TableMetaData> load(final Collection<String> tableNames, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final DataNodes dataNodes,
+                                           final ShardingRule rule, final ConfigurationProperties props, final ExecutorService executorService) throws SQLException {
+        Collection<String> shardingTableNames = tableNames.stream().filter(each -> rule.findTableRule(each).isPresent()).collect(Collectors.toList());
+        boolean isCheckingMetaData = props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED);
+        if (isCheckingMetaData) {
+            return RuleBasedTableMetaDataBuilder.super.load(shardingTableNames, databaseType, dataSourceMap, dataNodes, rule, props, executorService);
+        }
+        Collection<Callable<Map<String, TableMetaData>>> loadingTasks = new LinkedList<>();
+        for (Entry<String, Map<String, String>> entry : getActualTableNameGroups(shardingTableNames, dataNodes).entrySet()) {
+            loadingTasks.add(() -> loadTablesByDataSource(dataSourceMap.get(entry.getKey()), entry.getValue(), databaseType));
+        }
+        return TableMetaDataLoadingExecutor.execute(executorService, loadingTasks);
+    }
+    
+    private Map<String, Map<String, String>> getActualTableNameGroups(final Collection<String> logicTableNames, final DataNodes dataNodes) {
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        for (String each : logicTableNames) {
+            DataNode dataNode = getLeastLoadedDataNode(dataNodes.getDataNodes(each), result);
+            result.computeIfAbsent(dataNode.getDataSourceName(), key -> new LinkedHashMap<>()).put(each, dataNode.getTableName());
+        }
+        return result;
+    }
+    
+    private DataNode getLeastLoadedDataNode(final Collection<DataNode> dataNodes, final Map<String, Map<String, String>> actualTableNameGroups) {
+        DataNode result = dataNodes.iterator().next();
+        int minLoadedTableCount = Integer.MAX_VALUE;
+        for (DataNode each : dataNodes) {
+            Map<String, String> loadedTables = actualTableNameGroups.get(each.getDataSourceName());
+            int loadedTableCount = null == loadedTables ? 0 : loadedTables.size();
+            if (loadedTableCount < minLoadedTableCount) {
+                result = each;
+                minLoadedTableCount = loadedTableCount;
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, TableMetaData> loadTablesByDataSource(final DataSource dataSource, final Map<String, String> actualTableNames, final DatabaseType databaseType) throws SQLException {
+        Map<String, TableMetaData> actualTableMetaDataMap = TableMetaDataLoader.load(dataSource, new LinkedHashSet<>(actualTableNames.values()), databaseType);
+        Map<String, TableMetaData> result = new LinkedHashMap<>(actualTableNames.size(), 1);
+        for (Entry<String, String> entry : actualTableNames.entrySet()) {
+            TableMetaData tableMetaData = actualTableMetaDataMap.get(entry.getValue());
+            if (null != tableMetaData) {
+                result.put(entry.getKey(), tableMetaData);
+            }
+        }
+        return result;
+    }
+    
     private Map<String, TableMetaData> parallelLoadTables(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final DataNodes dataNodes,
                                                           final String tableName, final int maxConnectionsSizePerQuery) {
         Map<String, List<DataNode>> dataNodeGroups = dataNodes.getDataNodeGroups(tableName);
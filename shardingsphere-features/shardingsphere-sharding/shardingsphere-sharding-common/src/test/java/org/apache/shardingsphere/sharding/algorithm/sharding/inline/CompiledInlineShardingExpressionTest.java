@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineShardingExpressionTest {
+    
+    @Test
+    public void assertCompileAndEvaluateIdentity() {
+        Optional<CompiledInlineShardingExpression> actual = CompiledInlineShardingExpression.compile("t_order_${order_id}");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate("order_id", 10L), is(Optional.of("t_order_10")));
+    }
+    
+    @Test
+    public void assertCompileAndEvaluateMod() {
+        Optional<CompiledInlineShardingExpression> actual = CompiledInlineShardingExpression.compile("ds_${user_id % 2}_suffix");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getColumnName(), is("user_id"));
+        assertThat(actual.get().evaluate("user_id", 3), is(Optional.of("ds_1_suffix")));
+        assertThat(actual.get().evaluate("user_id", -3L), is(Optional.of("ds_-1_suffix")));
+    }
+    
+    @Test
+    public void assertCompileAndEvaluateHashMod() {
+        Optional<CompiledInlineShardingExpression> actual = CompiledInlineShardingExpression.compile("t_order_${order_no.hashCode() % 8}");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate("order_no", "ABC"), is(Optional.of("t_order_" + "ABC".hashCode() % 8)));
+    }
+    
+    @Test
+    public void assertCompileAndEvaluateAbsHashMod() {
+        Optional<CompiledInlineShardingExpression> actual = CompiledInlineShardingExpression.compile("t_order_${Math.abs(order_no.hashCode()) % 8}");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate("order_no", "order_no_-1"), is(Optional.of("t_order_" + Math.abs("order_no_-1".hashCode()) % 8)));
+    }
+    
+    @Test
+    public void assertCompileWithUnsupportedExpression() {
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_${order_id % 4 + 1}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_${order_id % 0}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("ds_${user_id % 2}.t_order_${order_id % 2}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_$order_id").isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineShardingExpression expression = CompiledInlineShardingExpression.compile("t_order_${order_id % 4}").get();
+        assertFalse(expression.evaluate("order_id", new BigDecimal("1.5")).isPresent());
+        assertFalse(expression.evaluate("order_id", "1").isPresent());
+        assertFalse(expression.evaluate("user_id", 1).isPresent());
+    }
+}
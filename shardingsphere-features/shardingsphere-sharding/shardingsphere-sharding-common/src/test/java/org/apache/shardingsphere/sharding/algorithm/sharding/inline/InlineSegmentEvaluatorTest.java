@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class InlineSegmentEvaluatorTest {
+    
+    @Test
+    public void assertEvaluateWithoutPlaceholder() {
+        assertThat(InlineSegmentEvaluator.evaluate("t_config"), is(Optional.of(Collections.singletonList("t_config"))));
+    }
+    
+    @Test
+    public void assertEvaluateRange() {
+        assertThat(InlineSegmentEvaluator.evaluate("ds_${0..1}.t_order_${0..<2}"), is(Optional.of(Arrays.asList("ds_0.t_order_0", "ds_0.t_order_1", "ds_1.t_order_0", "ds_1.t_order_1"))));
+    }
+    
+    @Test
+    public void assertEvaluateList() {
+        assertThat(InlineSegmentEvaluator.evaluate("t_${['new', 'old']}_order_${[1, 1, 2]}"), is(Optional.of(Arrays.asList("t_new_order_1", "t_new_order_2", "t_old_order_1", "t_old_order_2"))));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedPlaceholder() {
+        assertFalse(InlineSegmentEvaluator.evaluate("t_order_${null}").isPresent());
+        assertFalse(InlineSegmentEvaluator.evaluate("t_order_${1..2}${(0..3).collect{it * 2}}").isPresent());
+        assertFalse(InlineSegmentEvaluator.evaluate("t_order_${3..0}").isPresent());
+        assertFalse(InlineSegmentEvaluator.evaluate("\"t_order_${0..1}\"").isPresent());
+    }
+}
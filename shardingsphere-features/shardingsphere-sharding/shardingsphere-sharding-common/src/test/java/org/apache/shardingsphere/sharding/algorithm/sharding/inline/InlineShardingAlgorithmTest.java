@@ -24,6 +24,7 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingVal
 import org.junit.Before;
 import org.junit.Test;
 
+import java.math.BigInteger;
 import java.util.Collection;
 import java.util.List;
 
@@ -76,4 +77,20 @@ public final class InlineShardingAlgorithmTest {
         assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 0)), is("t_order_0"));
         assertThat(inlineShardingAlgorithmWithSimplified.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 0)), is("t_order_0"));
     }
+    
+    @Test
+    public void assertDoShardingWithGroovyFallback() {
+        InlineShardingAlgorithm shardingAlgorithm = new InlineShardingAlgorithm();
+        shardingAlgorithm.getProps().setProperty("algorithm-expression", "t_order_${order_id % 4 + 1}");
+        shardingAlgorithm.init();
+        List<String> availableTargetNames = Lists.newArrayList("t_order_1", "t_order_2", "t_order_3", "t_order_4");
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 2)), is("t_order_3"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 3)), is("t_order_4"));
+    }
+    
+    @Test
+    public void assertDoShardingWithNonIntegralValue() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", new BigInteger("5"))), is("t_order_1"));
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aggregation context for group by.
+ * 
+ * <p>
+ * Aggregation units of every group are kept in flat array indexed by aggregation projection position,
+ * and aggregation values are passed to aggregation units with value lists reused across rows.
+ * </p>
+ */
+final class GroupByAggregationContext {
+    
+    private final AggregationProjection[] aggregationProjections;
+    
+    private final String[] columnTypeNames;
+    
+    private final List<List<Comparable<?>>> aggregationValues;
+    
+    GroupByAggregationContext(final SelectStatementContext selectStatementContext, final List<QueryResult> queryResults) throws SQLException {
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
+        columnTypeNames = new String[aggregationProjections.length];
+        aggregationValues = new ArrayList<>(aggregationProjections.length);
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            List<AggregationProjection> derivedAggregationProjections = aggregationProjections[i].getDerivedAggregationProjections();
+            AggregationProjection valueProjection = derivedAggregationProjections.isEmpty() ? aggregationProjections[i] : derivedAggregationProjections.get(derivedAggregationProjections.size() - 1);
+            columnTypeNames[i] = queryResults.isEmpty() ? null : queryResults.get(0).getColumnTypeName(valueProjection.getIndex());
+            aggregationValues.add(Arrays.asList(new Comparable<?>[Math.max(derivedAggregationProjections.size(), 1)]));
+        }
+    }
+    
+    /**
+     * Create aggregation units for new group.
+     * 
+     * @return aggregation units
+     */
+    AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            result[i] = AggregationUnitFactory.create(aggregationProjections[i].getType(), aggregationProjections[i] instanceof AggregationDistinctProjection, columnTypeNames[i]);
+        }
+        return result;
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     * 
+     * @param aggregationUnits aggregation units of group
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    void aggregate(final AggregationUnit[] aggregationUnits, final QueryResult queryResult) throws SQLException {
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            List<Comparable<?>> values = aggregationValues.get(i);
+            List<AggregationProjection> derivedAggregationProjections = aggregationProjections[i].getDerivedAggregationProjections();
+            if (derivedAggregationProjections.isEmpty()) {
+                values.set(0, getAggregationValue(queryResult.getValue(aggregationProjections[i].getIndex(), Object.class)));
+            } else {
+                for (int j = 0; j < derivedAggregationProjections.size(); j++) {
+                    values.set(j, getAggregationValue(queryResult.getValue(derivedAggregationProjections.get(j).getIndex(), Object.class)));
+                }
+            }
+            aggregationUnits[i].merge(values);
+        }
+    }
+    
+    /**
+     * Aggregate memory query result row.
+     * 
+     * @param aggregationUnits aggregation units of group
+     * @param row memory query result row
+     */
+    void aggregate(final AggregationUnit[] aggregationUnits, final MemoryQueryResultRow row) {
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            List<Comparable<?>> values = aggregationValues.get(i);
+            List<AggregationProjection> derivedAggregationProjections = aggregationProjections[i].getDerivedAggregationProjections();
+            if (derivedAggregationProjections.isEmpty()) {
+                values.set(0, getAggregationValue(row.getCell(aggregationProjections[i].getIndex())));
+            } else {
+                for (int j = 0; j < derivedAggregationProjections.size(); j++) {
+                    values.set(j, getAggregationValue(row.getCell(derivedAggregationProjections.get(j).getIndex())));
+                }
+            }
+            aggregationUnits[i].merge(values);
+        }
+    }
+    
+    private Comparable<?> getAggregationValue(final Object value) {
+        Preconditions.checkState(null == value || value instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) value;
+    }
+    
+    /**
+     * Set aggregation results to memory query result row.
+     * 
+     * @param aggregationUnits aggregation units of group
+     * @param row memory query result row
+     */
+    void setAggregationValueToMemoryRow(final AggregationUnit[] aggregationUnits, final MemoryQueryResultRow row) {
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            row.setCell(aggregationProjections[i].getIndex(), aggregationUnits[i].getResult());
+        }
+    }
+}
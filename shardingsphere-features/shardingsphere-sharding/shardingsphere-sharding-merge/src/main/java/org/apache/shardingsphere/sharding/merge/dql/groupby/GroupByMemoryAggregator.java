@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MergeMemoryBudget;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Memory aggregator for group by, which holds groups only if memory budget is enough.
+ */
+@RequiredArgsConstructor
+final class GroupByMemoryAggregator {
+    
+    private final GroupByAggregationContext aggregationContext;
+    
+    private final MergeMemoryBudget memoryBudget;
+    
+    private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+    
+    private final Map<GroupByValue, AggregationUnit[]> aggregationMap = new HashMap<>(1024);
+    
+    private boolean exhausted;
+    
+    /**
+     * Aggregate row.
+     * 
+     * <p>
+     * Once memory budget is exhausted, rows of new groups are always rejected, so that one group is never split between memory and disk.
+     * </p>
+     * 
+     * @param groupByValue group by value
+     * @param row memory query result row
+     * @param ignoreMemoryBudget whether to ignore memory budget
+     * @return aggregated or not, false means the row should be spilled
+     */
+    boolean aggregate(final GroupByValue groupByValue, final MemoryQueryResultRow row, final boolean ignoreMemoryBudget) {
+        AggregationUnit[] aggregationUnits = aggregationMap.get(groupByValue);
+        if (null == aggregationUnits) {
+            if (!ignoreMemoryBudget && (exhausted || !memoryBudget.tryAcquire(MergeMemoryBudget.estimate(row)))) {
+                exhausted = true;
+                return false;
+            }
+            dataMap.put(groupByValue, row);
+            aggregationUnits = aggregationContext.createAggregationUnits();
+            aggregationMap.put(groupByValue, aggregationUnits);
+        }
+        aggregationContext.aggregate(aggregationUnits, row);
+        return true;
+    }
+    
+    /**
+     * Judge whether no group is aggregated.
+     * 
+     * @return no group is aggregated or not
+     */
+    boolean isEmpty() {
+        return dataMap.isEmpty();
+    }
+    
+    /**
+     * Get aggregated rows in order.
+     * 
+     * @param comparator row comparator
+     * @return aggregated rows
+     */
+    List<MemoryQueryResultRow> getSortedRows(final Comparator<MemoryQueryResultRow> comparator) {
+        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.size());
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            aggregationContext.setAggregationValueToMemoryRow(aggregationMap.get(entry.getKey()), entry.getValue());
+            result.add(entry.getValue());
+        }
+        result.sort(comparator);
+        return result;
+    }
+}
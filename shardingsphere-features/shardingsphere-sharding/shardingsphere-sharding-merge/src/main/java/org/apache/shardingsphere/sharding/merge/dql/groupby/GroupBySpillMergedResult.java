@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.hash.Hashing;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MergeMemoryBudget;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MergeSortedRunsIterator;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MergeSpillFile;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Memory merged result for group by, which spills rows to local temporary files if merge memory limit is exceeded.
+ * 
+ * <p>
+ * Rows of groups which can not be held in memory are spilled to hash partitions by group by value,
+ * every partition is aggregated separately and written back as sorted run, all sorted runs are merged in order of ORDER BY items
+ * (or GROUP BY items if no ORDER BY) at last. Spill files and memory budget are released when all rows are read or the merged result is closed.
+ * If a row contains values which can not be spilled before spilling starts, memory budget is ignored and the rows are merged in memory.
+ * </p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int MAX_PARTITION_DEPTH = 3;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final MergeMemoryBudget memoryBudget;
+    
+    private final GroupByAggregationContext aggregationContext;
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final Collection<MergeSpillFile> spillFiles = new LinkedList<>();
+    
+    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    private MemoryQueryResultRow currentResultSetRow;
+    
+    private boolean spillable = true;
+    
+    private boolean closed;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final MergeMemoryBudget memoryBudget) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.memoryBudget = memoryBudget;
+        aggregationContext = new GroupByAggregationContext(selectStatementContext, queryResults);
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty()
+                ? Collections.emptyList() : GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        comparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        try {
+            memoryResultSetRows = init(queryResults);
+        } catch (final IOException ex) {
+            close();
+            throw new SQLException(ex);
+        } catch (final SQLException ex) {
+            close();
+            throw ex;
+        }
+    }
+    
+    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException, IOException {
+        GroupByMemoryAggregator aggregator = new GroupByMemoryAggregator(aggregationContext, memoryBudget);
+        MergeSpillFile[] partitions = null;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                MemoryQueryResultRow row = new MemoryQueryResultRow(each);
+                GroupByValue groupByValue = new GroupByValue(row, selectStatementContext.getGroupByContext().getItems());
+                if (spillable && null == partitions && !MergeSpillFile.isSpillable(row)) {
+                    spillable = false;
+                }
+                if (!aggregator.aggregate(groupByValue, row, !spillable)) {
+                    partitions = spill(partitions, groupByValue, 0, row);
+                }
+            }
+        }
+        if (null == partitions) {
+            return aggregator.isEmpty()
+                    ? Collections.singletonList(new MemoryQueryResultRow(GroupByMemoryMergedResult.generateReturnData(selectStatementContext))).iterator()
+                    : aggregator.getSortedRows(comparator).iterator();
+        }
+        Collection<Iterator<MemoryQueryResultRow>> sortedRuns = new LinkedList<>();
+        sortedRuns.add(writeSortedRun(aggregator));
+        mergePartitions(partitions, 1, sortedRuns);
+        return new MergeSortedRunsIterator(sortedRuns, comparator);
+    }
+    
+    private void mergePartitions(final MergeSpillFile[] partitions, final int depth, final Collection<Iterator<MemoryQueryResultRow>> sortedRuns) throws SQLException, IOException {
+        for (MergeSpillFile each : partitions) {
+            if (null != each) {
+                mergePartition(each, depth, sortedRuns);
+            }
+        }
+    }
+    
+    private void mergePartition(final MergeSpillFile partition, final int depth, final Collection<Iterator<MemoryQueryResultRow>> sortedRuns) throws SQLException, IOException {
+        GroupByMemoryAggregator aggregator = new GroupByMemoryAggregator(aggregationContext, memoryBudget);
+        boolean ignoreMemoryBudget = depth >= MAX_PARTITION_DEPTH;
+        MergeSpillFile[] partitions = null;
+        Iterator<MemoryQueryResultRow> rows = partition.read();
+        while (rows.hasNext()) {
+            MemoryQueryResultRow row = rows.next();
+            GroupByValue groupByValue = new GroupByValue(row, selectStatementContext.getGroupByContext().getItems());
+            if (!aggregator.aggregate(groupByValue, row, ignoreMemoryBudget)) {
+                partitions = spill(partitions, groupByValue, depth, row);
+            }
+        }
+        if (!aggregator.isEmpty()) {
+            sortedRuns.add(writeSortedRun(aggregator));
+        }
+        if (null != partitions) {
+            mergePartitions(partitions, depth + 1, sortedRuns);
+        }
+    }
+    
+    private MergeSpillFile[] spill(final MergeSpillFile[] partitions, final GroupByValue groupByValue, final int depth, final MemoryQueryResultRow row) throws SQLException, IOException {
+        if (!MergeSpillFile.isSpillable(row)) {
+            throw new SQLFeatureNotSupportedException("Spill rows with values which can not be spilled to disk, please increase merge memory limit");
+        }
+        MergeSpillFile[] result = null == partitions ? new MergeSpillFile[PARTITION_COUNT] : partitions;
+        int partitionIndex = Math.floorMod(Hashing.murmur3_32(depth).hashInt(groupByValue.hashCode()).asInt(), PARTITION_COUNT);
+        if (null == result[partitionIndex]) {
+            result[partitionIndex] = createSpillFile();
+        }
+        result[partitionIndex].write(row);
+        return result;
+    }
+    
+    private Iterator<MemoryQueryResultRow> writeSortedRun(final GroupByMemoryAggregator aggregator) throws IOException {
+        MergeSpillFile result = createSpillFile();
+        for (MemoryQueryResultRow each : aggregator.getSortedRows(comparator)) {
+            result.write(each);
+        }
+        memoryBudget.release();
+        return result.read();
+    }
+    
+    private MergeSpillFile createSpillFile() throws IOException {
+        MergeSpillFile result = new MergeSpillFile();
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private void closeSpillFiles() {
+        for (MergeSpillFile each : spillFiles) {
+            try {
+                each.close();
+            } catch (final IOException ignored) {
+            }
+        }
+    }
+    
+    @Override
+    public boolean next() {
+        if (!closed && memoryResultSetRows.hasNext()) {
+            currentResultSetRow = memoryResultSetRows.next();
+            return true;
+        }
+        close();
+        return false;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName()));
+        }
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        // TODO implement with calendar
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        closeSpillFiles();
+        memoryBudget.release();
+    }
+}
@@ -21,12 +21,19 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+
 /**
  * Aggregation unit factory.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class AggregationUnitFactory {
     
+    private static final Collection<String> INTEGRAL_COLUMN_TYPE_NAMES = new HashSet<>(Arrays.asList(
+            "TINYINT", "SMALLINT", "MEDIUMINT", "INT", "INTEGER", "BIGINT", "INT2", "INT4", "INT8", "SERIAL", "BIGSERIAL", "DECIMAL", "NUMERIC", "NUMBER"));
+    
     /**
      * Create aggregation unit instance.
      * 
@@ -50,4 +57,43 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedOperationException(type.name());
         }
     }
+    
+    /**
+     * Create aggregation unit instance with column type of aggregation value.
+     * 
+     * <p>
+     * Accumulation of count, and of sum or average on integral column, uses primitive long and falls back to big decimal if overflow, results are the same as generic aggregation unit.
+     * </p>
+     * 
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param columnTypeName column type name of aggregation value, derived sum column for average
+     * @return aggregation unit instance
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final String columnTypeName) {
+        if (isDistinct) {
+            return create(type, true);
+        }
+        switch (type) {
+            case COUNT:
+                return new LongAccumulationAggregationUnit();
+            case SUM:
+                return isIntegralColumnType(columnTypeName) ? new LongAccumulationAggregationUnit() : new AccumulationAggregationUnit();
+            case AVG:
+                return isIntegralColumnType(columnTypeName) ? new LongAverageAggregationUnit() : new AverageAggregationUnit();
+            default:
+                return create(type, false);
+        }
+    }
+    
+    private static boolean isIntegralColumnType(final String columnTypeName) {
+        if (null == columnTypeName) {
+            return false;
+        }
+        int endIndex = 0;
+        while (endIndex < columnTypeName.length() && Character.isLetterOrDigit(columnTypeName.charAt(endIndex))) {
+            endIndex++;
+        }
+        return INTEGRAL_COLUMN_TYPE_NAMES.contains(columnTypeName.substring(0, endIndex).toUpperCase());
+    }
 }
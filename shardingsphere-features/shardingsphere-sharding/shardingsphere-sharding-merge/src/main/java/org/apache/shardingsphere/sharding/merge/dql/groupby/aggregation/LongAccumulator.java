@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Accumulator which accumulates integral values with primitive long, and switches to big decimal if overflow or value is not integral.
+ */
+final class LongAccumulator {
+    
+    private static final int MAX_LONG_PRECISION = 18;
+    
+    private boolean present;
+    
+    private long longResult;
+    
+    private BigDecimal decimalResult;
+    
+    /**
+     * Add value.
+     * 
+     * @param value value to be added
+     */
+    void add(final Comparable<?> value) {
+        present = true;
+        if (null == decimalResult) {
+            if (isLongValue(value)) {
+                long addend = ((Number) value).longValue();
+                long sum = longResult + addend;
+                if (((longResult ^ sum) & (addend ^ sum)) >= 0) {
+                    longResult = sum;
+                    return;
+                }
+            }
+            decimalResult = BigDecimal.valueOf(longResult);
+        }
+        decimalResult = decimalResult.add(new BigDecimal(value.toString()));
+    }
+    
+    private boolean isLongValue(final Comparable<?> value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return true;
+        }
+        if (value instanceof BigDecimal) {
+            return 0 == ((BigDecimal) value).scale() && ((BigDecimal) value).precision() <= MAX_LONG_PRECISION;
+        }
+        return value instanceof BigInteger && ((BigInteger) value).bitLength() < Long.SIZE;
+    }
+    
+    /**
+     * Get accumulated result.
+     * 
+     * @return accumulated result, null if no value is added
+     */
+    BigDecimal getResult() {
+        if (!present) {
+            return null;
+        }
+        return null == decimalResult ? BigDecimal.valueOf(longResult) : decimalResult;
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.route.strategy;
 
+import com.google.common.collect.MapMaker;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ComplexShardingStrategyConfiguration;
@@ -25,18 +26,43 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardS
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.apache.shardingsphere.sharding.route.strategy.type.complex.ComplexShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Sharding strategy factory.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ShardingStrategyFactory {
     
+    private static final Map<ShardingRule, Map<ShardingStrategyConfiguration, ShardingStrategy>> CACHED_STRATEGIES = new MapMaker().weakKeys().makeMap();
+    
+    private static final ShardingStrategy NONE_SHARDING_STRATEGY = new NoneShardingStrategy();
+    
+    /**
+     * Get sharding strategy.
+     * 
+     * <p>Sharding strategy is created only once for every strategy configuration of sharding rule, and released with sharding rule.</p>
+     * 
+     * @param shardingRule sharding rule
+     * @param shardingStrategyConfig sharding strategy configuration
+     * @return sharding strategy instance
+     */
+    public static ShardingStrategy getInstance(final ShardingRule shardingRule, final ShardingStrategyConfiguration shardingStrategyConfig) {
+        if (null == shardingStrategyConfig) {
+            return NONE_SHARDING_STRATEGY;
+        }
+        return CACHED_STRATEGIES.computeIfAbsent(shardingRule, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(shardingStrategyConfig, key -> newInstance(key, shardingRule.getShardingAlgorithms().get(key.getShardingAlgorithmName())));
+    }
+    
     /**
      * Create sharding strategy.
      * 
@@ -27,12 +27,19 @@ import org.apache.shardingsphere.sharding.route.strategy.type.complex.ComplexSha
 import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -69,4 +76,16 @@ public final class ShardingStrategyFactoryTest {
         ShardingStrategy actualNoneShardingStrategy = ShardingStrategyFactory.newInstance(null, null);
         assertTrue(actualNoneShardingStrategy instanceof NoneShardingStrategy);
     }
+    
+    @Test
+    public void assertGetInstance() {
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.getShardingAlgorithms()).thenReturn(Collections.<String, ShardingAlgorithm>singletonMap("standard_fixture", standardShardingAlgorithmFixture));
+        when(standardShardingStrategyConfiguration.getShardingAlgorithmName()).thenReturn("standard_fixture");
+        when(standardShardingStrategyConfiguration.getShardingColumn()).thenReturn("standard_sharding_column");
+        ShardingStrategy actual = ShardingStrategyFactory.getInstance(shardingRule, standardShardingStrategyConfiguration);
+        assertTrue(actual instanceof StandardShardingStrategy);
+        assertThat(ShardingStrategyFactory.getInstance(shardingRule, standardShardingStrategyConfiguration), is(actual));
+        assertTrue(ShardingStrategyFactory.getInstance(shardingRule, null) instanceof NoneShardingStrategy);
+    }
 }
@@ -165,6 +165,7 @@ public final class GovernanceMetaDataContextsTest {
         MetaDataDeletedEvent event = new MetaDataDeletedEvent("schema");
         governanceMetaDataContexts.renew(event);
         assertNull(governanceMetaDataContexts.getMetaDataMap().get("schema"));
+        verify(metaData.getRuleMetaData()).close();
     }
     
     @Test
@@ -205,6 +206,7 @@ public final class GovernanceMetaDataContextsTest {
         RuleConfigurationsChangedEvent event = new RuleConfigurationsChangedEvent("schema", new LinkedList<>());
         governanceMetaDataContexts.renew(event);
         assertThat(governanceMetaDataContexts.getMetaDataMap().get("schema"), not(metaData));
+        verify(metaData.getRuleMetaData()).close();
     }
     
     @Test
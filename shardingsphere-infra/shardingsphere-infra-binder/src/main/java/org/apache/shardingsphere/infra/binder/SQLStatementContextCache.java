@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.binder;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.MapMaker;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL statement context cache for prepared statements.
+ * 
+ * <p>
+ * Binding results are cached per schema and keyed by SQL and parameter count.
+ * Insert statements bind parameters into their values, so they are never cached.
+ * Select statements are copied on every get, because column indexes of their contexts are set while merging,
+ * and pagination is re-bound because it is the only part which depends on parameters.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLStatementContextCache {
+    
+    private static final int INITIAL_CAPACITY = 128;
+    
+    private static final Map<ShardingSphereSchema, SizedCache> CACHES = new MapMaker().weakKeys().makeMap();
+    
+    /**
+     * Get SQL statement context.
+     *
+     * @param schema ShardingSphere schema
+     * @param props configuration properties
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @param sqlStatement SQL statement
+     * @return SQL statement context
+     */
+    public static SQLStatementContext<?> get(final ShardingSphereSchema schema, final ConfigurationProperties props, final String sql, final List<Object> parameters, final SQLStatement sqlStatement) {
+        long maximumSize = props.<Long>getValue(ConfigurationPropertyKey.SQL_STATEMENT_CONTEXT_CACHE_SIZE);
+        if (sqlStatement instanceof InsertStatement || maximumSize <= 0L) {
+            return SQLStatementContextFactory.newInstance(schema, parameters, sqlStatement);
+        }
+        Cache<CacheKey, SQLStatementContext<?>> cache = getCache(schema, maximumSize);
+        CacheKey cacheKey = new CacheKey(sql, parameters.size());
+        SQLStatementContext<?> result = cache.getIfPresent(cacheKey);
+        if (null == result) {
+            result = SQLStatementContextFactory.newInstance(schema, parameters, sqlStatement);
+            cache.put(cacheKey, result);
+        }
+        return result instanceof SelectStatementContext ? new SelectStatementContext((SelectStatementContext) result, parameters) : result;
+    }
+    
+    private static Cache<CacheKey, SQLStatementContext<?>> getCache(final ShardingSphereSchema schema, final long maximumSize) {
+        SizedCache result = CACHES.get(schema);
+        if (null == result || maximumSize != result.getMaximumSize()) {
+            result = CACHES.compute(schema, (key, value) -> null == value || maximumSize != value.getMaximumSize() ? new SizedCache(maximumSize,
+                    CacheBuilder.newBuilder().initialCapacity(INITIAL_CAPACITY).maximumSize(maximumSize).recordStats().build()) : value);
+        }
+        return result.getCache();
+    }
+    
+    /**
+     * Invalidate all cached SQL statement contexts of schema, should be called after schema changed.
+     *
+     * @param schema ShardingSphere schema
+     */
+    public static void invalidate(final ShardingSphereSchema schema) {
+        SizedCache cache = CACHES.get(schema);
+        if (null != cache) {
+            cache.getCache().invalidateAll();
+        }
+    }
+    
+    /**
+     * Get cache statistics of schema, including hit, miss and eviction count.
+     *
+     * @param schema ShardingSphere schema
+     * @return cache statistics
+     */
+    public static CacheStats getStats(final ShardingSphereSchema schema) {
+        SizedCache cache = CACHES.get(schema);
+        return null == cache ? new CacheStats(0L, 0L, 0L, 0L, 0L, 0L) : cache.getCache().stats();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class SizedCache {
+        
+        private final long maximumSize;
+        
+        private final Cache<CacheKey, SQLStatementContext<?>> cache;
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String sql;
+        
+        private final int parameterCount;
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.infra.binder.segment.select.pagination.engine.P
 import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.ProjectionsContext;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.engine.ProjectionsContextEngine;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
@@ -47,6 +48,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.sql.parser.sql.common.util.WhereSegmentExtractUtils;
 
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -91,6 +94,54 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
         containsSubquery = containsSubquery();
     }
     
+    public SelectStatementContext(final SelectStatementContext selectStatementContext, final List<Object> parameters) {
+        super(selectStatementContext.getSqlStatement());
+        tablesContext = selectStatementContext.tablesContext;
+        Map<OrderByItem, OrderByItem> copiedOrderByItems = new IdentityHashMap<>();
+        groupByContext = new GroupByContext(copyOrderByItems(selectStatementContext.groupByContext.getItems(), copiedOrderByItems), selectStatementContext.groupByContext.getLastIndex());
+        orderByContext = new OrderByContext(copyOrderByItems(selectStatementContext.orderByContext.getItems(), copiedOrderByItems), selectStatementContext.orderByContext.isGenerated());
+        projectionsContext = copyProjectionsContext(selectStatementContext.projectionsContext);
+        paginationContext = selectStatementContext.paginationContext.isHasPagination()
+                ? new PaginationContextEngine().createPaginationContext(getSqlStatement(), projectionsContext, parameters) : selectStatementContext.paginationContext;
+        containsSubquery = selectStatementContext.containsSubquery;
+    }
+    
+    private Collection<OrderByItem> copyOrderByItems(final Collection<OrderByItem> orderByItems, final Map<OrderByItem, OrderByItem> copiedOrderByItems) {
+        Collection<OrderByItem> result = new LinkedList<>();
+        for (OrderByItem each : orderByItems) {
+            result.add(copiedOrderByItems.computeIfAbsent(each, key -> {
+                OrderByItem orderByItem = new OrderByItem(key.getSegment());
+                orderByItem.setIndex(key.getIndex());
+                return orderByItem;
+            }));
+        }
+        return result;
+    }
+    
+    private ProjectionsContext copyProjectionsContext(final ProjectionsContext projectionsContext) {
+        Collection<Projection> projections = new LinkedList<>();
+        for (Projection each : projectionsContext.getProjections()) {
+            projections.add(each instanceof AggregationProjection ? copyAggregationProjection((AggregationProjection) each) : each);
+        }
+        return new ProjectionsContext(projectionsContext.getStartIndex(), projectionsContext.getStopIndex(), projectionsContext.isDistinctRow(), projections);
+    }
+    
+    private AggregationProjection copyAggregationProjection(final AggregationProjection aggregationProjection) {
+        AggregationProjection result;
+        if (aggregationProjection instanceof AggregationDistinctProjection) {
+            AggregationDistinctProjection aggregationDistinctProjection = (AggregationDistinctProjection) aggregationProjection;
+            result = new AggregationDistinctProjection(aggregationDistinctProjection.getStartIndex(), aggregationDistinctProjection.getStopIndex(), aggregationDistinctProjection.getType(),
+                    aggregationDistinctProjection.getInnerExpression(), aggregationDistinctProjection.getAlias().orElse(null), aggregationDistinctProjection.getDistinctInnerExpression());
+        } else {
+            result = new AggregationProjection(aggregationProjection.getType(), aggregationProjection.getInnerExpression(), aggregationProjection.getAlias().orElse(null));
+        }
+        for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+            result.getDerivedAggregationProjections().add(copyAggregationProjection(each));
+        }
+        result.setIndex(aggregationProjection.getIndex());
+        return result;
+    }
+    
     private boolean containsSubquery() {
         Collection<WhereSegment> subqueryPredicateSegments = WhereSegmentExtractUtils.getSubqueryWhereSegments(getSqlStatement());
         for (WhereSegment each : subqueryPredicateSegments) {
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.binder;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.ParameterMarkerLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class SQLStatementContextCacheTest {
+    
+    private static final ConfigurationProperties PROPS = new ConfigurationProperties(new Properties());
+    
+    @Test
+    public void assertGetWithCacheHit() {
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        MySQLUpdateStatement updateStatement = new MySQLUpdateStatement();
+        updateStatement.setTableSegment(new SimpleTableSegment(0, 0, new IdentifierValue("tbl")));
+        SQLStatementContext<?> expected = SQLStatementContextCache.get(schema, PROPS, "UPDATE tbl SET col = ?", Collections.singletonList(1), updateStatement);
+        assertThat(SQLStatementContextCache.get(schema, PROPS, "UPDATE tbl SET col = ?", Collections.singletonList(2), updateStatement), sameInstance(expected));
+        assertThat(SQLStatementContextCache.getStats(schema).missCount(), is(1L));
+        assertThat(SQLStatementContextCache.getStats(schema).hitCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetWithInsertStatement() {
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        MySQLInsertStatement insertStatement = new MySQLInsertStatement();
+        insertStatement.setTable(new SimpleTableSegment(0, 0, new IdentifierValue("tbl")));
+        SQLStatementContext<?> actual = SQLStatementContextCache.get(schema, PROPS, "INSERT INTO tbl VALUES (1)", Collections.emptyList(), insertStatement);
+        assertThat(SQLStatementContextCache.get(schema, PROPS, "INSERT INTO tbl VALUES (1)", Collections.emptyList(), insertStatement), not(sameInstance(actual)));
+        assertThat(SQLStatementContextCache.getStats(schema).requestCount(), is(0L));
+    }
+    
+    @Test
+    public void assertGetWithParameterMarkerPagination() {
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setLimit(new LimitSegment(0, 0, null, new ParameterMarkerLimitValueSegment(0, 0, 0)));
+        SelectStatementContext expected = (SelectStatementContext) SQLStatementContextCache.get(schema, PROPS, "SELECT 1 LIMIT ?", Collections.singletonList(10), selectStatement);
+        SelectStatementContext actual = (SelectStatementContext) SQLStatementContextCache.get(schema, PROPS, "SELECT 1 LIMIT ?", Collections.singletonList(20), selectStatement);
+        assertThat(actual.getTablesContext(), sameInstance(expected.getTablesContext()));
+        assertThat(expected.getPaginationContext().getActualRowCount().orElse(null), is(10L));
+        assertThat(actual.getPaginationContext().getActualRowCount().orElse(null), is(20L));
+    }
+    
+    @Test
+    public void assertInvalidate() {
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        MySQLUpdateStatement updateStatement = new MySQLUpdateStatement();
+        updateStatement.setTableSegment(new SimpleTableSegment(0, 0, new IdentifierValue("tbl")));
+        SQLStatementContext<?> expected = SQLStatementContextCache.get(schema, PROPS, "UPDATE tbl SET col = 1", Collections.emptyList(), updateStatement);
+        SQLStatementContextCache.invalidate(schema);
+        assertThat(SQLStatementContextCache.get(schema, PROPS, "UPDATE tbl SET col = 1", Collections.emptyList(), updateStatement), not(sameInstance(expected)));
+    }
+    
+    @Test
+    public void assertGetSelectStatementContextWithoutSharingIndexes() {
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "(col)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue("col")), OrderDirection.ASC))));
+        SelectStatementContext expected = (SelectStatementContext) SQLStatementContextCache.get(schema, PROPS, "SELECT COUNT(col) FROM tbl ORDER BY col", Collections.emptyList(), selectStatement);
+        SelectStatementContext actual = (SelectStatementContext) SQLStatementContextCache.get(schema, PROPS, "SELECT COUNT(col) FROM tbl ORDER BY col", Collections.emptyList(), selectStatement);
+        assertThat(actual, not(sameInstance(expected)));
+        Map<String, Integer> columnLabelIndexMap = new HashMap<>(2, 1);
+        columnLabelIndexMap.put("COUNT(col)", 1);
+        columnLabelIndexMap.put("ORDER_BY_DERIVED_0", 2);
+        expected.setIndexes(columnLabelIndexMap);
+        assertThat(expected.getProjectionsContext().getAggregationProjections().get(0).getIndex(), is(1));
+        assertThat(expected.getOrderByContext().getItems().iterator().next().getIndex(), is(2));
+        assertThat(actual.getProjectionsContext().getAggregationProjections().get(0).getIndex(), is(-1));
+        assertThat(actual.getOrderByContext().getItems().iterator().next().getIndex(), is(0));
+    }
+    
+    @Test
+    public void assertGetWithoutCache() {
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SQL_STATEMENT_CONTEXT_CACHE_SIZE.getKey(), "0");
+        MySQLUpdateStatement updateStatement = new MySQLUpdateStatement();
+        updateStatement.setTableSegment(new SimpleTableSegment(0, 0, new IdentifierValue("tbl")));
+        SQLStatementContext<?> actual = SQLStatementContextCache.get(schema, new ConfigurationProperties(props), "UPDATE tbl SET col = 1", Collections.emptyList(), updateStatement);
+        assertThat(SQLStatementContextCache.get(schema, new ConfigurationProperties(props), "UPDATE tbl SET col = 1", Collections.emptyList(), updateStatement), not(sameInstance(actual)));
+        assertThat(SQLStatementContextCache.getStats(schema).requestCount(), is(0L));
+    }
+}
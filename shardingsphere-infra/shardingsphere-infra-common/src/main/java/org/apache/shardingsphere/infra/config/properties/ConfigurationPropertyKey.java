@@ -48,26 +48,76 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     EXECUTOR_SIZE("executor-size", String.valueOf(0), int.class),
     
+    /**
+     * Whether execute SQL and proxy commands on virtual threads, only works when the runtime supports virtual thread.
+     */
+    VIRTUAL_THREAD_ENABLED("virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class),
     
+    /**
+     * Max bound SQL statement contexts of prepared statements cached for each schema, 0 means no cache.
+     */
+    SQL_STATEMENT_CONTEXT_CACHE_SIZE("sql-statement-context-cache-size", String.valueOf(4096), long.class),
+    
     /**
      * Whether validate table meta data consistency when application startup or updated.
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Directory to persist schema meta data snapshots for warm restarts, empty means snapshot is disabled.
+     */
+    METADATA_SNAPSHOT_PATH("metadata-snapshot-path", "", String.class),
+    
+    /**
+     * Max memory in bytes for merging result of one query in memory, rows are spilled to local temporary files if exceeded, 0 means unlimited.
+     */
+    MERGE_MEMORY_LIMIT_PER_QUERY("merge-memory-limit-per-query", "0", long.class),
+    
+    /**
+     * Max memory in bytes for merging results of all queries in memory, rows are spilled to local temporary files if exceeded, 0 means unlimited.
+     */
+    MERGE_MEMORY_LIMIT("merge-memory-limit", "0", long.class),
+    
     /**
      * Whether query with cipher column for data encrypt.
      */
     QUERY_WITH_CIPHER_COLUMN("query-with-cipher-column", String.valueOf(Boolean.TRUE), boolean.class),
     
+    /**
+     * Max rows to read ahead and decrypt in parallel for query with cipher column, 0 means decrypting cell by cell while reading.
+     */
+    ENCRYPT_READ_AHEAD_ROWS("encrypt-read-ahead-rows", "0", int.class),
+    
     /**
      * Flush threshold for every records from databases for ShardingSphere-Proxy.
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class),
     
+    /**
+     * Max prepared statements cached by every client connection for ShardingSphere-Proxy, the least recently used one is closed when exceeded.
+     */
+    PROXY_FRONTEND_MAX_PREPARED_STATEMENTS("proxy-frontend-max-prepared-statements", String.valueOf(1024), int.class),
+    
+    /**
+     * Max prepared statements cached by every backend connection of ShardingSphere-Proxy while storage connections are held, 0 means no cache.
+     */
+    PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE("proxy-backend-prepared-statement-cache-size", "0", int.class),
+    
+    /**
+     * Driver type of ShardingSphere-Proxy backend, JDBC or NETTY, NETTY is experimental and only works for MySQL text protocol outside of transaction.
+     */
+    PROXY_BACKEND_DRIVER_TYPE("proxy-backend-driver-type", "JDBC", String.class),
+    
+    /**
+     * Max milliseconds to wait for responses of storage nodes when driver type of ShardingSphere-Proxy backend is NETTY.
+     */
+    PROXY_BACKEND_RESPONSE_TIMEOUT_MILLISECONDS("proxy-backend-response-timeout-milliseconds", String.valueOf(60000), long.class),
+    
     /**
      * Transaction type of proxy.
      *
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.metadata.rule;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
@@ -29,9 +30,27 @@ import java.util.Collection;
  */
 @RequiredArgsConstructor
 @Getter
+@Slf4j
 public final class ShardingSphereRuleMetaData {
     
     private final Collection<RuleConfiguration> configurations;
     
     private final Collection<ShardingSphereRule> rules;
+    
+    /**
+     * Close rules which hold resources, e.g. background tasks.
+     */
+    public void close() {
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) each).close();
+                    // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    log.warn("Close rule '{}' failed.", each.getClass().getSimpleName(), ex);
+                }
+            }
+        }
+    }
 }
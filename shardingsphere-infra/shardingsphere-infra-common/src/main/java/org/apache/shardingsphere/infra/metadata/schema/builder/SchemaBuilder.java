@@ -17,20 +17,32 @@
 
 package org.apache.shardingsphere.infra.metadata.schema.builder;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.type.TableContainedRule;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Schema builder.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j(topic = "ShardingSphere-metadata")
 public final class SchemaBuilder {
     
+    private static final int CPU_CORES = Runtime.getRuntime().availableProcessors();
+    
     /**
      * Build ShardingSphere schema.
      * 
@@ -40,15 +52,41 @@ public final class SchemaBuilder {
      */
     public static ShardingSphereSchema build(final SchemaBuilderMaterials materials) throws SQLException {
         ShardingSphereSchema result = new ShardingSphereSchema();
-        for (ShardingSphereRule rule : materials.getRules()) {
-            if (rule instanceof TableContainedRule) {
-                for (String table : ((TableContainedRule) rule).getTables()) {
-                    if (!result.containsTable(table)) {
-                        TableMetaDataBuilder.build(table, materials).ifPresent(optional -> result.put(table, optional));
-                    }
-                }
+        long start = System.currentTimeMillis();
+        Collection<String> tableNames = getTableNames(materials.getRules());
+        if (tableNames.isEmpty()) {
+            return result;
+        }
+        long loadStart = System.currentTimeMillis();
+        Map<String, TableMetaData> tables = load(tableNames, materials);
+        long decorateStart = System.currentTimeMillis();
+        for (Entry<String, TableMetaData> entry : tables.entrySet()) {
+            if (!result.containsTable(entry.getKey())) {
+                result.put(entry.getKey(), TableMetaDataBuilder.decorate(entry.getKey(), entry.getValue(), materials.getRules()));
+            }
+        }
+        log.info("Build meta data of {} tables, collect tables cost {} ms, load tables cost {} ms, decorate tables cost {} ms.",
+                tables.size(), loadStart - start, decorateStart - loadStart, System.currentTimeMillis() - decorateStart);
+        return result;
+    }
+    
+    private static Collection<String> getTableNames(final Collection<ShardingSphereRule> rules) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof TableContainedRule) {
+                result.addAll(((TableContainedRule) each).getTables());
             }
         }
         return result;
     }
+    
+    private static Map<String, TableMetaData> load(final Collection<String> tableNames, final SchemaBuilderMaterials materials) throws SQLException {
+        int threadCount = Math.min(CPU_CORES * 2, Math.max(tableNames.size(), 1));
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount, new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaBuilder-%d").build());
+        try {
+            return TableMetaDataBuilder.load(tableNames, materials, executorService);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -29,8 +29,12 @@ import org.apache.shardingsphere.infra.spi.ordered.OrderedSPIRegistry;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Table meta data builder.
@@ -55,6 +59,34 @@ public final class TableMetaDataBuilder {
         return tableMetaData.map(optional -> decorate(tableName, optional, materials.getRules()));
     }
     
+    /**
+     * Load meta data of tables without decorating.
+     *
+     * @param tableNames table names
+     * @param materials schema builder materials
+     * @param executorService executor service to load tables in parallel
+     * @return table meta data map, key is table name
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Map<String, TableMetaData> load(final Collection<String> tableNames, final SchemaBuilderMaterials materials, final ExecutorService executorService) throws SQLException {
+        Map<String, TableMetaData> result = new LinkedHashMap<>(tableNames.size(), 1);
+        Collection<String> remainingTableNames = new LinkedHashSet<>(tableNames);
+        DataNodes dataNodes = new DataNodes(materials.getRules());
+        for (Entry<ShardingSphereRule, RuleBasedTableMetaDataBuilder> entry : OrderedSPIRegistry.getRegisteredServices(materials.getRules(), RuleBasedTableMetaDataBuilder.class).entrySet()) {
+            if (remainingTableNames.isEmpty()) {
+                break;
+            }
+            if (entry.getKey() instanceof TableContainedRule) {
+                Map<String, TableMetaData> loaded = entry.getValue().load(
+                        remainingTableNames, materials.getDatabaseType(), materials.getDataSourceMap(), dataNodes, (TableContainedRule) entry.getKey(), materials.getProps(), executorService);
+                result.putAll(loaded);
+                remainingTableNames.removeAll(loaded.keySet());
+            }
+        }
+        return result;
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static Optional<TableMetaData> load(final String tableName, final SchemaBuilderMaterials materials) throws SQLException {
         DataNodes dataNodes = new DataNodes(materials.getRules());
@@ -71,8 +103,16 @@ public final class TableMetaDataBuilder {
         return Optional.empty();
     }
     
+    /**
+     * Decorate table meta data.
+     *
+     * @param tableName table name
+     * @param tableMetaData table meta data to be decorated
+     * @param rules ShardingSphere rules
+     * @return decorated table meta data
+     */
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static TableMetaData decorate(final String tableName, final TableMetaData tableMetaData, final Collection<ShardingSphereRule> rules) {
+    public static TableMetaData decorate(final String tableName, final TableMetaData tableMetaData, final Collection<ShardingSphereRule> rules) {
         TableMetaData result = null;
         for (Entry<ShardingSphereRule, RuleBasedTableMetaDataBuilder> entry : OrderedSPIRegistry.getRegisteredServices(rules, RuleBasedTableMetaDataBuilder.class).entrySet()) {
             if (entry.getKey() instanceof TableContainedRule) {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.metadata.schema.builder.loader;
 
+import com.google.common.collect.Lists;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
@@ -26,14 +27,20 @@ import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.QuoteCharacter;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Column meta data loader.
@@ -49,6 +56,8 @@ public final class ColumnMetaDataLoader {
     
     private static final String TABLE_NAME = "TABLE_NAME";
     
+    private static final int BATCH_SIZE = 1000;
+    
     /**
      * Load column meta data list.
      * 
@@ -59,33 +68,71 @@ public final class ColumnMetaDataLoader {
      * @throws SQLException SQL exception
      */
     public static Collection<ColumnMetaData> load(final Connection connection, final String tableNamePattern, final DatabaseType databaseType) throws SQLException {
-        Collection<ColumnMetaData> result = new LinkedList<>();
         Collection<String> primaryKeys = loadPrimaryKeys(connection, tableNamePattern);
         List<String> columnNames = new ArrayList<>();
         List<Integer> columnTypes = new ArrayList<>();
         List<String> columnTypeNames = new ArrayList<>();
-        List<Boolean> isPrimaryKeys = new ArrayList<>();
-        List<Boolean> isCaseSensitives = new ArrayList<>();
         try (ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), connection.getSchema(), tableNamePattern, "%")) {
             while (resultSet.next()) {
                 String tableName = resultSet.getString(TABLE_NAME);
                 if (Objects.equals(tableNamePattern, tableName)) {
-                    String columnName = resultSet.getString(COLUMN_NAME);
                     columnTypes.add(resultSet.getInt(DATA_TYPE));
                     columnTypeNames.add(resultSet.getString(TYPE_NAME));
-                    isPrimaryKeys.add(primaryKeys.contains(columnName));
-                    columnNames.add(columnName);
+                    columnNames.add(resultSet.getString(COLUMN_NAME));
+                }
+            }
+        }
+        return createColumnMetaDataList(connection, tableNamePattern, databaseType, primaryKeys, columnNames, columnTypes, columnTypeNames);
+    }
+    
+    /**
+     * Load column meta data lists of tables with one connection.
+     * Columns are looked up by exact table name, primary keys of tables are loaded in batch if dialect supports.
+     *
+     * @param connection connection
+     * @param tableNames table names
+     * @param databaseType database type
+     * @return column meta data lists, key is table name, tables without columns are not contained
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, Collection<ColumnMetaData>> load(final Connection connection, final Collection<String> tableNames, final DatabaseType databaseType) throws SQLException {
+        if (tableNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<String>> columnNames = new LinkedHashMap<>(tableNames.size(), 1);
+        Map<String, List<Integer>> columnTypes = new HashMap<>(tableNames.size(), 1);
+        Map<String, List<String>> columnTypeNames = new HashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            try (ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), connection.getSchema(), each, "%")) {
+                while (resultSet.next()) {
+                    if (Objects.equals(each, resultSet.getString(TABLE_NAME))) {
+                        columnTypes.computeIfAbsent(each, key -> new ArrayList<>()).add(resultSet.getInt(DATA_TYPE));
+                        columnTypeNames.computeIfAbsent(each, key -> new ArrayList<>()).add(resultSet.getString(TYPE_NAME));
+                        columnNames.computeIfAbsent(each, key -> new ArrayList<>()).add(resultSet.getString(COLUMN_NAME));
+                    }
                 }
             }
         }
-        try (ResultSet resultSet = connection.createStatement().executeQuery(generateEmptyResultSQL(tableNamePattern, databaseType))) {
+        Map<String, Collection<String>> primaryKeys = loadPrimaryKeys(connection, columnNames.keySet(), databaseType);
+        Map<String, Collection<ColumnMetaData>> result = new LinkedHashMap<>(columnNames.size(), 1);
+        for (String each : columnNames.keySet()) {
+            result.put(each, createColumnMetaDataList(connection, each, databaseType, primaryKeys.get(each), columnNames.get(each), columnTypes.get(each), columnTypeNames.get(each)));
+        }
+        return result;
+    }
+    
+    private static Collection<ColumnMetaData> createColumnMetaDataList(final Connection connection, final String tableName, final DatabaseType databaseType, final Collection<String> primaryKeys,
+                                                                       final List<String> columnNames, final List<Integer> columnTypes, final List<String> columnTypeNames) throws SQLException {
+        List<Boolean> isCaseSensitives = new ArrayList<>(columnNames.size());
+        try (ResultSet resultSet = connection.createStatement().executeQuery(generateEmptyResultSQL(tableName, databaseType))) {
             for (String each : columnNames) {
                 isCaseSensitives.add(resultSet.getMetaData().isCaseSensitive(resultSet.findColumn(each)));
             }
         }
+        Collection<ColumnMetaData> result = new LinkedList<>();
         for (int i = 0; i < columnNames.size(); i++) {
             // TODO load auto generated from database meta data
-            result.add(new ColumnMetaData(columnNames.get(i), columnTypes.get(i), columnTypeNames.get(i), isPrimaryKeys.get(i), false, isCaseSensitives.get(i)));
+            result.add(new ColumnMetaData(columnNames.get(i), columnTypes.get(i), columnTypeNames.get(i), primaryKeys.contains(columnNames.get(i)), false, isCaseSensitives.get(i)));
         }
         return result;
     }
@@ -95,6 +142,51 @@ public final class ColumnMetaDataLoader {
         return String.format("SELECT * FROM %s WHERE 1 != 1", quoteCharacter.wrap(table));
     }
     
+    /**
+     * Load primary key columns of tables.
+     * Primary keys of tables are loaded in batch if dialect supports, otherwise one by one.
+     *
+     * @param connection connection
+     * @param tableNames table names
+     * @param databaseType database type
+     * @return primary key columns, key is table name
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, Collection<String>> loadPrimaryKeys(final Connection connection, final Collection<String> tableNames, final DatabaseType databaseType) throws SQLException {
+        Map<String, Collection<String>> result = new HashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            result.put(each, new HashSet<>());
+        }
+        Optional<DatabaseMetaDataDialectHandler> dialectHandler = DatabaseMetaDataDialectHandlerFactory.findHandler(databaseType);
+        for (List<String> each : Lists.partition(new ArrayList<>(tableNames), BATCH_SIZE)) {
+            Optional<String> sql = dialectHandler.flatMap(handler -> handler.getPrimaryKeyMetaDataSQL(each.size()));
+            if (sql.isPresent()) {
+                loadPrimaryKeys(connection, sql.get(), each, result);
+            } else {
+                for (String tableName : each) {
+                    result.put(tableName, loadPrimaryKeys(connection, tableName));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static void loadPrimaryKeys(final Connection connection, final String sql, final List<String> tableNames, final Map<String, Collection<String>> primaryKeys) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < tableNames.size(); i++) {
+                preparedStatement.setString(i + 1, tableNames.get(i));
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    Collection<String> tablePrimaryKeys = primaryKeys.get(resultSet.getString(TABLE_NAME));
+                    if (null != tablePrimaryKeys) {
+                        tablePrimaryKeys.add(resultSet.getString(COLUMN_NAME));
+                    }
+                }
+            }
+        }
+    }
+    
     private static Collection<String> loadPrimaryKeys(final Connection connection, final String table) throws SQLException {
         Collection<String> result = new HashSet<>();
         try (ResultSet resultSet = connection.getMetaData().getPrimaryKeys(connection.getCatalog(), connection.getSchema(), table)) {
@@ -17,15 +17,25 @@
 
 package org.apache.shardingsphere.infra.metadata.schema.builder.loader;
 
+import com.google.common.collect.Lists;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.dialect.DatabaseMetaDataDialectHandler;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.dialect.DatabaseMetaDataDialectHandlerFactory;
 import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Index meta data loader.
@@ -35,6 +45,10 @@ public final class IndexMetaDataLoader {
     
     private static final String INDEX_NAME = "INDEX_NAME";
     
+    private static final String TABLE_NAME = "TABLE_NAME";
+    
+    private static final int BATCH_SIZE = 1000;
+    
     /**
      * Load index meta data list.
      * In a few jdbc implementation(eg. oracle), return value of getIndexInfo contains a statistics record that not a index itself and INDEX_NAME is null.
@@ -57,4 +71,50 @@ public final class IndexMetaDataLoader {
         }
         return result;
     }
+    
+    /**
+     * Load index meta data lists of tables.
+     * Indexes of tables are loaded in batch if dialect supports, otherwise one by one.
+     *
+     * @param connection connection
+     * @param tableNames table names
+     * @param databaseType database type
+     * @return index meta data lists, key is table name
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, Collection<IndexMetaData>> load(final Connection connection, final Collection<String> tableNames, final DatabaseType databaseType) throws SQLException {
+        Map<String, Collection<IndexMetaData>> result = new HashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            result.put(each, new HashSet<>());
+        }
+        Optional<DatabaseMetaDataDialectHandler> dialectHandler = DatabaseMetaDataDialectHandlerFactory.findHandler(databaseType);
+        for (List<String> each : Lists.partition(new ArrayList<>(tableNames), BATCH_SIZE)) {
+            Optional<String> sql = dialectHandler.flatMap(handler -> handler.getIndexMetaDataSQL(each.size()));
+            if (sql.isPresent()) {
+                load(connection, sql.get(), each, result);
+            } else {
+                for (String tableName : each) {
+                    result.put(tableName, load(connection, tableName));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static void load(final Connection connection, final String sql, final List<String> tableNames, final Map<String, Collection<IndexMetaData>> indexMetaDataLists) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < tableNames.size(); i++) {
+                preparedStatement.setString(i + 1, tableNames.get(i));
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    Collection<IndexMetaData> indexMetaDataList = indexMetaDataLists.get(resultSet.getString(TABLE_NAME));
+                    String indexName = resultSet.getString(INDEX_NAME);
+                    if (null != indexMetaDataList && null != indexName) {
+                        indexMetaDataList.add(new IndexMetaData(indexName));
+                    }
+                }
+            }
+        }
+    }
 }
@@ -22,12 +22,19 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.adapter.MetaDataLoaderConnectionAdapter;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.dialect.DatabaseMetaDataDialectHandlerFactory;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
@@ -55,6 +62,38 @@ public final class TableMetaDataLoader {
         }
     }
     
+    /**
+     * Load meta data of tables with one connection.
+     * Tables are looked up by exact name first, primary keys and indexes are loaded in batch if dialect supports.
+     * Tables not returned exactly by database meta data are looked up by table name pattern one by one.
+     *
+     * @param dataSource data source
+     * @param tableNamePatterns table name patterns
+     * @param databaseType database type
+     * @return table meta data map, key is table name pattern
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, TableMetaData> load(final DataSource dataSource, final Collection<String> tableNamePatterns, final DatabaseType databaseType) throws SQLException {
+        Map<String, TableMetaData> result = new LinkedHashMap<>(tableNamePatterns.size(), 1);
+        try (MetaDataLoaderConnectionAdapter connectionAdapter = new MetaDataLoaderConnectionAdapter(databaseType, dataSource.getConnection())) {
+            Map<String, String> formattedTableNamePatterns = new LinkedHashMap<>(tableNamePatterns.size(), 1);
+            for (String each : tableNamePatterns) {
+                formattedTableNamePatterns.put(each, formatTableNamePattern(each, databaseType));
+            }
+            Map<String, Collection<ColumnMetaData>> columnMetaDataLists = ColumnMetaDataLoader.load(connectionAdapter, new LinkedHashSet<>(formattedTableNamePatterns.values()), databaseType);
+            Map<String, Collection<IndexMetaData>> indexMetaDataLists = IndexMetaDataLoader.load(connectionAdapter, columnMetaDataLists.keySet(), databaseType);
+            for (Entry<String, String> entry : formattedTableNamePatterns.entrySet()) {
+                if (columnMetaDataLists.containsKey(entry.getValue())) {
+                    result.put(entry.getKey(), new TableMetaData(columnMetaDataLists.get(entry.getValue()), indexMetaDataLists.get(entry.getValue())));
+                } else if (isTableExist(connectionAdapter, entry.getValue())) {
+                    result.put(entry.getKey(), new TableMetaData(
+                            ColumnMetaDataLoader.load(connectionAdapter, entry.getValue(), databaseType), IndexMetaDataLoader.load(connectionAdapter, entry.getValue())));
+                }
+            }
+        }
+        return result;
+    }
+    
     private static String formatTableNamePattern(final String tableNamePattern, final DatabaseType databaseType) {
         return DatabaseMetaDataDialectHandlerFactory.findHandler(databaseType).map(handler -> handler.formatTableNamePattern(tableNamePattern)).orElse(tableNamePattern);
     }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.builder.loader;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Table meta data loading executor.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableMetaDataLoadingExecutor {
+    
+    /**
+     * Execute table meta data loading tasks in parallel and merge their results.
+     * 
+     * <p>
+     * Loading tasks must not submit other tasks to the same executor service, otherwise the bounded executor service may be exhausted.
+     * </p>
+     *
+     * @param executorService executor service
+     * @param loadingTasks loading tasks
+     * @return table meta data map, key is table name
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, TableMetaData> execute(final ExecutorService executorService, final Collection<Callable<Map<String, TableMetaData>>> loadingTasks) throws SQLException {
+        Collection<Future<Map<String, TableMetaData>>> futures = new LinkedList<>();
+        for (Callable<Map<String, TableMetaData>> each : loadingTasks) {
+            futures.add(executorService.submit(each));
+        }
+        Map<String, TableMetaData> result = new LinkedHashMap<>();
+        for (Future<Map<String, TableMetaData>> each : futures) {
+            result.putAll(getResult(each));
+        }
+        return result;
+    }
+    
+    private static Map<String, TableMetaData> getResult(final Future<Map<String, TableMetaData>> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new ShardingSphereException(ex);
+        }
+    }
+}
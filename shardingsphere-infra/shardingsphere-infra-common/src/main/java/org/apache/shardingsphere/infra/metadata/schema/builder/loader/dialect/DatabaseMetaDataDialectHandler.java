@@ -22,6 +22,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.constant.QuoteCharacter;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * Database meta data dialect handler.
@@ -61,4 +62,26 @@ public interface DatabaseMetaDataDialectHandler extends TypedSPI {
     default QuoteCharacter getQuoteCharacter() {
         return QuoteCharacter.NONE;
     }
+    
+    /**
+     * Get SQL to load primary key columns of tables in current schema with one round-trip.
+     * Parameters of SQL are table names, result set should contain {@code TABLE_NAME} and {@code COLUMN_NAME}.
+     *
+     * @param tableCount count of tables
+     * @return SQL to load primary key columns, empty if dialect can not load them by table names
+     */
+    default Optional<String> getPrimaryKeyMetaDataSQL(final int tableCount) {
+        return Optional.empty();
+    }
+    
+    /**
+     * Get SQL to load indexes of tables in current schema with one round-trip.
+     * Parameters of SQL are table names, result set should contain {@code TABLE_NAME} and {@code INDEX_NAME}.
+     *
+     * @param tableCount count of tables
+     * @return SQL to load indexes, empty if dialect can not load them by table names
+     */
+    default Optional<String> getIndexMetaDataSQL(final int tableCount) {
+        return Optional.empty();
+    }
 }
@@ -22,6 +22,8 @@ import lombok.Setter;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.dialect.DatabaseMetaDataDialectHandler;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.QuoteCharacter;
 
+import java.util.Collections;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -31,6 +33,11 @@ import java.util.Properties;
 @Setter
 public final class MariaDBDatabaseMetaDataDialectHandler implements DatabaseMetaDataDialectHandler {
     
+    private static final String PRIMARY_KEY_META_DATA_SQL = "SELECT TABLE_NAME, COLUMN_NAME FROM information_schema.KEY_COLUMN_USAGE"
+            + " WHERE TABLE_SCHEMA = DATABASE() AND CONSTRAINT_NAME = 'PRIMARY' AND TABLE_NAME IN (%s)";
+    
+    private static final String INDEX_META_DATA_SQL = "SELECT DISTINCT TABLE_NAME, INDEX_NAME FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME IN (%s)";
+    
     private Properties props;
     
     @Override
@@ -38,6 +45,16 @@ public final class MariaDBDatabaseMetaDataDialectHandler implements DatabaseMeta
         return QuoteCharacter.BACK_QUOTE;
     }
     
+    @Override
+    public Optional<String> getPrimaryKeyMetaDataSQL(final int tableCount) {
+        return Optional.of(String.format(PRIMARY_KEY_META_DATA_SQL, String.join(",", Collections.nCopies(tableCount, "?"))));
+    }
+    
+    @Override
+    public Optional<String> getIndexMetaDataSQL(final int tableCount) {
+        return Optional.of(String.format(INDEX_META_DATA_SQL, String.join(",", Collections.nCopies(tableCount, "?"))));
+    }
+    
     @Override
     public String getType() {
         return "MariaDB";
@@ -22,6 +22,8 @@ import lombok.Setter;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.dialect.DatabaseMetaDataDialectHandler;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.QuoteCharacter;
 
+import java.util.Collections;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -31,6 +33,13 @@ import java.util.Properties;
 @Setter
 public final class PostgreSQLDatabaseMetaDataDialectHandler implements DatabaseMetaDataDialectHandler {
     
+    private static final String PRIMARY_KEY_META_DATA_SQL = "SELECT c.relname AS TABLE_NAME, a.attname AS COLUMN_NAME FROM pg_catalog.pg_index i"
+            + " JOIN pg_catalog.pg_class c ON c.oid = i.indrelid JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace"
+            + " JOIN pg_catalog.pg_attribute a ON a.attrelid = c.oid AND a.attnum = ANY(i.indkey)"
+            + " WHERE i.indisprimary AND n.nspname = current_schema() AND c.relname IN (%s)";
+    
+    private static final String INDEX_META_DATA_SQL = "SELECT tablename AS TABLE_NAME, indexname AS INDEX_NAME FROM pg_catalog.pg_indexes WHERE schemaname = current_schema() AND tablename IN (%s)";
+    
     private Properties props;
     
     @Override
@@ -38,6 +47,16 @@ public final class PostgreSQLDatabaseMetaDataDialectHandler implements DatabaseM
         return QuoteCharacter.QUOTE;
     }
     
+    @Override
+    public Optional<String> getPrimaryKeyMetaDataSQL(final int tableCount) {
+        return Optional.of(String.format(PRIMARY_KEY_META_DATA_SQL, String.join(",", Collections.nCopies(tableCount, "?"))));
+    }
+    
+    @Override
+    public Optional<String> getIndexMetaDataSQL(final int tableCount) {
+        return Optional.of(String.format(INDEX_META_DATA_SQL, String.join(",", Collections.nCopies(tableCount, "?"))));
+    }
+    
     @Override
     public String getType() {
         return "PostgreSQL";
@@ -20,14 +20,20 @@ package org.apache.shardingsphere.infra.metadata.schema.builder.spi;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNodes;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.TableMetaDataLoadingExecutor;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.rule.type.TableContainedRule;
 import org.apache.shardingsphere.infra.spi.ordered.OrderedSPI;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Table meta data builder with related rule.
@@ -50,6 +56,32 @@ public interface RuleBasedTableMetaDataBuilder<T extends TableContainedRule> ext
      */
     Optional<TableMetaData> load(String tableName, DatabaseType databaseType, Map<String, DataSource> dataSourceMap, DataNodes dataNodes, T rule, ConfigurationProperties props) throws SQLException;
     
+    /**
+     * Load meta data of tables.
+     * 
+     * <p>
+     * Load every table in parallel by default, builders which are able to load tables of the same data source in one round-trip should override it.
+     * </p>
+     *
+     * @param tableNames table names
+     * @param databaseType database type
+     * @param dataSourceMap data source map
+     * @param dataNodes data nodes
+     * @param rule ShardingSphere rule
+     * @param props configuration properties
+     * @param executorService executor service to load tables in parallel
+     * @return table meta data map, key is table name
+     * @throws SQLException SQL exception
+     */
+    default Map<String, TableMetaData> load(final Collection<String> tableNames, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final DataNodes dataNodes,
+                                            final T rule, final ConfigurationProperties props, final ExecutorService executorService) throws SQLException {
+        Collection<Callable<Map<String, TableMetaData>>> loadingTasks = new LinkedList<>();
+        for (String each : tableNames) {
+            loadingTasks.add(() -> load(each, databaseType, dataSourceMap, dataNodes, rule, props).map(optional -> Collections.singletonMap(each, optional)).orElseGet(Collections::emptyMap));
+        }
+        return TableMetaDataLoadingExecutor.execute(executorService, loadingTasks);
+    }
+    
     /**
      * Decorate table meta data.
      *
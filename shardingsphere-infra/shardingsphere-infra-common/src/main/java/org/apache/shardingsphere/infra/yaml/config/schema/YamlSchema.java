@@ -15,7 +15,7 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.governance.core.yaml.config.schema;
+package org.apache.shardingsphere.infra.yaml.config.schema;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -15,17 +15,16 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.governance.core.yaml.swapper;
+package org.apache.shardingsphere.infra.yaml.swapper;
 
-import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlColumnMetaData;
-import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlIndexMetaData;
-import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlSchema;
-import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlTableMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
-import org.apache.shardingsphere.infra.yaml.swapper.YamlSwapper;
+import org.apache.shardingsphere.infra.yaml.config.schema.YamlColumnMetaData;
+import org.apache.shardingsphere.infra.yaml.config.schema.YamlIndexMetaData;
+import org.apache.shardingsphere.infra.yaml.config.schema.YamlSchema;
+import org.apache.shardingsphere.infra.yaml.config.schema.YamlTableMetaData;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -51,7 +50,7 @@ public final class SchemaYamlSwapper implements YamlSwapper<YamlSchema, Sharding
     
     @Override
     public ShardingSphereSchema swapToObject(final YamlSchema yamlConfig) {
-        return Optional.ofNullable(yamlConfig).map(this::convertSchema).orElse(new ShardingSphereSchema());
+        return Optional.ofNullable(yamlConfig).filter(each -> null != each.getTables()).map(this::convertSchema).orElse(new ShardingSphereSchema());
     }
     
     private ShardingSphereSchema convertSchema(final YamlSchema schema) {
@@ -106,8 +105,8 @@ public final class SchemaYamlSwapper implements YamlSwapper<YamlSchema, Sharding
         result.setCaseSensitive(column.isCaseSensitive());
         result.setGenerated(column.isGenerated());
         result.setPrimaryKey(column.isPrimaryKey());
-        result.setDataType(result.getDataType());
-        result.setDataTypeName(result.getDataTypeName());
+        result.setDataType(column.getDataType());
+        result.setDataTypeName(column.getDataTypeName());
         return result;
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.metadata.schema.builder.loader;
 
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.junit.Before;
 import org.junit.Test;
@@ -27,17 +28,24 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -86,6 +94,48 @@ public final class ColumnMetaDataLoaderTest {
         assertColumnMetaData(columnMetaDataIterator.next(), "col", Types.VARCHAR, "VARCHAR", false, false);
     }
     
+    @Test
+    public void assertLoadTables() throws SQLException {
+        Map<String, Collection<ColumnMetaData>> actual = ColumnMetaDataLoader.load(connection, Collections.singletonList("tbl"), mock(DatabaseType.class));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("tbl").size(), is(2));
+        Iterator<ColumnMetaData> columnMetaDataIterator = actual.get("tbl").iterator();
+        assertColumnMetaData(columnMetaDataIterator.next(), "pk_col", Types.INTEGER, "INT", true, true);
+        assertColumnMetaData(columnMetaDataIterator.next(), "col", Types.VARCHAR, "VARCHAR", false, false);
+        verify(connection.getMetaData(), never()).getColumns("catalog", null, "%", "%");
+    }
+    
+    @Test
+    public void assertLoadTablesWithBatchedPrimaryKeys() throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        ResultSet batchedPrimaryResultSet = mock(ResultSet.class);
+        when(preparedStatement.executeQuery()).thenReturn(batchedPrimaryResultSet);
+        when(batchedPrimaryResultSet.next()).thenReturn(true, true, false);
+        when(batchedPrimaryResultSet.getString("TABLE_NAME")).thenReturn("other_tbl", "tbl");
+        when(batchedPrimaryResultSet.getString("COLUMN_NAME")).thenReturn("col", "pk_col");
+        Map<String, Collection<ColumnMetaData>> actual = ColumnMetaDataLoader.load(connection, Collections.singletonList("tbl"), new MySQLDatabaseType());
+        verify(preparedStatement).setString(1, "tbl");
+        verify(connection.getMetaData(), never()).getPrimaryKeys("catalog", null, "tbl");
+        Iterator<ColumnMetaData> columnMetaDataIterator = actual.get("tbl").iterator();
+        assertColumnMetaData(columnMetaDataIterator.next(), "pk_col", Types.INTEGER, "INT", true, true);
+        assertColumnMetaData(columnMetaDataIterator.next(), "col", Types.VARCHAR, "VARCHAR", false, false);
+    }
+    
+    @Test
+    public void assertLoadTablesWithoutColumns() throws SQLException {
+        ResultSet emptyColumnResultSet = mock(ResultSet.class);
+        when(connection.getMetaData().getColumns("catalog", null, "other_tbl", "%")).thenReturn(emptyColumnResultSet);
+        Map<String, Collection<ColumnMetaData>> actual = ColumnMetaDataLoader.load(connection, Arrays.asList("tbl", "other_tbl"), mock(DatabaseType.class));
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.containsKey("tbl"));
+    }
+    
+    @Test
+    public void assertLoadWithoutTables() throws SQLException {
+        assertTrue(ColumnMetaDataLoader.load(connection, Collections.emptyList(), mock(DatabaseType.class)).isEmpty());
+    }
+    
     private void assertColumnMetaData(final ColumnMetaData actual, final String name, final int dataType, final String typeName, final boolean primaryKey, final boolean caseSensitive) {
         assertThat(actual.getName(), is(name));
         assertThat(actual.getDataType(), is(dataType));
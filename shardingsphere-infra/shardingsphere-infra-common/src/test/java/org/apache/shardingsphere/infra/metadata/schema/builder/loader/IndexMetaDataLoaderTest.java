@@ -17,20 +17,29 @@
 
 package org.apache.shardingsphere.infra.metadata.schema.builder.loader;
 
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -44,6 +53,31 @@ public final class IndexMetaDataLoaderTest {
         assertThat(indexMetaData.getName(), is("my_index"));
     }
     
+    @Test
+    public void assertLoadTables() throws SQLException {
+        Map<String, Collection<IndexMetaData>> actual = IndexMetaDataLoader.load(mockConnection(), Collections.singletonList("tbl"), mock(DatabaseType.class));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("tbl").iterator().next().getName(), is("my_index"));
+    }
+    
+    @Test
+    public void assertLoadTablesWithBatchedSQL() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getString("TABLE_NAME")).thenReturn("tbl", "other_tbl", "tbl");
+        when(resultSet.getString("INDEX_NAME")).thenReturn("my_index", "other_index", "PRIMARY");
+        Map<String, Collection<IndexMetaData>> actual = IndexMetaDataLoader.load(connection, Arrays.asList("tbl", "other_tbl"), new MySQLDatabaseType());
+        verify(preparedStatement).setString(1, "tbl");
+        verify(preparedStatement).setString(2, "other_tbl");
+        verify(connection, never()).getMetaData();
+        assertThat(actual.get("tbl").size(), is(2));
+        assertThat(actual.get("other_tbl").iterator().next().getName(), is("other_index"));
+    }
+    
     private Connection mockConnection() throws SQLException {
         Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
         ResultSet resultSet = mockResultSet();
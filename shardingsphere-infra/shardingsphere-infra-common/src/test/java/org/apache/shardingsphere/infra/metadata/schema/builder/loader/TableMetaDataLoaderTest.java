@@ -33,6 +33,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
@@ -42,6 +43,8 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -126,4 +129,40 @@ public final class TableMetaDataLoaderTest {
         when(tableNotExistResultSet.next()).thenReturn(false);
         assertFalse(TableMetaDataLoader.load(dataSource, TEST_TABLE, mock(DatabaseType.class)).isPresent());
     }
+    
+    @Test
+    public void assertLoadTablesWithExistedTable() throws SQLException {
+        Map<String, TableMetaData> actual = TableMetaDataLoader.load(dataSource, Collections.singletonList(TEST_TABLE), mock(DatabaseType.class));
+        assertThat(actual.size(), is(1));
+        assertTableMetaData(actual.get(TEST_TABLE));
+        verify(dataSource.getConnection().getMetaData(), never()).getTables(TEST_CATALOG, null, TEST_TABLE, null);
+    }
+    
+    @Test
+    public void assertLoadTablesWithTableMatchedByPattern() throws SQLException {
+        ResultSet patternColumnResultSet = mock(ResultSet.class);
+        when(dataSource.getConnection().getMetaData().getColumns(TEST_CATALOG, null, TEST_TABLE, "%")).thenReturn(patternColumnResultSet, columnResultSet);
+        when(patternColumnResultSet.next()).thenReturn(true, false);
+        when(patternColumnResultSet.getString("TABLE_NAME")).thenReturn(TEST_TABLE.toUpperCase());
+        Map<String, TableMetaData> actual = TableMetaDataLoader.load(dataSource, Collections.singletonList(TEST_TABLE), mock(DatabaseType.class));
+        assertThat(actual.size(), is(1));
+        assertTableMetaData(actual.get(TEST_TABLE));
+    }
+    
+    @Test
+    public void assertLoadTablesWithNotExistedTable() throws SQLException {
+        ResultSet emptyColumnResultSet = mock(ResultSet.class);
+        when(dataSource.getConnection().getMetaData().getColumns(TEST_CATALOG, null, TEST_TABLE, "%")).thenReturn(emptyColumnResultSet);
+        when(dataSource.getConnection().getMetaData().getTables(TEST_CATALOG, null, TEST_TABLE, null)).thenReturn(tableNotExistResultSet);
+        when(tableNotExistResultSet.next()).thenReturn(false);
+        assertTrue(TableMetaDataLoader.load(dataSource, Collections.singletonList(TEST_TABLE), mock(DatabaseType.class)).isEmpty());
+    }
+    
+    private void assertTableMetaData(final TableMetaData actual) {
+        Map<String, ColumnMetaData> columnMetaDataMap = actual.getColumns();
+        assertThat(columnMetaDataMap.size(), is(2));
+        assertColumnMetaData(columnMetaDataMap.get("pk_col"), "pk_col", Types.INTEGER, "INT", true, true);
+        assertColumnMetaData(columnMetaDataMap.get("col"), "col", Types.VARCHAR, "VARCHAR", false, false);
+        assertTrue(actual.getIndexes().containsKey("my_index"));
+    }
 }
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.builder.loader;
+
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class TableMetaDataLoadingExecutorTest {
+    
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        TableMetaData tableMetaData = new TableMetaData();
+        Callable<Map<String, TableMetaData>> firstTask = () -> Collections.singletonMap("t_order", tableMetaData);
+        Callable<Map<String, TableMetaData>> secondTask = () -> Collections.singletonMap("t_order_item", tableMetaData);
+        Map<String, TableMetaData> actual = TableMetaDataLoadingExecutor.execute(executorService, Arrays.asList(firstTask, secondTask, Collections::emptyMap));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.keySet().iterator().next(), is("t_order"));
+        assertThat(actual.get("t_order_item"), is(tableMetaData));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertExecuteWithSQLException() throws SQLException {
+        Callable<Map<String, TableMetaData>> task = () -> {
+            throw new SQLException("load failed");
+        };
+        TableMetaDataLoadingExecutor.execute(executorService, Collections.singletonList(task));
+    }
+}
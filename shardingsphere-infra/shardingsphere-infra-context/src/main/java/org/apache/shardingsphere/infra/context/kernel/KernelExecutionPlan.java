@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteExecutor;
+import org.apache.shardingsphere.infra.route.engine.impl.PartialSQLRouteExecutor;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.util.Collection;
+
+/**
+ * Kernel execution plan.
+ * 
+ * <p>
+ * Holds route executor and rewrite entry which only depend on rules and properties, so they can be shared by all statements of the same meta data.
+ * </p>
+ */
+@Getter
+public final class KernelExecutionPlan {
+    
+    private final ConfigurationProperties props;
+    
+    private final SQLRouteExecutor partialSQLRouteExecutor;
+    
+    private final SQLRewriteEntry rewriteEntry;
+    
+    public KernelExecutionPlan(final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        Collection<ShardingSphereRule> rules = metaData.getRuleMetaData().getRules();
+        this.props = props;
+        partialSQLRouteExecutor = new PartialSQLRouteExecutor(rules, props);
+        rewriteEntry = new SQLRewriteEntry(metaData.getSchema(), props, rules);
+    }
+}
@@ -17,26 +17,29 @@
 
 package org.apache.shardingsphere.infra.context.kernel;
 
+import com.google.common.collect.MapMaker;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
-import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatisticsRegistry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
-import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * Kernel processor.
  */
 public final class KernelProcessor {
     
+    private static final Map<ShardingSphereMetaData, KernelExecutionPlan> EXECUTION_PLANS = new MapMaker().weakKeys().makeMap();
+    
     /**
      * Generate execution context.
      *
@@ -46,13 +49,22 @@ public final class KernelProcessor {
      * @return execution context
      */
     public ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
-        Collection<ShardingSphereRule> rules = metaData.getRuleMetaData().getRules();
-        SQLRouteEngine sqlRouteEngine = new SQLRouteEngine(rules, props);
+        DataSourceExecutionStatisticsRegistry.setCurrentSchemaName(metaData.getName());
+        KernelExecutionPlan executionPlan = getExecutionPlan(metaData, props);
+        SQLRouteEngine sqlRouteEngine = new SQLRouteEngine(executionPlan.getPartialSQLRouteExecutor());
         SQLStatementContext<?> sqlStatementContext = logicSQL.getSqlStatementContext();
         RouteContext routeContext = sqlRouteEngine.route(logicSQL, metaData);
-        SQLRewriteEntry rewriteEntry = new SQLRewriteEntry(metaData.getSchema(), props, rules);
-        SQLRewriteResult rewriteResult = rewriteEntry.rewrite(logicSQL.getSql(), logicSQL.getParameters(), sqlStatementContext, routeContext);
+        SQLRewriteResult rewriteResult = executionPlan.getRewriteEntry().rewrite(logicSQL.getSql(), logicSQL.getParameters(), sqlStatementContext, routeContext);
         Collection<ExecutionUnit> executionUnits = ExecutionContextBuilder.build(metaData, rewriteResult, sqlStatementContext);
         return new ExecutionContext(sqlStatementContext, executionUnits, routeContext);
     }
+    
+    private KernelExecutionPlan getExecutionPlan(final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        KernelExecutionPlan result = EXECUTION_PLANS.get(metaData);
+        if (null == result || result.getProps() != props) {
+            result = new KernelExecutionPlan(metaData, props);
+            EXECUTION_PLANS.put(metaData, result);
+        }
+        return result;
+    }
 }
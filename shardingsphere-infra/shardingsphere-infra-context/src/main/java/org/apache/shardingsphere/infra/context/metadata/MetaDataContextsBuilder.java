@@ -24,6 +24,8 @@ import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
+import org.apache.shardingsphere.infra.context.metadata.snapshot.SchemaSnapshotBuilder;
+import org.apache.shardingsphere.infra.context.metadata.snapshot.SchemaSnapshotPersistService;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -78,7 +80,7 @@ public final class MetaDataContextsBuilder {
         this.ruleConfigs = ruleConfigs;
         this.authentication = authentication;
         this.props = new ConfigurationProperties(null == props ? new Properties() : props);
-        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE));
+        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE), this.props.<Boolean>getValue(ConfigurationPropertyKey.VIRTUAL_THREAD_ENABLED));
     }
     
     /**
@@ -100,7 +102,7 @@ public final class MetaDataContextsBuilder {
         Collection<RuleConfiguration> ruleConfigs = this.ruleConfigs.get(schemaName);
         Collection<ShardingSphereRule> rules = ShardingSphereRulesBuilder.build(ruleConfigs, databaseType, dataSourceMap);
         ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(ruleConfigs, rules);
-        return new ShardingSphereMetaData(schemaName, buildResource(dataSourceMap), ruleMetaData, buildSchema(schemaName, dataSourceMap, rules));
+        return new ShardingSphereMetaData(schemaName, buildResource(dataSourceMap), ruleMetaData, buildSchema(schemaName, dataSourceMap, ruleConfigs, rules));
     }
     
     private ShardingSphereResource buildResource(final Map<String, DataSource> dataSourceMap) throws SQLException {
@@ -130,9 +132,13 @@ public final class MetaDataContextsBuilder {
         }
     }
     
-    private ShardingSphereSchema buildSchema(final String schemaName, final Map<String, DataSource> dataSourceMap, final Collection<ShardingSphereRule> rules) throws SQLException {
+    private ShardingSphereSchema buildSchema(final String schemaName, final Map<String, DataSource> dataSourceMap,
+                                             final Collection<RuleConfiguration> ruleConfigs, final Collection<ShardingSphereRule> rules) throws SQLException {
         long start = System.currentTimeMillis();
-        ShardingSphereSchema result = SchemaBuilder.build(new SchemaBuilderMaterials(databaseType, dataSourceMap, rules, props));
+        SchemaBuilderMaterials materials = new SchemaBuilderMaterials(databaseType, dataSourceMap, rules, props);
+        String snapshotPath = props.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_PATH);
+        ShardingSphereSchema result = snapshotPath.isEmpty()
+                ? SchemaBuilder.build(materials) : new SchemaSnapshotBuilder(new SchemaSnapshotPersistService(snapshotPath)).build(schemaName, ruleConfigs, materials);
         log.info("Load meta data for schema {} finished, cost {} milliseconds.", schemaName, System.currentTimeMillis() - start);
         return result;
     }
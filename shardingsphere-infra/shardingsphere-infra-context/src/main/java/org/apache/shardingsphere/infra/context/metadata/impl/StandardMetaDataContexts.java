@@ -61,6 +61,7 @@ public final class StandardMetaDataContexts implements MetaDataContexts {
     
     @Override
     public void close() {
+        metaDataMap.values().forEach(each -> each.getRuleMetaData().close());
         executorEngine.close();
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.metadata.snapshot;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Schema fingerprint.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SchemaFingerprint {
+    
+    private final String ruleDigest;
+    
+    /**
+     * Key is data source name, value is fingerprints of tables in the data source whose key is logic table name.
+     */
+    private final Map<String, Map<String, String>> dataSourceFingerprints;
+    
+    /**
+     * Get tables whose fingerprints are different with the previous schema fingerprint.
+     * 
+     * @param previous previous schema fingerprint
+     * @return changed table names, include tables which are disappeared
+     */
+    public Collection<String> getChangedTables(final SchemaFingerprint previous) {
+        Collection<String> result = new LinkedHashSet<>();
+        Map<String, String> previousTableFingerprints = previous.getTableFingerprints();
+        for (Entry<String, Map<String, String>> entry : dataSourceFingerprints.entrySet()) {
+            if (entry.getValue().equals(previous.dataSourceFingerprints.get(entry.getKey()))) {
+                continue;
+            }
+            for (Entry<String, String> each : entry.getValue().entrySet()) {
+                if (!each.getValue().equals(previousTableFingerprints.get(each.getKey()))) {
+                    result.add(each.getKey());
+                }
+            }
+        }
+        Map<String, String> tableFingerprints = getTableFingerprints();
+        for (String each : previousTableFingerprints.keySet()) {
+            if (!tableFingerprints.containsKey(each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, String> getTableFingerprints() {
+        Map<String, String> result = new HashMap<>();
+        dataSourceFingerprints.values().forEach(result::putAll);
+        return result;
+    }
+}
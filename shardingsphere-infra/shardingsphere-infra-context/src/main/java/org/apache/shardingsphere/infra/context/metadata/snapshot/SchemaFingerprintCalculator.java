@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.metadata.snapshot;
+
+import com.google.common.hash.Hashing;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodes;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.ColumnMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.IndexMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.adapter.MetaDataLoaderConnectionAdapter;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.dialect.DatabaseMetaDataDialectHandlerFactory;
+import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.yaml.config.YamlRootRuleConfigurations;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.swapper.YamlRuleConfigurationSwapperEngine;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Schema fingerprint calculator.
+ * 
+ * <p>
+ * Fingerprint of table is the digest of its column definitions, primary key columns and index names.
+ * Column definitions are loaded with one columns round-trip for each data source, primary keys and indexes are loaded in batch if dialect supports.
+ * Rule configurations are digested too, because meta data in snapshot is decorated by rules.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SchemaFingerprintCalculator {
+    
+    private static final String TABLE_NAME = "TABLE_NAME";
+    
+    private static final String COLUMN_NAME = "COLUMN_NAME";
+    
+    private static final String DATA_TYPE = "DATA_TYPE";
+    
+    private static final String TYPE_NAME = "TYPE_NAME";
+    
+    /**
+     * Calculate schema fingerprint.
+     * 
+     * @param tableNames logic table names
+     * @param ruleDigest digest of rule configurations
+     * @param materials schema builder materials
+     * @return schema fingerprint
+     * @throws SQLException SQL exception
+     */
+    public static SchemaFingerprint calculate(final Collection<String> tableNames, final String ruleDigest, final SchemaBuilderMaterials materials) throws SQLException {
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        for (Entry<String, Map<String, String>> entry : getActualTableNameGroups(tableNames, materials).entrySet()) {
+            result.put(entry.getKey(), calculate(materials.getDataSourceMap().get(entry.getKey()), entry.getValue(), materials.getDatabaseType()));
+        }
+        return new SchemaFingerprint(ruleDigest, result);
+    }
+    
+    /**
+     * Calculate digest of rule configurations.
+     * 
+     * @param ruleConfigs rule configurations
+     * @return digest of rule configurations
+     */
+    public static String calculateRuleDigest(final Collection<RuleConfiguration> ruleConfigs) {
+        YamlRootRuleConfigurations yamlRuleConfigs = new YamlRootRuleConfigurations();
+        yamlRuleConfigs.setRules(new YamlRuleConfigurationSwapperEngine().swapToYamlConfigurations(ruleConfigs));
+        return Hashing.sha256().hashString(YamlEngine.marshal(yamlRuleConfigs), StandardCharsets.UTF_8).toString();
+    }
+    
+    private static Map<String, Map<String, String>> getActualTableNameGroups(final Collection<String> tableNames, final SchemaBuilderMaterials materials) {
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        if (materials.getDataSourceMap().isEmpty()) {
+            return result;
+        }
+        DataNodes dataNodes = new DataNodes(materials.getRules());
+        String defaultDataSourceName = materials.getDataSourceMap().keySet().iterator().next();
+        for (String each : tableNames) {
+            DataNode dataNode = containsDataNodes(each, materials.getRules()) ? dataNodes.getDataNodes(each).iterator().next() : new DataNode(defaultDataSourceName, each);
+            result.computeIfAbsent(dataNode.getDataSourceName(), key -> new LinkedHashMap<>()).put(each, formatTableName(dataNode.getTableName(), materials.getDatabaseType()));
+        }
+        return result;
+    }
+    
+    private static boolean containsDataNodes(final String tableName, final Collection<ShardingSphereRule> rules) {
+        return rules.stream().filter(each -> each instanceof DataNodeContainedRule).findFirst().map(each -> ((DataNodeContainedRule) each).getAllDataNodes().containsKey(tableName)).orElse(false);
+    }
+    
+    private static String formatTableName(final String tableName, final DatabaseType databaseType) {
+        return DatabaseMetaDataDialectHandlerFactory.findHandler(databaseType).map(handler -> handler.formatTableNamePattern(tableName)).orElse(tableName);
+    }
+    
+    private static Map<String, String> calculate(final DataSource dataSource, final Map<String, String> actualTableNames, final DatabaseType databaseType) throws SQLException {
+        Map<String, StringBuilder> columnDefinitions = new HashMap<>(actualTableNames.size(), 1);
+        actualTableNames.values().forEach(each -> columnDefinitions.put(each, new StringBuilder()));
+        try (Connection connection = new MetaDataLoaderConnectionAdapter(databaseType, dataSource.getConnection())) {
+            try (ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), connection.getSchema(), "%", "%")) {
+                while (resultSet.next()) {
+                    StringBuilder columnDefinition = columnDefinitions.get(resultSet.getString(TABLE_NAME));
+                    if (null != columnDefinition) {
+                        columnDefinition.append(resultSet.getString(COLUMN_NAME)).append(':').append(resultSet.getInt(DATA_TYPE)).append(':').append(resultSet.getString(TYPE_NAME)).append(';');
+                    }
+                }
+            }
+            appendKeyDefinitions(connection, columnDefinitions, databaseType);
+        }
+        Map<String, String> result = new TreeMap<>();
+        for (Entry<String, String> entry : actualTableNames.entrySet()) {
+            StringBuilder columnDefinition = columnDefinitions.get(entry.getValue());
+            if (0 != columnDefinition.length()) {
+                result.put(entry.getKey(), Hashing.sha256().hashString(columnDefinition, StandardCharsets.UTF_8).toString());
+            }
+        }
+        return result;
+    }
+    
+    private static void appendKeyDefinitions(final Connection connection, final Map<String, StringBuilder> columnDefinitions, final DatabaseType databaseType) throws SQLException {
+        Collection<String> existedTableNames = columnDefinitions.entrySet().stream().filter(entry -> 0 != entry.getValue().length()).map(Entry::getKey).collect(Collectors.toList());
+        Map<String, Collection<String>> primaryKeys = ColumnMetaDataLoader.loadPrimaryKeys(connection, existedTableNames, databaseType);
+        Map<String, Collection<IndexMetaData>> indexes = IndexMetaDataLoader.load(connection, existedTableNames, databaseType);
+        for (String each : existedTableNames) {
+            columnDefinitions.get(each).append("PRIMARY KEY:").append(new TreeSet<>(primaryKeys.get(each)))
+                    .append(";INDEX:").append(indexes.get(each).stream().map(IndexMetaData::getName).collect(Collectors.toCollection(TreeSet::new))).append(';');
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.metadata.snapshot;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextCache;
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.builder.TableMetaDataBuilder;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.type.TableContainedRule;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Schema builder with snapshot.
+ * 
+ * <p>
+ * Schema is restored from snapshot at once if it exists and rule configurations are not changed, then validated by fingerprints in background and only changed tables are reloaded.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j(topic = "ShardingSphere-metadata")
+public final class SchemaSnapshotBuilder {
+    
+    private final SchemaSnapshotPersistService persistService;
+    
+    /**
+     * Build ShardingSphere schema.
+     * 
+     * @param schemaName schema name
+     * @param ruleConfigs rule configurations
+     * @param materials schema builder materials
+     * @return ShardingSphere schema
+     * @throws SQLException SQL exception
+     */
+    public ShardingSphereSchema build(final String schemaName, final Collection<RuleConfiguration> ruleConfigs, final SchemaBuilderMaterials materials) throws SQLException {
+        Collection<String> tableNames = getTableNames(materials.getRules());
+        String ruleDigest = SchemaFingerprintCalculator.calculateRuleDigest(ruleConfigs);
+        Optional<SchemaSnapshot> snapshot = persistService.load(schemaName);
+        if (snapshot.isPresent() && !ruleDigest.equals(snapshot.get().getFingerprint().getRuleDigest())) {
+            log.info("Ignore meta data snapshot of schema {}, because rule configurations are changed.", schemaName);
+            snapshot = Optional.empty();
+        }
+        if (!snapshot.isPresent()) {
+            ShardingSphereSchema result = SchemaBuilder.build(materials);
+            executeInBackground(schemaName, () -> persist(schemaName, result, tableNames, ruleDigest, materials));
+            return result;
+        }
+        ShardingSphereSchema result = snapshot.get().getSchema();
+        for (String each : tableNames) {
+            if (!result.containsTable(each)) {
+                TableMetaDataBuilder.build(each, materials).ifPresent(optional -> result.put(each, optional));
+            }
+        }
+        log.info("Restore meta data of schema {} from snapshot with {} tables.", schemaName, result.getAllTableNames().size());
+        SchemaSnapshot restoredSnapshot = snapshot.get();
+        executeInBackground(schemaName, () -> validate(schemaName, restoredSnapshot, tableNames, ruleDigest, materials));
+        return result;
+    }
+    
+    private Collection<String> getTableNames(final Collection<ShardingSphereRule> rules) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof TableContainedRule) {
+                result.addAll(((TableContainedRule) each).getTables());
+            }
+        }
+        return result;
+    }
+    
+    private void executeInBackground(final String schemaName, final SnapshotTask task) {
+        ExecutorService executorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaSnapshot-" + schemaName).build());
+        executorService.execute(() -> {
+            try {
+                task.execute();
+            } catch (final SQLException ex) {
+                log.warn("Execute meta data snapshot task of schema {} failed.", schemaName, ex);
+            }
+        });
+        executorService.shutdown();
+    }
+    
+    private void persist(final String schemaName, final ShardingSphereSchema schema,
+                         final Collection<String> tableNames, final String ruleDigest, final SchemaBuilderMaterials materials) throws SQLException {
+        persistService.persist(schemaName, new SchemaSnapshot(schema, SchemaFingerprintCalculator.calculate(tableNames, ruleDigest, materials)));
+    }
+    
+    private void validate(final String schemaName, final SchemaSnapshot snapshot,
+                          final Collection<String> tableNames, final String ruleDigest, final SchemaBuilderMaterials materials) throws SQLException {
+        long start = System.currentTimeMillis();
+        SchemaFingerprint fingerprint = SchemaFingerprintCalculator.calculate(tableNames, ruleDigest, materials);
+        Collection<String> changedTables = fingerprint.getChangedTables(snapshot.getFingerprint());
+        ShardingSphereSchema schema = snapshot.getSchema();
+        for (String each : changedTables) {
+            Optional<TableMetaData> tableMetaData = TableMetaDataBuilder.build(each, materials);
+            if (tableMetaData.isPresent()) {
+                schema.put(each, tableMetaData.get());
+            } else {
+                schema.remove(each);
+            }
+        }
+        if (!changedTables.isEmpty()) {
+            SQLStatementContextCache.invalidate(schema);
+        }
+        persistService.persist(schemaName, new SchemaSnapshot(schema, fingerprint));
+        log.info("Validate meta data snapshot of schema {} finished, refreshed tables: {}, cost {} milliseconds.", schemaName, changedTables, System.currentTimeMillis() - start);
+    }
+    
+    @FunctionalInterface
+    private interface SnapshotTask {
+        
+        void execute() throws SQLException;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.metadata.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.swapper.SchemaYamlSwapper;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Schema snapshot persist service.
+ */
+@RequiredArgsConstructor
+@Slf4j(topic = "ShardingSphere-metadata")
+public final class SchemaSnapshotPersistService {
+    
+    private static final String SNAPSHOT_FILE_SUFFIX = ".yaml";
+    
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    
+    private final String snapshotPath;
+    
+    /**
+     * Load schema snapshot.
+     * 
+     * @param schemaName schema name
+     * @return schema snapshot, empty if snapshot is absent or broken
+     */
+    public Optional<SchemaSnapshot> load(final String schemaName) {
+        File snapshotFile = getSnapshotFile(schemaName).toFile();
+        if (!snapshotFile.isFile()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(YamlEngine.unmarshal(snapshotFile, YamlSchemaSnapshot.class)).map(this::swapToObject);
+        } catch (final IOException | YAMLException ex) {
+            log.warn("Ignore broken meta data snapshot `{}`.", snapshotFile, ex);
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Persist schema snapshot.
+     * 
+     * @param schemaName schema name
+     * @param snapshot schema snapshot
+     */
+    public void persist(final String schemaName, final SchemaSnapshot snapshot) {
+        Path snapshotFile = getSnapshotFile(schemaName);
+        Path tempFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            Files.createDirectories(snapshotFile.getParent());
+            Files.write(tempFile, YamlEngine.marshal(swapToYamlConfiguration(snapshot)).getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Persist meta data snapshot `{}` failed.", snapshotFile, ex);
+        }
+    }
+    
+    private Path getSnapshotFile(final String schemaName) {
+        return new File(snapshotPath, schemaName + SNAPSHOT_FILE_SUFFIX).toPath().toAbsolutePath();
+    }
+    
+    private SchemaSnapshot swapToObject(final YamlSchemaSnapshot yamlSnapshot) {
+        return new SchemaSnapshot(new SchemaYamlSwapper().swapToObject(yamlSnapshot.getSchema()),
+                new SchemaFingerprint(yamlSnapshot.getRuleDigest(), null == yamlSnapshot.getFingerprints() ? Collections.emptyMap() : yamlSnapshot.getFingerprints()));
+    }
+    
+    private YamlSchemaSnapshot swapToYamlConfiguration(final SchemaSnapshot snapshot) {
+        YamlSchemaSnapshot result = new YamlSchemaSnapshot();
+        result.setSchema(new SchemaYamlSwapper().swapToYamlConfiguration(snapshot.getSchema()));
+        result.setRuleDigest(snapshot.getFingerprint().getRuleDigest());
+        result.setFingerprints(snapshot.getFingerprint().getDataSourceFingerprints());
+        return result;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.metadata.snapshot;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.fixture.FixtureDatabaseType;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SchemaFingerprintCalculatorTest {
+    
+    @Test
+    public void assertCalculateWithSameMetaData() throws SQLException {
+        assertThat(calculate("order_id", "idx_user_id"), is(calculate("order_id", "idx_user_id")));
+    }
+    
+    @Test
+    public void assertCalculateWithChangedPrimaryKey() throws SQLException {
+        assertThat(calculate("order_id", "idx_user_id"), not(calculate("user_id", "idx_user_id")));
+    }
+    
+    @Test
+    public void assertCalculateWithChangedIndex() throws SQLException {
+        assertThat(calculate("order_id", "idx_user_id"), not(calculate("order_id", "idx_status")));
+    }
+    
+    private String calculate(final String primaryKeyColumn, final String indexName) throws SQLException {
+        SchemaBuilderMaterials materials = new SchemaBuilderMaterials(new FixtureDatabaseType(),
+                Collections.singletonMap("ds_0", mockDataSource(primaryKeyColumn, indexName)), Collections.emptyList(), new ConfigurationProperties(new Properties()));
+        return SchemaFingerprintCalculator.calculate(Collections.singletonList("t_order"), "rule_digest", materials).getDataSourceFingerprints().get("ds_0").get("t_order");
+    }
+    
+    private DataSource mockDataSource(final String primaryKeyColumn, final String indexName) throws SQLException {
+        DataSource result = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(result.getConnection().getCatalog()).thenReturn("catalog");
+        ResultSet columnResultSet = mock(ResultSet.class);
+        when(result.getConnection().getMetaData().getColumns("catalog", null, "%", "%")).thenReturn(columnResultSet);
+        when(columnResultSet.next()).thenReturn(true, true, false);
+        when(columnResultSet.getString("TABLE_NAME")).thenReturn("t_order");
+        when(columnResultSet.getString("COLUMN_NAME")).thenReturn("order_id", "user_id");
+        when(columnResultSet.getInt("DATA_TYPE")).thenReturn(Types.BIGINT, Types.INTEGER);
+        when(columnResultSet.getString("TYPE_NAME")).thenReturn("BIGINT", "INT");
+        ResultSet primaryKeyResultSet = mock(ResultSet.class);
+        when(result.getConnection().getMetaData().getPrimaryKeys("catalog", null, "t_order")).thenReturn(primaryKeyResultSet);
+        when(primaryKeyResultSet.next()).thenReturn(true, false);
+        when(primaryKeyResultSet.getString("COLUMN_NAME")).thenReturn(primaryKeyColumn);
+        ResultSet indexResultSet = mock(ResultSet.class);
+        when(result.getConnection().getMetaData().getIndexInfo("catalog", null, "t_order", false, false)).thenReturn(indexResultSet);
+        when(indexResultSet.next()).thenReturn(true, false);
+        when(indexResultSet.getString("INDEX_NAME")).thenReturn(indexName);
+        return result;
+    }
+}
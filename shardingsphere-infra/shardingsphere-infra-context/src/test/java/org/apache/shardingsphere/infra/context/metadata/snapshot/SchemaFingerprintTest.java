@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.metadata.snapshot;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SchemaFingerprintTest {
+    
+    @Test
+    public void assertGetChangedTablesWithSameFingerprint() {
+        Map<String, Map<String, String>> fingerprints = Collections.singletonMap("ds_0", ImmutableMap.of("t_order", "fp_0", "t_order_item", "fp_1"));
+        assertTrue(new SchemaFingerprint("rule_digest", fingerprints).getChangedTables(new SchemaFingerprint("rule_digest", fingerprints)).isEmpty());
+    }
+    
+    @Test
+    public void assertGetChangedTables() {
+        SchemaFingerprint previous = new SchemaFingerprint("rule_digest", ImmutableMap.of(
+                "ds_0", ImmutableMap.of("t_order", "fp_0", "t_order_item", "fp_1"), "ds_1", Collections.singletonMap("t_user", "fp_2")));
+        SchemaFingerprint current = new SchemaFingerprint("rule_digest", ImmutableMap.of(
+                "ds_0", ImmutableMap.of("t_order", "fp_0", "t_order_item", "fp_3", "t_config", "fp_4"), "ds_1", Collections.emptyMap()));
+        assertThat(Arrays.asList(current.getChangedTables(previous).toArray()), is(Arrays.<Object>asList("t_order_item", "t_config", "t_user")));
+    }
+}
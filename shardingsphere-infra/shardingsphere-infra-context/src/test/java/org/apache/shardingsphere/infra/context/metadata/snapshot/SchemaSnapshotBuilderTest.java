@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.metadata.snapshot;
+
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.fixture.FixtureDatabaseType;
+import org.apache.shardingsphere.infra.context.fixture.FixtureRuleConfiguration;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SchemaSnapshotBuilderTest {
+    
+    private final SchemaBuilderMaterials materials = new SchemaBuilderMaterials(
+            new FixtureDatabaseType(), Collections.emptyMap(), Collections.emptyList(), new ConfigurationProperties(new Properties()));
+    
+    @Test
+    public void assertBuildWithSnapshot() throws IOException, SQLException {
+        SchemaSnapshotPersistService persistService = createPersistService(Collections.emptyList());
+        assertTrue(new SchemaSnapshotBuilder(persistService).build("logic_db", Collections.emptyList(), materials).containsTable("t_order"));
+    }
+    
+    @Test
+    public void assertBuildWithChangedRuleConfigurations() throws IOException, SQLException {
+        SchemaSnapshotPersistService persistService = createPersistService(Collections.emptyList());
+        assertFalse(new SchemaSnapshotBuilder(persistService).build("logic_db", Collections.singletonList(new FixtureRuleConfiguration()), materials).containsTable("t_order"));
+    }
+    
+    @Test
+    public void assertCalculateRuleDigest() {
+        String ruleDigest = SchemaFingerprintCalculator.calculateRuleDigest(Collections.emptyList());
+        assertThat(SchemaFingerprintCalculator.calculateRuleDigest(Collections.emptyList()), is(ruleDigest));
+        assertThat(SchemaFingerprintCalculator.calculateRuleDigest(Collections.singletonList(new FixtureRuleConfiguration())), not(ruleDigest));
+    }
+    
+    private SchemaSnapshotPersistService createPersistService(final Collection<RuleConfiguration> ruleConfigs) throws IOException {
+        SchemaSnapshotPersistService result = new SchemaSnapshotPersistService(Files.createTempDirectory("snapshot").toString());
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.put("t_order", new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", Types.BIGINT, "BIGINT", true, false, false)), Collections.emptyList()));
+        result.persist("logic_db", new SchemaSnapshot(schema, new SchemaFingerprint(SchemaFingerprintCalculator.calculateRuleDigest(ruleConfigs), Collections.emptyMap())));
+        return result;
+    }
+}
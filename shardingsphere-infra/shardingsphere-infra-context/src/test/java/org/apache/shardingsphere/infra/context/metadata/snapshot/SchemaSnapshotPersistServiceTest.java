@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.metadata.snapshot;
+
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SchemaSnapshotPersistServiceTest {
+    
+    @Test
+    public void assertLoadAbsentSnapshot() throws IOException {
+        assertFalse(new SchemaSnapshotPersistService(Files.createTempDirectory("snapshot").toString()).load("logic_db").isPresent());
+    }
+    
+    @Test
+    public void assertLoadBrokenSnapshot() throws IOException {
+        Path snapshotPath = Files.createTempDirectory("snapshot");
+        Files.write(snapshotPath.resolve("logic_db.yaml"), "schema: [".getBytes());
+        assertFalse(new SchemaSnapshotPersistService(snapshotPath.toString()).load("logic_db").isPresent());
+    }
+    
+    @Test
+    public void assertPersistAndLoad() throws IOException {
+        SchemaSnapshotPersistService persistService = new SchemaSnapshotPersistService(Files.createTempDirectory("snapshot").resolve("metadata").toString());
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.put("t_order", new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", Types.BIGINT, "BIGINT", true, false, false)),
+                Collections.singletonList(new IndexMetaData("order_index"))));
+        persistService.persist("logic_db", new SchemaSnapshot(schema, new SchemaFingerprint("rule_digest", Collections.singletonMap("ds_0", Collections.singletonMap("t_order", "fp_0")))));
+        Optional<SchemaSnapshot> actual = persistService.load("logic_db");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSchema().getAllTableNames(), is(Collections.singleton("t_order")));
+        ColumnMetaData columnMetaData = actual.get().getSchema().get("t_order").getColumns().get("order_id");
+        assertThat(columnMetaData.getDataType(), is(Types.BIGINT));
+        assertTrue(columnMetaData.isPrimaryKey());
+        assertThat(actual.get().getSchema().get("t_order").getIndexes().keySet(), is(Collections.singleton("order_index")));
+        assertThat(actual.get().getFingerprint().getRuleDigest(), is("rule_digest"));
+        assertThat(actual.get().getFingerprint().getDataSourceFingerprints(), is(Collections.singletonMap("ds_0", Collections.singletonMap("t_order", "fp_0"))));
+    }
+}
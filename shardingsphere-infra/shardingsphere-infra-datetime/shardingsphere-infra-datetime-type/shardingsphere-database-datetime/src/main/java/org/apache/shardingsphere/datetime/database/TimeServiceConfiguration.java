@@ -34,17 +34,26 @@ import java.util.Properties;
  * 
  * <p>
  * Need to create a time-service.properties under the classpath.
+ * Datetime of database is cached for {@code cacheRefreshIntervalMillis} if it is positive, and sampled with round trip time at most twice of {@code cacheMaxErrorMillis}.
  * </p>
  */
 @Getter
 public final class TimeServiceConfiguration {
     
+    private static final long DEFAULT_CACHE_REFRESH_INTERVAL_MILLIS = 1000L;
+    
+    private static final long DEFAULT_CACHE_MAX_ERROR_MILLIS = 100L;
+    
     private static final TimeServiceConfiguration CONFIG = new TimeServiceConfiguration();
     
     private String driverClassName;
     
     private DataSource dataSource;
     
+    private long cacheRefreshIntervalMillis;
+    
+    private long cacheMaxErrorMillis;
+    
     private TimeServiceConfiguration() {
         init();
     }
@@ -54,6 +63,8 @@ public final class TimeServiceConfiguration {
             Properties props = new Properties();
             props.load(inputStream);
             String dataSourceType = (String) props.remove("dataSourceType");
+            cacheRefreshIntervalMillis = removeLongProperty(props, "cacheRefreshIntervalMillis", DEFAULT_CACHE_REFRESH_INTERVAL_MILLIS);
+            cacheMaxErrorMillis = removeLongProperty(props, "cacheMaxErrorMillis", DEFAULT_CACHE_MAX_ERROR_MILLIS);
             driverClassName = props.getProperty("driverClassName");
             Class<?> dataSourceClass = Class.forName(dataSourceType);
             dataSource = (DataSource) dataSourceClass.getConstructor().newInstance();
@@ -62,13 +73,18 @@ public final class TimeServiceConfiguration {
                 Method writeMethod = propertyDescriptor.getWriteMethod();
                 writeMethod.invoke(dataSource, props.getProperty(each));
             }
-        } catch (final ClassNotFoundException | InstantiationException | IllegalAccessException | IntrospectionException | InvocationTargetException | IOException ex) {
+        } catch (final ClassNotFoundException | InstantiationException | IllegalAccessException | IntrospectionException | InvocationTargetException | IOException | NumberFormatException ex) {
             throw new TimeServiceInitException("please check your time-service.properties", ex);
         } catch (final NoSuchMethodException ex) {
             throw new TimeServiceInitException(ex.getMessage(), ex);
         }
     }
     
+    private long removeLongProperty(final Properties props, final String key, final long defaultValue) {
+        Object value = props.remove(key);
+        return null == value ? defaultValue : Long.parseLong(value.toString().trim());
+    }
+    
     /**
      * Get configuration instance.
      * 
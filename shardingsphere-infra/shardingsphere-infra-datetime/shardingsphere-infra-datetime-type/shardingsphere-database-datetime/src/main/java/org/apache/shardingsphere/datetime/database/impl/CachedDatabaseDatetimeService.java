@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.datetime.database.impl;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datetime.DatetimeService;
+
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cached database datetime service.
+ *
+ * <p>
+ * Database clock is sampled at most once per refresh interval, and datetime is served by the sample corrected with the elapsed time of local monotonic clock.
+ * Corrected datetime keeps the runtime type of the queried datetime, such as {@link java.sql.Timestamp}.
+ * Samples whose round trip time is longer than twice of max error are not cached, datetime of database is returned directly instead.
+ * Only one thread refreshes the sample at a time without holding any lock, the other threads are served by the previous sample meanwhile,
+ * or query database directly if there is no sample yet.
+ * </p>
+ */
+public final class CachedDatabaseDatetimeService implements DatetimeService {
+    
+    private final DatabaseDatetimeService databaseDatetimeService;
+    
+    private final long refreshIntervalNanos;
+    
+    private final long maxErrorNanos;
+    
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    
+    private volatile ClockSample clockSample;
+    
+    public CachedDatabaseDatetimeService(final DatabaseDatetimeService databaseDatetimeService, final long refreshIntervalMillis, final long maxErrorMillis) {
+        this.databaseDatetimeService = databaseDatetimeService;
+        refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(refreshIntervalMillis);
+        maxErrorNanos = TimeUnit.MILLISECONDS.toNanos(maxErrorMillis);
+    }
+    
+    @Override
+    public Date getDatetime() {
+        ClockSample sample = clockSample;
+        long currentNanos = System.nanoTime();
+        if (isAvailable(sample, currentNanos)) {
+            return sample.getCorrectedDatetime(currentNanos);
+        }
+        if (!refreshing.compareAndSet(false, true)) {
+            return null == sample ? databaseDatetimeService.getDatetime() : sample.getCorrectedDatetime(currentNanos);
+        }
+        try {
+            return refresh();
+        } finally {
+            refreshing.set(false);
+        }
+    }
+    
+    private Date refresh() {
+        ClockSample sample = clockSample;
+        long startNanos = System.nanoTime();
+        if (isAvailable(sample, startNanos)) {
+            return sample.getCorrectedDatetime(startNanos);
+        }
+        Date result;
+        try {
+            result = databaseDatetimeService.queryDatetime();
+        } catch (final SQLException ignore) {
+            return null == sample ? new Date() : sample.getCorrectedDatetime(System.nanoTime());
+        }
+        long roundTripNanos = System.nanoTime() - startNanos;
+        if (roundTripNanos <= maxErrorNanos * 2) {
+            clockSample = new ClockSample(result, startNanos + roundTripNanos / 2);
+        }
+        return result;
+    }
+    
+    private boolean isAvailable(final ClockSample sample, final long currentNanos) {
+        return null != sample && currentNanos - sample.getSampledNanos() < refreshIntervalNanos;
+    }
+    
+    @Override
+    public boolean isDefault() {
+        return false;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ClockSample {
+        
+        private final Date datetime;
+        
+        private final long sampledNanos;
+        
+        private Date getCorrectedDatetime(final long currentNanos) {
+            Date result = (Date) datetime.clone();
+            result.setTime(datetime.getTime() + TimeUnit.NANOSECONDS.toMillis(currentNanos - sampledNanos));
+            return result;
+        }
+    }
+}
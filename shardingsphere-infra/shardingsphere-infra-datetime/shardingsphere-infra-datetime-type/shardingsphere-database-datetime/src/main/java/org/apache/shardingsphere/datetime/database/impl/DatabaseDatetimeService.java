@@ -39,15 +39,27 @@ public final class DatabaseDatetimeService implements DatetimeService {
     
     @Override
     public Date getDatetime() {
+        try {
+            return queryDatetime();
+        } catch (final SQLException ignore) {
+        }
+        return new Date();
+    }
+    
+    /**
+     * Query datetime from database.
+     *
+     * @return datetime of database
+     * @throws SQLException SQL exception
+     */
+    public Date queryDatetime() throws SQLException {
         try (Connection connection = dataSource.getConnection();
              PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 resultSet.next();
                 return (Date) resultSet.getObject(1);
             }
-        } catch (final SQLException ignore) {
         }
-        return new Date();
     }
     
     @Override
@@ -36,6 +36,8 @@ public final class TimeServiceFactory {
      */
     public static DatetimeService createTimeService() {
         TimeServiceConfiguration timeServiceConfig = TimeServiceConfiguration.getInstance();
-        return new DatabaseDatetimeService(timeServiceConfig.getDataSource(), new SPIDataBaseSQLEntry(timeServiceConfig.getDriverClassName()).getSQL());
+        DatabaseDatetimeService result = new DatabaseDatetimeService(timeServiceConfig.getDataSource(), new SPIDataBaseSQLEntry(timeServiceConfig.getDriverClassName()).getSQL());
+        return 0 < timeServiceConfig.getCacheRefreshIntervalMillis()
+                ? new CachedDatabaseDatetimeService(result, timeServiceConfig.getCacheRefreshIntervalMillis(), timeServiceConfig.getCacheMaxErrorMillis()) : result;
     }
 }
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.datetime.database.impl;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class CachedDatabaseDatetimeServiceTest {
+    
+    @Mock
+    private DatabaseDatetimeService databaseDatetimeService;
+    
+    @Test
+    public void assertGetDatetimeFromCache() throws SQLException {
+        when(databaseDatetimeService.queryDatetime()).thenReturn(new Date(1000L));
+        CachedDatabaseDatetimeService cachedDatabaseDatetimeService = new CachedDatabaseDatetimeService(databaseDatetimeService, 60000L, 60000L);
+        assertThat(cachedDatabaseDatetimeService.getDatetime().getTime(), is(1000L));
+        assertTrue(cachedDatabaseDatetimeService.getDatetime().getTime() >= 1000L);
+        verify(databaseDatetimeService).queryDatetime();
+    }
+    
+    @Test
+    public void assertGetDatetimeFromCacheWithQueriedType() throws SQLException {
+        when(databaseDatetimeService.queryDatetime()).thenReturn(new Timestamp(1000L));
+        CachedDatabaseDatetimeService cachedDatabaseDatetimeService = new CachedDatabaseDatetimeService(databaseDatetimeService, 60000L, 60000L);
+        assertThat(cachedDatabaseDatetimeService.getDatetime(), instanceOf(Timestamp.class));
+        Date actual = cachedDatabaseDatetimeService.getDatetime();
+        assertThat(actual, instanceOf(Timestamp.class));
+        assertTrue(actual.getTime() >= 1000L);
+        verify(databaseDatetimeService).queryDatetime();
+    }
+    
+    @Test
+    public void assertGetDatetimeWhenCacheExpired() throws SQLException {
+        when(databaseDatetimeService.queryDatetime()).thenReturn(new Date(1000L), new Date(2000L));
+        CachedDatabaseDatetimeService cachedDatabaseDatetimeService = new CachedDatabaseDatetimeService(databaseDatetimeService, 0L, 60000L);
+        assertThat(cachedDatabaseDatetimeService.getDatetime().getTime(), is(1000L));
+        assertThat(cachedDatabaseDatetimeService.getDatetime().getTime(), is(2000L));
+        verify(databaseDatetimeService, times(2)).queryDatetime();
+    }
+    
+    @Test
+    public void assertGetDatetimeWhenErrorOutOfBound() throws SQLException {
+        when(databaseDatetimeService.queryDatetime()).thenAnswer(invocation -> {
+            Thread.sleep(10L);
+            return new Date(1000L);
+        });
+        CachedDatabaseDatetimeService cachedDatabaseDatetimeService = new CachedDatabaseDatetimeService(databaseDatetimeService, 60000L, 0L);
+        assertThat(cachedDatabaseDatetimeService.getDatetime().getTime(), is(1000L));
+        assertThat(cachedDatabaseDatetimeService.getDatetime().getTime(), is(1000L));
+        verify(databaseDatetimeService, times(2)).queryDatetime();
+    }
+    
+    @Test
+    public void assertGetDatetimeWithPreviousSampleWhileRefreshing() throws SQLException, InterruptedException {
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch refreshReleased = new CountDownLatch(1);
+        when(databaseDatetimeService.queryDatetime()).thenReturn(new Date(1000L)).thenAnswer(invocation -> {
+            refreshStarted.countDown();
+            refreshReleased.await();
+            return new Date(2000000L);
+        });
+        CachedDatabaseDatetimeService cachedDatabaseDatetimeService = new CachedDatabaseDatetimeService(databaseDatetimeService, 1L, 60000L);
+        assertThat(cachedDatabaseDatetimeService.getDatetime().getTime(), is(1000L));
+        Thread.sleep(2L);
+        Thread refresher = new Thread(cachedDatabaseDatetimeService::getDatetime);
+        refresher.start();
+        refreshStarted.await();
+        assertTrue(cachedDatabaseDatetimeService.getDatetime().getTime() < 2000000L);
+        refreshReleased.countDown();
+        refresher.join();
+        verify(databaseDatetimeService, times(2)).queryDatetime();
+    }
+    
+    @Test
+    public void assertGetDatetimeWithoutSampleWhileRefreshing() throws SQLException, InterruptedException {
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch refreshReleased = new CountDownLatch(1);
+        when(databaseDatetimeService.queryDatetime()).thenAnswer(invocation -> {
+            refreshStarted.countDown();
+            refreshReleased.await();
+            return new Date(1000L);
+        });
+        when(databaseDatetimeService.getDatetime()).thenReturn(new Date(3000L));
+        CachedDatabaseDatetimeService cachedDatabaseDatetimeService = new CachedDatabaseDatetimeService(databaseDatetimeService, 60000L, 60000L);
+        Thread refresher = new Thread(cachedDatabaseDatetimeService::getDatetime);
+        refresher.start();
+        refreshStarted.await();
+        assertThat(cachedDatabaseDatetimeService.getDatetime().getTime(), is(3000L));
+        refreshReleased.countDown();
+        refresher.join();
+        verify(databaseDatetimeService).queryDatetime();
+    }
+    
+    @Test
+    public void assertGetDatetimeWithPreviousSampleWhenQueryFailed() throws SQLException, InterruptedException {
+        when(databaseDatetimeService.queryDatetime()).thenReturn(new Date(1000L)).thenThrow(new SQLException("failed"));
+        CachedDatabaseDatetimeService cachedDatabaseDatetimeService = new CachedDatabaseDatetimeService(databaseDatetimeService, 1L, 60000L);
+        assertThat(cachedDatabaseDatetimeService.getDatetime().getTime(), is(1000L));
+        Thread.sleep(2L);
+        long actual = cachedDatabaseDatetimeService.getDatetime().getTime();
+        assertTrue(actual >= 1000L && actual < 60000L);
+        verify(databaseDatetimeService, times(2)).queryDatetime();
+    }
+    
+    @Test
+    public void assertGetDatetimeWhenQueryFailed() throws SQLException {
+        when(databaseDatetimeService.queryDatetime()).thenThrow(new SQLException("failed"));
+        CachedDatabaseDatetimeService cachedDatabaseDatetimeService = new CachedDatabaseDatetimeService(databaseDatetimeService, 60000L, 60000L);
+        assertNotNull(cachedDatabaseDatetimeService.getDatetime());
+        assertFalse(cachedDatabaseDatetimeService.isDefault());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread executor builder.
+ * 
+ * <p>
+ *     Virtual threads are looked up by reflection, so they are only available when the runtime supports them, JDK 21 or later.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadExecutorBuilder {
+    
+    private static final String NAME_PREFIX = "ShardingSphere-";
+    
+    private static final boolean SUPPORTED = buildThreadFactory("").isPresent();
+    
+    /**
+     * Judge whether virtual thread is supported by current runtime.
+     * 
+     * @return virtual thread is supported or not
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+    
+    /**
+     * Build virtual thread factory.
+     * 
+     * @param namePrefix prefix of thread name, which is followed by thread sequence
+     * @return virtual thread factory, empty if virtual thread is unsupported
+     */
+    public static Optional<ThreadFactory> buildThreadFactory(final String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, NAME_PREFIX + namePrefix, 0L);
+            return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+        } catch (final ReflectiveOperationException | UnsupportedOperationException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Build executor service which starts a new virtual thread for each task.
+     * 
+     * @param namePrefix prefix of thread name, which is followed by thread sequence
+     * @return executor service, empty if virtual thread is unsupported
+     */
+    public static Optional<ExecutorService> buildThreadPerTaskExecutor(final String namePrefix) {
+        Optional<ThreadFactory> threadFactory = buildThreadFactory(namePrefix);
+        if (!threadFactory.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return Optional.of((ExecutorService) method.invoke(null, threadFactory.get()));
+        } catch (final ReflectiveOperationException ex) {
+            return Optional.empty();
+        }
+    }
+}
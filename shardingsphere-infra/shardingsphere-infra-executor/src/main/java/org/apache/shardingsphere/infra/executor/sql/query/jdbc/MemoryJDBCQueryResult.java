@@ -18,125 +18,80 @@
 package org.apache.shardingsphere.infra.executor.sql.query.jdbc;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.query.jdbc.memory.MemoryColumn;
+import org.apache.shardingsphere.infra.executor.sql.query.jdbc.memory.MemoryColumnFactory;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
-import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.sql.Types;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * JDBC query result for memory loading.
+ * 
+ * <p>
+ * Rows are stored by columns, values of fixed-width types are stored in primitive arrays and SQL NULL values are recorded with bitmaps.
+ * </p>
  */
 public final class MemoryJDBCQueryResult extends AbstractJDBCQueryResult {
     
-    private final Iterator<List<Object>> rows;
+    private final MemoryColumn[] columns;
     
-    private List<Object> currentRow;
+    private final int rowCount;
+    
+    private int currentRowIndex = -1;
     
     public MemoryJDBCQueryResult(final ResultSet resultSet) throws SQLException {
         super(resultSet.getMetaData());
-        rows = loadRows(resultSet);
+        columns = createColumns(resultSet.getMetaData());
+        rowCount = loadRows(resultSet);
     }
     
-    private Iterator<List<Object>> loadRows(final ResultSet resultSet) throws SQLException {
-        Collection<List<Object>> result = new LinkedList<>();
-        int columnCount = getColumnCount();
-        while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnCount);
-            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                Object rowValue = loadRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
-            }
-            result.add(rowData);
+    private MemoryColumn[] createColumns(final ResultSetMetaData metaData) throws SQLException {
+        MemoryColumn[] result = new MemoryColumn[getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = MemoryColumnFactory.newInstance(metaData, i + 1);
         }
-        return result.iterator();
+        return result;
     }
     
-    @SuppressWarnings("ReturnOfNull")
-    private Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        switch (metaData.getColumnType(columnIndex)) {
-            case Types.BOOLEAN:
-                return resultSet.getBoolean(columnIndex);
-            case Types.TINYINT:
-            case Types.SMALLINT:
-                return resultSet.getInt(columnIndex);
-            case Types.INTEGER:
-                if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getInt(columnIndex);
-                }
-                return resultSet.getLong(columnIndex);
-            case Types.BIGINT:
-                if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getLong(columnIndex);
-                }
-                BigDecimal bigDecimal = resultSet.getBigDecimal(columnIndex);
-                return bigDecimal == null ? null : bigDecimal.toBigInteger();
-            case Types.NUMERIC:
-            case Types.DECIMAL:
-                return resultSet.getBigDecimal(columnIndex);
-            case Types.FLOAT:
-            case Types.DOUBLE:
-                return resultSet.getDouble(columnIndex);
-            case Types.CHAR:
-            case Types.VARCHAR:
-            case Types.LONGVARCHAR:
-                return resultSet.getString(columnIndex);
-            case Types.DATE:
-                return resultSet.getDate(columnIndex);
-            case Types.TIME:
-                return resultSet.getTime(columnIndex);
-            case Types.TIMESTAMP:
-                return resultSet.getTimestamp(columnIndex);
-            case Types.CLOB:
-                return resultSet.getClob(columnIndex);
-            case Types.BLOB:
-            case Types.BINARY:
-            case Types.VARBINARY:
-            case Types.LONGVARBINARY:
-                return resultSet.getBlob(columnIndex);
-            case Types.ARRAY:
-                return resultSet.getArray(columnIndex);
-            default:
-                return resultSet.getObject(columnIndex);
+    private int loadRows(final ResultSet resultSet) throws SQLException {
+        int result = 0;
+        while (resultSet.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].load(resultSet, i + 1);
+            }
+            result++;
         }
+        return result;
     }
     
     @Override
     public boolean next() {
-        if (rows.hasNext()) {
-            currentRow = rows.next();
-            return true;
+        if (currentRowIndex < rowCount) {
+            currentRowIndex++;
         }
-        currentRow = null;
-        return false;
+        return currentRowIndex < rowCount;
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.get(columnIndex - 1);
+        return columns[columnIndex - 1].getValue(currentRowIndex);
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.get(columnIndex - 1);
+        return columns[columnIndex - 1].getValue(currentRowIndex);
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return getInputStream(currentRow.get(columnIndex - 1));
+        return getInputStream(columns[columnIndex - 1].getValue(currentRowIndex));
     }
     
     @SneakyThrows(IOException.class)
@@ -151,6 +106,6 @@ public final class MemoryJDBCQueryResult extends AbstractJDBCQueryResult {
     
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return currentRowIndex < 0 || currentRowIndex >= rowCount;
     }
 }
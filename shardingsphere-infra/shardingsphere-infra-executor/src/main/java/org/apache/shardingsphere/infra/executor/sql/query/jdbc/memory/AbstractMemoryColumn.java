@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.query.jdbc.memory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+/**
+ * Abstract memory column which records SQL NULL values with bitmap.
+ */
+public abstract class AbstractMemoryColumn implements MemoryColumn {
+    
+    protected static final int INITIAL_CAPACITY = 16;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private int rowCount;
+    
+    @Override
+    public final void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        loadValue(resultSet, columnIndex, rowCount);
+        if (resultSet.wasNull()) {
+            nulls.set(rowCount);
+        }
+        rowCount++;
+    }
+    
+    @Override
+    public final Object getValue(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : getNotNullValue(rowIndex);
+    }
+    
+    protected final int getNewCapacity(final int capacity) {
+        return capacity << 1;
+    }
+    
+    protected abstract void loadValue(ResultSet resultSet, int columnIndex, int rowIndex) throws SQLException;
+    
+    protected abstract Object getNotNullValue(int rowIndex);
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.query.jdbc.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Memory column factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemoryColumnFactory {
+    
+    /**
+     * Create new instance of memory column.
+     *
+     * @param metaData result set meta data
+     * @param columnIndex column index
+     * @return new instance of memory column
+     * @throws SQLException SQL exception
+     */
+    public static MemoryColumn newInstance(final ResultSetMetaData metaData, final int columnIndex) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.BOOLEAN:
+                return new BooleanMemoryColumn();
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return new IntMemoryColumn();
+            case Types.INTEGER:
+                return metaData.isSigned(columnIndex) ? new IntMemoryColumn() : new LongMemoryColumn();
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex) ? new LongMemoryColumn() : new ObjectMemoryColumn(MemoryColumnFactory::getUnsignedBigInt);
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return new ObjectMemoryColumn(ResultSet::getBigDecimal);
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleMemoryColumn();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new ObjectMemoryColumn(ResultSet::getString);
+            case Types.DATE:
+                return new ObjectMemoryColumn(ResultSet::getDate);
+            case Types.TIME:
+                return new ObjectMemoryColumn(ResultSet::getTime);
+            case Types.TIMESTAMP:
+                return new ObjectMemoryColumn(ResultSet::getTimestamp);
+            case Types.CLOB:
+                return new ObjectMemoryColumn(ResultSet::getClob);
+            case Types.BLOB:
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return new ObjectMemoryColumn(ResultSet::getBlob);
+            case Types.ARRAY:
+                return new ObjectMemoryColumn(ResultSet::getArray);
+            default:
+                return new ObjectMemoryColumn(ResultSet::getObject);
+        }
+    }
+    
+    private static Object getUnsignedBigInt(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        BigDecimal result = resultSet.getBigDecimal(columnIndex);
+        return null == result ? null : result.toBigInteger();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.query.jdbc.memory;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Memory column for object values.
+ */
+@RequiredArgsConstructor
+public final class ObjectMemoryColumn extends AbstractMemoryColumn {
+    
+    private final ValueLoader valueLoader;
+    
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    
+    @Override
+    protected void loadValue(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+        if (rowIndex == values.length) {
+            values = Arrays.copyOf(values, getNewCapacity(values.length));
+        }
+        values[rowIndex] = valueLoader.load(resultSet, columnIndex);
+    }
+    
+    @Override
+    protected Object getNotNullValue(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    /**
+     * Value loader.
+     */
+    @FunctionalInterface
+    public interface ValueLoader {
+        
+        /**
+         * Load value from result set.
+         *
+         * @param resultSet result set
+         * @param columnIndex column index
+         * @return loaded value
+         * @throws SQLException SQL exception
+         */
+        Object load(ResultSet resultSet, int columnIndex) throws SQLException;
+    }
+}
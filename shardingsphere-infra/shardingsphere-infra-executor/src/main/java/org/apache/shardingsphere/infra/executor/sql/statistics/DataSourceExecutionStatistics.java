@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Execution statistics of data source.
+ * 
+ * <p>
+ * Latency and error rate are exponentially weighted moving averages, so that recent executions weigh more than old ones.
+ * </p>
+ */
+public final class DataSourceExecutionStatistics {
+    
+    private static final double LATENCY_DECAY = 0.2D;
+    
+    private static final double ERROR_RATE_DECAY = 0.1D;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    @Getter
+    private volatile double latencyNanos;
+    
+    @Getter
+    private volatile double errorRate;
+    
+    @Getter
+    private volatile long sampleCount;
+    
+    private volatile long ejectedUntilNanos;
+    
+    private volatile boolean ejected;
+    
+    /**
+     * Handle when execution started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Handle when execution finished.
+     * 
+     * @param elapsedNanos elapsed nanoseconds of execution
+     * @param failed whether execution failed
+     */
+    public synchronized void finish(final long elapsedNanos, final boolean failed) {
+        if (inFlightCount.decrementAndGet() < 0) {
+            inFlightCount.set(0);
+        }
+        latencyNanos = 0L == sampleCount ? elapsedNanos : latencyNanos + LATENCY_DECAY * (elapsedNanos - latencyNanos);
+        errorRate = errorRate + ERROR_RATE_DECAY * ((failed ? 1D : 0D) - errorRate);
+        sampleCount++;
+    }
+    
+    /**
+     * Get count of in-flight executions.
+     * 
+     * @return count of in-flight executions
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Eject data source for a while, statistics are reset so that the data source is probed again after ejection.
+     * 
+     * @param ejectionMillis ejection milliseconds
+     */
+    public synchronized void eject(final long ejectionMillis) {
+        ejectedUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ejectionMillis);
+        ejected = true;
+        latencyNanos = 0D;
+        errorRate = 0D;
+        sampleCount = 0L;
+    }
+    
+    /**
+     * Judge whether data source is ejected.
+     * 
+     * @return data source is ejected or not
+     */
+    public boolean isEjected() {
+        if (ejected && System.nanoTime() - ejectedUntilNanos >= 0L) {
+            ejected = false;
+        }
+        return ejected;
+    }
+}
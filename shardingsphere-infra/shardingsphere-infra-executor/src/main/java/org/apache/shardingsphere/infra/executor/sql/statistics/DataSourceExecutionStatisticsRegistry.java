@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of data source execution statistics, keyed by logic schema name and actual data source name.
+ * 
+ * <p>
+ * Current logic schema name is kept in executor data map, so that it is visible to both routing and execution threads.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceExecutionStatisticsRegistry {
+    
+    private static final String SCHEMA_NAME_KEY = "DATA_SOURCE_EXECUTION_STATISTICS_SCHEMA_NAME";
+    
+    private static final Map<String, Map<String, DataSourceExecutionStatistics>> STATISTICS = new ConcurrentHashMap<>();
+    
+    /**
+     * Set logic schema name of current execution.
+     * 
+     * @param schemaName logic schema name
+     */
+    public static void setCurrentSchemaName(final String schemaName) {
+        ExecutorDataMap.getValue().put(SCHEMA_NAME_KEY, schemaName);
+    }
+    
+    /**
+     * Get logic schema name of current execution.
+     * 
+     * @return logic schema name
+     */
+    public static String getCurrentSchemaName() {
+        return getSchemaName(ExecutorDataMap.getValue());
+    }
+    
+    /**
+     * Get logic schema name from executor data map.
+     * 
+     * @param executorDataMap executor data map
+     * @return logic schema name
+     */
+    public static String getSchemaName(final Map<String, Object> executorDataMap) {
+        Object result = null == executorDataMap ? null : executorDataMap.get(SCHEMA_NAME_KEY);
+        return null == result ? DefaultSchema.LOGIC_NAME : (String) result;
+    }
+    
+    /**
+     * Get execution statistics of data source.
+     * 
+     * @param schemaName logic schema name
+     * @param dataSourceName actual data source name
+     * @return execution statistics
+     */
+    public static DataSourceExecutionStatistics get(final String schemaName, final String dataSourceName) {
+        Map<String, DataSourceExecutionStatistics> schemaStatistics = STATISTICS.get(schemaName);
+        if (null == schemaStatistics) {
+            schemaStatistics = STATISTICS.computeIfAbsent(schemaName, key -> new ConcurrentHashMap<>());
+        }
+        DataSourceExecutionStatistics result = schemaStatistics.get(dataSourceName);
+        return null == result ? schemaStatistics.computeIfAbsent(dataSourceName, key -> new DataSourceExecutionStatistics()) : result;
+    }
+    
+    /**
+     * Remove execution statistics of logic schema.
+     * 
+     * @param schemaName logic schema name
+     */
+    public static void remove(final String schemaName) {
+        STATISTICS.remove(schemaName);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL execution hook to feed data source execution statistics.
+ */
+public final class DataSourceExecutionStatisticsSQLExecutionHook implements SQLExecutionHook {
+    
+    private DataSourceExecutionStatistics statistics;
+    
+    private long startNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> parameters,
+                      final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        statistics = DataSourceExecutionStatisticsRegistry.get(DataSourceExecutionStatisticsRegistry.getSchemaName(shardingExecuteDataMap), dataSourceName);
+        statistics.start();
+        startNanos = System.nanoTime();
+    }
+    
+    @Override
+    public void finishSuccess() {
+        finish(false);
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        finish(true);
+    }
+    
+    private void finish(final boolean failed) {
+        if (null != statistics) {
+            statistics.finish(System.nanoTime() - startNanos, failed);
+            statistics = null;
+        }
+    }
+}
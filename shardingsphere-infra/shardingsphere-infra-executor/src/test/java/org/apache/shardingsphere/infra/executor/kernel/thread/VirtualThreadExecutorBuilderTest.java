@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class VirtualThreadExecutorBuilderTest {
+    
+    @Test
+    public void assertBuildThreadFactory() {
+        Optional<ThreadFactory> threadFactory = VirtualThreadExecutorBuilder.buildThreadFactory("test-");
+        assertThat(threadFactory.isPresent(), is(VirtualThreadExecutorBuilder.isSupported()));
+        if (threadFactory.isPresent()) {
+            assertThat(threadFactory.get().newThread(() -> { }).getName(), is("ShardingSphere-test-0"));
+            assertThat(threadFactory.get().newThread(() -> { }).getName(), is("ShardingSphere-test-1"));
+        }
+    }
+    
+    @Test
+    public void assertBuildThreadPerTaskExecutor() throws InterruptedException, ExecutionException {
+        Optional<ExecutorService> executorService = VirtualThreadExecutorBuilder.buildThreadPerTaskExecutor("test-");
+        assertThat(executorService.isPresent(), is(VirtualThreadExecutorBuilder.isSupported()));
+        if (executorService.isPresent()) {
+            assertTrue(executorService.get().submit(() -> Thread.currentThread().getName().startsWith("ShardingSphere-test-")).get());
+            executorService.get().shutdown();
+        }
+    }
+    
+    @Test
+    public void assertNewExecutorServiceManagerWithVirtualThreadEnabled() throws InterruptedException, ExecutionException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, "test-%d", true);
+        try {
+            assertTrue(executorServiceManager.getExecutorService().submit(() -> Thread.currentThread().getName().startsWith("ShardingSphere-test-")).get());
+        } finally {
+            executorServiceManager.close();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataSourceExecutionStatisticsSQLExecutionHookTest {
+    
+    @After
+    public void tearDown() {
+        ExecutorDataMap.getValue().clear();
+        DataSourceExecutionStatisticsRegistry.remove("hook_db");
+    }
+    
+    @Test
+    public void assertFinishFailure() {
+        DataSourceExecutionStatisticsRegistry.setCurrentSchemaName("hook_db");
+        DataSourceExecutionStatisticsSQLExecutionHook hook = new DataSourceExecutionStatisticsSQLExecutionHook();
+        hook.start("hook_ds", "SELECT 1", Collections.emptyList(), null, true, ExecutorDataMap.getValue());
+        DataSourceExecutionStatistics statistics = DataSourceExecutionStatisticsRegistry.get("hook_db", "hook_ds");
+        assertThat(statistics.getInFlightCount(), is(1));
+        hook.finishFailure(new RuntimeException());
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertThat(statistics.getSampleCount(), is(1L));
+        assertTrue(statistics.getErrorRate() > 0D);
+    }
+    
+    @Test
+    public void assertFinishSuccessWithoutStart() {
+        new DataSourceExecutionStatisticsSQLExecutionHook().finishSuccess();
+    }
+    
+    @Test
+    public void assertGetWithDifferentSchemas() {
+        assertThat(DataSourceExecutionStatisticsRegistry.get("hook_db", "hook_ds"), sameInstance(DataSourceExecutionStatisticsRegistry.get("hook_db", "hook_ds")));
+        assertThat(DataSourceExecutionStatisticsRegistry.get("hook_db", "hook_ds"), not(sameInstance(DataSourceExecutionStatisticsRegistry.get("other_hook_db", "hook_ds"))));
+        DataSourceExecutionStatisticsRegistry.remove("other_hook_db");
+    }
+}
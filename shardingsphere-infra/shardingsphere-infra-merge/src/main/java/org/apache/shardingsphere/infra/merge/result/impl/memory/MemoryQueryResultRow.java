@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
 import com.google.common.base.Preconditions;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.query.QueryResult;
 
@@ -29,6 +30,7 @@ import java.sql.SQLException;
 @RequiredArgsConstructor
 public final class MemoryQueryResultRow {
     
+    @Getter
     private final Object[] data;
     
     public MemoryQueryResultRow(final QueryResult queryResult) throws SQLException {
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memory budget of merging for one query.
+ * 
+ * <p>
+ * Memory acquired by all queries is accounted together, so that merging can be limited both per query and per process.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class MergeMemoryBudget {
+    
+    private static final AtomicLong PROCESS_USED_BYTES = new AtomicLong();
+    
+    private static final long ROW_OVERHEAD_BYTES = 16L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
+    private final long queryLimitBytes;
+    
+    private final long processLimitBytes;
+    
+    @Getter
+    private long usedBytes;
+    
+    /**
+     * Create unlimited memory budget.
+     * 
+     * @return unlimited memory budget
+     */
+    public static MergeMemoryBudget unlimited() {
+        return new MergeMemoryBudget(0L, 0L);
+    }
+    
+    /**
+     * Try to acquire memory.
+     * 
+     * @param bytes bytes to be acquired
+     * @return acquired or not, false means the caller should spill to disk
+     */
+    public boolean tryAcquire(final long bytes) {
+        if (queryLimitBytes > 0L && usedBytes + bytes > queryLimitBytes) {
+            return false;
+        }
+        long processUsedBytes = PROCESS_USED_BYTES.addAndGet(bytes);
+        if (processLimitBytes > 0L && processUsedBytes > processLimitBytes) {
+            PROCESS_USED_BYTES.addAndGet(-bytes);
+            return false;
+        }
+        usedBytes += bytes;
+        return true;
+    }
+    
+    /**
+     * Release all acquired memory.
+     */
+    public void release() {
+        PROCESS_USED_BYTES.addAndGet(-usedBytes);
+        usedBytes = 0L;
+    }
+    
+    /**
+     * Estimate heap size of memory query result row.
+     * 
+     * @param row memory query result row
+     * @return estimated bytes
+     */
+    public static long estimate(final MemoryQueryResultRow row) {
+        long result = ROW_OVERHEAD_BYTES + REFERENCE_BYTES * row.getData().length;
+        for (Object each : row.getData()) {
+            result += estimate(each);
+        }
+        return result;
+    }
+    
+    private static long estimate(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return 64L;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return 16L;
+        }
+        if (value instanceof Date) {
+            return 24L;
+        }
+        return 32L;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Iterator to merge sorted runs of memory query result rows.
+ */
+public final class MergeSortedRunsIterator implements Iterator<MemoryQueryResultRow> {
+    
+    private final PriorityQueue<PeekingIterator<MemoryQueryResultRow>> sortedRuns;
+    
+    public MergeSortedRunsIterator(final Collection<Iterator<MemoryQueryResultRow>> sortedRuns, final Comparator<MemoryQueryResultRow> comparator) {
+        this.sortedRuns = new PriorityQueue<>(Math.max(sortedRuns.size(), 1), (o1, o2) -> comparator.compare(o1.peek(), o2.peek()));
+        for (Iterator<MemoryQueryResultRow> each : sortedRuns) {
+            if (each.hasNext()) {
+                this.sortedRuns.offer(Iterators.peekingIterator(each));
+            }
+        }
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return !sortedRuns.isEmpty();
+    }
+    
+    @Override
+    public MemoryQueryResultRow next() {
+        PeekingIterator<MemoryQueryResultRow> sortedRun = sortedRuns.poll();
+        if (null == sortedRun) {
+            throw new NoSuchElementException();
+        }
+        MemoryQueryResultRow result = sortedRun.next();
+        if (sortedRun.hasNext()) {
+            sortedRuns.offer(sortedRun);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,411 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Temporary file to spill memory query result rows.
+ * 
+ * <p>
+ * Rows must be written completely before reading, the file is deleted after all rows are read or it is closed.
+ * Values are written with type tags, only values which are {@link #isSpillable(MemoryQueryResultRow) spillable} can be written.
+ * </p>
+ */
+public final class MergeSpillFile implements Closeable {
+    
+    private static final String FILE_PREFIX = "shardingsphere-merge-";
+    
+    private static final String FILE_SUFFIX = ".spill";
+    
+    private static final byte UNSUPPORTED = -1;
+    
+    private static final byte NULL = 0;
+    
+    private static final byte STRING = 1;
+    
+    private static final byte INTEGER = 2;
+    
+    private static final byte LONG = 3;
+    
+    private static final byte SHORT = 4;
+    
+    private static final byte BYTE = 5;
+    
+    private static final byte BOOLEAN = 6;
+    
+    private static final byte FLOAT = 7;
+    
+    private static final byte DOUBLE = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte BIG_INTEGER = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte TIMESTAMP = 12;
+    
+    private static final byte DATE = 13;
+    
+    private static final byte TIME = 14;
+    
+    private static final byte UTIL_DATE = 15;
+    
+    private static final byte LOCAL_DATE = 16;
+    
+    private static final byte LOCAL_TIME = 17;
+    
+    private static final byte LOCAL_DATE_TIME = 18;
+    
+    private static final byte UUID_VALUE = 19;
+    
+    private final File file;
+    
+    private DataOutputStream outputStream;
+    
+    private DataInputStream inputStream;
+    
+    private int rowCount;
+    
+    public MergeSpillFile() throws IOException {
+        file = File.createTempFile(FILE_PREFIX, FILE_SUFFIX);
+        outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+    }
+    
+    /**
+     * Judge whether all values of row can be spilled.
+     * 
+     * @param row memory query result row
+     * @return can be spilled or not
+     */
+    public static boolean isSpillable(final MemoryQueryResultRow row) {
+        for (Object each : row.getData()) {
+            if (UNSUPPORTED == getTypeTag(each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static byte getTypeTag(final Object value) {
+        if (null == value) {
+            return NULL;
+        }
+        Class<?> valueClass = value.getClass();
+        if (String.class == valueClass) {
+            return STRING;
+        }
+        if (Integer.class == valueClass) {
+            return INTEGER;
+        }
+        if (Long.class == valueClass) {
+            return LONG;
+        }
+        if (Short.class == valueClass) {
+            return SHORT;
+        }
+        if (Byte.class == valueClass) {
+            return BYTE;
+        }
+        if (Boolean.class == valueClass) {
+            return BOOLEAN;
+        }
+        if (Float.class == valueClass) {
+            return FLOAT;
+        }
+        if (Double.class == valueClass) {
+            return DOUBLE;
+        }
+        if (BigDecimal.class == valueClass) {
+            return BIG_DECIMAL;
+        }
+        if (BigInteger.class == valueClass) {
+            return BIG_INTEGER;
+        }
+        if (byte[].class == valueClass) {
+            return BYTES;
+        }
+        if (Timestamp.class == valueClass) {
+            return TIMESTAMP;
+        }
+        if (Date.class == valueClass) {
+            return DATE;
+        }
+        if (Time.class == valueClass) {
+            return TIME;
+        }
+        if (java.util.Date.class == valueClass) {
+            return UTIL_DATE;
+        }
+        if (LocalDate.class == valueClass) {
+            return LOCAL_DATE;
+        }
+        if (LocalTime.class == valueClass) {
+            return LOCAL_TIME;
+        }
+        if (LocalDateTime.class == valueClass) {
+            return LOCAL_DATE_TIME;
+        }
+        if (UUID.class == valueClass) {
+            return UUID_VALUE;
+        }
+        return UNSUPPORTED;
+    }
+    
+    /**
+     * Write row.
+     * 
+     * @param row memory query result row
+     * @throws IOException IO exception
+     */
+    public void write(final MemoryQueryResultRow row) throws IOException {
+        Preconditions.checkState(null != outputStream, "Can not write spill file `%s` after reading.", file);
+        outputStream.writeInt(row.getData().length);
+        for (Object each : row.getData()) {
+            writeValue(each);
+        }
+        rowCount++;
+    }
+    
+    private void writeValue(final Object value) throws IOException {
+        byte typeTag = getTypeTag(value);
+        if (UNSUPPORTED == typeTag) {
+            throw new IOException(String.format("Can not spill value of type `%s` to disk.", value.getClass().getName()));
+        }
+        outputStream.writeByte(typeTag);
+        switch (typeTag) {
+            case STRING:
+                writeBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+                break;
+            case INTEGER:
+                outputStream.writeInt((Integer) value);
+                break;
+            case LONG:
+                outputStream.writeLong((Long) value);
+                break;
+            case SHORT:
+                outputStream.writeShort((Short) value);
+                break;
+            case BYTE:
+                outputStream.writeByte((Byte) value);
+                break;
+            case BOOLEAN:
+                outputStream.writeBoolean((Boolean) value);
+                break;
+            case FLOAT:
+                outputStream.writeFloat((Float) value);
+                break;
+            case DOUBLE:
+                outputStream.writeDouble((Double) value);
+                break;
+            case BIG_DECIMAL:
+                outputStream.writeInt(((BigDecimal) value).scale());
+                writeBytes(((BigDecimal) value).unscaledValue().toByteArray());
+                break;
+            case BIG_INTEGER:
+                writeBytes(((BigInteger) value).toByteArray());
+                break;
+            case BYTES:
+                writeBytes((byte[]) value);
+                break;
+            case TIMESTAMP:
+                outputStream.writeLong(((Timestamp) value).getTime());
+                outputStream.writeInt(((Timestamp) value).getNanos());
+                break;
+            case DATE:
+            case TIME:
+            case UTIL_DATE:
+                outputStream.writeLong(((java.util.Date) value).getTime());
+                break;
+            case LOCAL_DATE:
+                outputStream.writeLong(((LocalDate) value).toEpochDay());
+                break;
+            case LOCAL_TIME:
+                outputStream.writeLong(((LocalTime) value).toNanoOfDay());
+                break;
+            case LOCAL_DATE_TIME:
+                outputStream.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+                outputStream.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+                break;
+            case UUID_VALUE:
+                outputStream.writeLong(((UUID) value).getMostSignificantBits());
+                outputStream.writeLong(((UUID) value).getLeastSignificantBits());
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private void writeBytes(final byte[] value) throws IOException {
+        outputStream.writeInt(value.length);
+        outputStream.write(value);
+    }
+    
+    /**
+     * Read rows in written order.
+     * 
+     * @return rows iterator
+     * @throws IOException IO exception
+     */
+    public Iterator<MemoryQueryResultRow> read() throws IOException {
+        outputStream.close();
+        outputStream = null;
+        if (0 == rowCount) {
+            close();
+            return Collections.emptyIterator();
+        }
+        inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        return new SpillFileIterator();
+    }
+    
+    private MemoryQueryResultRow readRow() throws IOException {
+        Object[] result = new Object[inputStream.readInt()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = readValue();
+        }
+        return new MemoryQueryResultRow(result);
+    }
+    
+    private Object readValue() throws IOException {
+        byte typeTag = inputStream.readByte();
+        switch (typeTag) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(), StandardCharsets.UTF_8);
+            case INTEGER:
+                return inputStream.readInt();
+            case LONG:
+                return inputStream.readLong();
+            case SHORT:
+                return inputStream.readShort();
+            case BYTE:
+                return inputStream.readByte();
+            case BOOLEAN:
+                return inputStream.readBoolean();
+            case FLOAT:
+                return inputStream.readFloat();
+            case DOUBLE:
+                return inputStream.readDouble();
+            case BIG_DECIMAL:
+                int scale = inputStream.readInt();
+                return new BigDecimal(new BigInteger(readBytes()), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes());
+            case BYTES:
+                return readBytes();
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(inputStream.readLong());
+                timestamp.setNanos(inputStream.readInt());
+                return timestamp;
+            case DATE:
+                return new Date(inputStream.readLong());
+            case TIME:
+                return new Time(inputStream.readLong());
+            case UTIL_DATE:
+                return new java.util.Date(inputStream.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(inputStream.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(inputStream.readLong());
+            case LOCAL_DATE_TIME:
+                LocalDate localDate = LocalDate.ofEpochDay(inputStream.readLong());
+                return LocalDateTime.of(localDate, LocalTime.ofNanoOfDay(inputStream.readLong()));
+            case UUID_VALUE:
+                long mostSignificantBits = inputStream.readLong();
+                return new UUID(mostSignificantBits, inputStream.readLong());
+            default:
+                throw new IOException(String.format("Unknown value type tag `%s` in spill file `%s`.", typeTag, file));
+        }
+    }
+    
+    private byte[] readBytes() throws IOException {
+        byte[] result = new byte[inputStream.readInt()];
+        inputStream.readFully(result);
+        return result;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            if (null != outputStream) {
+                outputStream.close();
+            }
+            if (null != inputStream) {
+                inputStream.close();
+            }
+        } finally {
+            outputStream = null;
+            inputStream = null;
+            file.delete();
+        }
+    }
+    
+    private final class SpillFileIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private int readCount;
+        
+        @Override
+        public boolean hasNext() {
+            return readCount < rowCount && null != inputStream;
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                MemoryQueryResultRow result = readRow();
+                readCount++;
+                if (readCount == rowCount) {
+                    close();
+                }
+                return result;
+            } catch (final IOException ex) {
+                throw new ShardingSphereException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MergeMemoryBudgetTest {
+    
+    @Test
+    public void assertTryAcquireWithUnlimited() {
+        MergeMemoryBudget memoryBudget = MergeMemoryBudget.unlimited();
+        assertTrue(memoryBudget.tryAcquire(Long.MAX_VALUE / 2));
+        memoryBudget.release();
+    }
+    
+    @Test
+    public void assertTryAcquireWithQueryLimit() {
+        MergeMemoryBudget memoryBudget = new MergeMemoryBudget(100L, 0L);
+        assertTrue(memoryBudget.tryAcquire(60L));
+        assertFalse(memoryBudget.tryAcquire(60L));
+        assertTrue(memoryBudget.tryAcquire(40L));
+        memoryBudget.release();
+        assertTrue(memoryBudget.tryAcquire(100L));
+        memoryBudget.release();
+    }
+    
+    @Test
+    public void assertTryAcquireWithProcessLimit() {
+        MergeMemoryBudget memoryBudget1 = new MergeMemoryBudget(0L, 100L);
+        MergeMemoryBudget memoryBudget2 = new MergeMemoryBudget(0L, 100L);
+        assertTrue(memoryBudget1.tryAcquire(60L));
+        assertFalse(memoryBudget2.tryAcquire(60L));
+        memoryBudget1.release();
+        assertTrue(memoryBudget2.tryAcquire(60L));
+        memoryBudget2.release();
+    }
+    
+    @Test
+    public void assertEstimate() {
+        assertThat(MergeMemoryBudget.estimate(new MemoryQueryResultRow(new Object[]{null, 1, "ab"})), is(16L + 8L * 3 + 16L + 44L));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class MergeSpillFileTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        MergeSpillFile spillFile = new MergeSpillFile();
+        for (int i = 0; i < 2000; i++) {
+            spillFile.write(new MemoryQueryResultRow(new Object[]{i, "value_" + i, null, new BigDecimal(i)}));
+        }
+        Iterator<MemoryQueryResultRow> actual = spillFile.read();
+        for (int i = 0; i < 2000; i++) {
+            assertTrue(actual.hasNext());
+            MemoryQueryResultRow row = actual.next();
+            assertThat(row.getCell(1), is(i));
+            assertThat(row.getCell(2), is("value_" + i));
+            assertThat(row.getCell(3), is(nullValue()));
+            assertThat(row.getCell(4), is(new BigDecimal(i)));
+        }
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertWriteAndReadWithTypedValues() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] values = {1L, (short) 2, (byte) 3, true, 4.5F, 6.7D, new BigDecimal("-12345678901234567890.0123"), new BigInteger("123456789012345678901234567890"), timestamp,
+            new Date(1000L), new Time(2000L), new java.util.Date(3000L), LocalDate.of(2021, 1, 2), LocalTime.of(3, 4, 5, 6), LocalDateTime.of(2021, 1, 2, 3, 4, 5, 6),
+            UUID.randomUUID(), "\t\n中文"};
+        MergeSpillFile spillFile = new MergeSpillFile();
+        spillFile.write(new MemoryQueryResultRow(values));
+        spillFile.write(new MemoryQueryResultRow(new Object[]{new byte[]{1, 2, 3}}));
+        Iterator<MemoryQueryResultRow> actual = spillFile.read();
+        MemoryQueryResultRow row = actual.next();
+        for (int i = 0; i < values.length; i++) {
+            assertThat(row.getCell(i + 1), is(values[i]));
+            assertThat(row.getCell(i + 1).getClass(), is((Object) values[i].getClass()));
+        }
+        assertThat((byte[]) actual.next().getCell(1), is(new byte[]{1, 2, 3}));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertIsSpillable() {
+        assertTrue(MergeSpillFile.isSpillable(new MemoryQueryResultRow(new Object[]{null, 1, "value", new BigDecimal("1.0")})));
+        assertFalse(MergeSpillFile.isSpillable(new MemoryQueryResultRow(new Object[]{1, mock(Blob.class)})));
+        assertFalse(MergeSpillFile.isSpillable(new MemoryQueryResultRow(new Object[]{new Object[]{1}})));
+    }
+    
+    @Test(expected = IOException.class)
+    public void assertWriteUnspillableValue() throws IOException {
+        MergeSpillFile spillFile = new MergeSpillFile();
+        try {
+            spillFile.write(new MemoryQueryResultRow(new Object[]{mock(Clob.class)}));
+        } finally {
+            spillFile.close();
+        }
+    }
+    
+    @Test
+    public void assertReadWithoutRows() throws IOException {
+        assertFalse(new MergeSpillFile().read().hasNext());
+    }
+    
+    @Test
+    public void assertMergeSortedRuns() throws IOException {
+        MergeSpillFile spillFile1 = new MergeSpillFile();
+        MergeSpillFile spillFile2 = new MergeSpillFile();
+        for (int i = 0; i < 10; i++) {
+            (0 == i % 3 ? spillFile1 : spillFile2).write(new MemoryQueryResultRow(new Object[]{i}));
+        }
+        Iterator<MemoryQueryResultRow> actual = new MergeSortedRunsIterator(Arrays.asList(spillFile1.read(), spillFile2.read()), (o1, o2) -> ((Integer) o1.getCell(1)).compareTo((Integer) o2.getCell(1)));
+        for (int i = 0; i < 10; i++) {
+            assertThat(actual.next().getCell(1), is(i));
+        }
+        assertFalse(actual.hasNext());
+    }
+}
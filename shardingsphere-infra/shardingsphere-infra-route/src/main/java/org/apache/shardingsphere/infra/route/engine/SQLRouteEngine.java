@@ -37,12 +37,14 @@ import java.util.Collection;
 @RequiredArgsConstructor
 public final class SQLRouteEngine {
     
-    private final Collection<ShardingSphereRule> rules;
-    
-    private final ConfigurationProperties props;
+    private final SQLRouteExecutor partialSQLRouteExecutor;
     
     private final SPIRoutingHook routingHook = new SPIRoutingHook();
     
+    public SQLRouteEngine(final Collection<ShardingSphereRule> rules, final ConfigurationProperties props) {
+        this(new PartialSQLRouteExecutor(rules, props));
+    }
+    
     /**
      * Route SQL.
      *
@@ -53,7 +55,7 @@ public final class SQLRouteEngine {
     public RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData) {
         routingHook.start(logicSQL.getSql());
         try {
-            SQLRouteExecutor executor = isNeedAllSchemas(logicSQL.getSqlStatementContext().getSqlStatement()) ? new AllSQLRouteExecutor() : new PartialSQLRouteExecutor(rules, props);
+            SQLRouteExecutor executor = isNeedAllSchemas(logicSQL.getSqlStatementContext().getSqlStatement()) ? new AllSQLRouteExecutor() : partialSQLRouteExecutor;
             RouteContext result = executor.route(logicSQL, metaData);
             routingHook.finishSuccess(result, metaData.getSchema());
             return result;
@@ -292,6 +292,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     }
     
     private void clearStatements() throws SQLException {
+        closeCurrentResultSet();
         for (Statement each : statements) {
             each.close();
         }
@@ -404,6 +405,14 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         return statements;
     }
     
+    @Override
+    protected void closeCurrentResultSet() throws SQLException {
+        if (null != currentResultSet) {
+            currentResultSet.close();
+            currentResultSet = null;
+        }
+    }
+    
     @Override
     public ResultSet getGeneratedKeys() throws SQLException {
         Optional<GeneratedKeyContext> generatedKey = findGeneratedKey();
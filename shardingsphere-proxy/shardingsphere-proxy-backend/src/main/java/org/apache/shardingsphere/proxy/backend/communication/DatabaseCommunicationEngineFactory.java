@@ -20,16 +20,26 @@ package org.apache.shardingsphere.proxy.backend.communication;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextCache;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.JDBCBatchDatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.JDBCDatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.engine.jdbc.JDBCExecuteEngine;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.accessor.impl.PreparedStatementAccessor;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.accessor.impl.StatementAccessor;
+import org.apache.shardingsphere.proxy.backend.communication.netty.NettyConnectionConfiguration;
+import org.apache.shardingsphere.proxy.backend.communication.netty.NettyDatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -63,8 +73,11 @@ public final class DatabaseCommunicationEngineFactory {
     public DatabaseCommunicationEngine newTextProtocolInstance(final SQLStatement sqlStatement, final String sql, final BackendConnection backendConnection) {
         ShardingSphereMetaData metaData = ProxyContext.getInstance().getMetaData(backendConnection.getSchemaName());
         LogicSQL logicSQL = createLogicSQL(sqlStatement, sql, Collections.emptyList(), metaData);
+        if (isNettyBackendAvailable(sqlStatement, metaData, backendConnection)) {
+            return new NettyDatabaseCommunicationEngine(logicSQL, metaData, backendConnection);
+        }
         JDBCExecuteEngine jdbcExecuteEngine = new JDBCExecuteEngine(backendConnection, new StatementAccessor());
-        return new JDBCDatabaseCommunicationEngine(logicSQL, metaData, jdbcExecuteEngine);
+        return new JDBCDatabaseCommunicationEngine(logicSQL, metaData, backendConnection, jdbcExecuteEngine);
     }
     
     /**
@@ -78,9 +91,35 @@ public final class DatabaseCommunicationEngineFactory {
      */
     public DatabaseCommunicationEngine newBinaryProtocolInstance(final SQLStatement sqlStatement, final String sql, final List<Object> parameters, final BackendConnection backendConnection) {
         ShardingSphereMetaData metaData = ProxyContext.getInstance().getMetaData(backendConnection.getSchemaName());
-        LogicSQL logicSQL = createLogicSQL(sqlStatement, sql, new ArrayList<>(parameters), metaData);
+        List<Object> actualParameters = new ArrayList<>(parameters);
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextCache.get(metaData.getSchema(), ProxyContext.getInstance().getMetaDataContexts().getProps(), sql, actualParameters, sqlStatement);
+        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, sql, actualParameters);
         JDBCExecuteEngine jdbcExecuteEngine = new JDBCExecuteEngine(backendConnection, new PreparedStatementAccessor());
-        return new JDBCDatabaseCommunicationEngine(logicSQL, metaData, jdbcExecuteEngine);
+        return new JDBCDatabaseCommunicationEngine(logicSQL, metaData, backendConnection, jdbcExecuteEngine);
+    }
+    
+    /**
+     * Create new instance of binary protocol batch backend handler.
+     *
+     * @param sqlStatement SQL statement
+     * @param sql SQL to be executed
+     * @param parameterSets parameter sets of SQL
+     * @param backendConnection backend connection
+     * @return binary protocol batch backend handler
+     */
+    public JDBCBatchDatabaseCommunicationEngine newBinaryProtocolBatchInstance(final SQLStatement sqlStatement, final String sql,
+                                                                               final List<List<Object>> parameterSets, final BackendConnection backendConnection) {
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getMetaData(backendConnection.getSchemaName());
+        JDBCExecuteEngine jdbcExecuteEngine = new JDBCExecuteEngine(backendConnection, new PreparedStatementAccessor());
+        return new JDBCBatchDatabaseCommunicationEngine(sqlStatement, sql, parameterSets, metaData, jdbcExecuteEngine);
+    }
+    
+    private boolean isNettyBackendAvailable(final SQLStatement sqlStatement, final ShardingSphereMetaData metaData, final BackendConnection backendConnection) {
+        return "NETTY".equalsIgnoreCase(ProxyContext.getInstance().getMetaDataContexts().getProps().<String>getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE))
+                && ProxyContext.getInstance().getMetaDataContexts().getDatabaseType() instanceof MySQLDatabaseType && !backendConnection.getTransactionStatus().isInTransaction()
+                && (sqlStatement instanceof SelectStatement || sqlStatement instanceof InsertStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement)
+                && metaData.getResource().getDataSources().values().stream().allMatch(
+                        each -> NettyConnectionConfiguration.find(each, ProxyContext.getInstance().getMetaDataContexts().getDatabaseType()).isPresent());
     }
     
     private LogicSQL createLogicSQL(final SQLStatement sqlStatement, final String sql, final List<Object> parameters, final ShardingSphereMetaData metaData) {
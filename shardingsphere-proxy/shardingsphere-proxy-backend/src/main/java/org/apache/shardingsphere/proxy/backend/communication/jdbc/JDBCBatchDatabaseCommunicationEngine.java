@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.backend.communication.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextCache;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.update.ExecuteUpdateResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rule.type.DataNodeContainedRule;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.engine.jdbc.JDBCExecuteEngine;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Batch database access engine for JDBC.
+ * 
+ * <p>
+ * Each parameter set is routed and rewritten separately, execution units sharing the same data source and actual SQL
+ * are executed by JDBC execute engine as one JDBC batch, then the update counts are mapped back to the original parameter sets.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class JDBCBatchDatabaseCommunicationEngine {
+    
+    private final SQLStatement sqlStatement;
+    
+    private final String sql;
+    
+    private final List<List<Object>> parameterSets;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final JDBCExecuteEngine jdbcExecuteEngine;
+    
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    /**
+     * Execute all parameter sets as JDBC batches.
+     *
+     * @return update responses in the order of parameter sets
+     * @throws SQLException SQL exception
+     */
+    public List<UpdateResponse> execute() throws SQLException {
+        ConfigurationProperties props = ProxyContext.getInstance().getMetaDataContexts().getProps();
+        List<ExecutionContext> executionContexts = new ArrayList<>(parameterSets.size());
+        for (List<Object> each : parameterSets) {
+            List<Object> parameters = new ArrayList<>(each);
+            LogicSQL logicSQL = new LogicSQL(SQLStatementContextCache.get(metaData.getSchema(), props, sql, parameters, sqlStatement), sql, parameters);
+            ExecutionContext executionContext = kernelProcessor.generateExecutionContext(logicSQL, metaData, props);
+            if (props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
+                SQLLogger.logSQL(logicSQL, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
+            }
+            executionContexts.add(executionContext);
+        }
+        boolean isNeedAccumulate = !executionContexts.isEmpty() && isNeedAccumulate(executionContexts.get(0).getSqlStatementContext());
+        return createUpdateResponses(jdbcExecuteEngine.executeBatch(executionContexts, isNeedAccumulate));
+    }
+    
+    private boolean isNeedAccumulate(final SQLStatementContext<?> sqlStatementContext) {
+        Optional<DataNodeContainedRule> dataNodeContainedRule =
+                metaData.getRuleMetaData().getRules().stream().filter(each -> each instanceof DataNodeContainedRule).findFirst().map(rule -> (DataNodeContainedRule) rule);
+        return dataNodeContainedRule.isPresent() && dataNodeContainedRule.get().isNeedAccumulate(sqlStatementContext.getTablesContext().getTableNames());
+    }
+    
+    private List<UpdateResponse> createUpdateResponses(final int[] updateCounts) {
+        List<UpdateResponse> result = new ArrayList<>(updateCounts.length);
+        for (int each : updateCounts) {
+            UpdateResponse updateResponse = new UpdateResponse(Collections.singletonList(new ExecuteUpdateResult(each, 0L)));
+            updateResponse.setType(getType());
+            result.add(updateResponse);
+        }
+        return result;
+    }
+    
+    private String getType() {
+        if (sqlStatement instanceof InsertStatement) {
+            return "INSERT";
+        }
+        if (sqlStatement instanceof DeleteStatement) {
+            return "DELETE";
+        }
+        if (sqlStatement instanceof UpdateStatement) {
+            return "UPDATE";
+        }
+        return null;
+    }
+}
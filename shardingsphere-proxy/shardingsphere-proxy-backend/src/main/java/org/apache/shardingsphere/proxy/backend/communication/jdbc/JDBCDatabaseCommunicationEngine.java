@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextCache;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
@@ -37,6 +38,7 @@ import org.apache.shardingsphere.infra.metadata.schema.refresher.spi.SchemaChang
 import org.apache.shardingsphere.infra.rule.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.spi.ordered.OrderedSPIRegistry;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.SQLExecuteEngine;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
@@ -63,6 +65,8 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private final ShardingSphereMetaData metaData;
     
+    private final BackendConnection backendConnection;
+    
     private final SQLExecuteEngine sqlExecuteEngine;
     
     private final KernelProcessor kernelProcessor = new KernelProcessor();
@@ -106,6 +110,7 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             SchemaBuilderMaterials materials = new SchemaBuilderMaterials(ProxyContext.getInstance().getMetaDataContexts().getDatabaseType(), 
                     metaData.getResource().getDataSources(), metaData.getRuleMetaData().getRules(), ProxyContext.getInstance().getMetaDataContexts().getProps());
             schemaRefresher.get().refresh(metaData.getSchema(), routeDataSourceNames, sqlStatement, materials);
+            SQLStatementContextCache.invalidate(metaData.getSchema());
             notifySchemaChanged(metaData.getName(), metaData.getSchema());
         }
     }
@@ -120,6 +125,7 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             return response;
         }
         mergedResult = mergeQuery(sqlStatementContext, ((QueryResponse) response).getQueryResults());
+        backendConnection.add(mergedResult);
         return response;
     }
     
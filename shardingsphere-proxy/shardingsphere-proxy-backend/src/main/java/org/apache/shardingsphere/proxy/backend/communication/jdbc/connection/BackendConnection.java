@@ -23,11 +23,13 @@ import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.connection.JDBCExecutionConnection;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.typed.TypedSPIRegistry;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.fetchsize.StatementMemoryStrictlyFetchSizeSetter;
@@ -45,6 +47,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -72,6 +75,10 @@ public final class BackendConnection implements JDBCExecutionConnection {
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<MergedResult> cachedMergedResults = new CopyOnWriteArrayList<>();
+    
+    private final PreparedStatementCache preparedStatementCache = new PreparedStatementCache();
+    
     private final Collection<MethodInvocation> methodInvocations = new LinkedList<>();
     
     private final ResourceLock resourceLock = new ResourceLock();
@@ -163,8 +170,7 @@ public final class BackendConnection implements JDBCExecutionConnection {
     @Override
     public PreparedStatement createStorageResource(final String sql, final List<Object> parameters, 
                                                    final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
-        PreparedStatement result = option.isReturnGeneratedKeys()
-                ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+        PreparedStatement result = prepareStatement(sql, connection, connectionMode, option);
         for (int i = 0; i < parameters.size(); i++) {
             Object parameter = parameters.get(i);
             if (parameter instanceof TypeUnspecifiedSQLParameter) {
@@ -179,6 +185,25 @@ public final class BackendConnection implements JDBCExecutionConnection {
         return result;
     }
     
+    private PreparedStatement prepareStatement(final String sql, final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
+        if (getPreparedStatementCacheSize() <= 0) {
+            return option.isReturnGeneratedKeys() ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+        }
+        Optional<PreparedStatement> cached = preparedStatementCache.borrow(connection, sql, option.isReturnGeneratedKeys(), connectionMode);
+        if (cached.isPresent()) {
+            cached.get().clearParameters();
+            return cached.get();
+        }
+        long version = PreparedStatementCache.getGlobalVersion();
+        PreparedStatement result = option.isReturnGeneratedKeys() ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+        preparedStatementCache.track(connection, sql, option.isReturnGeneratedKeys(), connectionMode, result, version);
+        return result;
+    }
+    
+    private int getPreparedStatementCacheSize() {
+        return ProxyContext.getInstance().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE);
+    }
+    
     private void setFetchSize(final Statement statement) throws SQLException {
         DatabaseType databaseType = ProxyContext.getInstance().getMetaDataContexts().getDatabaseType();
         TypedSPIRegistry.getRegisteredService(StatementMemoryStrictlyFetchSizeSetter.class, databaseType.getName(), new Properties()).setFetchSize(statement);
@@ -220,6 +245,15 @@ public final class BackendConnection implements JDBCExecutionConnection {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add merged result.
+     *
+     * @param mergedResult merged result to be added
+     */
+    public void add(final MergedResult mergedResult) {
+        cachedMergedResults.add(mergedResult);
+    }
+    
     /**
      * Close result sets.
      *
@@ -227,6 +261,14 @@ public final class BackendConnection implements JDBCExecutionConnection {
      */
     public synchronized Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
+        for (MergedResult each : cachedMergedResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedMergedResults.clear();
         for (ResultSet each : cachedResultSets) {
             try {
                 each.close();
@@ -245,9 +287,12 @@ public final class BackendConnection implements JDBCExecutionConnection {
      */
     public synchronized Collection<SQLException> closeStatements() {
         Collection<SQLException> result = new LinkedList<>();
+        int preparedStatementCacheSize = getPreparedStatementCacheSize();
         for (Statement each : cachedStatements) {
             try {
-                each.close();
+                if (!preparedStatementCache.giveBack(each, preparedStatementCacheSize)) {
+                    each.close();
+                }
             } catch (final SQLException ex) {
                 result.add(ex);
             }
@@ -265,6 +310,7 @@ public final class BackendConnection implements JDBCExecutionConnection {
     public synchronized Collection<SQLException> closeConnections(final boolean forceRollback) {
         Collection<SQLException> result = new LinkedList<>();
         for (Connection each : cachedConnections.values()) {
+            result.addAll(preparedStatementCache.invalidate(each));
             try {
                 if (forceRollback && transactionStatus.isInTransaction()) {
                     each.rollback();
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Prepared statement cache of backend connection.
+ * 
+ * <p>
+ * Prepared statements are keyed by storage connection, rewritten SQL and connection mode. A cached statement is borrowed exclusively by one execution,
+ * given back when the statements of command are closed and closed when it is evicted, invalidated or its storage connection is returned.
+ * </p>
+ * 
+ * <p>
+ * DDL invalidates the statements of all backend connections which refer to its tables. The invalidations are recorded globally with increasing versions,
+ * and each cache checks the versions lazily on borrow, so statements are only closed by the backend connection owning them.
+ * </p>
+ */
+public final class PreparedStatementCache {
+    
+    private static final int MAX_GLOBAL_INVALIDATION_SIZE = 64;
+    
+    private static final AtomicLong GLOBAL_VERSION = new AtomicLong();
+    
+    private static final Deque<GlobalInvalidation> GLOBAL_INVALIDATIONS = new LinkedList<>();
+    
+    private final Map<CacheKey, CachedStatement> idleStatements = new LinkedHashMap<>(16, 0.75f, true);
+    
+    private final Map<Statement, CachedStatement> borrowedStatements = new IdentityHashMap<>();
+    
+    private final AtomicLong hitCount = new AtomicLong();
+    
+    private final AtomicLong missCount = new AtomicLong();
+    
+    /**
+     * Get global version of invalidations, which should be got before preparing statement to be tracked.
+     *
+     * @return global version of invalidations
+     */
+    public static long getGlobalVersion() {
+        return GLOBAL_VERSION.get();
+    }
+    
+    /**
+     * Invalidate cached statements of all backend connections which refer to any of the tables.
+     *
+     * @param tableNames logic and actual table names, all cached statements are invalidated if empty
+     */
+    public static void invalidateGlobally(final Collection<String> tableNames) {
+        Collection<String> lowerCaseTableNames = tableNames.stream().map(String::toLowerCase).collect(Collectors.toSet());
+        synchronized (GLOBAL_INVALIDATIONS) {
+            GLOBAL_INVALIDATIONS.addLast(new GlobalInvalidation(GLOBAL_VERSION.incrementAndGet(), lowerCaseTableNames));
+            while (GLOBAL_INVALIDATIONS.size() > MAX_GLOBAL_INVALIDATION_SIZE) {
+                GLOBAL_INVALIDATIONS.removeFirst();
+            }
+        }
+    }
+    
+    private static boolean isInvalidatedGlobally(final String sql, final long version) {
+        if (version == GLOBAL_VERSION.get()) {
+            return false;
+        }
+        synchronized (GLOBAL_INVALIDATIONS) {
+            if (GLOBAL_INVALIDATIONS.isEmpty() || version < GLOBAL_INVALIDATIONS.getFirst().version - 1) {
+                return true;
+            }
+            String lowerCaseSQL = sql.toLowerCase();
+            return GLOBAL_INVALIDATIONS.stream().anyMatch(each -> each.version > version && each.isReferredBy(lowerCaseSQL));
+        }
+    }
+    
+    /**
+     * Borrow cached prepared statement.
+     *
+     * @param connection storage connection
+     * @param sql rewritten SQL
+     * @param returnGeneratedKeys whether return generated keys
+     * @param connectionMode connection mode
+     * @return cached prepared statement
+     * @throws SQLException SQL exception
+     */
+    public synchronized Optional<PreparedStatement> borrow(final Connection connection, final String sql, final boolean returnGeneratedKeys,
+                                                           final ConnectionMode connectionMode) throws SQLException {
+        CacheKey key = new CacheKey(connection, sql, returnGeneratedKeys, connectionMode);
+        CachedStatement result = idleStatements.remove(key);
+        if (null != result && isInvalidatedGlobally(sql, result.version)) {
+            result.statement.close();
+            result = null;
+        }
+        if (null == result) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        hitCount.incrementAndGet();
+        borrowedStatements.put(result.statement, result);
+        return Optional.of(result.statement);
+    }
+    
+    /**
+     * Track prepared statement created for cache miss.
+     *
+     * @param connection storage connection
+     * @param sql rewritten SQL
+     * @param returnGeneratedKeys whether return generated keys
+     * @param connectionMode connection mode
+     * @param preparedStatement prepared statement
+     * @param version global version of invalidations got before the statement prepared
+     */
+    public synchronized void track(final Connection connection, final String sql, final boolean returnGeneratedKeys, final ConnectionMode connectionMode,
+                                   final PreparedStatement preparedStatement, final long version) {
+        borrowedStatements.put(preparedStatement, new CachedStatement(new CacheKey(connection, sql, returnGeneratedKeys, connectionMode), preparedStatement, version));
+    }
+    
+    /**
+     * Give back borrowed statement.
+     *
+     * @param statement statement
+     * @param maxSize max size of cached statements
+     * @return true if the statement is cached, false if the statement should be closed by caller
+     * @throws SQLException SQL exception
+     */
+    public synchronized boolean giveBack(final Statement statement, final int maxSize) throws SQLException {
+        CachedStatement cachedStatement = borrowedStatements.remove(statement);
+        if (null == cachedStatement || maxSize <= 0 || idleStatements.containsKey(cachedStatement.key)) {
+            return false;
+        }
+        idleStatements.put(cachedStatement.key, cachedStatement);
+        Iterator<CachedStatement> iterator = idleStatements.values().iterator();
+        while (idleStatements.size() > maxSize) {
+            CachedStatement eldest = iterator.next();
+            iterator.remove();
+            eldest.statement.close();
+        }
+        return true;
+    }
+    
+    /**
+     * Invalidate cached statements of storage connection.
+     *
+     * @param connection storage connection
+     * @return SQL exception when statements close
+     */
+    public synchronized Collection<SQLException> invalidate(final Connection connection) {
+        Collection<SQLException> result = new LinkedList<>();
+        Iterator<Entry<CacheKey, CachedStatement>> iterator = idleStatements.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<CacheKey, CachedStatement> entry = iterator.next();
+            if (entry.getKey().connection == connection) {
+                iterator.remove();
+                close(entry.getValue().statement, result);
+            }
+        }
+        borrowedStatements.values().removeIf(each -> each.key.connection == connection);
+        return result;
+    }
+    
+    /**
+     * Invalidate all cached statements.
+     *
+     * @return SQL exception when statements close
+     */
+    public synchronized Collection<SQLException> invalidateAll() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (CachedStatement each : idleStatements.values()) {
+            close(each.statement, result);
+        }
+        idleStatements.clear();
+        borrowedStatements.clear();
+        return result;
+    }
+    
+    private void close(final Statement statement, final Collection<SQLException> exceptions) {
+        try {
+            statement.close();
+        } catch (final SQLException ex) {
+            exceptions.add(ex);
+        }
+    }
+    
+    /**
+     * Get size of idle cached statements.
+     *
+     * @return size of idle cached statements
+     */
+    public synchronized int size() {
+        return idleStatements.size();
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+    
+    /**
+     * Get hit ratio.
+     *
+     * @return hit ratio, 0 if the cache has never been looked up
+     */
+    public double getHitRatio() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return 0 == total ? 0D : (double) hits / total;
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final Connection connection;
+        
+        private final String sql;
+        
+        private final boolean returnGeneratedKeys;
+        
+        private final ConnectionMode connectionMode;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedStatement {
+        
+        private final CacheKey key;
+        
+        private final PreparedStatement statement;
+        
+        private final long version;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class GlobalInvalidation {
+        
+        private final long version;
+        
+        private final Collection<String> lowerCaseTableNames;
+        
+        private boolean isReferredBy(final String lowerCaseSQL) {
+            return lowerCaseTableNames.isEmpty() || lowerCaseTableNames.stream().anyMatch(lowerCaseSQL::contains);
+        }
+    }
+}
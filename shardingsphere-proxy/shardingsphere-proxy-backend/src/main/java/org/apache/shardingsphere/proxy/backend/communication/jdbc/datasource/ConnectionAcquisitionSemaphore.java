@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Connection acquisition semaphore for one data source.
+ * 
+ * <p>
+ * Permits are sized to the maximum pool size and reserved all-or-nothing for connections acquired together,
+ * each permit is held until its connection is closed, so concurrent multi-connection acquisitions can not deadlock each other on the pool.
+ * Every acquisition from the data source takes permits, including single connection and connection strictly acquisitions,
+ * so that no connection can be taken from the pool behind the reservations.
+ * </p>
+ */
+public final class ConnectionAcquisitionSemaphore {
+    
+    private final Semaphore semaphore;
+    
+    @Getter
+    private final int maxPermits;
+    
+    private final long timeoutMilliseconds;
+    
+    private final AtomicLong acquiredCount = new AtomicLong();
+    
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    
+    public ConnectionAcquisitionSemaphore(final int maxPermits, final long timeoutMilliseconds) {
+        semaphore = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.timeoutMilliseconds = timeoutMilliseconds;
+    }
+    
+    /**
+     * Reserve permits.
+     *
+     * @param dataSourceName data source name
+     * @param permits permits to be reserved
+     * @return wait time in nanoseconds
+     * @throws SQLException SQL exception
+     */
+    public long reserve(final String dataSourceName, final int permits) throws SQLException {
+        if (permits > maxPermits) {
+            throw new SQLException(String.format("Can not get %d connections one time from data source %s, the maximum pool size is %d.", permits, dataSourceName, maxPermits));
+        }
+        long startTime = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(permits, timeoutMilliseconds, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(String.format("Interrupted while getting %d connections from data source %s.", permits, dataSourceName), ex);
+        }
+        long result = System.nanoTime() - startTime;
+        if (!acquired) {
+            throw new SQLException(String.format("Can not get %d connections one time from data source %s in %d milliseconds.", permits, dataSourceName, timeoutMilliseconds));
+        }
+        acquiredCount.incrementAndGet();
+        totalWaitNanos.addAndGet(result);
+        maxWaitNanos.accumulateAndGet(result, Math::max);
+        return result;
+    }
+    
+    /**
+     * Release permits.
+     *
+     * @param permits permits to be released
+     */
+    public void release(final int permits) {
+        semaphore.release(permits);
+    }
+    
+    /**
+     * Bind one reserved permit to connection, the permit will be released when the connection closed.
+     *
+     * @param connection connection
+     * @return connection which releases permit on close
+     */
+    public Connection bind(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class[]{Connection.class}, new PermitReleaseHandler(connection, this));
+    }
+    
+    /**
+     * Get available permits.
+     *
+     * @return available permits
+     */
+    public int getAvailablePermits() {
+        return semaphore.availablePermits();
+    }
+    
+    /**
+     * Get count of reservations.
+     *
+     * @return count of reservations
+     */
+    public long getAcquiredCount() {
+        return acquiredCount.get();
+    }
+    
+    /**
+     * Get total wait time of reservations.
+     *
+     * @return total wait time in nanoseconds
+     */
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.get();
+    }
+    
+    /**
+     * Get max wait time of reservations.
+     *
+     * @return max wait time in nanoseconds
+     */
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PermitReleaseHandler implements InvocationHandler {
+        
+        private final Connection target;
+        
+        private final ConnectionAcquisitionSemaphore semaphore;
+        
+        private final AtomicBoolean released = new AtomicBoolean();
+        
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    try {
+                        return invokeTarget(method, args);
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            semaphore.release(1);
+                        }
+                    }
+                default:
+                    return invokeTarget(method, args);
+            }
+        }
+        
+        private Object invokeTarget(final Method method, final Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (final InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+    }
+}
@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.MapMaker;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.proxy.backend.communication.BackendDataSource;
@@ -31,12 +34,18 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Backend data source of JDBC.
  */
+@Slf4j
 public final class JDBCBackendDataSource implements BackendDataSource {
     
+    private final Map<DataSource, ConnectionAcquisitionSemaphore> semaphores = new MapMaker().weakKeys().makeMap();
+    
     /**
      * Get connection.
      *
@@ -80,6 +89,10 @@ public final class JDBCBackendDataSource implements BackendDataSource {
                                            final int connectionSize, final ConnectionMode connectionMode, final TransactionType transactionType) throws SQLException {
         DataSource dataSource = ProxyContext.getInstance().getMetaDataContexts().getMetaDataMap().get(schemaName).getResource().getDataSources().get(dataSourceName);
         Preconditions.checkNotNull(dataSource, "Can not get connection from datasource %s.", dataSourceName);
+        Optional<ConnectionAcquisitionSemaphore> semaphore = getSemaphore(dataSource);
+        if (semaphore.isPresent()) {
+            return createConnections(schemaName, dataSourceName, dataSource, connectionSize, transactionType, semaphore.get());
+        }
         if (1 == connectionSize) {
             return Collections.singletonList(createConnection(schemaName, dataSourceName, dataSource, transactionType));
         }
@@ -91,6 +104,46 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         }
     }
     
+    /**
+     * Get connection acquisition semaphore of data source.
+     *
+     * @param schemaName scheme name
+     * @param dataSourceName data source name
+     * @return connection acquisition semaphore, empty if the size of data source pool is unknown
+     */
+    public Optional<ConnectionAcquisitionSemaphore> getConnectionAcquisitionSemaphore(final String schemaName, final String dataSourceName) {
+        DataSource dataSource = ProxyContext.getInstance().getMetaDataContexts().getMetaDataMap().get(schemaName).getResource().getDataSources().get(dataSourceName);
+        return null == dataSource ? Optional.empty() : getSemaphore(dataSource);
+    }
+    
+    private Optional<ConnectionAcquisitionSemaphore> getSemaphore(final DataSource dataSource) {
+        if (!(dataSource instanceof HikariDataSource)) {
+            return Optional.empty();
+        }
+        return Optional.of(semaphores.computeIfAbsent(dataSource,
+                key -> new ConnectionAcquisitionSemaphore(((HikariDataSource) key).getMaximumPoolSize(), ((HikariDataSource) key).getConnectionTimeout())));
+    }
+    
+    private List<Connection> createConnections(final String schemaName, final String dataSourceName, final DataSource dataSource,
+                                               final int connectionSize, final TransactionType transactionType, final ConnectionAcquisitionSemaphore semaphore) throws SQLException {
+        long waitNanos = semaphore.reserve(dataSourceName, connectionSize);
+        if (waitNanos > 0L) {
+            log.debug("Waited {} ms for {} connections of data source {}.", TimeUnit.NANOSECONDS.toMillis(waitNanos), connectionSize, dataSourceName);
+        }
+        List<Connection> connections;
+        try {
+            connections = createConnections(schemaName, dataSourceName, dataSource, connectionSize, transactionType);
+        } catch (final SQLException ex) {
+            semaphore.release(connectionSize);
+            throw ex;
+        }
+        List<Connection> result = new ArrayList<>(connectionSize);
+        for (Connection each : connections) {
+            result.add(semaphore.bind(each));
+        }
+        return result;
+    }
+    
     private List<Connection> createConnections(final String schemaName, final String dataSourceName,
                                                final DataSource dataSource, final int connectionSize, final TransactionType transactionType) throws SQLException {
         List<Connection> result = new ArrayList<>(connectionSize);
@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.engine.jdbc;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.ExecutorConstant;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
@@ -33,10 +37,14 @@ import org.apache.shardingsphere.infra.executor.sql.group.raw.RawExecutionGroupE
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementExecuteUnit;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor.ExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor.SQLExecutor;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.executor.impl.DefaultSQLExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.PreparedStatementCache;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.SQLExecuteEngine;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.accessor.JDBCAccessor;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.TransactionStatus;
@@ -48,6 +56,7 @@ import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.type.TableAvailable;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DDLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
@@ -55,13 +64,23 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertState
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * SQL Execute engine for JDBC.
  */
+@Slf4j
 public final class JDBCExecuteEngine implements SQLExecuteEngine {
     
     private final BackendConnection backendConnection;
@@ -100,8 +119,20 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
     
     @Override
     public BackendResponse execute(final ExecutionContext executionContext) throws SQLException {
-        Collection<ExecuteResult> executeResults = execute(executionContext,
-                executionContext.getSqlStatementContext().getSqlStatement() instanceof InsertStatement, ExecutorExceptionHandler.isExceptionThrown());
+        boolean isDDL = executionContext.getSqlStatementContext().getSqlStatement() instanceof DDLStatement;
+        if (isDDL) {
+            for (SQLException each : backendConnection.getPreparedStatementCache().invalidateAll()) {
+                log.warn("Close cached prepared statement failed when executing DDL.", each);
+            }
+        }
+        Collection<ExecuteResult> executeResults;
+        try {
+            executeResults = execute(executionContext, executionContext.getSqlStatementContext().getSqlStatement() instanceof InsertStatement, ExecutorExceptionHandler.isExceptionThrown());
+        } finally {
+            if (isDDL) {
+                PreparedStatementCache.invalidateGlobally(getTableNames(executionContext));
+            }
+        }
         ExecuteResult executeResult = executeResults.iterator().next();
         if (executeResult instanceof ExecuteQueryResult) {
             return getExecuteQueryResponse(((ExecuteQueryResult) executeResult).getQueryHeaders(), executeResults);
@@ -118,6 +149,103 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         }
     }
     
+    /**
+     * Execute batch.
+     * 
+     * <p>
+     * Execution units of all execution contexts which share the same data source and actual SQL are added to one prepared statement,
+     * then the prepared statements are executed as JDBC batches through SQL executor.
+     * </p>
+     *
+     * @param executionContexts execution contexts of each parameter set
+     * @param isNeedAccumulate whether to accumulate update counts of execution units belonging to the same parameter set
+     * @return update counts in the order of execution contexts
+     * @throws SQLException SQL exception
+     */
+    public int[] executeBatch(final List<ExecutionContext> executionContexts, final boolean isNeedAccumulate) throws SQLException {
+        Map<String, Map<String, List<BatchItem>>> batchItems = new LinkedHashMap<>();
+        Collection<ExecutionUnit> executionUnits = new LinkedList<>();
+        for (int i = 0; i < executionContexts.size(); i++) {
+            checkExecutePrerequisites(executionContexts.get(i));
+            for (ExecutionUnit each : executionContexts.get(i).getExecutionUnits()) {
+                List<BatchItem> items = batchItems.computeIfAbsent(each.getDataSourceName(), key -> new LinkedHashMap<>()).computeIfAbsent(each.getSqlUnit().getSql(), key -> new LinkedList<>());
+                if (items.isEmpty()) {
+                    executionUnits.add(each);
+                }
+                items.add(new BatchItem(i, each.getSqlUnit().getParameters()));
+            }
+        }
+        int[] result = new int[executionContexts.size()];
+        if (executionUnits.isEmpty()) {
+            return result;
+        }
+        int maxConnectionsSizePerQuery = ProxyContext.getInstance().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        Collection<ExecutionGroup<StatementExecuteUnit>> executionGroups = createExecutionGroups(executionUnits, maxConnectionsSizePerQuery, false, executionContexts.get(0).getRouteContext());
+        for (ExecutionGroup<StatementExecuteUnit> each : executionGroups) {
+            for (StatementExecuteUnit eachUnit : each.getInputs()) {
+                addBatch((PreparedStatement) eachUnit.getStorageResource(), getBatchItems(batchItems, eachUnit));
+            }
+        }
+        DatabaseType databaseType = ProxyContext.getInstance().getMetaDataContexts().getDatabaseType();
+        List<int[]> updateCounts = sqlExecutor.execute(executionGroups, new DefaultSQLExecutorCallback<int[]>(databaseType, ExecutorExceptionHandler.isExceptionThrown()) {
+            
+            @Override
+            protected int[] executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+                return statement.executeBatch();
+            }
+        });
+        Iterator<int[]> updateCountsIterator = updateCounts.iterator();
+        for (ExecutionGroup<StatementExecuteUnit> each : executionGroups) {
+            for (StatementExecuteUnit eachUnit : each.getInputs()) {
+                accumulate(result, getBatchItems(batchItems, eachUnit), updateCountsIterator.hasNext() ? updateCountsIterator.next() : null, isNeedAccumulate);
+            }
+        }
+        return result;
+    }
+    
+    private List<BatchItem> getBatchItems(final Map<String, Map<String, List<BatchItem>>> batchItems, final StatementExecuteUnit statementExecuteUnit) {
+        ExecutionUnit executionUnit = statementExecuteUnit.getExecutionUnit();
+        return batchItems.getOrDefault(executionUnit.getDataSourceName(), Collections.emptyMap()).getOrDefault(executionUnit.getSqlUnit().getSql(), Collections.emptyList());
+    }
+    
+    private void addBatch(final PreparedStatement preparedStatement, final List<BatchItem> items) throws SQLException {
+        backendConnection.add(preparedStatement);
+        for (BatchItem each : items) {
+            for (int i = 0; i < each.parameters.size(); i++) {
+                Object parameter = each.parameters.get(i);
+                if (parameter instanceof TypeUnspecifiedSQLParameter) {
+                    preparedStatement.setObject(i + 1, parameter, Types.OTHER);
+                } else {
+                    preparedStatement.setObject(i + 1, parameter);
+                }
+            }
+            preparedStatement.addBatch();
+        }
+    }
+    
+    private void accumulate(final int[] result, final List<BatchItem> items, final int[] updateCounts, final boolean isNeedAccumulate) {
+        for (int i = 0; i < items.size(); i++) {
+            int updateCount = null == updateCounts || i >= updateCounts.length ? 0 : Math.max(updateCounts[i], 0);
+            int index = items.get(i).index;
+            result[index] = isNeedAccumulate ? result[index] + updateCount : updateCount;
+        }
+    }
+    
+    private Collection<String> getTableNames(final ExecutionContext executionContext) {
+        Collection<String> result = new LinkedHashSet<>();
+        if (executionContext.getSqlStatementContext() instanceof TableAvailable) {
+            for (SimpleTableSegment each : ((TableAvailable) executionContext.getSqlStatementContext()).getAllTables()) {
+                result.add(each.getTableName().getIdentifier().getValue());
+            }
+        }
+        for (RouteUnit each : executionContext.getRouteContext().getRouteUnits()) {
+            for (RouteMapper eachMapper : each.getTableMappers()) {
+                result.add(eachMapper.getActualName());
+            }
+        }
+        return result;
+    }
+    
     private Collection<ExecuteResult> execute(final ExecutionContext executionContext, final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
         int maxConnectionsSizePerQuery = ProxyContext.getInstance().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
         return ExecutorConstant.MANAGED_RESOURCE ? executeWithManagedResource(executionContext, maxConnectionsSizePerQuery, isReturnGeneratedKeys, isExceptionThrown)
@@ -155,4 +283,12 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         }
         return result;
     }
+    
+    @RequiredArgsConstructor
+    private static final class BatchItem {
+        
+        private final int index;
+        
+        private final List<Object> parameters;
+    }
 }
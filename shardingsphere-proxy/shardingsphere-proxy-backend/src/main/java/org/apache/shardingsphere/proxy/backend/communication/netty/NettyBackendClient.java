@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.channel.pool.FixedChannelPool.AcquireTimeoutAction;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.ConnectionAcquisitionSemaphore;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLBackendChannelHandler;
+
+import javax.sql.DataSource;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Netty client of storage nodes.
+ *
+ * <p>
+ * Channels of each data source are pooled with the same maximum size as the configured JDBC connection pool,
+ * every command holds one permit of the connection acquisition semaphore shared with JDBC connections until its channel is released,
+ * so connections in use by both backends never exceed the maximum pool size. Channels idle longer than the idle timeout of JDBC connection pool are closed.
+ * The pool of a data source is closed together with the data source, when the data source is changed or the proxy is shut down.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NettyBackendClient {
+    
+    private static final NettyBackendClient INSTANCE = new NettyBackendClient();
+    
+    private static final AttributeKey<Promise<Void>> AUTH_PROMISE = AttributeKey.valueOf("AUTH_PROMISE");
+    
+    private static final AttributeKey<ScheduledFuture<?>> IDLE_CLOSE_FUTURE = AttributeKey.valueOf("IDLE_CLOSE_FUTURE");
+    
+    private final Map<DataSource, ChannelPool> channelPools = new ConcurrentHashMap<>();
+    
+    private EventLoopGroup eventLoopGroup;
+    
+    /**
+     * Get instance of Netty backend client.
+     *
+     * @return instance of Netty backend client
+     */
+    public static NettyBackendClient getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Execute SQL on storage node by text protocol.
+     *
+     * <p>
+     * The channel is returned to the pool after the whole response is received, rows of result set are streamed after the future is completed.
+     * </p>
+     *
+     * @param dataSource data source of storage node
+     * @param connectionConfig connection configuration of storage node
+     * @param semaphore connection acquisition semaphore of data source, one permit of which is reserved by caller and released with the channel
+     * @param sql SQL to be executed
+     * @return future of response, which is OK packet, SQL exception or result set
+     */
+    public CompletableFuture<Object> execute(final DataSource dataSource, final NettyConnectionConfiguration connectionConfig, final ConnectionAcquisitionSemaphore semaphore, final String sql) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        ChannelPool channelPool = getChannelPool(dataSource, connectionConfig);
+        channelPool.acquire().addListener((Future<Channel> acquireFuture) -> {
+            if (!acquireFuture.isSuccess()) {
+                semaphore.release(1);
+                result.completeExceptionally(acquireFuture.cause());
+                return;
+            }
+            Channel channel = acquireFuture.getNow();
+            channel.attr(AUTH_PROMISE).get().addListener(authFuture -> {
+                if (!authFuture.isSuccess()) {
+                    release(channelPool, channel, semaphore);
+                    result.completeExceptionally(authFuture.cause());
+                    return;
+                }
+                Promise<Object> responsePromise = channel.eventLoop().newPromise();
+                Promise<Void> completionPromise = channel.eventLoop().newPromise();
+                responsePromise.addListener((Future<Object> responseFuture) -> {
+                    if (responseFuture.isSuccess()) {
+                        result.complete(responseFuture.getNow());
+                    } else {
+                        result.completeExceptionally(responseFuture.cause());
+                    }
+                });
+                completionPromise.addListener(completionFuture -> release(channelPool, channel, semaphore));
+                channel.pipeline().get(MySQLBackendChannelHandler.class).setResponsePromise(responsePromise, completionPromise);
+                channel.writeAndFlush(new MySQLComQueryPacket(sql)).addListener(writeFuture -> {
+                    if (!writeFuture.isSuccess()) {
+                        responsePromise.tryFailure(writeFuture.cause());
+                        channel.close();
+                    }
+                });
+            });
+        });
+        return result;
+    }
+    
+    private void release(final ChannelPool channelPool, final Channel channel, final ConnectionAcquisitionSemaphore semaphore) {
+        channelPool.release(channel).addListener(future -> semaphore.release(1));
+    }
+    
+    private ChannelPool getChannelPool(final DataSource dataSource, final NettyConnectionConfiguration connectionConfig) {
+        ChannelPool result = channelPools.get(dataSource);
+        if (null != result) {
+            return result;
+        }
+        synchronized (this) {
+            closeChannelPoolsOfClosedDataSources();
+            return channelPools.computeIfAbsent(dataSource, key -> createChannelPool(connectionConfig));
+        }
+    }
+    
+    private void closeChannelPoolsOfClosedDataSources() {
+        Iterator<Entry<DataSource, ChannelPool>> iterator = channelPools.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<DataSource, ChannelPool> entry = iterator.next();
+            if (entry.getKey() instanceof HikariDataSource && ((HikariDataSource) entry.getKey()).isClosed()) {
+                entry.getValue().close();
+                iterator.remove();
+            }
+        }
+    }
+    
+    private ChannelPool createChannelPool(final NettyConnectionConfiguration connectionConfig) {
+        Bootstrap bootstrap = new Bootstrap().group(getEventLoopGroup()).channel(NioSocketChannel.class)
+                .option(ChannelOption.TCP_NODELAY, true).option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectionConfig.getConnectionTimeoutMilliseconds())
+                .remoteAddress(connectionConfig.getHostName(), connectionConfig.getPort());
+        return new FixedChannelPool(bootstrap, new AbstractChannelPoolHandler() {
+            
+            @Override
+            public void channelCreated(final Channel channel) {
+                Promise<Void> authPromise = channel.eventLoop().newPromise();
+                channel.attr(AUTH_PROMISE).set(authPromise);
+                channel.pipeline().addLast(new PacketCodec(new MySQLPacketCodecEngine()));
+                channel.pipeline().addLast(new MySQLBackendChannelHandler(connectionConfig, authPromise));
+            }
+            
+            @Override
+            public void channelAcquired(final Channel channel) {
+                ScheduledFuture<?> idleCloseFuture = channel.attr(IDLE_CLOSE_FUTURE).getAndSet(null);
+                if (null != idleCloseFuture) {
+                    idleCloseFuture.cancel(false);
+                }
+            }
+            
+            @Override
+            public void channelReleased(final Channel channel) {
+                if (connectionConfig.getIdleTimeoutMilliseconds() > 0L) {
+                    channel.attr(IDLE_CLOSE_FUTURE).set(channel.eventLoop().schedule(() -> channel.close(), connectionConfig.getIdleTimeoutMilliseconds(), TimeUnit.MILLISECONDS));
+                }
+            }
+        }, ChannelHealthChecker.ACTIVE, AcquireTimeoutAction.FAIL, connectionConfig.getConnectionTimeoutMilliseconds(), connectionConfig.getMaxConnections(), Integer.MAX_VALUE);
+    }
+    
+    private synchronized EventLoopGroup getEventLoopGroup() {
+        if (null == eventLoopGroup) {
+            eventLoopGroup = new NioEventLoopGroup(0, new DefaultThreadFactory("ShardingSphere-Netty-Backend", true));
+        }
+        return eventLoopGroup;
+    }
+    
+    /**
+     * Close all channels and release event loops.
+     */
+    public synchronized void close() {
+        channelPools.values().forEach(ChannelPool::close);
+        channelPools.clear();
+        if (null != eventLoopGroup) {
+            eventLoopGroup.shutdownGracefully();
+            eventLoopGroup = null;
+        }
+    }
+}
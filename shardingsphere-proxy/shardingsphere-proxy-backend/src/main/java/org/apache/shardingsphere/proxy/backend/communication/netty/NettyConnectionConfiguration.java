@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import com.google.common.collect.MapMaker;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLBackendCharacterSet;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Connection configuration of storage node for Netty backend.
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode
+public final class NettyConnectionConfiguration {
+    
+    private static final String CHARACTER_ENCODING = "characterEncoding";
+    
+    private static final Pattern CHARACTER_ENCODING_PATTERN = Pattern.compile("[?&]" + CHARACTER_ENCODING + "=([^&]+)");
+    
+    private static final Map<DataSource, Optional<NettyConnectionConfiguration>> CACHED_CONNECTION_CONFIGURATIONS = new MapMaker().weakKeys().makeMap();
+    
+    private final String hostName;
+    
+    private final int port;
+    
+    private final String database;
+    
+    private final String username;
+    
+    private final String password;
+    
+    private final int maxConnections;
+    
+    private final long connectionTimeoutMilliseconds;
+    
+    private final long idleTimeoutMilliseconds;
+    
+    private final MySQLBackendCharacterSet characterSet;
+    
+    /**
+     * Find connection configuration of data source.
+     *
+     * <p>
+     * The configuration is resolved once per data source and cached until the data source is discarded.
+     * </p>
+     *
+     * @param dataSource data source
+     * @param databaseType database type
+     * @return connection configuration, empty if the connection properties can not be got from data source or the character encoding is unsupported
+     */
+    public static Optional<NettyConnectionConfiguration> find(final DataSource dataSource, final DatabaseType databaseType) {
+        Optional<NettyConnectionConfiguration> result = CACHED_CONNECTION_CONFIGURATIONS.get(dataSource);
+        return null == result ? CACHED_CONNECTION_CONFIGURATIONS.computeIfAbsent(dataSource, key -> newInstance(key, databaseType)) : result;
+    }
+    
+    private static Optional<NettyConnectionConfiguration> newInstance(final DataSource dataSource, final DatabaseType databaseType) {
+        if (!(dataSource instanceof HikariDataSource)) {
+            return Optional.empty();
+        }
+        HikariDataSource hikariDataSource = (HikariDataSource) dataSource;
+        Optional<MySQLBackendCharacterSet> characterSet = MySQLBackendCharacterSet.findByEncoding(getCharacterEncoding(hikariDataSource));
+        if (!characterSet.isPresent()) {
+            return Optional.empty();
+        }
+        DataSourceMetaData dataSourceMetaData = databaseType.getDataSourceMetaData(hikariDataSource.getJdbcUrl(), hikariDataSource.getUsername());
+        return Optional.of(new NettyConnectionConfiguration(dataSourceMetaData.getHostName(), dataSourceMetaData.getPort(), dataSourceMetaData.getCatalog(),
+                hikariDataSource.getUsername(), hikariDataSource.getPassword(), hikariDataSource.getMaximumPoolSize(), hikariDataSource.getConnectionTimeout(), hikariDataSource.getIdleTimeout(),
+                characterSet.get()));
+    }
+    
+    private static String getCharacterEncoding(final HikariDataSource dataSource) {
+        String result = dataSource.getDataSourceProperties().getProperty(CHARACTER_ENCODING);
+        if (null != result) {
+            return result;
+        }
+        Matcher matcher = CHARACTER_ENCODING_PATTERN.matcher(dataSource.getJdbcUrl());
+        return matcher.find() ? matcher.group(1) : MySQLBackendCharacterSet.UTF8MB4.name();
+    }
+}
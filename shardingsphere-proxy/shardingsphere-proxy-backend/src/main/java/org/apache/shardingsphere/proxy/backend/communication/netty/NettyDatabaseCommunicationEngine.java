@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
+import org.apache.shardingsphere.infra.executor.sql.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.QueryHeader;
+import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.update.ExecuteUpdateResult;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rule.type.DataNodeContainedRule;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.ConnectionAcquisitionSemaphore;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLBackendQueryResult;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLBackendResultSet;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Database access engine for Netty.
+ *
+ * <p>
+ * All execution units are sent to storage nodes concurrently by event loops without holding any thread per connection,
+ * only the caller waits once for all of the responses, no longer than the configured response timeout.
+ * Every execution unit takes one permit of the connection acquisition semaphore shared with JDBC backend and goes through SQL execution hooks.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class NettyDatabaseCommunicationEngine implements DatabaseCommunicationEngine {
+    
+    private static final int NOT_NULL_FLAG = 0x0001;
+    
+    private static final int PRIMARY_KEY_FLAG = 0x0002;
+    
+    private static final int AUTO_INCREMENT_FLAG = 0x0200;
+    
+    private static final Map<String, DataSourceMetaData> CACHED_DATASOURCE_METADATA = new ConcurrentHashMap<>();
+    
+    private final LogicSQL logicSQL;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final BackendConnection backendConnection;
+    
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    private BackendResponse response;
+    
+    private MergedResult mergedResult;
+    
+    @Override
+    public BackendResponse execute() throws SQLException {
+        ExecutionContext executionContext = kernelProcessor.generateExecutionContext(logicSQL, metaData, ProxyContext.getInstance().getMetaDataContexts().getProps());
+        logSQL(executionContext);
+        if (executionContext.getExecutionUnits().isEmpty()) {
+            return new UpdateResponse();
+        }
+        List<Object> responses = await(executeAsync(executionContext));
+        for (Object each : responses) {
+            if (each instanceof SQLException) {
+                closeResultSets(responses);
+                throw (SQLException) each;
+            }
+        }
+        SQLStatementContext<?> sqlStatementContext = executionContext.getSqlStatementContext();
+        response = responses.get(0) instanceof MySQLBackendResultSet ? createQueryResponse(sqlStatementContext, responses) : createUpdateResponse(sqlStatementContext, responses);
+        return response;
+    }
+    
+    private void logSQL(final ExecutionContext executionContext) {
+        if (ProxyContext.getInstance().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
+            SQLLogger.logSQL(logicSQL, ProxyContext.getInstance().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
+        }
+    }
+    
+    /**
+     * Execute all execution units asynchronously.
+     *
+     * @param executionContext execution context
+     * @return future of responses in the order of execution units
+     * @throws SQLException SQL exception
+     */
+    public CompletableFuture<List<Object>> executeAsync(final ExecutionContext executionContext) throws SQLException {
+        DatabaseType databaseType = ProxyContext.getInstance().getMetaDataContexts().getDatabaseType();
+        List<CompletableFuture<Object>> futures = new ArrayList<>(executionContext.getExecutionUnits().size());
+        try {
+            for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+                futures.add(executeAsync(each, databaseType));
+            }
+        } catch (final SQLException ex) {
+            futures.forEach(each -> each.thenAccept(response -> closeResultSets(Collections.singletonList(response))));
+            throw ex;
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((ignored, cause) -> {
+            if (null != cause) {
+                closeResultSets(futures.stream().filter(each -> !each.isCompletedExceptionally()).map(CompletableFuture::join).collect(Collectors.toList()));
+            }
+        }).thenApply(ignored -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+    
+    private CompletableFuture<Object> executeAsync(final ExecutionUnit executionUnit, final DatabaseType databaseType) throws SQLException {
+        if (!executionUnit.getSqlUnit().getParameters().isEmpty()) {
+            throw new SQLException("Parameterized SQL is unsupported by Netty backend");
+        }
+        String dataSourceName = executionUnit.getDataSourceName();
+        DataSource dataSource = metaData.getResource().getDataSources().get(dataSourceName);
+        Optional<NettyConnectionConfiguration> connectionConfig = NettyConnectionConfiguration.find(dataSource, databaseType);
+        if (!connectionConfig.isPresent()) {
+            throw new SQLException(String.format("Can not get connection configuration of data source `%s` for Netty backend", dataSourceName));
+        }
+        Optional<ConnectionAcquisitionSemaphore> semaphore = ProxyContext.getInstance().getBackendDataSource().getConnectionAcquisitionSemaphore(metaData.getName(), dataSourceName);
+        if (!semaphore.isPresent()) {
+            throw new SQLException(String.format("Can not get connection acquisition semaphore of data source `%s` for Netty backend", dataSourceName));
+        }
+        semaphore.get().reserve(dataSourceName, 1);
+        SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        sqlExecutionHook.start(dataSourceName, executionUnit.getSqlUnit().getSql(), executionUnit.getSqlUnit().getParameters(),
+                getDataSourceMetaData((HikariDataSource) dataSource, databaseType), true, ExecutorDataMap.getValue());
+        return NettyBackendClient.getInstance().execute(dataSource, connectionConfig.get(), semaphore.get(), executionUnit.getSqlUnit().getSql()).whenComplete((response, cause) -> {
+            if (null != cause) {
+                sqlExecutionHook.finishFailure(cause instanceof Exception ? (Exception) cause : new SQLException(cause));
+            } else if (response instanceof SQLException) {
+                sqlExecutionHook.finishFailure((SQLException) response);
+            } else {
+                sqlExecutionHook.finishSuccess();
+            }
+        });
+    }
+    
+    private DataSourceMetaData getDataSourceMetaData(final HikariDataSource dataSource, final DatabaseType databaseType) {
+        DataSourceMetaData result = CACHED_DATASOURCE_METADATA.get(dataSource.getJdbcUrl());
+        return null == result ? CACHED_DATASOURCE_METADATA.computeIfAbsent(dataSource.getJdbcUrl(), key -> databaseType.getDataSourceMetaData(key, dataSource.getUsername())) : result;
+    }
+    
+    private void closeResultSets(final Collection<Object> responses) {
+        responses.stream().filter(each -> each instanceof MySQLBackendResultSet).forEach(each -> ((MySQLBackendResultSet) each).close());
+    }
+    
+    private List<Object> await(final CompletableFuture<List<Object>> future) throws SQLException {
+        long timeoutMilliseconds = ProxyContext.getInstance().getMetaDataContexts().getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_BACKEND_RESPONSE_TIMEOUT_MILLISECONDS);
+        try {
+            return future.get(timeoutMilliseconds, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.thenAccept(this::closeResultSets);
+            throw new SQLException(ex);
+        } catch (final TimeoutException ex) {
+            future.thenAccept(this::closeResultSets);
+            throw new SQLException(String.format("Can not get responses of storage nodes in %d milliseconds.", timeoutMilliseconds), ex);
+        } catch (final ExecutionException ex) {
+            Throwable cause = null == ex.getCause().getCause() ? ex.getCause() : ex.getCause().getCause();
+            throw cause instanceof SQLException ? (SQLException) cause : new SQLException(cause);
+        }
+    }
+    
+    private UpdateResponse createUpdateResponse(final SQLStatementContext<?> sqlStatementContext, final List<Object> responses) {
+        Collection<ExecuteResult> executeResults = new LinkedList<>();
+        for (Object each : responses) {
+            executeResults.add(new ExecuteUpdateResult((int) ((MySQLOKPacket) each).getAffectedRows(), ((MySQLOKPacket) each).getLastInsertId()));
+        }
+        UpdateResponse result = new UpdateResponse(executeResults);
+        SQLStatement sqlStatement = sqlStatementContext.getSqlStatement();
+        if (sqlStatement instanceof InsertStatement) {
+            result.setType("INSERT");
+        } else if (sqlStatement instanceof DeleteStatement) {
+            result.setType("DELETE");
+        } else if (sqlStatement instanceof UpdateStatement) {
+            result.setType("UPDATE");
+        }
+        if (findDataNodeContainedRule().map(each -> each.isNeedAccumulate(sqlStatementContext.getTablesContext().getTableNames())).orElse(false)) {
+            result.mergeUpdateCount();
+        }
+        return result;
+    }
+    
+    private QueryResponse createQueryResponse(final SQLStatementContext<?> sqlStatementContext, final List<Object> responses) throws SQLException {
+        List<MySQLBackendQueryResult> backendQueryResults = responses.stream().map(each -> new MySQLBackendQueryResult((MySQLBackendResultSet) each)).collect(Collectors.toList());
+        List<QueryResult> queryResults = new ArrayList<>(backendQueryResults);
+        MySQLBackendResultSet firstResultSet = (MySQLBackendResultSet) responses.get(0);
+        MySQLBackendQueryResult firstQueryResult = backendQueryResults.get(0);
+        List<QueryHeader> queryHeaders = new ArrayList<>(firstResultSet.getColumnCount());
+        for (int columnIndex = 1; columnIndex <= firstResultSet.getColumnCount(); columnIndex++) {
+            queryHeaders.add(createQueryHeader(firstResultSet.getColumnDefinitions().get(columnIndex - 1), firstQueryResult, columnIndex));
+        }
+        QueryResponse result = new QueryResponse(queryHeaders);
+        result.getQueryResults().addAll(queryResults);
+        MergeEngine mergeEngine = new MergeEngine(ProxyContext.getInstance().getMetaDataContexts().getDatabaseType(),
+                metaData.getSchema(), ProxyContext.getInstance().getMetaDataContexts().getProps(), metaData.getRuleMetaData().getRules());
+        try {
+            mergedResult = new NettyMergedResult(mergeEngine.merge(queryResults, sqlStatementContext), backendQueryResults);
+        } catch (final SQLException ex) {
+            backendQueryResults.forEach(MySQLBackendQueryResult::close);
+            throw ex;
+        }
+        backendConnection.add(mergedResult);
+        return result;
+    }
+    
+    private QueryHeader createQueryHeader(final MySQLColumnDefinition41Packet columnDefinition, final MySQLBackendQueryResult queryResult, final int columnIndex) {
+        String actualTableName = columnDefinition.getOrgTable();
+        Optional<DataNodeContainedRule> dataNodeContainedRule = findDataNodeContainedRule();
+        String tableName = null != actualTableName && !actualTableName.isEmpty() && dataNodeContainedRule.isPresent()
+                ? dataNodeContainedRule.get().findLogicTableByActualTable(actualTableName).orElse("") : actualTableName;
+        int flags = columnDefinition.getFlags();
+        return new QueryHeader(metaData.getName(), tableName, columnDefinition.getName(), queryResult.getColumnName(columnIndex), columnDefinition.getColumnLength(),
+                queryResult.getJDBCType(columnIndex), columnDefinition.getDecimals(), queryResult.isSigned(columnIndex), 0 != (flags & PRIMARY_KEY_FLAG),
+                0 != (flags & NOT_NULL_FLAG), 0 != (flags & AUTO_INCREMENT_FLAG));
+    }
+    
+    private Optional<DataNodeContainedRule> findDataNodeContainedRule() {
+        return metaData.getRuleMetaData().getRules().stream().filter(each -> each instanceof DataNodeContainedRule).findFirst().map(rule -> (DataNodeContainedRule) rule);
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return null != mergedResult && mergedResult.next();
+    }
+    
+    @Override
+    public QueryData getQueryData() throws SQLException {
+        List<QueryHeader> queryHeaders = ((QueryResponse) response).getQueryHeaders();
+        List<Object> row = new ArrayList<>(queryHeaders.size());
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            row.add(mergedResult.getValue(columnIndex, Object.class));
+        }
+        return new QueryData(queryHeaders.stream().map(QueryHeader::getColumnType).collect(Collectors.toList()), row);
+    }
+}
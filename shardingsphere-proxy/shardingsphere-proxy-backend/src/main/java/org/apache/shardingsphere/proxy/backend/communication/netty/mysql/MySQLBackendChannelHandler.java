@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.concurrent.Promise;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLAuthenticationMethod;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchResponsePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.communication.netty.NettyConnectionConfiguration;
+
+import java.security.GeneralSecurityException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Channel handler of MySQL storage node for Netty backend.
+ *
+ * <p>
+ * Only one command can be in flight on a channel at the same time.
+ * The response promise is completed once the head of response is received, which is OK packet, ERR packet or column definitions of result set,
+ * and the completion promise is completed after the last packet of response, then the channel can be returned to the pool.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class MySQLBackendChannelHandler extends ChannelInboundHandlerAdapter {
+    
+    private static final int MAX_PACKET_SIZE = 1 << 24;
+    
+    private static final int MAX_EOF_PAYLOAD_LENGTH = 9;
+    
+    private static final int NULL = 0xfb;
+    
+    private static final int AUTH_MORE_DATA_HEADER = 0x01;
+    
+    private static final int AUTH_SWITCH_REQUEST_HEADER = 0xfe;
+    
+    private static final int FAST_AUTH_SUCCESS = 0x03;
+    
+    private static final int PERFORM_FULL_AUTHENTICATION = 0x04;
+    
+    private static final byte REQUEST_PUBLIC_KEY = 0x02;
+    
+    private final NettyConnectionConfiguration connectionConfig;
+    
+    private final Promise<Void> authPromise;
+    
+    private State state = State.HANDSHAKE;
+    
+    private String authPluginName;
+    
+    private byte[] seed;
+    
+    private boolean publicKeyRequested;
+    
+    private Promise<Object> responsePromise;
+    
+    private Promise<Void> completionPromise;
+    
+    private MySQLBackendResultSet resultSet;
+    
+    /**
+     * Set promises for next command.
+     *
+     * @param responsePromise promise of response head
+     * @param completionPromise promise of response completion
+     */
+    public void setResponsePromise(final Promise<Object> responsePromise, final Promise<Void> completionPromise) {
+        this.responsePromise = responsePromise;
+        this.completionPromise = completionPromise;
+        state = State.COMMAND;
+    }
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext context, final Object message) {
+        ByteBuf byteBuf = (ByteBuf) message;
+        try {
+            handle(context, new MySQLPacketPayload(byteBuf), byteBuf.getUnsignedByte(byteBuf.readerIndex() + 1), byteBuf.readableBytes() - 1);
+        } finally {
+            byteBuf.release();
+        }
+    }
+    
+    private void handle(final ChannelHandlerContext context, final MySQLPacketPayload payload, final int header, final int payloadLength) {
+        switch (state) {
+            case HANDSHAKE:
+                handleHandshake(context, new MySQLHandshakePacket(payload));
+                return;
+            case AUTH:
+                handleAuth(context, payload, header);
+                return;
+            case COMMAND:
+                handleCommandResponse(context, payload, header);
+                return;
+            case FIELD:
+                if (isEof(header, payloadLength)) {
+                    new MySQLEofPacket(payload);
+                    state = State.ROW;
+                    respond(resultSet);
+                } else {
+                    resultSet.getColumnDefinitions().add(new MySQLColumnDefinition41Packet(payload));
+                }
+                return;
+            case ROW:
+                handleRow(context, payload, header, payloadLength);
+                return;
+            default:
+                throw new UnsupportedOperationException(String.format("Unexpected packet in state `%s`", state));
+        }
+    }
+    
+    private boolean isEof(final int header, final int payloadLength) {
+        return MySQLEofPacket.HEADER == header && payloadLength < MAX_EOF_PAYLOAD_LENGTH;
+    }
+    
+    private void handleHandshake(final ChannelHandlerContext context, final MySQLHandshakePacket handshakePacket) {
+        MySQLAuthenticationMethod authenticationMethod = MySQLAuthenticationMethod.CACHING_SHA2.getMethodName().equals(handshakePacket.getAuthPluginName())
+                ? MySQLAuthenticationMethod.CACHING_SHA2 : MySQLAuthenticationMethod.SECURE_PASSWORD_AUTHENTICATION;
+        authPluginName = authenticationMethod.getMethodName();
+        seed = handshakePacket.getAuthPluginData().getAuthPluginData();
+        MySQLHandshakeResponse41Packet result = new MySQLHandshakeResponse41Packet(
+                handshakePacket.getSequenceId() + 1, MAX_PACKET_SIZE, connectionConfig.getCharacterSet().getId(), connectionConfig.getUsername());
+        result.setAuthResponse(MySQLAuthenticationMethod.CACHING_SHA2 == authenticationMethod
+                ? MySQLBackendPasswordEncryptor.encryptWithCachingSha2Password(getPassword(), seed) : MySQLBackendPasswordEncryptor.encryptWithNativePassword(getPassword(), seed));
+        result.setCapabilityFlags(MySQLCapabilityFlag.calculateCapabilityFlags(MySQLCapabilityFlag.CLIENT_LONG_PASSWORD, MySQLCapabilityFlag.CLIENT_FOUND_ROWS,
+                MySQLCapabilityFlag.CLIENT_LONG_FLAG, MySQLCapabilityFlag.CLIENT_PROTOCOL_41, MySQLCapabilityFlag.CLIENT_TRANSACTIONS, MySQLCapabilityFlag.CLIENT_SECURE_CONNECTION));
+        if (null != connectionConfig.getDatabase()) {
+            result.setDatabase(connectionConfig.getDatabase());
+        }
+        result.setAuthPluginName(authenticationMethod);
+        state = State.AUTH;
+        context.writeAndFlush(result);
+    }
+    
+    private String getPassword() {
+        return null == connectionConfig.getPassword() ? "" : connectionConfig.getPassword();
+    }
+    
+    private void handleAuth(final ChannelHandlerContext context, final MySQLPacketPayload payload, final int header) {
+        if (MySQLOKPacket.HEADER == header) {
+            new MySQLOKPacket(payload);
+            state = State.IDLE;
+            authPromise.trySuccess(null);
+            return;
+        }
+        if (MySQLErrPacket.HEADER == header) {
+            failAuth(context, toSQLException(new MySQLErrPacket(payload)));
+            return;
+        }
+        int sequenceId = payload.readInt1();
+        payload.readInt1();
+        try {
+            if (AUTH_SWITCH_REQUEST_HEADER == header) {
+                handleAuthSwitchRequest(context, payload, sequenceId);
+            } else if (AUTH_MORE_DATA_HEADER == header) {
+                handleAuthMoreData(context, payload, sequenceId);
+            } else {
+                throw new SQLException(String.format("Unexpected authentication packet with header `%s`", header));
+            }
+        } catch (final SQLException | GeneralSecurityException ex) {
+            failAuth(context, ex);
+        }
+    }
+    
+    private void handleAuthSwitchRequest(final ChannelHandlerContext context, final MySQLPacketPayload payload, final int sequenceId) throws SQLException {
+        authPluginName = payload.readStringNul();
+        byte[] authPluginData = payload.readStringEOFByBytes();
+        seed = authPluginData.length > 0 && 0 == authPluginData[authPluginData.length - 1] ? Arrays.copyOf(authPluginData, authPluginData.length - 1) : authPluginData;
+        publicKeyRequested = false;
+        byte[] authResponse;
+        if (MySQLAuthenticationMethod.SECURE_PASSWORD_AUTHENTICATION.getMethodName().equals(authPluginName)) {
+            authResponse = MySQLBackendPasswordEncryptor.encryptWithNativePassword(getPassword(), seed);
+        } else if (MySQLAuthenticationMethod.CACHING_SHA2.getMethodName().equals(authPluginName)) {
+            authResponse = MySQLBackendPasswordEncryptor.encryptWithCachingSha2Password(getPassword(), seed);
+        } else {
+            throw new SQLException(String.format("Authentication method `%s` is unsupported by Netty backend", authPluginName));
+        }
+        context.writeAndFlush(new MySQLAuthSwitchResponsePacket(sequenceId + 1, authResponse));
+    }
+    
+    private void handleAuthMoreData(final ChannelHandlerContext context, final MySQLPacketPayload payload, final int sequenceId) throws SQLException, GeneralSecurityException {
+        if (publicKeyRequested) {
+            context.writeAndFlush(new MySQLAuthSwitchResponsePacket(sequenceId + 1, MySQLBackendPasswordEncryptor.encryptWithPublicKey(getPassword(), seed, payload.readStringEOF())));
+            return;
+        }
+        int status = payload.readInt1();
+        if (FAST_AUTH_SUCCESS == status) {
+            return;
+        }
+        if (PERFORM_FULL_AUTHENTICATION == status && MySQLAuthenticationMethod.CACHING_SHA2.getMethodName().equals(authPluginName)) {
+            publicKeyRequested = true;
+            context.writeAndFlush(new MySQLAuthSwitchResponsePacket(sequenceId + 1, new byte[]{REQUEST_PUBLIC_KEY}));
+            return;
+        }
+        throw new SQLException(String.format("Unexpected authentication status `%s` of `%s`", status, authPluginName));
+    }
+    
+    private void failAuth(final ChannelHandlerContext context, final Exception cause) {
+        authPromise.tryFailure(cause);
+        context.close();
+    }
+    
+    private void handleCommandResponse(final ChannelHandlerContext context, final MySQLPacketPayload payload, final int header) {
+        if (MySQLOKPacket.HEADER == header) {
+            respond(new MySQLOKPacket(payload));
+            finish(context);
+            return;
+        }
+        if (MySQLErrPacket.HEADER == header) {
+            respond(toSQLException(new MySQLErrPacket(payload)));
+            finish(context);
+            return;
+        }
+        payload.readInt1();
+        resultSet = new MySQLBackendResultSet((int) payload.readIntLenenc(), connectionConfig.getCharacterSet().getCharset(), context.channel());
+        state = State.FIELD;
+    }
+    
+    private void handleRow(final ChannelHandlerContext context, final MySQLPacketPayload payload, final int header, final int payloadLength) {
+        if (isEof(header, payloadLength)) {
+            new MySQLEofPacket(payload);
+            resultSet.complete();
+            finish(context);
+        } else if (MySQLErrPacket.HEADER == header) {
+            resultSet.fail(toSQLException(new MySQLErrPacket(payload)));
+            finish(context);
+        } else {
+            resultSet.addRow(readRow(payload, resultSet.getColumnCount()));
+        }
+    }
+    
+    private List<byte[]> readRow(final MySQLPacketPayload payload, final int columnCount) {
+        payload.readInt1();
+        List<byte[]> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            if (NULL == payload.getByteBuf().getUnsignedByte(payload.getByteBuf().readerIndex())) {
+                payload.skipReserved(1);
+                result.add(null);
+            } else {
+                result.add(payload.readStringLenencByBytes());
+            }
+        }
+        return result;
+    }
+    
+    private SQLException toSQLException(final MySQLErrPacket errPacket) {
+        return new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode());
+    }
+    
+    private void respond(final Object response) {
+        Promise<Object> promise = responsePromise;
+        responsePromise = null;
+        if (null != promise) {
+            promise.trySuccess(response);
+        }
+    }
+    
+    private void finish(final ChannelHandlerContext context) {
+        Promise<Void> promise = completionPromise;
+        completionPromise = null;
+        resultSet = null;
+        state = State.IDLE;
+        context.channel().config().setAutoRead(true);
+        if (null != promise) {
+            promise.trySuccess(null);
+        }
+    }
+    
+    @Override
+    public void channelInactive(final ChannelHandlerContext context) throws Exception {
+        fail(new SQLException("Connection to storage node is closed"));
+        super.channelInactive(context);
+    }
+    
+    @Override
+    public void exceptionCaught(final ChannelHandlerContext context, final Throwable cause) {
+        fail(cause);
+        context.close();
+    }
+    
+    private void fail(final Throwable cause) {
+        authPromise.tryFailure(cause);
+        if (null != responsePromise) {
+            responsePromise.tryFailure(cause);
+            responsePromise = null;
+        }
+        if (null != resultSet) {
+            resultSet.fail(cause);
+            resultSet = null;
+        }
+        if (null != completionPromise) {
+            completionPromise.tryFailure(cause);
+            completionPromise = null;
+        }
+    }
+    
+    private enum State {
+        
+        HANDSHAKE, AUTH, IDLE, COMMAND, FIELD, ROW
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Character set of connection to MySQL storage node for Netty backend.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum MySQLBackendCharacterSet {
+    
+    UTF8MB4(45, StandardCharsets.UTF_8),
+    
+    LATIN1(8, StandardCharsets.ISO_8859_1),
+    
+    ASCII(11, StandardCharsets.US_ASCII),
+    
+    GBK(28, Charset.forName("GBK"));
+    
+    private final int id;
+    
+    private final Charset charset;
+    
+    /**
+     * Find character set by encoding configured for JDBC driver.
+     *
+     * @param encoding name of Java encoding or MySQL character set
+     * @return character set, empty if the encoding is unsupported by Netty backend
+     */
+    public static Optional<MySQLBackendCharacterSet> findByEncoding(final String encoding) {
+        Optional<MySQLBackendCharacterSet> result = Arrays.stream(values()).filter(each -> each.name().equalsIgnoreCase(encoding)).findFirst();
+        if (result.isPresent()) {
+            return result;
+        }
+        Charset charset;
+        try {
+            charset = Charset.forName(encoding);
+        } catch (final IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+        return Arrays.stream(values()).filter(each -> each.charset.equals(charset)).findFirst();
+    }
+}
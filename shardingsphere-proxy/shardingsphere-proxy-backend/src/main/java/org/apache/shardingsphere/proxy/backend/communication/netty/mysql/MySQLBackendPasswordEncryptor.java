@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+import javax.crypto.Cipher;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Password encryptor of MySQL storage node for Netty backend.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLBackendPasswordEncryptor {
+    
+    private static final String PUBLIC_KEY_BEGIN = "-----BEGIN PUBLIC KEY-----";
+    
+    private static final String PUBLIC_KEY_END = "-----END PUBLIC KEY-----";
+    
+    private static final String RSA_TRANSFORMATION = "RSA/ECB/OAEPWithSHA-1AndMGF1Padding";
+    
+    /**
+     * Encrypt password for mysql_native_password.
+     *
+     * @see <a href="https://dev.mysql.com/doc/internals/en/secure-password-authentication.html">Secure Password Authentication</a>
+     *
+     * @param password password
+     * @param seed random data from server
+     * @return encrypted password
+     */
+    @SneakyThrows(NoSuchAlgorithmException.class)
+    public static byte[] encryptWithNativePassword(final String password, final byte[] seed) {
+        if (password.isEmpty()) {
+            return new byte[0];
+        }
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+        byte[] passwordSha1 = messageDigest.digest(password.getBytes(StandardCharsets.UTF_8));
+        byte[] passwordDoubleSha1 = messageDigest.digest(passwordSha1);
+        messageDigest.update(seed);
+        messageDigest.update(passwordDoubleSha1);
+        return xor(passwordSha1, messageDigest.digest());
+    }
+    
+    /**
+     * Encrypt password for fast authentication of caching_sha2_password.
+     *
+     * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_caching_sha2_authentication_exchanges.html">Caching SHA2 authentication exchanges</a>
+     *
+     * @param password password
+     * @param seed random data from server
+     * @return encrypted password
+     */
+    @SneakyThrows(NoSuchAlgorithmException.class)
+    public static byte[] encryptWithCachingSha2Password(final String password, final byte[] seed) {
+        if (password.isEmpty()) {
+            return new byte[0];
+        }
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        byte[] passwordSha256 = messageDigest.digest(password.getBytes(StandardCharsets.UTF_8));
+        byte[] passwordDoubleSha256 = messageDigest.digest(passwordSha256);
+        messageDigest.update(passwordDoubleSha256);
+        messageDigest.update(seed);
+        return xor(passwordSha256, messageDigest.digest());
+    }
+    
+    /**
+     * Encrypt password with RSA public key of server for full authentication of caching_sha2_password.
+     *
+     * @param password password
+     * @param seed random data from server
+     * @param publicKey RSA public key of server in PEM format
+     * @return encrypted password
+     * @throws GeneralSecurityException general security exception
+     */
+    public static byte[] encryptWithPublicKey(final String password, final byte[] seed, final String publicKey) throws GeneralSecurityException {
+        byte[] passwordBytes = password.getBytes(StandardCharsets.UTF_8);
+        byte[] plainText = Arrays.copyOf(passwordBytes, passwordBytes.length + 1);
+        for (int i = 0; i < plainText.length; i++) {
+            plainText[i] = (byte) (plainText[i] ^ seed[i % seed.length]);
+        }
+        Cipher cipher = Cipher.getInstance(RSA_TRANSFORMATION);
+        cipher.init(Cipher.ENCRYPT_MODE, decodePublicKey(publicKey));
+        return cipher.doFinal(plainText);
+    }
+    
+    private static PublicKey decodePublicKey(final String publicKey) throws GeneralSecurityException {
+        String encodedKey = publicKey.replace(PUBLIC_KEY_BEGIN, "").replace(PUBLIC_KEY_END, "").trim();
+        return KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(Base64.getMimeDecoder().decode(encodedKey)));
+    }
+    
+    private static byte[] xor(final byte[] left, final byte[] right) {
+        byte[] result = new byte[left.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) (left[i] ^ right[i]);
+        }
+        return result;
+    }
+}
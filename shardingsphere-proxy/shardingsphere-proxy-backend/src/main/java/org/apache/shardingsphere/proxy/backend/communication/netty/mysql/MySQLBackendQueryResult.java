@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.infra.executor.sql.query.QueryResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Query result of MySQL storage node received by text protocol.
+ */
+public final class MySQLBackendQueryResult implements QueryResult {
+    
+    private static final int UNSIGNED_FLAG = 0x0020;
+    
+    private static final int BINARY_CHARACTER_SET = 63;
+    
+    private final MySQLBackendResultSet resultSet;
+    
+    private final List<MySQLColumnDefinition41Packet> columnDefinitions;
+    
+    private List<byte[]> currentRow;
+    
+    private boolean wasNull;
+    
+    public MySQLBackendQueryResult(final MySQLBackendResultSet resultSet) {
+        this.resultSet = resultSet;
+        columnDefinitions = resultSet.getColumnDefinitions();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        currentRow = resultSet.nextRow();
+        return null != currentRow;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        byte[] value = getRawValue(columnIndex);
+        if (null == value) {
+            return null;
+        }
+        MySQLColumnDefinition41Packet columnDefinition = columnDefinitions.get(columnIndex - 1);
+        return isBinary(columnDefinition) ? value : convert(columnDefinition, new String(value, resultSet.getCharset()));
+    }
+    
+    private byte[] getRawValue(final int columnIndex) {
+        byte[] result = currentRow.get(columnIndex - 1);
+        wasNull = null == result;
+        return result;
+    }
+    
+    private boolean isBinary(final MySQLColumnDefinition41Packet columnDefinition) {
+        switch (columnDefinition.getColumnType()) {
+            case MYSQL_TYPE_BIT:
+            case MYSQL_TYPE_GEOMETRY:
+                return true;
+            case MYSQL_TYPE_TINY_BLOB:
+            case MYSQL_TYPE_MEDIUM_BLOB:
+            case MYSQL_TYPE_LONG_BLOB:
+            case MYSQL_TYPE_BLOB:
+            case MYSQL_TYPE_VARCHAR:
+            case MYSQL_TYPE_VAR_STRING:
+            case MYSQL_TYPE_STRING:
+                return BINARY_CHARACTER_SET == columnDefinition.getCharacterSet();
+            default:
+                return false;
+        }
+    }
+    
+    private Object convert(final MySQLColumnDefinition41Packet columnDefinition, final String value) {
+        switch (columnDefinition.getColumnType()) {
+            case MYSQL_TYPE_TINY:
+            case MYSQL_TYPE_SHORT:
+            case MYSQL_TYPE_LONG:
+            case MYSQL_TYPE_INT24:
+            case MYSQL_TYPE_YEAR:
+                return Long.parseLong(value);
+            case MYSQL_TYPE_LONGLONG:
+                return 0 == (columnDefinition.getFlags() & UNSIGNED_FLAG) ? (Object) Long.parseLong(value) : new BigInteger(value);
+            case MYSQL_TYPE_DECIMAL:
+            case MYSQL_TYPE_NEWDECIMAL:
+                return new BigDecimal(value);
+            case MYSQL_TYPE_FLOAT:
+                return Float.parseFloat(value);
+            case MYSQL_TYPE_DOUBLE:
+                return Double.parseDouble(value);
+            default:
+                return value;
+        }
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        byte[] value = getRawValue(columnIndex);
+        return null == value ? null : new ByteArrayInputStream(value);
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnDefinitions.size();
+    }
+    
+    @Override
+    public String getColumnName(final int columnIndex) {
+        MySQLColumnDefinition41Packet columnDefinition = columnDefinitions.get(columnIndex - 1);
+        return null == columnDefinition.getOrgName() || columnDefinition.getOrgName().isEmpty() ? columnDefinition.getName() : columnDefinition.getOrgName();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnDefinitions.get(columnIndex - 1).getName();
+    }
+    
+    @Override
+    public String getColumnTypeName(final int columnIndex) {
+        return columnDefinitions.get(columnIndex - 1).getColumnType().name();
+    }
+    
+    /**
+     * Judge whether column is signed.
+     *
+     * @param columnIndex column index
+     * @return column is signed or not
+     */
+    public boolean isSigned(final int columnIndex) {
+        return 0 == (columnDefinitions.get(columnIndex - 1).getFlags() & UNSIGNED_FLAG);
+    }
+    
+    /**
+     * Get JDBC type of column.
+     *
+     * @param columnIndex column index
+     * @return JDBC type
+     */
+    public int getJDBCType(final int columnIndex) {
+        MySQLColumnDefinition41Packet columnDefinition = columnDefinitions.get(columnIndex - 1);
+        switch (columnDefinition.getColumnType()) {
+            case MYSQL_TYPE_BIT:
+                return Types.BIT;
+            case MYSQL_TYPE_TINY:
+                return Types.TINYINT;
+            case MYSQL_TYPE_SHORT:
+            case MYSQL_TYPE_YEAR:
+                return Types.SMALLINT;
+            case MYSQL_TYPE_LONG:
+            case MYSQL_TYPE_INT24:
+                return Types.INTEGER;
+            case MYSQL_TYPE_LONGLONG:
+                return Types.BIGINT;
+            case MYSQL_TYPE_FLOAT:
+                return Types.FLOAT;
+            case MYSQL_TYPE_DOUBLE:
+                return Types.DOUBLE;
+            case MYSQL_TYPE_DECIMAL:
+            case MYSQL_TYPE_NEWDECIMAL:
+                return Types.DECIMAL;
+            case MYSQL_TYPE_DATE:
+            case MYSQL_TYPE_NEWDATE:
+                return Types.DATE;
+            case MYSQL_TYPE_TIME:
+            case MYSQL_TYPE_TIME2:
+                return Types.TIME;
+            case MYSQL_TYPE_TIMESTAMP:
+            case MYSQL_TYPE_TIMESTAMP2:
+            case MYSQL_TYPE_DATETIME:
+            case MYSQL_TYPE_DATETIME2:
+                return Types.TIMESTAMP;
+            case MYSQL_TYPE_NULL:
+                return Types.NULL;
+            case MYSQL_TYPE_STRING:
+                return isBinary(columnDefinition) ? Types.BINARY : Types.CHAR;
+            case MYSQL_TYPE_VARCHAR:
+            case MYSQL_TYPE_VAR_STRING:
+                return isBinary(columnDefinition) ? Types.VARBINARY : Types.VARCHAR;
+            case MYSQL_TYPE_TINY_BLOB:
+            case MYSQL_TYPE_MEDIUM_BLOB:
+            case MYSQL_TYPE_LONG_BLOB:
+            case MYSQL_TYPE_BLOB:
+                return isBinary(columnDefinition) ? Types.BLOB : Types.LONGVARCHAR;
+            case MYSQL_TYPE_GEOMETRY:
+                return Types.BINARY;
+            default:
+                return Types.VARCHAR;
+        }
+    }
+    
+    /**
+     * Close query result and discard the rows not taken.
+     */
+    public void close() {
+        resultSet.close();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.channel.Channel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Result set received from MySQL storage node by text protocol.
+ *
+ * <p>
+ * Rows are streamed from the channel to the consumer through a queue.
+ * Reading of the channel is suspended when the queued rows reach the high water mark and resumed when the consumer drains them to the low water mark,
+ * so the rows held in memory are bounded no matter how large the result set is.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class MySQLBackendResultSet {
+    
+    private static final int HIGH_WATER_MARK = 1024;
+    
+    private static final int LOW_WATER_MARK = 256;
+    
+    private static final Object END_OF_ROWS = new Object();
+    
+    @Getter
+    private final int columnCount;
+    
+    @Getter
+    private final Charset charset;
+    
+    private final Channel channel;
+    
+    @Getter
+    private final List<MySQLColumnDefinition41Packet> columnDefinitions = new ArrayList<>();
+    
+    private final BlockingQueue<Object> rows = new LinkedBlockingQueue<>();
+    
+    private volatile boolean closed;
+    
+    private boolean suspended;
+    
+    private boolean finished;
+    
+    void addRow(final List<byte[]> row) {
+        if (closed) {
+            return;
+        }
+        rows.offer(row);
+        synchronized (this) {
+            if (!closed && !suspended && rows.size() >= HIGH_WATER_MARK) {
+                suspended = true;
+                channel.config().setAutoRead(false);
+            }
+        }
+    }
+    
+    void complete() {
+        rows.offer(END_OF_ROWS);
+    }
+    
+    void fail(final Throwable cause) {
+        rows.offer(cause);
+    }
+    
+    /**
+     * Take next row, wait until it is received from storage node.
+     *
+     * @return next row, null if all rows are taken
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings("unchecked")
+    public List<byte[]> nextRow() throws SQLException {
+        if (finished) {
+            return null;
+        }
+        Object result = take();
+        resumeIfNecessary();
+        if (END_OF_ROWS == result) {
+            finished = true;
+            return null;
+        }
+        if (result instanceof Throwable) {
+            finished = true;
+            throw result instanceof SQLException ? (SQLException) result : new SQLException((Throwable) result);
+        }
+        return (List<byte[]>) result;
+    }
+    
+    private Object take() throws SQLException {
+        try {
+            return rows.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    private synchronized void resumeIfNecessary() {
+        if (suspended && rows.size() <= LOW_WATER_MARK) {
+            suspended = false;
+            channel.config().setAutoRead(true);
+        }
+    }
+    
+    /**
+     * Close result set, the rows not taken are discarded and the rest of rows are drained from channel.
+     */
+    public synchronized void close() {
+        closed = true;
+        finished = true;
+        rows.clear();
+        if (suspended) {
+            suspended = false;
+            channel.config().setAutoRead(true);
+        }
+    }
+}
@@ -20,6 +20,9 @@ package org.apache.shardingsphere.proxy.backend.text.sctl.show;
 import org.apache.shardingsphere.infra.executor.sql.raw.execute.result.query.QueryHeader;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.PreparedStatementCache;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.ConnectionAcquisitionSemaphore;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
@@ -29,10 +32,14 @@ import org.apache.shardingsphere.sharding.merge.dal.common.MultipleLocalDataMerg
 
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Sharding CTL show backend handler.
@@ -45,6 +52,8 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
     
     private MergedResult mergedResult;
     
+    private int columnCount;
+    
     public ShardingCTLShowBackendHandler(final String sql, final BackendConnection backendConnection) {
         this.sql = sql.toUpperCase().trim();
         this.backendConnection = backendConnection;
@@ -61,6 +70,10 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
                 return createResponsePackets("TRANSACTION_TYPE", backendConnection.getTransactionStatus().getTransactionType().name());
             case "CACHED_CONNECTIONS":
                 return createResponsePackets("CACHED_CONNECTIONS", backendConnection.getConnectionSize());
+            case "CONNECTION_ACQUISITION_WAIT":
+                return createConnectionAcquisitionWaitResponse();
+            case "PREPARED_STATEMENT_CACHE":
+                return createPreparedStatementCacheResponse();
             default:
                 throw new UnsupportedShardingCTLTypeException(sql);
         }
@@ -68,7 +81,40 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
     
     private BackendResponse createResponsePackets(final String columnName, final Object... values) {
         mergedResult = new MultipleLocalDataMergedResult(Collections.singletonList(Arrays.asList(values)));
-        return new QueryResponse(Collections.singletonList(new QueryHeader("", "", columnName, columnName, 100, Types.VARCHAR, 0, false, false, false, false)));
+        columnCount = 1;
+        return new QueryResponse(Collections.singletonList(createQueryHeader(columnName)));
+    }
+    
+    private BackendResponse createConnectionAcquisitionWaitResponse() {
+        Collection<List<Object>> rows = new LinkedList<>();
+        String schemaName = backendConnection.getSchemaName();
+        for (String each : ProxyContext.getInstance().getMetaData(schemaName).getResource().getDataSources().keySet()) {
+            Optional<ConnectionAcquisitionSemaphore> semaphore = ProxyContext.getInstance().getBackendDataSource().getConnectionAcquisitionSemaphore(schemaName, each);
+            semaphore.ifPresent(optional -> rows.add(createConnectionAcquisitionWaitRow(each, optional)));
+        }
+        mergedResult = new MultipleLocalDataMergedResult(rows);
+        List<QueryHeader> queryHeaders = Arrays.asList(createQueryHeader("DATA_SOURCE"),
+                createQueryHeader("ACQUIRED_COUNT"), createQueryHeader("TOTAL_WAIT_MILLIS"), createQueryHeader("MAX_WAIT_MILLIS"), createQueryHeader("AVAILABLE_PERMITS"));
+        columnCount = queryHeaders.size();
+        return new QueryResponse(queryHeaders);
+    }
+    
+    private List<Object> createConnectionAcquisitionWaitRow(final String dataSourceName, final ConnectionAcquisitionSemaphore semaphore) {
+        return Arrays.asList(dataSourceName, semaphore.getAcquiredCount(),
+                TimeUnit.NANOSECONDS.toMillis(semaphore.getTotalWaitNanos()), TimeUnit.NANOSECONDS.toMillis(semaphore.getMaxWaitNanos()), semaphore.getAvailablePermits());
+    }
+    
+    private BackendResponse createPreparedStatementCacheResponse() {
+        PreparedStatementCache preparedStatementCache = backendConnection.getPreparedStatementCache();
+        mergedResult = new MultipleLocalDataMergedResult(Collections.singletonList(
+                Arrays.asList(preparedStatementCache.size(), preparedStatementCache.getHitCount(), preparedStatementCache.getMissCount(), preparedStatementCache.getHitRatio())));
+        List<QueryHeader> queryHeaders = Arrays.asList(createQueryHeader("CACHED_STATEMENTS"), createQueryHeader("HIT_COUNT"), createQueryHeader("MISS_COUNT"), createQueryHeader("HIT_RATIO"));
+        columnCount = queryHeaders.size();
+        return new QueryResponse(queryHeaders);
+    }
+    
+    private QueryHeader createQueryHeader(final String columnName) {
+        return new QueryHeader("", "", columnName, columnName, 100, Types.VARCHAR, 0, false, false, false, false);
     }
     
     @Override
@@ -78,6 +124,10 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
     
     @Override
     public List<Object> getRowData() throws SQLException {
-        return Collections.singletonList(mergedResult.getValue(1, Object.class));
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result.add(mergedResult.getValue(columnIndex, Object.class));
+        }
+        return result;
     }
 }
@@ -81,4 +81,13 @@ public final class DatabaseCommunicationEngineFactoryTest {
         assertNotNull(engine);
         assertThat(engine, instanceOf(JDBCDatabaseCommunicationEngine.class));
     }
+    
+    @Test
+    public void assertNewBinaryProtocolBatchInstance() {
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        when(backendConnection.getSchemaName()).thenReturn("schema");
+        JDBCBatchDatabaseCommunicationEngine engine = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolBatchInstance(
+                mock(SQLStatement.class), "INSERT INTO t_order (order_id) VALUES (?)", Collections.singletonList(Collections.singletonList(1)), backendConnection);
+        assertNotNull(engine);
+    }
 }
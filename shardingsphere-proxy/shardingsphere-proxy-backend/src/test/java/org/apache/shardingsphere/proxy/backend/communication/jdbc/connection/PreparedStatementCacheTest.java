@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public final class PreparedStatementCacheTest {
+    
+    @Test
+    public void assertBorrowAfterGiveBack() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache();
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        assertFalse(cache.borrow(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+        cache.track(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, preparedStatement, PreparedStatementCache.getGlobalVersion());
+        assertTrue(cache.giveBack(preparedStatement, 1));
+        assertFalse(cache.borrow(connection, "SELECT 1", true, ConnectionMode.MEMORY_STRICTLY).isPresent());
+        assertThat(cache.borrow(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY).orElse(null), is(preparedStatement));
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(2L));
+        assertThat(cache.size(), is(0));
+    }
+    
+    @Test
+    public void assertBorrowWithDifferentConnectionMode() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache();
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        cache.track(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, preparedStatement, PreparedStatementCache.getGlobalVersion());
+        assertTrue(cache.giveBack(preparedStatement, 1));
+        assertFalse(cache.borrow(connection, "SELECT 1", false, ConnectionMode.CONNECTION_STRICTLY).isPresent());
+        assertThat(cache.borrow(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY).orElse(null), is(preparedStatement));
+    }
+    
+    @Test
+    public void assertBorrowAfterGlobalInvalidation() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache();
+        Connection connection = mock(Connection.class);
+        PreparedStatement referred = mock(PreparedStatement.class);
+        PreparedStatement unreferred = mock(PreparedStatement.class);
+        cache.track(connection, "SELECT * FROM t_order_0", false, ConnectionMode.MEMORY_STRICTLY, referred, PreparedStatementCache.getGlobalVersion());
+        cache.track(connection, "SELECT * FROM t_user", false, ConnectionMode.MEMORY_STRICTLY, unreferred, PreparedStatementCache.getGlobalVersion());
+        cache.giveBack(referred, 2);
+        cache.giveBack(unreferred, 2);
+        PreparedStatementCache.invalidateGlobally(Arrays.asList("t_order", "T_ORDER_0"));
+        assertFalse(cache.borrow(connection, "SELECT * FROM t_order_0", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+        verify(referred).close();
+        assertThat(cache.borrow(connection, "SELECT * FROM t_user", false, ConnectionMode.MEMORY_STRICTLY).orElse(null), is(unreferred));
+        verify(unreferred, never()).close();
+    }
+    
+    @Test
+    public void assertBorrowAfterGlobalInvalidationWithoutTable() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache();
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        cache.track(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, preparedStatement, PreparedStatementCache.getGlobalVersion());
+        cache.giveBack(preparedStatement, 1);
+        PreparedStatementCache.invalidateGlobally(Collections.emptyList());
+        assertFalse(cache.borrow(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+        verify(preparedStatement).close();
+    }
+    
+    @Test
+    public void assertTrackPreparedBeforeGlobalInvalidation() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache();
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        long version = PreparedStatementCache.getGlobalVersion();
+        PreparedStatementCache.invalidateGlobally(Collections.singletonList("t_order"));
+        cache.track(connection, "SELECT * FROM t_order", false, ConnectionMode.MEMORY_STRICTLY, preparedStatement, version);
+        cache.giveBack(preparedStatement, 1);
+        assertFalse(cache.borrow(connection, "SELECT * FROM t_order", false, ConnectionMode.MEMORY_STRICTLY).isPresent());
+    }
+    
+    @Test
+    public void assertGiveBackUntrackedStatement() throws SQLException {
+        assertFalse(new PreparedStatementCache().giveBack(mock(Statement.class), 1));
+    }
+    
+    @Test
+    public void assertGiveBackWithEviction() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache();
+        Connection connection = mock(Connection.class);
+        PreparedStatement eldest = mock(PreparedStatement.class);
+        PreparedStatement latest = mock(PreparedStatement.class);
+        cache.track(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, eldest, PreparedStatementCache.getGlobalVersion());
+        cache.track(connection, "SELECT 2", false, ConnectionMode.MEMORY_STRICTLY, latest, PreparedStatementCache.getGlobalVersion());
+        assertTrue(cache.giveBack(eldest, 1));
+        assertTrue(cache.giveBack(latest, 1));
+        verify(eldest).close();
+        verify(latest, never()).close();
+        assertThat(cache.size(), is(1));
+    }
+    
+    @Test
+    public void assertInvalidate() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache();
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        cache.track(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, preparedStatement, PreparedStatementCache.getGlobalVersion());
+        cache.giveBack(preparedStatement, 1);
+        assertTrue(cache.invalidate(mock(Connection.class)).isEmpty());
+        assertThat(cache.size(), is(1));
+        assertTrue(cache.invalidate(connection).isEmpty());
+        verify(preparedStatement).close();
+        assertThat(cache.size(), is(0));
+    }
+    
+    @Test
+    public void assertInvalidateAll() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache();
+        PreparedStatement idle = mock(PreparedStatement.class);
+        PreparedStatement borrowed = mock(PreparedStatement.class);
+        cache.track(mock(Connection.class), "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY, idle, PreparedStatementCache.getGlobalVersion());
+        cache.giveBack(idle, 2);
+        cache.track(mock(Connection.class), "SELECT 2", false, ConnectionMode.MEMORY_STRICTLY, borrowed, PreparedStatementCache.getGlobalVersion());
+        assertTrue(cache.invalidateAll().isEmpty());
+        verify(idle).close();
+        assertFalse(cache.giveBack(borrowed, 2));
+    }
+}
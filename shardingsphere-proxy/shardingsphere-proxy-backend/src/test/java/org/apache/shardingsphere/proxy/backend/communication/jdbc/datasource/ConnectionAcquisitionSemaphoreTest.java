@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
+
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public final class ConnectionAcquisitionSemaphoreTest {
+    
+    @Test
+    public void assertReserveAndReleaseOnClose() throws SQLException {
+        ConnectionAcquisitionSemaphore semaphore = new ConnectionAcquisitionSemaphore(3, 10L);
+        semaphore.reserve("ds", 2);
+        assertThat(semaphore.getAvailablePermits(), is(1));
+        assertThat(semaphore.getAcquiredCount(), is(1L));
+        Connection target = mock(Connection.class);
+        Connection actual = semaphore.bind(target);
+        actual.close();
+        actual.close();
+        verify(target, times(2)).close();
+        assertThat(semaphore.getAvailablePermits(), is(2));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertReserveWithTimeout() throws SQLException {
+        ConnectionAcquisitionSemaphore semaphore = new ConnectionAcquisitionSemaphore(3, 10L);
+        semaphore.reserve("ds", 2);
+        semaphore.reserve("ds", 2);
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertReserveMoreThanMaxPermits() throws SQLException {
+        new ConnectionAcquisitionSemaphore(3, 10L).reserve("ds", 4);
+    }
+    
+    @Test
+    public void assertBoundConnectionEquality() {
+        ConnectionAcquisitionSemaphore semaphore = new ConnectionAcquisitionSemaphore(1, 10L);
+        Connection actual = semaphore.bind(mock(Connection.class));
+        assertTrue(actual.equals(actual));
+        assertThat(actual.hashCode(), is(System.identityHashCode(actual)));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
 
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.auth.Authentication;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.fix
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.context.TransactionContexts;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -55,6 +57,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -63,12 +66,31 @@ public final class JDBCBackendDataSourceTest {
     
     private static final String DATA_SOURCE_PATTERN = "ds_%s";
     
+    private static final String POOLED_DATA_SOURCE_NAME = "pooled_ds";
+    
+    private HikariDataSource pooledDataSource;
+    
     @Before
     public void setUp() {
+        pooledDataSource = createPooledDataSource();
         setMetaDataContexts();
         setTransactionContexts();
     }
     
+    private HikariDataSource createPooledDataSource() {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl("jdbc:h2:mem:pooled_ds;DB_CLOSE_DELAY=-1");
+        result.setUsername("sa");
+        result.setMaximumPoolSize(2);
+        result.setConnectionTimeout(300L);
+        return result;
+    }
+    
+    @After
+    public void tearDown() {
+        pooledDataSource.close();
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private void setMetaDataContexts() {
         Field metaDataContexts = ProxyContext.getInstance().getClass().getDeclaredField("metaDataContexts");
@@ -98,10 +120,11 @@ public final class JDBCBackendDataSourceTest {
     }
     
     private Map<String, DataSource> mockDataSources(final int size) {
-        Map<String, DataSource> result = new HashMap<>(size, 1);
+        Map<String, DataSource> result = new HashMap<>(size + 1, 1);
         for (int i = 0; i < size; i++) {
             result.put(String.format(DATA_SOURCE_PATTERN, i), new CallTimeRecordDataSource());
         }
+        result.put(POOLED_DATA_SOURCE_NAME, pooledDataSource);
         return result;
     }
     
@@ -141,6 +164,65 @@ public final class JDBCBackendDataSourceTest {
         executorService.shutdown();
     }
     
+    @Test
+    public void assertGetConnectionReservesPermitUntilClosed() throws SQLException {
+        Connection actual = ProxyContext.getInstance().getBackendDataSource().getConnection("schema", POOLED_DATA_SOURCE_NAME);
+        ConnectionAcquisitionSemaphore semaphore = ProxyContext.getInstance().getBackendDataSource().getConnectionAcquisitionSemaphore("schema", POOLED_DATA_SOURCE_NAME).get();
+        assertThat(semaphore.getAvailablePermits(), is(1));
+        actual.close();
+        assertThat(semaphore.getAvailablePermits(), is(2));
+    }
+    
+    @Test
+    public void assertGetConnectionsStrictlyWithHeldConnectionTimeout() throws SQLException {
+        try (Connection held = ProxyContext.getInstance().getBackendDataSource().getConnection("schema", POOLED_DATA_SOURCE_NAME)) {
+            assertThat(held.isClosed(), is(false));
+            try {
+                ProxyContext.getInstance().getBackendDataSource().getConnections("schema", POOLED_DATA_SOURCE_NAME, 2, ConnectionMode.CONNECTION_STRICTLY);
+                fail("Expected SQLException.");
+            } catch (final SQLException ex) {
+                assertThat(ex.getMessage(), is("Can not get 2 connections one time from data source pooled_ds in 300 milliseconds."));
+            }
+        }
+        ConnectionAcquisitionSemaphore semaphore = ProxyContext.getInstance().getBackendDataSource().getConnectionAcquisitionSemaphore("schema", POOLED_DATA_SOURCE_NAME).get();
+        assertThat(semaphore.getAvailablePermits(), is(2));
+        assertThat(pooledDataSource.getHikariPoolMXBean().getActiveConnections(), is(0));
+    }
+    
+    @Test
+    public void assertGetConnectionsConcurrentlyWithoutDeadlock() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        Collection<Future<Integer>> futures = new LinkedList<>();
+        for (int i = 0; i < 40; i++) {
+            int connectionSize = 0 == i % 2 ? 1 : 2;
+            futures.add(executorService.submit(() -> getAndCloseConnections(connectionSize)));
+        }
+        int actual = 0;
+        for (Future<Integer> each : futures) {
+            actual += each.get();
+        }
+        executorService.shutdown();
+        assertThat(actual, is(60));
+        ConnectionAcquisitionSemaphore semaphore = ProxyContext.getInstance().getBackendDataSource().getConnectionAcquisitionSemaphore("schema", POOLED_DATA_SOURCE_NAME).get();
+        assertThat(semaphore.getAcquiredCount(), is(40L));
+        assertThat(semaphore.getAvailablePermits(), is(2));
+    }
+    
+    private int getAndCloseConnections(final int connectionSize) throws SQLException, InterruptedException {
+        List<Connection> connections = new LinkedList<>();
+        while (connections.isEmpty()) {
+            try {
+                connections.addAll(ProxyContext.getInstance().getBackendDataSource().getConnections("schema", POOLED_DATA_SOURCE_NAME, connectionSize, ConnectionMode.CONNECTION_STRICTLY));
+            } catch (final SQLException ex) {
+                Thread.sleep(10L);
+            }
+        }
+        for (Connection each : connections) {
+            each.close();
+        }
+        return connections.size();
+    }
+    
     @RequiredArgsConstructor
     private static class CallableTask implements Callable<List<Connection>> {
         
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.execute.engine.jdbc;
+
+import org.apache.shardingsphere.infra.auth.Authentication;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.sql.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.group.ExecutionGroupEngine;
+import org.apache.shardingsphere.infra.executor.sql.resourced.jdbc.StatementExecuteUnit;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.accessor.JDBCAccessor;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class JDBCExecuteEngineTest {
+    
+    private static final String INSERT_SQL_0 = "INSERT INTO t_order_0 (order_id) VALUES (?)";
+    
+    private static final String INSERT_SQL_1 = "INSERT INTO t_order_1 (order_id) VALUES (?)";
+    
+    private final BackendConnection backendConnection = mock(BackendConnection.class, RETURNS_DEEP_STUBS);
+    
+    private final JDBCAccessor accessor = mock(JDBCAccessor.class);
+    
+    private final PreparedStatement preparedStatement0 = createPreparedStatement();
+    
+    private final PreparedStatement preparedStatement1 = createPreparedStatement();
+    
+    @Before
+    public void setUp() throws ReflectiveOperationException, SQLException {
+        Field metaDataContexts = ProxyContext.getInstance().getClass().getDeclaredField("metaDataContexts");
+        metaDataContexts.setAccessible(true);
+        metaDataContexts.set(ProxyContext.getInstance(),
+                new StandardMetaDataContexts(getMetaDataMap(), mock(ExecutorEngine.class), new Authentication(), new ConfigurationProperties(new Properties()), new MySQLDatabaseType()));
+        when(backendConnection.getSchemaName()).thenReturn("schema");
+        when(backendConnection.isSerialExecute()).thenReturn(true);
+        ExecutionGroupEngine<?> executionGroupEngine = mock(ExecutionGroupEngine.class);
+        doReturn(createExecutionGroups()).when(executionGroupEngine).group(any(), any());
+        doReturn(executionGroupEngine).when(accessor).getExecutionGroupEngine(any(), anyInt(), any(), any());
+    }
+    
+    private Map<String, ShardingSphereMetaData> getMetaDataMap() {
+        ShardingSphereMetaData result = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        when(result.getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+        return Collections.singletonMap("schema", result);
+    }
+    
+    private PreparedStatement createPreparedStatement() {
+        PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
+        try {
+            when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:mysql://127.0.0.1:3306/demo_ds");
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return result;
+    }
+    
+    private Collection<ExecutionGroup<StatementExecuteUnit>> createExecutionGroups() {
+        Collection<ExecutionGroup<StatementExecuteUnit>> result = new LinkedList<>();
+        result.add(new ExecutionGroup<>(Collections.singletonList(createStatementExecuteUnit("ds_0", INSERT_SQL_0, preparedStatement0))));
+        result.add(new ExecutionGroup<>(Collections.singletonList(createStatementExecuteUnit("ds_1", INSERT_SQL_1, preparedStatement1))));
+        return result;
+    }
+    
+    private StatementExecuteUnit createStatementExecuteUnit(final String dataSourceName, final String sql, final PreparedStatement preparedStatement) {
+        return new StatementExecuteUnit(new ExecutionUnit(dataSourceName, new SQLUnit(sql, Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, preparedStatement);
+    }
+    
+    @Test
+    public void assertExecuteBatch() throws SQLException {
+        when(preparedStatement0.executeBatch()).thenReturn(new int[]{1, 1});
+        when(preparedStatement1.executeBatch()).thenReturn(new int[]{1});
+        List<ExecutionContext> executionContexts = Arrays.asList(
+                createExecutionContext(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL_0, Collections.singletonList(1)))),
+                createExecutionContext(new ExecutionUnit("ds_1", new SQLUnit(INSERT_SQL_1, Collections.singletonList(2)))),
+                createExecutionContext(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL_0, Collections.singletonList(3)))));
+        int[] actual = new JDBCExecuteEngine(backendConnection, accessor).executeBatch(executionContexts, false);
+        assertThat(actual, is(new int[]{1, 1, 1}));
+        verify(preparedStatement0).setObject(1, 1);
+        verify(preparedStatement0).setObject(1, 3);
+        verify(preparedStatement0, times(2)).addBatch();
+        verify(preparedStatement1).setObject(1, 2);
+        verify(preparedStatement1).addBatch();
+        verify(backendConnection).add(preparedStatement0);
+        verify(backendConnection).add(preparedStatement1);
+    }
+    
+    @Test
+    public void assertExecuteBatchWithAccumulate() throws SQLException {
+        when(preparedStatement0.executeBatch()).thenReturn(new int[]{2, 3});
+        when(preparedStatement1.executeBatch()).thenReturn(new int[]{1, 0});
+        List<ExecutionContext> executionContexts = Arrays.asList(
+                createExecutionContext(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL_0, Collections.singletonList(1))),
+                        new ExecutionUnit("ds_1", new SQLUnit(INSERT_SQL_1, Collections.singletonList(1)))),
+                createExecutionContext(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL_0, Collections.singletonList(2))),
+                        new ExecutionUnit("ds_1", new SQLUnit(INSERT_SQL_1, Collections.singletonList(2)))));
+        int[] actual = new JDBCExecuteEngine(backendConnection, accessor).executeBatch(executionContexts, true);
+        assertThat(actual, is(new int[]{3, 3}));
+        verify(preparedStatement0, times(2)).addBatch();
+        verify(preparedStatement1, times(2)).addBatch();
+    }
+    
+    @Test
+    public void assertExecuteBatchWithoutExecutionUnit() throws SQLException {
+        int[] actual = new JDBCExecuteEngine(backendConnection, accessor).executeBatch(Collections.singletonList(createExecutionContext()), false);
+        assertThat(actual, is(new int[]{0}));
+    }
+    
+    private ExecutionContext createExecutionContext(final ExecutionUnit... executionUnits) {
+        SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(InsertStatement.class));
+        return new ExecutionContext(sqlStatementContext, Arrays.asList(executionUnits), new RouteContext());
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.ConnectionAcquisitionSemaphore;
+import org.apache.shardingsphere.proxy.backend.communication.netty.fixture.MySQLServerFixture;
+import org.apache.shardingsphere.proxy.backend.communication.netty.fixture.MySQLServerFixture.AuthenticationType;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLBackendCharacterSet;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLBackendQueryResult;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLBackendResultSet;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class NettyBackendClientTest {
+    
+    private final HikariDataSource dataSource = new HikariDataSource();
+    
+    private MySQLServerFixture server;
+    
+    private NettyConnectionConfiguration connectionConfig;
+    
+    private ConnectionAcquisitionSemaphore semaphore;
+    
+    @After
+    public void tearDown() {
+        NettyBackendClient.getInstance().close();
+        dataSource.close();
+        server.stop();
+    }
+    
+    private void startServer(final AuthenticationType authenticationType, final String password) throws InterruptedException {
+        server = new MySQLServerFixture(authenticationType);
+        connectionConfig = new NettyConnectionConfiguration("127.0.0.1", server.start(), "foo_db", "root", password, 2, 3000L, 0L, MySQLBackendCharacterSet.UTF8MB4);
+        semaphore = new ConnectionAcquisitionSemaphore(2, 3000L);
+    }
+    
+    @Test
+    public void assertExecuteUpdate() throws Exception {
+        startServer(AuthenticationType.NATIVE_PASSWORD, MySQLServerFixture.PASSWORD);
+        Object actual = execute("UPDATE t_order SET status = 'OK'");
+        assertThat(actual, instanceOf(MySQLOKPacket.class));
+        assertThat(((MySQLOKPacket) actual).getAffectedRows(), is(3L));
+    }
+    
+    @Test
+    public void assertExecuteQuery() throws Exception {
+        startServer(AuthenticationType.NATIVE_PASSWORD, MySQLServerFixture.PASSWORD);
+        Object actual = execute("SELECT order_id, status FROM t_order");
+        assertThat(actual, instanceOf(MySQLBackendResultSet.class));
+        MySQLBackendQueryResult queryResult = new MySQLBackendQueryResult((MySQLBackendResultSet) actual);
+        assertThat(queryResult.getColumnCount(), is(2));
+        assertThat(queryResult.getColumnLabel(1), is("order_id"));
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getValue(1, Object.class), is((Object) 1L));
+        assertThat(queryResult.getValue(2, Object.class), is((Object) "OK"));
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getValue(1, Object.class), is((Object) 2L));
+        assertThat(queryResult.getValue(2, Object.class), nullValue());
+        assertTrue(queryResult.wasNull());
+        assertFalse(queryResult.next());
+    }
+    
+    @Test
+    public void assertExecuteQueryWithLargeResultSet() throws Exception {
+        startServer(AuthenticationType.NATIVE_PASSWORD, MySQLServerFixture.PASSWORD);
+        MySQLBackendQueryResult queryResult = new MySQLBackendQueryResult((MySQLBackendResultSet) execute("SELECT * FROM t_large"));
+        for (int i = 0; i < MySQLServerFixture.LARGE_RESULT_SET_SIZE; i++) {
+            assertTrue(queryResult.next());
+            assertThat(queryResult.getValue(1, Object.class), is((Object) (long) i));
+        }
+        assertFalse(queryResult.next());
+        assertThat(execute("UPDATE t_order SET status = 'OK'"), instanceOf(MySQLOKPacket.class));
+    }
+    
+    @Test
+    public void assertExecuteAfterQueryResultClosed() throws Exception {
+        startServer(AuthenticationType.NATIVE_PASSWORD, MySQLServerFixture.PASSWORD);
+        connectionConfig = new NettyConnectionConfiguration(
+                connectionConfig.getHostName(), connectionConfig.getPort(), connectionConfig.getDatabase(), "root", MySQLServerFixture.PASSWORD, 1, 3000L, 0L, MySQLBackendCharacterSet.UTF8MB4);
+        MySQLBackendQueryResult queryResult = new MySQLBackendQueryResult((MySQLBackendResultSet) execute("SELECT * FROM t_large"));
+        assertTrue(queryResult.next());
+        queryResult.close();
+        assertFalse(queryResult.next());
+        assertThat(execute("UPDATE t_order SET status = 'OK'"), instanceOf(MySQLOKPacket.class));
+        assertThat(server.getConnectionCount().get(), is(1));
+    }
+    
+    @Test
+    public void assertExecuteWithError() throws Exception {
+        startServer(AuthenticationType.NATIVE_PASSWORD, MySQLServerFixture.PASSWORD);
+        Object actual = execute("DELETE FROM t_unknown");
+        assertThat(actual, instanceOf(SQLException.class));
+        assertThat(((SQLException) actual).getErrorCode(), is(1146));
+        assertThat(((SQLException) actual).getSQLState(), is("42S02"));
+    }
+    
+    @Test
+    public void assertExecuteConcurrentlyWithinMaxConnections() throws Exception {
+        startServer(AuthenticationType.NATIVE_PASSWORD, MySQLServerFixture.PASSWORD);
+        List<CompletableFuture<Object>> futures = new ArrayList<>(20);
+        for (int i = 0; i < 20; i++) {
+            futures.add(executeAsync(dataSource, "UPDATE t_order SET status = 'OK'"));
+        }
+        for (CompletableFuture<Object> each : futures) {
+            assertThat(each.get(5, TimeUnit.SECONDS), instanceOf(MySQLOKPacket.class));
+        }
+        assertTrue(server.getConnectionCount().get() <= connectionConfig.getMaxConnections());
+        waitForAvailablePermits(2);
+        assertThat(semaphore.getAvailablePermits(), is(2));
+    }
+    
+    @Test
+    public void assertReleasePermitAfterQueryResultClosed() throws Exception {
+        startServer(AuthenticationType.NATIVE_PASSWORD, MySQLServerFixture.PASSWORD);
+        MySQLBackendQueryResult queryResult = new MySQLBackendQueryResult((MySQLBackendResultSet) execute("SELECT * FROM t_large"));
+        queryResult.close();
+        waitForAvailablePermits(2);
+        assertThat(semaphore.getAvailablePermits(), is(2));
+    }
+    
+    @Test
+    public void assertCloseIdleChannel() throws Exception {
+        startServer(AuthenticationType.NATIVE_PASSWORD, MySQLServerFixture.PASSWORD);
+        connectionConfig = new NettyConnectionConfiguration(
+                connectionConfig.getHostName(), connectionConfig.getPort(), connectionConfig.getDatabase(), "root", MySQLServerFixture.PASSWORD, 1, 3000L, 100L, MySQLBackendCharacterSet.UTF8MB4);
+        assertThat(execute("UPDATE t_order SET status = 'OK'"), instanceOf(MySQLOKPacket.class));
+        waitForClosedConnections();
+        assertThat(server.getClosedConnectionCount().get(), is(1));
+        assertThat(execute("UPDATE t_order SET status = 'OK'"), instanceOf(MySQLOKPacket.class));
+        assertThat(server.getConnectionCount().get(), is(2));
+    }
+    
+    @Test
+    public void assertExecuteWithCachingSha2Password() throws Exception {
+        startServer(AuthenticationType.CACHING_SHA2_PASSWORD, MySQLServerFixture.PASSWORD);
+        assertThat(execute("UPDATE t_order SET status = 'OK'"), instanceOf(MySQLOKPacket.class));
+    }
+    
+    @Test
+    public void assertExecuteWithCachingSha2PasswordFullAuthentication() throws Exception {
+        startServer(AuthenticationType.SWITCH_TO_CACHING_SHA2_PASSWORD_WITH_FULL_AUTHENTICATION, MySQLServerFixture.PASSWORD);
+        assertThat(execute("UPDATE t_order SET status = 'OK'"), instanceOf(MySQLOKPacket.class));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertExecuteWithWrongPassword() throws Throwable {
+        startServer(AuthenticationType.SWITCH_TO_CACHING_SHA2_PASSWORD_WITH_FULL_AUTHENTICATION, "wrong");
+        try {
+            execute("UPDATE t_order SET status = 'OK'");
+        } catch (final ExecutionException ex) {
+            throw ex.getCause();
+        }
+    }
+    
+    @Test
+    public void assertCloseChannelPoolOfClosedDataSource() throws Exception {
+        startServer(AuthenticationType.NATIVE_PASSWORD, MySQLServerFixture.PASSWORD);
+        HikariDataSource closedDataSource = new HikariDataSource();
+        assertThat(executeAsync(closedDataSource, "UPDATE t_order SET status = 'OK'").get(5, TimeUnit.SECONDS), instanceOf(MySQLOKPacket.class));
+        closedDataSource.close();
+        assertThat(execute("UPDATE t_order SET status = 'OK'"), instanceOf(MySQLOKPacket.class));
+        waitForClosedConnections();
+        assertThat(server.getClosedConnectionCount().get(), is(1));
+        assertThat(server.getConnectionCount().get(), is(2));
+    }
+    
+    private Object execute(final String sql) throws Exception {
+        return executeAsync(dataSource, sql).get(5, TimeUnit.SECONDS);
+    }
+    
+    private CompletableFuture<Object> executeAsync(final HikariDataSource dataSource, final String sql) throws SQLException {
+        semaphore.reserve("foo_ds", 1);
+        return NettyBackendClient.getInstance().execute(dataSource, connectionConfig, semaphore, sql);
+    }
+    
+    private void waitForAvailablePermits(final int expectedPermits) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 5000L;
+        while (expectedPermits != semaphore.getAvailablePermits() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10L);
+        }
+    }
+    
+    private void waitForClosedConnections() throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 5000L;
+        while (0 == server.getClosedConnectionCount().get() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10L);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.infra.auth.Authentication;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.CachedDatabaseMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.ConnectionAcquisitionSemaphore;
+import org.apache.shardingsphere.proxy.backend.communication.netty.fixture.MySQLServerFixture;
+import org.apache.shardingsphere.proxy.backend.communication.netty.fixture.MySQLServerFixture.AuthenticationType;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+import org.apache.shardingsphere.transaction.core.TransactionType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class NettyDatabaseCommunicationEngineTest {
+    
+    private final HikariDataSource dataSource = new HikariDataSource();
+    
+    private final BackendConnection backendConnection = new BackendConnection(TransactionType.LOCAL);
+    
+    private MySQLServerFixture server;
+    
+    private ShardingSphereMetaData metaData;
+    
+    @Before
+    public void setUp() throws InterruptedException, ReflectiveOperationException {
+        server = new MySQLServerFixture(AuthenticationType.NATIVE_PASSWORD);
+        dataSource.setJdbcUrl(String.format("jdbc:mysql://127.0.0.1:%d/foo_db", server.start()));
+        dataSource.setUsername("root");
+        dataSource.setPassword(MySQLServerFixture.PASSWORD);
+        dataSource.setMaximumPoolSize(1);
+        DataSourcesMetaData dataSourcesMetaData = mock(DataSourcesMetaData.class);
+        when(dataSourcesMetaData.getAllInstanceDataSourceNames()).thenReturn(Collections.singletonList("ds_0"));
+        metaData = new ShardingSphereMetaData("schema", new ShardingSphereResource(Collections.singletonMap("ds_0", dataSource), dataSourcesMetaData, mock(CachedDatabaseMetaData.class)),
+                new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), new ShardingSphereSchema());
+        Field metaDataContexts = ProxyContext.getInstance().getClass().getDeclaredField("metaDataContexts");
+        metaDataContexts.setAccessible(true);
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_RESPONSE_TIMEOUT_MILLISECONDS.getKey(), "1000");
+        metaDataContexts.set(ProxyContext.getInstance(), new StandardMetaDataContexts(Collections.singletonMap("schema", metaData),
+                mock(ExecutorEngine.class), new Authentication(), new ConfigurationProperties(props), new MySQLDatabaseType()));
+    }
+    
+    @After
+    public void tearDown() {
+        backendConnection.closeResultSets();
+        NettyBackendClient.getInstance().close();
+        dataSource.close();
+        server.stop();
+    }
+    
+    @Test
+    public void assertExecuteQuery() throws SQLException {
+        NettyDatabaseCommunicationEngine engine = createEngine(new MySQLSelectStatement(), "SELECT order_id, status FROM t_order");
+        BackendResponse actual = engine.execute();
+        assertThat(actual, instanceOf(QueryResponse.class));
+        assertThat(((QueryResponse) actual).getQueryHeaders().size(), is(2));
+        assertThat(((QueryResponse) actual).getQueryHeaders().get(0).getColumnLabel(), is("order_id"));
+        assertTrue(engine.next());
+        assertThat(engine.getQueryData().getData(), is(Arrays.<Object>asList(1L, "OK")));
+        assertTrue(engine.next());
+        assertThat(engine.getQueryData().getData(), is(Arrays.<Object>asList(2L, null)));
+        assertFalse(engine.next());
+    }
+    
+    @Test
+    public void assertExecuteUpdate() throws SQLException {
+        BackendResponse actual = createEngine(new MySQLUpdateStatement(), "UPDATE t_order SET status = 'OK'").execute();
+        assertThat(actual, instanceOf(UpdateResponse.class));
+        assertThat(((UpdateResponse) actual).getUpdateCount(), is(3L));
+        assertThat(((UpdateResponse) actual).getType(), is("UPDATE"));
+    }
+    
+    @Test
+    public void assertExecuteWithError() {
+        try {
+            createEngine(new MySQLDeleteStatement(), "DELETE FROM t_unknown").execute();
+            fail("Expected SQLException");
+        } catch (final SQLException ex) {
+            assertThat(ex.getErrorCode(), is(1146));
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertExecuteWithResponseTimeout() throws SQLException {
+        createEngine(new MySQLSelectStatement(), "SELECT SLEEP(10)").execute();
+    }
+    
+    @Test
+    public void assertReleaseConnectionAcquisitionPermit() throws SQLException, InterruptedException {
+        assertThat(createEngine(new MySQLUpdateStatement(), "UPDATE t_order SET status = 'OK'").execute(), instanceOf(UpdateResponse.class));
+        ConnectionAcquisitionSemaphore semaphore = ProxyContext.getInstance().getBackendDataSource().getConnectionAcquisitionSemaphore("schema", "ds_0").get();
+        long timeout = System.currentTimeMillis() + 5000L;
+        while (1 != semaphore.getAvailablePermits() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10L);
+        }
+        assertThat(semaphore.getAvailablePermits(), is(1));
+        assertThat(semaphore.getAcquiredCount(), is(1L));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertExecuteWithParameters() throws SQLException {
+        createEngine(new MySQLSelectStatement(), "SELECT order_id, status FROM t_order WHERE order_id = ?", Collections.singletonList(1)).execute();
+    }
+    
+    @Test
+    public void assertExecuteAfterQueryResultClosed() throws SQLException {
+        NettyDatabaseCommunicationEngine engine = createEngine(new MySQLSelectStatement(), "SELECT * FROM t_large");
+        engine.execute();
+        assertTrue(engine.next());
+        assertTrue(backendConnection.closeResultSets().isEmpty());
+        assertThat(createEngine(new MySQLUpdateStatement(), "UPDATE t_order SET status = 'OK'").execute(), instanceOf(UpdateResponse.class));
+    }
+    
+    private NettyDatabaseCommunicationEngine createEngine(final SQLStatement sqlStatement, final String sql) {
+        return createEngine(sqlStatement, sql, Collections.emptyList());
+    }
+    
+    private NettyDatabaseCommunicationEngine createEngine(final SQLStatement sqlStatement, final String sql, final List<Object> parameters) {
+        return new NettyDatabaseCommunicationEngine(new LogicSQL(new CommonSQLStatementContext<>(sqlStatement), sql, parameters), metaData, backendConnection);
+    }
+}
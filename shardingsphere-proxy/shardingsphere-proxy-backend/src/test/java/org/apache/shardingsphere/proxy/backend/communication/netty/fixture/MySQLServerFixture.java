@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.fixture;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLAuthenticationMethod;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthPluginData;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchRequestPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchResponsePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.communication.netty.mysql.MySQLBackendPasswordEncryptor;
+
+import javax.crypto.Cipher;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stub MySQL server for Netty backend tests.
+ */
+@RequiredArgsConstructor
+public final class MySQLServerFixture {
+    
+    public static final String PASSWORD = "root";
+    
+    public static final int LARGE_RESULT_SET_SIZE = 5000;
+    
+    private static final int ACCESS_DENIED_ERROR_CODE = 1045;
+    
+    private final AuthenticationType authenticationType;
+    
+    @Getter
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    
+    @Getter
+    private final AtomicInteger closedConnectionCount = new AtomicInteger();
+    
+    private EventLoopGroup eventLoopGroup;
+    
+    private Channel serverChannel;
+    
+    /**
+     * Start server.
+     *
+     * @return port of server
+     * @throws InterruptedException interrupted exception
+     */
+    public int start() throws InterruptedException {
+        eventLoopGroup = new NioEventLoopGroup(1);
+        serverChannel = new ServerBootstrap().group(eventLoopGroup).channel(NioServerSocketChannel.class).childHandler(new ChannelInitializer<SocketChannel>() {
+            
+            @Override
+            protected void initChannel(final SocketChannel socketChannel) {
+                socketChannel.pipeline().addLast(new PacketCodec(new MySQLPacketCodecEngine()));
+                socketChannel.pipeline().addLast(new StubMySQLServerHandler());
+            }
+        }).bind("127.0.0.1", 0).sync().channel();
+        return ((InetSocketAddress) serverChannel.localAddress()).getPort();
+    }
+    
+    /**
+     * Stop server.
+     */
+    public void stop() {
+        serverChannel.close();
+        eventLoopGroup.shutdownGracefully();
+    }
+    
+    /**
+     * Authentication type of stub server.
+     */
+    public enum AuthenticationType {
+        
+        NATIVE_PASSWORD, CACHING_SHA2_PASSWORD, SWITCH_TO_CACHING_SHA2_PASSWORD_WITH_FULL_AUTHENTICATION
+    }
+    
+    private final class StubMySQLServerHandler extends ChannelInboundHandlerAdapter {
+        
+        private byte[] seed;
+        
+        private KeyPair keyPair;
+        
+        private int authenticationStep;
+        
+        private boolean authenticated;
+        
+        @Override
+        public void channelActive(final ChannelHandlerContext context) {
+            MySQLAuthPluginData authPluginData = new MySQLAuthPluginData();
+            seed = authPluginData.getAuthPluginData();
+            MySQLHandshakePacket handshakePacket = new MySQLHandshakePacket(connectionCount.incrementAndGet(), authPluginData);
+            if (AuthenticationType.CACHING_SHA2_PASSWORD == authenticationType) {
+                handshakePacket.setAuthPluginName(MySQLAuthenticationMethod.CACHING_SHA2);
+            }
+            context.writeAndFlush(handshakePacket);
+        }
+        
+        @Override
+        public void channelInactive(final ChannelHandlerContext context) throws Exception {
+            closedConnectionCount.incrementAndGet();
+            super.channelInactive(context);
+        }
+        
+        @Override
+        public void channelRead(final ChannelHandlerContext context, final Object message) throws GeneralSecurityException {
+            MySQLPacketPayload payload = new MySQLPacketPayload((ByteBuf) message);
+            try {
+                if (authenticated) {
+                    handleCommand(context, payload);
+                } else {
+                    handleAuthentication(context, payload);
+                }
+            } finally {
+                payload.release();
+            }
+        }
+        
+        private void handleAuthentication(final ChannelHandlerContext context, final MySQLPacketPayload payload) throws GeneralSecurityException {
+            int step = authenticationStep++;
+            if (0 == step) {
+                MySQLHandshakeResponse41Packet handshakeResponsePacket = new MySQLHandshakeResponse41Packet(payload);
+                handleHandshakeResponse(context, handshakeResponsePacket.getSequenceId() + 1, handshakeResponsePacket.getAuthResponse());
+                return;
+            }
+            MySQLAuthSwitchResponsePacket authSwitchResponsePacket = new MySQLAuthSwitchResponsePacket(payload);
+            int sequenceId = authSwitchResponsePacket.getSequenceId() + 1;
+            byte[] authResponse = authSwitchResponsePacket.getAuthPluginResponse();
+            switch (step) {
+                case 1:
+                    if (Arrays.equals(MySQLBackendPasswordEncryptor.encryptWithCachingSha2Password(PASSWORD, seed), authResponse)) {
+                        context.writeAndFlush(new MySQLAuthSwitchResponsePacket(sequenceId, new byte[]{0x01, 0x04}));
+                    } else {
+                        authenticate(context, sequenceId, false);
+                    }
+                    return;
+                case 2:
+                    if (Arrays.equals(new byte[]{0x02}, authResponse)) {
+                        context.writeAndFlush(new MySQLAuthSwitchResponsePacket(sequenceId, createPublicKeyData()));
+                    } else {
+                        authenticate(context, sequenceId, false);
+                    }
+                    return;
+                default:
+                    authenticate(context, sequenceId, decryptPassword(authResponse).equals(PASSWORD + '\0'));
+            }
+        }
+        
+        private void handleHandshakeResponse(final ChannelHandlerContext context, final int sequenceId, final byte[] authResponse) {
+            switch (authenticationType) {
+                case NATIVE_PASSWORD:
+                    authenticate(context, sequenceId, Arrays.equals(MySQLBackendPasswordEncryptor.encryptWithNativePassword(PASSWORD, seed), authResponse));
+                    return;
+                case CACHING_SHA2_PASSWORD:
+                    if (Arrays.equals(MySQLBackendPasswordEncryptor.encryptWithCachingSha2Password(PASSWORD, seed), authResponse)) {
+                        context.write(new MySQLAuthSwitchResponsePacket(sequenceId, new byte[]{0x01, 0x03}));
+                        authenticate(context, sequenceId + 1, true);
+                    } else {
+                        authenticate(context, sequenceId, false);
+                    }
+                    return;
+                default:
+                    seed = new MySQLAuthPluginData().getAuthPluginData();
+                    context.writeAndFlush(new MySQLAuthSwitchRequestPacket(sequenceId, MySQLAuthenticationMethod.CACHING_SHA2.getMethodName(), new MySQLAuthPluginData(seed, new byte[0])));
+            }
+        }
+        
+        private void authenticate(final ChannelHandlerContext context, final int sequenceId, final boolean success) {
+            authenticated = success;
+            if (success) {
+                context.writeAndFlush(new MySQLOKPacket(sequenceId));
+            } else {
+                context.writeAndFlush(new MySQLErrPacket(sequenceId, ACCESS_DENIED_ERROR_CODE, "28000", "Access denied for user 'root'"));
+            }
+        }
+        
+        private byte[] createPublicKeyData() {
+            keyPair = generateKeyPair();
+            String publicKey = "-----BEGIN PUBLIC KEY-----\n" + Base64.getMimeEncoder().encodeToString(keyPair.getPublic().getEncoded()) + "\n-----END PUBLIC KEY-----\n";
+            byte[] publicKeyBytes = publicKey.getBytes(StandardCharsets.US_ASCII);
+            byte[] result = new byte[publicKeyBytes.length + 1];
+            result[0] = 0x01;
+            System.arraycopy(publicKeyBytes, 0, result, 1, publicKeyBytes.length);
+            return result;
+        }
+        
+        private String decryptPassword(final byte[] authResponse) throws GeneralSecurityException {
+            Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA-1AndMGF1Padding");
+            cipher.init(Cipher.DECRYPT_MODE, keyPair.getPrivate());
+            byte[] result = cipher.doFinal(authResponse);
+            for (int i = 0; i < result.length; i++) {
+                result[i] = (byte) (result[i] ^ seed[i % seed.length]);
+            }
+            return new String(result, StandardCharsets.UTF_8);
+        }
+        
+        @SneakyThrows(GeneralSecurityException.class)
+        private KeyPair generateKeyPair() {
+            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+            keyPairGenerator.initialize(2048);
+            return keyPairGenerator.generateKeyPair();
+        }
+        
+        private void handleCommand(final ChannelHandlerContext context, final MySQLPacketPayload payload) {
+            payload.readInt1();
+            payload.readInt1();
+            String sql = payload.readStringEOF();
+            if (sql.startsWith("SELECT * FROM t_large")) {
+                writeLargeResultSet(context);
+            } else if (sql.startsWith("SELECT SLEEP")) {
+                return;
+            } else if (sql.startsWith("SELECT")) {
+                writeResultSet(context);
+            } else if (sql.startsWith("UPDATE")) {
+                context.writeAndFlush(new MySQLOKPacket(1, 3L, 0L));
+            } else {
+                context.writeAndFlush(new MySQLErrPacket(1, 1146, "42S02", "Table 'foo_db.t_unknown' doesn't exist"));
+            }
+        }
+        
+        private void writeResultSet(final ChannelHandlerContext context) {
+            context.write(new MySQLFieldCountPacket(1, 2));
+            context.write(new MySQLColumnDefinition41Packet(2, "foo_db", "t_order", "t_order", "order_id", "order_id", 20, MySQLColumnType.MYSQL_TYPE_LONGLONG, 0));
+            context.write(new MySQLColumnDefinition41Packet(3, "foo_db", "t_order", "t_order", "status", "status", 50, MySQLColumnType.MYSQL_TYPE_VAR_STRING, 0));
+            context.write(new MySQLEofPacket(4));
+            context.write(new MySQLTextResultSetRowPacket(5, Arrays.<Object>asList(1L, "OK")));
+            context.write(new MySQLTextResultSetRowPacket(6, Arrays.<Object>asList(2L, null)));
+            context.writeAndFlush(new MySQLEofPacket(7));
+        }
+        
+        private void writeLargeResultSet(final ChannelHandlerContext context) {
+            context.write(new MySQLFieldCountPacket(1, 1));
+            context.write(new MySQLColumnDefinition41Packet(2, "foo_db", "t_large", "t_large", "id", "id", 20, MySQLColumnType.MYSQL_TYPE_LONGLONG, 0));
+            context.write(new MySQLEofPacket(3));
+            for (int i = 0; i < LARGE_RESULT_SET_SIZE; i++) {
+                context.write(new MySQLTextResultSetRowPacket((4 + i) % 256, Collections.<Object>singletonList((long) i)));
+            }
+            context.writeAndFlush(new MySQLEofPacket((4 + LARGE_RESULT_SET_SIZE) % 256));
+        }
+    }
+}
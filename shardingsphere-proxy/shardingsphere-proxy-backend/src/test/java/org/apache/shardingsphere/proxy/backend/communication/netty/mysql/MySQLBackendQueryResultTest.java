@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.channel.Channel;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MySQLBackendQueryResultTest {
+    
+    private static final int UNSIGNED_FLAG = 0x0020;
+    
+    @Test
+    public void assertGetValueWithUnsignedBigint() throws SQLException {
+        MySQLBackendQueryResult actual = createQueryResult(mockColumnDefinition(MySQLColumnType.MYSQL_TYPE_LONGLONG, 63, UNSIGNED_FLAG), StandardCharsets.UTF_8, "18446744073709551615".getBytes());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) new BigInteger("18446744073709551615")));
+        assertFalse(actual.isSigned(1));
+        assertThat(actual.getJDBCType(1), is(Types.BIGINT));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueWithSignedBigint() throws SQLException {
+        MySQLBackendQueryResult actual = createQueryResult(mockColumnDefinition(MySQLColumnType.MYSQL_TYPE_LONGLONG, 63, 0), StandardCharsets.UTF_8, "-9223372036854775808".getBytes());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) Long.MIN_VALUE));
+        assertTrue(actual.isSigned(1));
+    }
+    
+    @Test
+    public void assertGetValueWithBinaryBlob() throws SQLException {
+        byte[] value = {(byte) 0xff, 0x00, 0x7f};
+        MySQLBackendQueryResult actual = createQueryResult(mockColumnDefinition(MySQLColumnType.MYSQL_TYPE_BLOB, 63, 0), StandardCharsets.UTF_8, value);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) value));
+        assertThat(actual.getJDBCType(1), is(Types.BLOB));
+    }
+    
+    @Test
+    public void assertGetValueWithTextBlob() throws SQLException {
+        MySQLBackendQueryResult actual = createQueryResult(mockColumnDefinition(MySQLColumnType.MYSQL_TYPE_BLOB, 45, 0), StandardCharsets.UTF_8, "foo".getBytes(StandardCharsets.UTF_8));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) "foo"));
+        assertThat(actual.getJDBCType(1), is(Types.LONGVARCHAR));
+    }
+    
+    @Test
+    public void assertGetValueWithVarbinary() throws SQLException {
+        byte[] value = {(byte) 0x80, 0x01};
+        MySQLBackendQueryResult actual = createQueryResult(mockColumnDefinition(MySQLColumnType.MYSQL_TYPE_VAR_STRING, 63, 0), StandardCharsets.UTF_8, value);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) value));
+        assertThat(actual.getJDBCType(1), is(Types.VARBINARY));
+    }
+    
+    @Test
+    public void assertGetValueWithBit() throws SQLException {
+        byte[] value = {0x01, 0x02};
+        MySQLBackendQueryResult actual = createQueryResult(mockColumnDefinition(MySQLColumnType.MYSQL_TYPE_BIT, 63, UNSIGNED_FLAG), StandardCharsets.UTF_8, value);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) value));
+        assertThat(actual.getJDBCType(1), is(Types.BIT));
+    }
+    
+    @Test
+    public void assertGetValueWithCharacterSet() throws SQLException {
+        Charset latin1 = StandardCharsets.ISO_8859_1;
+        MySQLBackendQueryResult actual = createQueryResult(mockColumnDefinition(MySQLColumnType.MYSQL_TYPE_VAR_STRING, 8, 0), latin1, "caf\u00e9".getBytes(latin1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) "caf\u00e9"));
+        assertThat(actual.getJDBCType(1), is(Types.VARCHAR));
+    }
+    
+    @Test
+    public void assertGetValueWithNull() throws SQLException {
+        MySQLBackendQueryResult actual = createQueryResult(mockColumnDefinition(MySQLColumnType.MYSQL_TYPE_LONG, 63, 0), StandardCharsets.UTF_8, null);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), nullValue());
+        assertTrue(actual.wasNull());
+        assertThat(actual.getInputStream(1, "Binary"), nullValue());
+    }
+    
+    @Test
+    public void assertGetInputStream() throws SQLException, IOException {
+        byte[] value = {(byte) 0xff, 0x00};
+        MySQLBackendQueryResult actual = createQueryResult(mockColumnDefinition(MySQLColumnType.MYSQL_TYPE_BLOB, 63, 0), StandardCharsets.UTF_8, value);
+        assertTrue(actual.next());
+        assertThat(readAll(actual.getInputStream(1, "Binary")), is(value));
+        assertFalse(actual.wasNull());
+    }
+    
+    private MySQLColumnDefinition41Packet mockColumnDefinition(final MySQLColumnType columnType, final int characterSet, final int flags) {
+        MySQLColumnDefinition41Packet result = mock(MySQLColumnDefinition41Packet.class);
+        when(result.getColumnType()).thenReturn(columnType);
+        when(result.getCharacterSet()).thenReturn(characterSet);
+        when(result.getFlags()).thenReturn(flags);
+        return result;
+    }
+    
+    private MySQLBackendQueryResult createQueryResult(final MySQLColumnDefinition41Packet columnDefinition, final Charset charset, final byte[] value) {
+        MySQLBackendResultSet resultSet = new MySQLBackendResultSet(1, charset, mock(Channel.class));
+        resultSet.getColumnDefinitions().add(columnDefinition);
+        resultSet.addRow(Collections.singletonList(value));
+        resultSet.complete();
+        return new MySQLBackendQueryResult(resultSet);
+    }
+    
+    private byte[] readAll(final InputStream inputStream) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        int each;
+        while (-1 != (each = inputStream.read())) {
+            result.write(each);
+        }
+        return result.toByteArray();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.netty.mysql;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class MySQLBackendResultSetTest {
+    
+    private ChannelConfig channelConfig;
+    
+    private MySQLBackendResultSet resultSet;
+    
+    @Before
+    public void setUp() {
+        Channel channel = mock(Channel.class);
+        channelConfig = mock(ChannelConfig.class);
+        when(channel.config()).thenReturn(channelConfig);
+        resultSet = new MySQLBackendResultSet(1, StandardCharsets.UTF_8, channel);
+    }
+    
+    @Test
+    public void assertNextRow() throws SQLException {
+        resultSet.addRow(createRow(1));
+        resultSet.complete();
+        assertThat(new String(resultSet.nextRow().get(0), StandardCharsets.UTF_8), is("1"));
+        assertThat(resultSet.nextRow(), nullValue());
+        assertThat(resultSet.nextRow(), nullValue());
+        verify(channelConfig, never()).setAutoRead(false);
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextRowWithFailure() throws SQLException {
+        resultSet.addRow(createRow(1));
+        resultSet.fail(new SQLException("Connection reset"));
+        resultSet.nextRow();
+        resultSet.nextRow();
+    }
+    
+    @Test
+    public void assertSuspendAndResumeReading() throws SQLException {
+        for (int i = 0; i < 1024; i++) {
+            resultSet.addRow(createRow(i));
+        }
+        verify(channelConfig).setAutoRead(false);
+        for (int i = 0; i < 767; i++) {
+            resultSet.nextRow();
+        }
+        verify(channelConfig, never()).setAutoRead(true);
+        assertThat(new String(resultSet.nextRow().get(0), StandardCharsets.UTF_8), is("767"));
+        verify(channelConfig).setAutoRead(true);
+        for (int i = 0; i < 1024; i++) {
+            resultSet.addRow(createRow(i));
+        }
+        verify(channelConfig, times(2)).setAutoRead(false);
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        for (int i = 0; i < 1024; i++) {
+            resultSet.addRow(createRow(i));
+        }
+        resultSet.close();
+        verify(channelConfig).setAutoRead(true);
+        resultSet.addRow(createRow(1024));
+        assertThat(resultSet.nextRow(), nullValue());
+        verify(channelConfig).setAutoRead(false);
+    }
+    
+    private List<byte[]> createRow(final int value) {
+        return Collections.singletonList(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+    }
+}
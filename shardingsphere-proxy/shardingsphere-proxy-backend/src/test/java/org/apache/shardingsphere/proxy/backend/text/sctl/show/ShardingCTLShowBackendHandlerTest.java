@@ -17,7 +17,15 @@
 
 package org.apache.shardingsphere.proxy.backend.text.sctl.show;
 
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.infra.auth.Authentication;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.proxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.proxy.backend.text.sctl.exception.InvalidShardingCTLFormatException;
@@ -25,12 +33,24 @@ import org.apache.shardingsphere.proxy.backend.text.sctl.exception.UnsupportedSh
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Test;
 
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class ShardingCTLShowBackendHandlerTest {
     
@@ -60,6 +80,43 @@ public final class ShardingCTLShowBackendHandlerTest {
         assertThat(rowData.iterator().next(), is(0));
     }
     
+    @Test
+    public void assertShowConnectionAcquisitionWait() throws SQLException, ReflectiveOperationException {
+        setMetaDataContexts();
+        backendConnection.setCurrentSchema("schema");
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show connection_acquisition_wait", backendConnection);
+        BackendResponse actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponse.class));
+        assertThat(((QueryResponse) actual).getQueryHeaders().size(), is(5));
+        assertTrue(backendHandler.next());
+        assertThat(backendHandler.getRowData(), is(Arrays.<Object>asList("pooled_ds", 0L, 0L, 0L, 10)));
+        assertFalse(backendHandler.next());
+    }
+    
+    @Test
+    public void assertShowPreparedStatementCache() throws SQLException {
+        backendConnection.setCurrentSchema("schema");
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show prepared_statement_cache", backendConnection);
+        BackendResponse actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponse.class));
+        assertThat(((QueryResponse) actual).getQueryHeaders().size(), is(4));
+        assertTrue(backendHandler.next());
+        assertThat(backendHandler.getRowData(), is(Arrays.<Object>asList(0, 0L, 0L, 0D)));
+        assertFalse(backendHandler.next());
+    }
+    
+    private void setMetaDataContexts() throws ReflectiveOperationException {
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        Map<String, DataSource> dataSources = new LinkedHashMap<>(2, 1);
+        dataSources.put("pooled_ds", new HikariDataSource());
+        dataSources.put("unpooled_ds", mock(DataSource.class));
+        when(metaData.getResource().getDataSources()).thenReturn(dataSources);
+        Field metaDataContexts = ProxyContext.getInstance().getClass().getDeclaredField("metaDataContexts");
+        metaDataContexts.setAccessible(true);
+        metaDataContexts.set(ProxyContext.getInstance(), new StandardMetaDataContexts(Collections.singletonMap("schema", metaData),
+                mock(ExecutorEngine.class), new Authentication(), new ConfigurationProperties(new Properties()), new MySQLDatabaseType()));
+    }
+    
     @Test(expected = UnsupportedShardingCTLTypeException.class)
     public void assertShowCachedConnectionFailed() {
         backendConnection.setCurrentSchema("schema");
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.frontend.binary;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.binary.BinaryStatementListener;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * SQL statement cache shared by binary prepared statements of all client connections.
+ *
+ * <p>
+ * Parsed SQL statement is cached by SQL and counted by the binary statements referring it,
+ * it is released once the last binary statement is closed, evicted or released with its connection.
+ * SQL is parsed outside of map operations, so that registering other SQLs is not blocked by parsing.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SharedSQLStatementCache implements BinaryStatementListener {
+    
+    private static final SharedSQLStatementCache INSTANCE = new SharedSQLStatementCache();
+    
+    private final ConcurrentMap<String, ReferenceCountedSQLStatement> sqlStatements = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of shared SQL statement cache.
+     *
+     * @return instance of shared SQL statement cache
+     */
+    public static SharedSQLStatementCache getInstance() {
+        return INSTANCE;
+    }
+    
+    @Override
+    public void onRegistered(final String sql) {
+        if (retain(sql)) {
+            return;
+        }
+        ReferenceCountedSQLStatement sqlStatement = new ReferenceCountedSQLStatement(parse(sql));
+        while (null != sqlStatements.putIfAbsent(sql, sqlStatement)) {
+            if (retain(sql)) {
+                return;
+            }
+        }
+    }
+    
+    private boolean retain(final String sql) {
+        return null != sqlStatements.computeIfPresent(sql, (key, value) -> value.retain());
+    }
+    
+    @Override
+    public void onRemoved(final String sql) {
+        sqlStatements.computeIfPresent(sql, (key, value) -> value.release());
+    }
+    
+    /**
+     * Get SQL statement, parse SQL if it is not referred by any binary statement.
+     *
+     * @param sql SQL
+     * @return SQL statement
+     */
+    public SQLStatement getSQLStatement(final String sql) {
+        ReferenceCountedSQLStatement result = sqlStatements.get(sql);
+        return null == result ? parse(sql) : result.sqlStatement;
+    }
+    
+    /**
+     * Get reference count of SQL statement.
+     *
+     * @param sql SQL
+     * @return reference count, 0 if SQL statement is not cached
+     */
+    public int getReferenceCount(final String sql) {
+        ReferenceCountedSQLStatement result = sqlStatements.get(sql);
+        return null == result ? 0 : result.referenceCount;
+    }
+    
+    private SQLStatement parse(final String sql) {
+        ShardingSphereSQLParserEngine sqlStatementParserEngine = new ShardingSphereSQLParserEngine(
+                DatabaseTypeRegistry.getTrunkDatabaseTypeName(ProxyContext.getInstance().getMetaDataContexts().getDatabaseType()));
+        return sqlStatementParserEngine.parse(sql, true);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ReferenceCountedSQLStatement {
+        
+        private final SQLStatement sqlStatement;
+        
+        private volatile int referenceCount = 1;
+        
+        private ReferenceCountedSQLStatement retain() {
+            referenceCount++;
+            return this;
+        }
+        
+        private ReferenceCountedSQLStatement release() {
+            referenceCount--;
+            return 0 == referenceCount ? null : this;
+        }
+    }
+}
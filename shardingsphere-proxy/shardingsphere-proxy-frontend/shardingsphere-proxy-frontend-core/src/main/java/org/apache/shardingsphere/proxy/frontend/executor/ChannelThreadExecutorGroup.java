@@ -20,11 +20,15 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 import io.netty.channel.ChannelId;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.VirtualThreadExecutorBuilder;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Channel thread executor group.
@@ -32,15 +36,20 @@ import java.util.concurrent.Executors;
  * <p>
  *     Manage the thread for each channel invoking.
  *     This ensure XA transaction framework processed by current thread id.
+ *     The thread of each channel is a virtual thread if virtual thread is enabled and supported by the runtime.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ChannelThreadExecutorGroup {
     
+    private static final String VIRTUAL_THREAD_NAME_PREFIX = "Command-";
+    
     private static final ChannelThreadExecutorGroup INSTANCE = new ChannelThreadExecutorGroup();
     
     private final Map<ChannelId, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private final ThreadFactory virtualThreadFactory = VirtualThreadExecutorBuilder.buildThreadFactory(VIRTUAL_THREAD_NAME_PREFIX).orElse(null);
+    
     /**
      * Get channel thread executor group.
      * 
@@ -50,13 +59,26 @@ public final class ChannelThreadExecutorGroup {
         return INSTANCE;
     }
     
+    /**
+     * Judge whether threads of channels are virtual threads.
+     *
+     * <p>
+     *     The property is read on every call, so that it is not bound to the props loaded when the group is initialized.
+     * </p>
+     *
+     * @return threads of channels are virtual threads or not
+     */
+    public boolean isVirtualThread() {
+        return null != virtualThreadFactory && ProxyContext.getInstance().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.VIRTUAL_THREAD_ENABLED);
+    }
+    
     /**
      * Register channel.
      *
      * @param channelId channel id
      */
     public void register(final ChannelId channelId) {
-        executorServices.put(channelId, Executors.newSingleThreadExecutor());
+        executorServices.put(channelId, isVirtualThread() ? Executors.newSingleThreadExecutor(virtualThreadFactory) : Executors.newSingleThreadExecutor());
     }
     
     /**
@@ -45,6 +45,6 @@ public final class CommandExecutorSelector {
     }
     
     private static boolean isOccupyThreadForPerConnection(final boolean isOccupyThreadForPerConnection, final boolean supportHint, final TransactionType transactionType) {
-        return isOccupyThreadForPerConnection || supportHint || TransactionType.isDistributedTransaction(transactionType);
+        return isOccupyThreadForPerConnection || supportHint || TransactionType.isDistributedTransaction(transactionType) || ChannelThreadExecutorGroup.getInstance().isVirtualThread();
     }
 }
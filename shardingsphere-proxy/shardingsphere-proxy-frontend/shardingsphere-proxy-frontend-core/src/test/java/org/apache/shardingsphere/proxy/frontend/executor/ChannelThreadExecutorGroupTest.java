@@ -18,10 +18,25 @@
 package org.apache.shardingsphere.proxy.frontend.executor;
 
 import io.netty.channel.ChannelId;
+import org.apache.shardingsphere.infra.auth.Authentication;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
+import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.thread.VirtualThreadExecutorBuilder;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 
 public final class ChannelThreadExecutorGroupTest {
@@ -41,4 +56,20 @@ public final class ChannelThreadExecutorGroupTest {
         ChannelThreadExecutorGroup.getInstance().unregister(channelId);
         assertNull(ChannelThreadExecutorGroup.getInstance().get(channelId));
     }
+    
+    @Test
+    public void assertIsVirtualThreadWithPropsChanged() throws ReflectiveOperationException {
+        Field field = ProxyContext.getInstance().getClass().getDeclaredField("metaDataContexts");
+        field.setAccessible(true);
+        MetaDataContexts originalMetaDataContexts = (MetaDataContexts) field.get(ProxyContext.getInstance());
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.VIRTUAL_THREAD_ENABLED.getKey(), Boolean.TRUE.toString());
+        field.set(ProxyContext.getInstance(), new StandardMetaDataContexts(
+                Collections.emptyMap(), mock(ExecutorEngine.class), new Authentication(), new ConfigurationProperties(props), new MySQLDatabaseType()));
+        try {
+            assertThat(ChannelThreadExecutorGroup.getInstance().isVirtualThread(), is(VirtualThreadExecutorBuilder.isSupported()));
+        } finally {
+            field.set(ProxyContext.getInstance(), originalMetaDataContexts);
+        }
+    }
 }
@@ -21,6 +21,7 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
@@ -33,6 +34,7 @@ import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataCon
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.auth.AuthenticationResult;
 import org.apache.shardingsphere.proxy.frontend.connection.ConnectionIdGenerator;
@@ -54,6 +56,7 @@ import java.util.Map;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -94,10 +97,21 @@ public final class MySQLFrontendEngineTest {
     
     @Test
     public void assertHandshake() {
-        assertTrue(mysqlFrontendEngine.getAuthEngine().handshake(context) > 0);
+        int connectionId = mysqlFrontendEngine.getAuthEngine().handshake(context);
+        assertTrue(connectionId > 0);
+        assertNotNull(MySQLBinaryStatementRegistry.getInstance().get(connectionId));
         verify(context).writeAndFlush(isA(MySQLHandshakePacket.class));
     }
     
+    @Test
+    public void assertRelease() {
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        when(backendConnection.getConnectionId()).thenReturn(1);
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        mysqlFrontendEngine.release(backendConnection);
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1));
+    }
+    
     @Test
     public void assertAuthWhenLoginSuccess() {
         setConnectionPhase(MySQLConnectionPhase.AUTH_PHASE_FAST_PATH);
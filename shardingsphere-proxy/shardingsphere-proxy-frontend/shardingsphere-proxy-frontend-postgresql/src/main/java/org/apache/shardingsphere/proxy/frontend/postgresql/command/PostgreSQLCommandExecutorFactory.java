@@ -27,9 +27,11 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.bin
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLComDiscardedExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLComTerminationExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.bind.PostgreSQLComBindExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.bind.PostgreSQLComPipelinedBindExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.describe.PostgreSQLComDescribeExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.execute.PostgreSQLComExecuteExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.parse.PostgreSQLComParseExecutor;
@@ -49,27 +51,37 @@ public final class PostgreSQLCommandExecutorFactory {
      * @param commandPacketType command packet type for PostgreSQL
      * @param commandPacket command packet for PostgreSQL
      * @param backendConnection backend connection
+     * @param connectionContext connection context for PostgreSQL
      * @return command executor
      */
-    public static CommandExecutor newInstance(final PostgreSQLCommandPacketType commandPacketType, final PostgreSQLCommandPacket commandPacket, final BackendConnection backendConnection) {
+    public static CommandExecutor newInstance(final PostgreSQLCommandPacketType commandPacketType, final PostgreSQLCommandPacket commandPacket,
+                                              final BackendConnection backendConnection, final PostgreSQLConnectionContext connectionContext) {
         log.debug("Execute packet type: {}, value: {}", commandPacketType, commandPacket);
+        if (connectionContext.isDiscardingUntilSync() && PostgreSQLCommandPacketType.SYNC != commandPacketType && PostgreSQLCommandPacketType.TERMINATE != commandPacketType) {
+            return new PostgreSQLComDiscardedExecutor();
+        }
         switch (commandPacketType) {
             case QUERY:
                 return new PostgreSQLComQueryExecutor((PostgreSQLComQueryPacket) commandPacket, backendConnection);
             case PARSE:
-                return new PostgreSQLComParseExecutor((PostgreSQLComParsePacket) commandPacket, backendConnection);
+                return new PostgreSQLComParseExecutor((PostgreSQLComParsePacket) commandPacket, backendConnection, connectionContext);
             case BIND:
-                return new PostgreSQLComBindExecutor((PostgreSQLComBindPacket) commandPacket, backendConnection);
+                return createBindExecutor((PostgreSQLComBindPacket) commandPacket, backendConnection, connectionContext);
             case DESCRIBE:
                 return new PostgreSQLComDescribeExecutor();
             case EXECUTE:
                 return new PostgreSQLComExecuteExecutor();
             case SYNC:
-                return new PostgreSQLComSyncExecutor();
+                return new PostgreSQLComSyncExecutor(connectionContext, backendConnection);
             case TERMINATE:
                 return new PostgreSQLComTerminationExecutor();
             default:
                 return new PostgreSQLUnsupportedCommandExecutor();
         }
     }
+    
+    private static CommandExecutor createBindExecutor(final PostgreSQLComBindPacket bindPacket, final BackendConnection backendConnection, final PostgreSQLConnectionContext connectionContext) {
+        return connectionContext.isDeferrable(bindPacket)
+                ? new PostgreSQLComPipelinedBindExecutor(bindPacket, connectionContext) : new PostgreSQLComBindExecutor(bindPacket, backendConnection, connectionContext);
+    }
 }
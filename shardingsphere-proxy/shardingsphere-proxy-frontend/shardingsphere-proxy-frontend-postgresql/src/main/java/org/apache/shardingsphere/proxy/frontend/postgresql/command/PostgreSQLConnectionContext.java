@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.frontend.postgresql.command;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
+import org.apache.shardingsphere.infra.executor.sql.ExecutorConstant;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngineFactory;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.proxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.proxy.frontend.binary.SharedSQLStatementCache;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Connection context for PostgreSQL.
+ * 
+ * <p>
+ * Holds the extended query messages pipelined by client before sync. Binds of DML without returning clause are deferred and executed together
+ * when the pipeline is drained, consecutive binds of the same SQL are executed as one JDBC batch, and the responses are kept in the order of original messages.
+ * After an error, messages are discarded until sync as PostgreSQL does.
+ * </p>
+ */
+public final class PostgreSQLConnectionContext {
+    
+    private static final Pattern RETURNING_PATTERN = Pattern.compile("\\bRETURNING\\b", Pattern.CASE_INSENSITIVE);
+    
+    private final List<PendingMessage> pendingMessages = new LinkedList<>();
+    
+    private boolean pendingBindExisted;
+    
+    @Getter
+    private boolean discardingUntilSync;
+    
+    /**
+     * Judge whether bind packet can be deferred until sync.
+     * Only DML which can not return result set is deferrable, the rows of DML with returning clause have to be responded by the bind.
+     *
+     * @param bindPacket bind packet
+     * @return can be deferred or not
+     */
+    public boolean isDeferrable(final PostgreSQLComBindPacket bindPacket) {
+        if (!ExecutorConstant.MANAGED_RESOURCE || null == bindPacket.getSql()) {
+            return false;
+        }
+        SQLStatement sqlStatement = SharedSQLStatementCache.getInstance().getSQLStatement(bindPacket.getSql());
+        return (sqlStatement instanceof InsertStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement)
+                && !RETURNING_PATTERN.matcher(bindPacket.getSql()).find();
+    }
+    
+    /**
+     * Add deferred bind packet.
+     *
+     * @param bindPacket bind packet
+     */
+    public void addPendingBind(final PostgreSQLComBindPacket bindPacket) {
+        pendingMessages.add(new PendingMessage(bindPacket, null));
+        pendingBindExisted = true;
+    }
+    
+    /**
+     * Add response packet which has to be sent after the responses of pending binds.
+     *
+     * @param responsePacket response packet
+     */
+    public void addPendingResponse(final DatabasePacket<?> responsePacket) {
+        pendingMessages.add(new PendingMessage(null, responsePacket));
+    }
+    
+    /**
+     * Judge whether there are pending binds.
+     *
+     * @return there are pending binds or not
+     */
+    public boolean isPending() {
+        return pendingBindExisted;
+    }
+    
+    /**
+     * Execute pending binds and collect all pending responses.
+     * 
+     * <p>
+     * If execution failed, the responses of messages executed before are kept and followed by an error response,
+     * the rest of pending messages and the messages received later are discarded as PostgreSQL does until sync.
+     * </p>
+     *
+     * @param backendConnection backend connection
+     * @return response packets in the order of original messages
+     */
+    public List<DatabasePacket<?>> drain(final BackendConnection backendConnection) {
+        List<PendingMessage> messages = new ArrayList<>(pendingMessages);
+        List<DatabasePacket<?>> result = new LinkedList<>();
+        try {
+            int index = 0;
+            while (index < messages.size()) {
+                PostgreSQLComBindPacket bindPacket = messages.get(index).bindPacket;
+                if (null == bindPacket) {
+                    result.add(messages.get(index++).responsePacket);
+                    continue;
+                }
+                List<List<Object>> parameterSets = new LinkedList<>();
+                while (index < messages.size() && null != messages.get(index).bindPacket && bindPacket.getSql().equals(messages.get(index).bindPacket.getSql())) {
+                    parameterSets.add(messages.get(index++).bindPacket.getParameters());
+                }
+                result.addAll(execute(bindPacket.getSql(), parameterSets, backendConnection));
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            result.add(createErrorResponsePacket(ex));
+            discardingUntilSync = true;
+        } finally {
+            pendingMessages.clear();
+            pendingBindExisted = false;
+        }
+        return result;
+    }
+    
+    /**
+     * Discard pending messages and messages received later until sync, because of an error.
+     */
+    public void discardUntilSync() {
+        pendingMessages.clear();
+        pendingBindExisted = false;
+        discardingUntilSync = true;
+    }
+    
+    /**
+     * Finish the discarding of messages when sync is received.
+     */
+    public void sync() {
+        discardingUntilSync = false;
+    }
+    
+    private List<DatabasePacket<?>> execute(final String sql, final List<List<Object>> parameterSets, final BackendConnection backendConnection) throws SQLException {
+        SQLStatement sqlStatement = SharedSQLStatementCache.getInstance().getSQLStatement(sql);
+        List<DatabasePacket<?>> result = new LinkedList<>();
+        if (1 == parameterSets.size()) {
+            BackendResponse backendResponse = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(sqlStatement, sql, parameterSets.get(0), backendConnection).execute();
+            result.add(new PostgreSQLBindCompletePacket());
+            result.add(backendResponse instanceof UpdateResponse ? createCommandCompletePacket((UpdateResponse) backendResponse) : new PostgreSQLCommandCompletePacket());
+            return result;
+        }
+        for (UpdateResponse each : DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolBatchInstance(sqlStatement, sql, parameterSets, backendConnection).execute()) {
+            result.add(new PostgreSQLBindCompletePacket());
+            result.add(createCommandCompletePacket(each));
+        }
+        return result;
+    }
+    
+    private PostgreSQLErrorResponsePacket createErrorResponsePacket(final Exception cause) {
+        PostgreSQLErrorResponsePacket result = new PostgreSQLErrorResponsePacket();
+        result.addField(PostgreSQLErrorResponsePacket.FIELD_TYPE_MESSAGE, cause.getMessage());
+        return result;
+    }
+    
+    private PostgreSQLCommandCompletePacket createCommandCompletePacket(final UpdateResponse updateResponse) {
+        return new PostgreSQLCommandCompletePacket(updateResponse.getType(), updateResponse.getUpdateCount());
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PendingMessage {
+        
+        private final PostgreSQLComBindPacket bindPacket;
+        
+        private final DatabasePacket<?> responsePacket;
+    }
+}
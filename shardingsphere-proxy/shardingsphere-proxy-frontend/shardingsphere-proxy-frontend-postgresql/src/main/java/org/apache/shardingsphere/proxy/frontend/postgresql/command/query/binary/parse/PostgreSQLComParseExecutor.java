@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
@@ -41,8 +42,11 @@ public final class PostgreSQLComParseExecutor implements CommandExecutor {
     
     private final ConnectionScopeBinaryStatementRegistry binaryStatementRegistry;
     
-    public PostgreSQLComParseExecutor(final PostgreSQLComParsePacket packet, final BackendConnection backendConnection) {
+    private final PostgreSQLConnectionContext connectionContext;
+    
+    public PostgreSQLComParseExecutor(final PostgreSQLComParsePacket packet, final BackendConnection backendConnection, final PostgreSQLConnectionContext connectionContext) {
         this.packet = packet;
+        this.connectionContext = connectionContext;
         binaryStatementRegistry = BinaryStatementRegistry.getInstance().get(backendConnection.getConnectionId());
     }
     
@@ -54,6 +58,10 @@ public final class PostgreSQLComParseExecutor implements CommandExecutor {
             SQLStatement sqlStatement = sqlStatementParserEngine.parse(packet.getSql(), true);
             binaryStatementRegistry.register(packet.getStatementId(), packet.getSql(), sqlStatement.getParameterCount(), packet.getBinaryStatementParameterTypes());
         }
+        if (connectionContext.isPending()) {
+            connectionContext.addPendingResponse(new PostgreSQLParseCompletePacket());
+            return Collections.emptyList();
+        }
         return Collections.singletonList(new PostgreSQLParseCompletePacket());
     }
 }
@@ -17,19 +17,45 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.sync;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
-import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
 
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 
 /**
  * Command sync executor for PostgreSQL.
  */
-public final class PostgreSQLComSyncExecutor implements CommandExecutor {
+@RequiredArgsConstructor
+public final class PostgreSQLComSyncExecutor implements QueryCommandExecutor {
+    
+    private final PostgreSQLConnectionContext connectionContext;
+    
+    private final BackendConnection backendConnection;
+    
+    @Getter
+    private final ResponseType responseType = ResponseType.UPDATE;
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        Collection<DatabasePacket<?>> result = connectionContext.isPending() ? connectionContext.drain(backendConnection) : Collections.emptyList();
+        connectionContext.sync();
+        return result;
+    }
+    
+    @Override
+    public boolean next() {
+        return false;
+    }
     
     @Override
-    public Collection<DatabasePacket<?>> execute() {
-        return Collections.emptyList();
+    public DatabasePacket<?> getQueryData() {
+        return null;
     }
 }
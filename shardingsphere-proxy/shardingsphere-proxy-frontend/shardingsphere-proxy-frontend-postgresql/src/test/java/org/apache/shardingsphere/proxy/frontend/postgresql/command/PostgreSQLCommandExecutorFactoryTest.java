@@ -27,6 +27,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.bin
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLComDiscardedExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLComTerminationExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.bind.PostgreSQLComBindExecutor;
@@ -63,11 +64,23 @@ public final class PostgreSQLCommandExecutorFactoryTest {
             if (null == commandPacketClass) {
                 commandPacketClass = PostgreSQLCommandPacket.class;
             }
-            CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(inputOutput.commandPacketType, mock(commandPacketClass), mock(BackendConnection.class));
+            CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(inputOutput.commandPacketType, mock(commandPacketClass), mock(BackendConnection.class), new PostgreSQLConnectionContext());
             assertThat(actual, instanceOf(inputOutput.resultClass));
         }
     }
     
+    @Test
+    public void assertNewInstanceWhenDiscardingUntilSync() {
+        PostgreSQLConnectionContext connectionContext = new PostgreSQLConnectionContext();
+        connectionContext.discardUntilSync();
+        assertThat(PostgreSQLCommandExecutorFactory.newInstance(
+                PostgreSQLCommandPacketType.BIND, mock(PostgreSQLComBindPacket.class), mock(BackendConnection.class), connectionContext), instanceOf(PostgreSQLComDiscardedExecutor.class));
+        assertThat(PostgreSQLCommandExecutorFactory.newInstance(
+                PostgreSQLCommandPacketType.PARSE, mock(PostgreSQLComParsePacket.class), mock(BackendConnection.class), connectionContext), instanceOf(PostgreSQLComDiscardedExecutor.class));
+        assertThat(PostgreSQLCommandExecutorFactory.newInstance(
+                PostgreSQLCommandPacketType.SYNC, mock(PostgreSQLCommandPacket.class), mock(BackendConnection.class), connectionContext), instanceOf(PostgreSQLComSyncExecutor.class));
+    }
+    
     @AllArgsConstructor
     private static final class InputOutput {
         
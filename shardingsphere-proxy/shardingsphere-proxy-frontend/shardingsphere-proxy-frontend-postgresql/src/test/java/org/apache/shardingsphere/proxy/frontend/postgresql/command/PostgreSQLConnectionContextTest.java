@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.frontend.postgresql.command;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.parse.PostgreSQLParseCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
+import org.apache.shardingsphere.infra.auth.Authentication;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLConnectionContextTest {
+    
+    @Test
+    public void assertIsNotDeferrableWithoutSQL() {
+        assertFalse(new PostgreSQLConnectionContext().isDeferrable(mock(PostgreSQLComBindPacket.class)));
+    }
+    
+    @Test
+    public void assertIsDeferrableWithDML() throws ReflectiveOperationException {
+        setMetaDataContexts();
+        assertTrue(new PostgreSQLConnectionContext().isDeferrable(mockBindPacket("INSERT INTO t_order (order_id) VALUES (?)")));
+    }
+    
+    @Test
+    public void assertIsNotDeferrableWithReturning() throws ReflectiveOperationException {
+        setMetaDataContexts();
+        assertFalse(new PostgreSQLConnectionContext().isDeferrable(mockBindPacket("INSERT INTO t_order (order_id) VALUES (?) RETURNING order_id")));
+        assertFalse(new PostgreSQLConnectionContext().isDeferrable(mockBindPacket("update t_order set status = ? returning *")));
+    }
+    
+    @Test
+    public void assertIsNotDeferrableWithQuery() throws ReflectiveOperationException {
+        setMetaDataContexts();
+        assertFalse(new PostgreSQLConnectionContext().isDeferrable(mockBindPacket("SELECT order_id FROM t_order WHERE order_id = ?")));
+    }
+    
+    @Test
+    public void assertIsPending() {
+        PostgreSQLConnectionContext actual = new PostgreSQLConnectionContext();
+        actual.addPendingResponse(new PostgreSQLParseCompletePacket());
+        assertFalse(actual.isPending());
+        actual.addPendingBind(mock(PostgreSQLComBindPacket.class));
+        assertTrue(actual.isPending());
+    }
+    
+    @Test
+    public void assertDrainWithoutPendingBind() {
+        PostgreSQLConnectionContext actual = new PostgreSQLConnectionContext();
+        actual.addPendingResponse(new PostgreSQLParseCompletePacket());
+        assertTrue(actual.drain(mock(BackendConnection.class)).iterator().next() instanceof PostgreSQLParseCompletePacket);
+        assertTrue(actual.drain(mock(BackendConnection.class)).isEmpty());
+    }
+    
+    @Test
+    public void assertDrainWithFailedBind() throws ReflectiveOperationException {
+        setMetaDataContexts();
+        PostgreSQLComBindPacket bindPacket = mockBindPacket("INSERT INTO t_order (order_id) VALUES (?)");
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        when(backendConnection.getSchemaName()).thenReturn("unknown_schema");
+        PostgreSQLConnectionContext actual = new PostgreSQLConnectionContext();
+        actual.addPendingResponse(new PostgreSQLParseCompletePacket());
+        actual.addPendingBind(bindPacket);
+        actual.addPendingResponse(new PostgreSQLParseCompletePacket());
+        List<DatabasePacket<?>> responsePackets = actual.drain(backendConnection);
+        assertThat(responsePackets.size(), is(2));
+        assertThat(responsePackets.get(0), instanceOf(PostgreSQLParseCompletePacket.class));
+        assertThat(responsePackets.get(1), instanceOf(PostgreSQLErrorResponsePacket.class));
+        assertFalse(actual.isPending());
+        assertTrue(actual.isDiscardingUntilSync());
+        assertTrue(actual.drain(backendConnection).isEmpty());
+        actual.sync();
+        assertFalse(actual.isDiscardingUntilSync());
+    }
+    
+    @Test
+    public void assertDiscardUntilSync() {
+        PostgreSQLConnectionContext actual = new PostgreSQLConnectionContext();
+        actual.addPendingBind(mock(PostgreSQLComBindPacket.class));
+        actual.discardUntilSync();
+        assertFalse(actual.isPending());
+        assertTrue(actual.isDiscardingUntilSync());
+        assertTrue(actual.drain(mock(BackendConnection.class)).isEmpty());
+        actual.sync();
+        assertFalse(actual.isDiscardingUntilSync());
+    }
+    
+    private void setMetaDataContexts() throws ReflectiveOperationException {
+        Field metaDataContexts = ProxyContext.getInstance().getClass().getDeclaredField("metaDataContexts");
+        metaDataContexts.setAccessible(true);
+        metaDataContexts.set(ProxyContext.getInstance(), new StandardMetaDataContexts(Collections.singletonMap("schema", mock(ShardingSphereMetaData.class)),
+                mock(ExecutorEngine.class), new Authentication(), new ConfigurationProperties(new Properties()), new PostgreSQLDatabaseType()));
+    }
+    
+    private PostgreSQLComBindPacket mockBindPacket(final String sql) {
+        PostgreSQLComBindPacket result = mock(PostgreSQLComBindPacket.class);
+        when(result.getSql()).thenReturn(sql);
+        return result;
+    }
+}
@@ -14,21 +14,44 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.sync;
 
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.parse.PostgreSQLParseCompletePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
 import org.junit.Test;
 
+import java.sql.SQLException;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
 
 public final class PostgreSQLComSyncExecutorTest {
     
     @Test
-    public void assertNewInstance() {
-        PostgreSQLComSyncExecutor actual = new PostgreSQLComSyncExecutor();
+    public void assertNewInstance() throws SQLException {
+        PostgreSQLComSyncExecutor actual = new PostgreSQLComSyncExecutor(new PostgreSQLConnectionContext(), mock(BackendConnection.class));
         assertThat(actual.execute(), is(Collections.emptyList()));
+        assertThat(actual.getResponseType(), is(ResponseType.UPDATE));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertExecuteWithoutPendingBind() throws SQLException {
+        PostgreSQLConnectionContext connectionContext = new PostgreSQLConnectionContext();
+        connectionContext.addPendingResponse(new PostgreSQLParseCompletePacket());
+        assertThat(new PostgreSQLComSyncExecutor(connectionContext, mock(BackendConnection.class)).execute(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    public void assertExecuteWhenDiscardingUntilSync() throws SQLException {
+        PostgreSQLConnectionContext connectionContext = new PostgreSQLConnectionContext();
+        connectionContext.discardUntilSync();
+        assertThat(new PostgreSQLComSyncExecutor(connectionContext, mock(BackendConnection.class)).execute(), is(Collections.emptyList()));
+        assertFalse(connectionContext.isDiscardingUntilSync());
     }
 }
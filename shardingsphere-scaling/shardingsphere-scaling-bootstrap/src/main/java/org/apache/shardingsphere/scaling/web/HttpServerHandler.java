@@ -76,6 +76,10 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
             stopJob(context, requestPath);
             return;
         }
+        if (requestPath.startsWith("/scaling/job/check/progress/")) {
+            getCheckProgress(context, requestPath);
+            return;
+        }
         if (requestPath.contains("/scaling/job/check/")) {
             checkJob(context, requestPath);
             return;
@@ -115,6 +119,10 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
         }
     }
     
+    private void getCheckProgress(final ChannelHandlerContext context, final String requestPath) {
+        response(ResponseContentUtil.build(SCALING_JOB_SERVICE.getCheckProgress(Long.parseLong(requestPath.split("/")[5]))), context, HttpResponseStatus.OK);
+    }
+    
     private long getJobId(final String requestPath) {
         return Long.parseLong(requestPath.split("/")[4]);
     }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.scaling.fixture;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.scaling.core.check.DataConsistencyCheckProgress;
 import org.apache.shardingsphere.scaling.core.check.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.job.ShardingScalingJob;
 import org.apache.shardingsphere.scaling.core.check.DataConsistencyChecker;
@@ -39,4 +40,9 @@ public final class FixtureDataConsistencyChecker implements DataConsistencyCheck
     public Map<String, Boolean> dataCheck() {
         return Collections.emptyMap();
     }
+    
+    @Override
+    public Map<String, DataConsistencyCheckProgress> getCheckProgress() {
+        return Collections.emptyMap();
+    }
 }
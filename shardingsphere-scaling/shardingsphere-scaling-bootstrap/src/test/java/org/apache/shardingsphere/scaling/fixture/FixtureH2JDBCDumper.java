@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.scaling.fixture;
 
+import com.google.common.collect.Maps;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.AbstractJDBCDumper;
+import org.apache.shardingsphere.scaling.core.execute.executor.importer.AbstractSQLBuilder;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -35,4 +37,9 @@ public final class FixtureH2JDBCDumper extends AbstractJDBCDumper {
     protected PreparedStatement createPreparedStatement(final Connection conn, final String sql) throws SQLException {
         return conn.prepareStatement(sql);
     }
+    
+    @Override
+    protected AbstractSQLBuilder createSQLBuilder() {
+        return new FixtureH2SQLBuilder(Maps.newHashMap());
+    }
 }
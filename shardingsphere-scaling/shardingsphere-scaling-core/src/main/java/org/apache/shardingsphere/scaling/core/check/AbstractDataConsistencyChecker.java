@@ -17,9 +17,12 @@
 
 package org.apache.shardingsphere.scaling.core.check;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceFactory;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceWrapper;
 import org.apache.shardingsphere.scaling.core.exception.DataCheckFailException;
@@ -27,25 +30,61 @@ import org.apache.shardingsphere.scaling.core.execute.executor.importer.Abstract
 import org.apache.shardingsphere.scaling.core.job.ShardingScalingJob;
 
 import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 /**
  * Abstract data consistency checker.
+ *
+ * <p>
+ * Data check splits each table into chunks by primary key range, and compares count and checksum of every chunk between source and target in parallel.
+ * Mismatched chunks are rechecked a few times, because incremental data may not have been synchronized yet.
+ * </p>
  */
 @Slf4j
 @Getter
 @RequiredArgsConstructor
 public abstract class AbstractDataConsistencyChecker implements DataConsistencyChecker {
     
+    private static final String THREAD_NAME_FORMAT = "ShardingScaling-check-%d";
+    
+    private static final int CHECK_THREAD_NUMBER = 4;
+    
+    private static final long CHUNK_SIZE = 100000L;
+    
+    private static final int MAX_RECHECK_TIMES = 2;
+    
+    private static final long RECHECK_INTERVAL_MILLIS = 1000L;
+    
     private final ShardingScalingJob shardingScalingJob;
     
+    private final Map<String, DataConsistencyCheckProgress> checkProgress = new ConcurrentHashMap<>();
+    
     @Override
     public Map<String, DataConsistencyCheckResult> countCheck() {
         return shardingScalingJob.getSyncConfigurations()
@@ -75,6 +114,212 @@ public abstract class AbstractDataConsistencyChecker implements DataConsistencyC
         }
     }
     
+    @Override
+    public Map<String, Boolean> dataCheck() {
+        checkProgress.clear();
+        Map<String, String> tableNameMap = distinctByValue(shardingScalingJob.getSyncConfigurations()
+                .stream().flatMap(each -> each.getDumperConfiguration().getTableNameMap().entrySet().stream())
+                .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (oldValue, currentValue) -> oldValue, LinkedHashMap::new)));
+        ExecutorService executorService = Executors.newFixedThreadPool(CHECK_THREAD_NUMBER, ExecutorThreadFactoryBuilder.build(THREAD_NAME_FORMAT));
+        try (DataSourceWrapper sourceDataSource = getSourceDataSource();
+             DataSourceWrapper targetDataSource = getTargetDataSource()) {
+            Map<String, Boolean> result = new LinkedHashMap<>();
+            for (Entry<String, String> entry : tableNameMap.entrySet()) {
+                result.put(entry.getValue(), dataValid(sourceDataSource, targetDataSource, entry.getKey(), entry.getValue(), executorService));
+            }
+            return result;
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException("data check failed.", ex);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private Map<String, String> distinctByValue(final Map<String, String> tableNameMap) {
+        Set<String> distinctSet = new HashSet<>();
+        return tableNameMap.entrySet().stream().filter(entry -> distinctSet.add(entry.getValue()))
+                .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+    }
+    
+    private boolean dataValid(final DataSource sourceDataSource, final DataSource targetDataSource, final String actualTableName, final String logicTableName, final ExecutorService executorService) {
+        Map<String, Integer> columnTypes = getColumnTypes(sourceDataSource, actualTableName);
+        List<String> columns = new ArrayList<>(columnTypes.keySet());
+        List<String> primaryKeys = getPrimaryKeys(sourceDataSource, actualTableName);
+        String primaryKey = 1 == primaryKeys.size() && isIntegerType(columnTypes.get(primaryKeys.get(0))) ? primaryKeys.get(0) : null;
+        List<ChecksumChunk> chunks = splitChunks(sourceDataSource, logicTableName, primaryKey);
+        DataConsistencyCheckProgress progress = new DataConsistencyCheckProgress(chunks.size());
+        checkProgress.put(logicTableName, progress);
+        List<ChecksumChunk> mismatchedChunks = checkChunks(sourceDataSource, targetDataSource, logicTableName, columns, chunks, progress::chunkChecked, executorService);
+        for (int i = 0; i < MAX_RECHECK_TIMES && !mismatchedChunks.isEmpty(); i++) {
+            log.info("table {} has {} mismatched chunks, recheck them later.", logicTableName, mismatchedChunks.size());
+            sleep();
+            progress.increaseRecheckTimes();
+            mismatchedChunks = checkChunks(sourceDataSource, targetDataSource, logicTableName, columns, mismatchedChunks, progress::chunkRechecked, executorService);
+        }
+        return mismatchedChunks.isEmpty();
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void sleep() {
+        TimeUnit.MILLISECONDS.sleep(RECHECK_INTERVAL_MILLIS);
+    }
+    
+    private Map<String, Integer> getColumnTypes(final DataSource dataSource, final String actualTableName) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), null, actualTableName, "%")) {
+            while (resultSet.next()) {
+                result.put(resultSet.getString("COLUMN_NAME"), resultSet.getInt("DATA_TYPE"));
+            }
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException(String.format("table %s get columns failed.", actualTableName), ex);
+        }
+        return result;
+    }
+    
+    private List<String> getPrimaryKeys(final DataSource dataSource, final String actualTableName) {
+        Map<Integer, String> result = new TreeMap<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet resultSet = connection.getMetaData().getPrimaryKeys(connection.getCatalog(), null, actualTableName)) {
+            while (resultSet.next()) {
+                result.put(resultSet.getInt("KEY_SEQ"), resultSet.getString("COLUMN_NAME"));
+            }
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException(String.format("table %s get primary keys failed.", actualTableName), ex);
+        }
+        return new ArrayList<>(result.values());
+    }
+    
+    private boolean isIntegerType(final Integer columnType) {
+        return null != columnType && (Types.TINYINT == columnType || Types.SMALLINT == columnType || Types.INTEGER == columnType || Types.BIGINT == columnType);
+    }
+    
+    private List<ChecksumChunk> splitChunks(final DataSource dataSource, final String tableName, final String primaryKey) {
+        List<ChecksumChunk> result = new LinkedList<>();
+        if (null == primaryKey) {
+            result.add(new ChecksumChunk(getSqlBuilder().buildChunkConditionSQL(null, false, false), null, null));
+            return result;
+        }
+        String sql = getSqlBuilder().buildPrimaryKeyRangeSQL(tableName, primaryKey);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            resultSet.next();
+            long minPrimaryKey = resultSet.getLong(1);
+            long maxPrimaryKey = resultSet.getLong(2);
+            long chunkCount = (resultSet.getLong(3) + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            long step = chunkCount <= 1 ? 0 : (maxPrimaryKey - minPrimaryKey + chunkCount) / chunkCount;
+            if (step <= 0) {
+                result.add(new ChecksumChunk(getSqlBuilder().buildChunkConditionSQL(primaryKey, false, false), null, null));
+                return result;
+            }
+            Long lowerBound = null;
+            for (long upperBound = minPrimaryKey + step - 1; upperBound < maxPrimaryKey; upperBound += step) {
+                result.add(new ChecksumChunk(getSqlBuilder().buildChunkConditionSQL(primaryKey, null != lowerBound, true), lowerBound, upperBound));
+                lowerBound = upperBound;
+            }
+            result.add(new ChecksumChunk(getSqlBuilder().buildChunkConditionSQL(primaryKey, null != lowerBound, false), lowerBound, null));
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException(String.format("execute %s failed.", sql), ex);
+        }
+        return result;
+    }
+    
+    private List<ChecksumChunk> checkChunks(final DataSource sourceDataSource, final DataSource targetDataSource, final String tableName, final List<String> columns,
+                                            final Collection<ChecksumChunk> chunks, final Consumer<Boolean> checkedCallback, final ExecutorService executorService) {
+        Map<ChecksumChunk, Future<ChunkChecksum>> sourceFutures = new LinkedHashMap<>(chunks.size(), 1);
+        Map<ChecksumChunk, Future<ChunkChecksum>> targetFutures = new LinkedHashMap<>(chunks.size(), 1);
+        for (ChecksumChunk each : chunks) {
+            sourceFutures.put(each, executorService.submit(() -> checksum(sourceDataSource, tableName, columns, each)));
+            targetFutures.put(each, executorService.submit(() -> checksum(targetDataSource, tableName, columns, each)));
+        }
+        List<ChecksumChunk> result = new LinkedList<>();
+        for (ChecksumChunk each : chunks) {
+            boolean matched = getChecksum(sourceFutures.get(each)).equals(getChecksum(targetFutures.get(each)));
+            if (!matched) {
+                result.add(each);
+            }
+            checkedCallback.accept(matched);
+        }
+        return result;
+    }
+    
+    private ChunkChecksum getChecksum(final Future<ChunkChecksum> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DataCheckFailException("data check interrupted.", ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof DataCheckFailException) {
+                throw (DataCheckFailException) ex.getCause();
+            }
+            throw new DataCheckFailException("data check failed.", ex.getCause());
+        }
+    }
+    
+    private ChunkChecksum checksum(final DataSource dataSource, final String tableName, final List<String> columns, final ChecksumChunk chunk) {
+        Optional<String> checksumSQL = buildChunkChecksumSQL(tableName, columns, chunk.getConditionSQL());
+        String sql = checksumSQL.orElseGet(() -> getSqlBuilder().buildChunkQuerySQL(tableName, columns, chunk.getConditionSQL()));
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            int parameterIndex = 1;
+            if (null != chunk.getLowerBound()) {
+                preparedStatement.setLong(parameterIndex++, chunk.getLowerBound());
+            }
+            if (null != chunk.getUpperBound()) {
+                preparedStatement.setLong(parameterIndex, chunk.getUpperBound());
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return checksumSQL.isPresent() ? aggregatedChecksum(resultSet) : streamingChecksum(resultSet, columns.size());
+            }
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException(String.format("execute %s failed.", sql), ex);
+        }
+    }
+    
+    private ChunkChecksum aggregatedChecksum(final ResultSet resultSet) throws SQLException {
+        resultSet.next();
+        return new ChunkChecksum(resultSet.getLong(1), resultSet.getLong(2));
+    }
+    
+    private ChunkChecksum streamingChecksum(final ResultSet resultSet, final int columnCount) throws SQLException {
+        long count = 0;
+        long checksum = 0;
+        CRC32 crc32 = new CRC32();
+        while (resultSet.next()) {
+            crc32.reset();
+            for (int i = 1; i <= columnCount; i++) {
+                Object value = resultSet.getObject(i);
+                if (null == value) {
+                    crc32.update(0);
+                } else {
+                    crc32.update(value instanceof byte[] ? (byte[]) value : value.toString().getBytes(StandardCharsets.UTF_8));
+                    crc32.update(1);
+                }
+            }
+            count++;
+            checksum += crc32.getValue();
+        }
+        return new ChunkChecksum(count, checksum);
+    }
+    
+    /**
+     * Build database side aggregated checksum SQL of chunk.
+     *
+     * <p>
+     * The SQL should return row count and checksum of the chunk, dialect which does not support it falls back to streaming client side checksum.
+     * </p>
+     *
+     * @param tableName table name
+     * @param columns columns
+     * @param conditionSQL chunk condition SQL
+     * @return chunk checksum SQL
+     */
+    protected Optional<String> buildChunkChecksumSQL(final String tableName, final List<String> columns, final String conditionSQL) {
+        return Optional.empty();
+    }
+    
     protected DataSourceWrapper getSourceDataSource() {
         return new DataSourceFactory().newInstance(shardingScalingJob.getScalingConfiguration().getRuleConfiguration().getSource().toTypedDataSourceConfiguration());
     }
@@ -84,4 +329,24 @@ public abstract class AbstractDataConsistencyChecker implements DataConsistencyC
     }
     
     protected abstract AbstractSQLBuilder getSqlBuilder();
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ChecksumChunk {
+        
+        private final String conditionSQL;
+        
+        private final Long lowerBound;
+        
+        private final Long upperBound;
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class ChunkChecksum {
+        
+        private final long count;
+        
+        private final long checksum;
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.scaling.core.check;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Data consistency check progress of one table.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class DataConsistencyCheckProgress {
+    
+    private final int totalChunks;
+    
+    private volatile int checkedChunks;
+    
+    private volatile int mismatchedChunks;
+    
+    private volatile int recheckTimes;
+    
+    /**
+     * Record chunk checked for the first time.
+     *
+     * @param matched chunk checksum of source and target matched or not
+     */
+    public synchronized void chunkChecked(final boolean matched) {
+        checkedChunks++;
+        if (!matched) {
+            mismatchedChunks++;
+        }
+    }
+    
+    /**
+     * Record mismatched chunk rechecked.
+     *
+     * @param matched chunk checksum of source and target matched or not
+     */
+    public synchronized void chunkRechecked(final boolean matched) {
+        if (matched) {
+            mismatchedChunks--;
+        }
+    }
+    
+    /**
+     * Increase recheck times.
+     */
+    public synchronized void increaseRecheckTimes() {
+        recheckTimes++;
+    }
+}
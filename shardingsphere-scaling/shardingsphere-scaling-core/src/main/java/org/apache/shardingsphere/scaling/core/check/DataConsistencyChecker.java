@@ -37,4 +37,11 @@ public interface DataConsistencyChecker {
      * @return data is valid or not
      */
     Map<String, Boolean> dataCheck();
+    
+    /**
+     * Get data check progress of each table.
+     *
+     * @return data check progress
+     */
+    Map<String, DataConsistencyCheckProgress> getCheckProgress();
 }
@@ -37,5 +37,7 @@ public final class ServerConfiguration implements YamlConfiguration {
     
     private int workerThread = 30;
     
+    private String channelType = "DISTRIBUTION";
+    
     private YamlGovernanceConfiguration distributedScalingService;
 }
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.scaling.core.execute.executor.channel;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
+
+/**
+ * Channel factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ChannelFactory {
+    
+    private static final String RING_BUFFER = "RING_BUFFER";
+    
+    /**
+     * New instance of channel shared by multiple importers.
+     *
+     * @param channelNumber channel number, same as importer number
+     * @param ackCallback ack callback
+     * @return channel
+     */
+    public static Channel newInstance(final int channelNumber, final AckCallback ackCallback) {
+        ServerConfiguration serverConfig = ScalingContext.getInstance().getServerConfig();
+        if (RING_BUFFER.equalsIgnoreCase(serverConfig.getChannelType())) {
+            return new RingBufferChannel(channelNumber, serverConfig.getBlockQueueSize(), ackCallback);
+        }
+        return new DistributionChannel(channelNumber, ackCallback);
+    }
+    
+    /**
+     * Get channel to be fetched by importer.
+     *
+     * @param channel channel shared by multiple importers
+     * @param importerIndex index of importer
+     * @return channel of importer
+     */
+    public static Channel getImporterChannel(final Channel channel, final int importerIndex) {
+        return channel instanceof RingBufferChannel ? ((RingBufferChannel) channel).getPartition(importerIndex) : channel;
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.scaling.core.execute.executor.channel;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.FinishedRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.PlaceholderRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ring buffer channel.
+ *
+ * <p>
+ * Records pushed by the single dumper thread are kept in one ring buffer in push order and routed to partitions by record,
+ * every importer fetches and acknowledges records by its own partition channel got from {@link #getPartition(int)}.
+ * Waiting threads are parked and woken up by the other side instead of polling, and acknowledged records are handed to {@link AckCallback}
+ * in push order as soon as all records before them are acknowledged.
+ * </p>
+ */
+public final class RingBufferChannel implements Channel {
+    
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    
+    private final int channelNumber;
+    
+    private final AckCallback ackCallback;
+    
+    private final int mask;
+    
+    private final Record[] records;
+    
+    private final AtomicIntegerArray acknowledged;
+    
+    private final Partition[] partitions;
+    
+    private final ReentrantLock releaseLock = new ReentrantLock();
+    
+    private long pushSequence;
+    
+    private volatile long releasedSequence;
+    
+    private volatile Thread waitingProducer;
+    
+    private volatile boolean closed;
+    
+    public RingBufferChannel(final int channelNumber, final int bufferSize, final AckCallback ackCallback) {
+        this.channelNumber = channelNumber;
+        this.ackCallback = ackCallback;
+        int capacity = Integer.highestOneBit(Math.max(bufferSize, 2) - 1) << 1;
+        mask = capacity - 1;
+        records = new Record[capacity];
+        acknowledged = new AtomicIntegerArray(capacity);
+        partitions = new Partition[channelNumber];
+        for (int i = 0; i < channelNumber; i++) {
+            partitions[i] = new Partition(capacity);
+        }
+    }
+    
+    /**
+     * Get partition channel for importer.
+     *
+     * @param index index of importer
+     * @return partition channel
+     */
+    public Channel getPartition(final int index) {
+        Preconditions.checkElementIndex(index, channelNumber, "Partition index");
+        return partitions[index];
+    }
+    
+    @Override
+    public void pushRecord(final Record record) throws InterruptedException {
+        if (FinishedRecord.class.equals(record.getClass())) {
+            for (Partition each : partitions) {
+                pushRecord(record, each);
+            }
+        } else if (DataRecord.class.equals(record.getClass())) {
+            pushRecord(record, partitions[Math.abs(record.hashCode() % channelNumber)]);
+        } else if (PlaceholderRecord.class.equals(record.getClass())) {
+            pushRecord(record, null);
+        } else {
+            throw new UnsupportedOperationException(String.format("Not support record type `%s`", record.getClass().getName()));
+        }
+    }
+    
+    private void pushRecord(final Record record, final Partition partition) throws InterruptedException {
+        long sequence = pushSequence;
+        if (!waitForCapacity(sequence)) {
+            return;
+        }
+        int slot = (int) sequence & mask;
+        records[slot] = record;
+        pushSequence = sequence + 1;
+        if (null == partition) {
+            acknowledged.set(slot, 1);
+            releaseAcknowledgedRecords();
+        } else {
+            partition.offer(sequence);
+        }
+    }
+    
+    private boolean waitForCapacity(final long sequence) throws InterruptedException {
+        while (sequence - releasedSequence >= records.length) {
+            if (closed) {
+                return false;
+            }
+            waitingProducer = Thread.currentThread();
+            if (sequence - releasedSequence >= records.length) {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+            waitingProducer = null;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        return !closed;
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeout) {
+        throw new UnsupportedOperationException("Records of ring buffer channel are fetched by partition channels");
+    }
+    
+    @Override
+    public void ack() {
+        throw new UnsupportedOperationException("Records of ring buffer channel are acknowledged by partition channels");
+    }
+    
+    private void releaseAcknowledgedRecords() {
+        while (releaseLock.tryLock()) {
+            try {
+                releaseAcknowledgedRecords0();
+            } finally {
+                releaseLock.unlock();
+            }
+            if (0 == acknowledged.get((int) releasedSequence & mask)) {
+                return;
+            }
+        }
+    }
+    
+    private void releaseAcknowledgedRecords0() {
+        long sequence = releasedSequence;
+        List<Record> result = new ArrayList<>();
+        while (1 == acknowledged.get((int) sequence & mask)) {
+            int slot = (int) sequence & mask;
+            result.add(records[slot]);
+            records[slot] = null;
+            acknowledged.set(slot, 0);
+            sequence++;
+        }
+        if (result.isEmpty()) {
+            return;
+        }
+        ackCallback.onAck(result);
+        releasedSequence = sequence;
+        Thread producer = waitingProducer;
+        if (null != producer) {
+            LockSupport.unpark(producer);
+        }
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        releaseAcknowledgedRecords();
+        Thread producer = waitingProducer;
+        if (null != producer) {
+            LockSupport.unpark(producer);
+        }
+    }
+    
+    /**
+     * Partition channel of one importer, the sequences of the records routed to it are written by the dumper thread and read by the importer thread.
+     */
+    private final class Partition implements Channel {
+        
+        private final long[] sequences;
+        
+        private volatile long tail;
+        
+        private long head;
+        
+        private long acknowledgedHead;
+        
+        private volatile Thread waitingConsumer;
+        
+        Partition(final int capacity) {
+            sequences = new long[capacity];
+        }
+        
+        @Override
+        public void pushRecord(final Record dataRecord) {
+            throw new UnsupportedOperationException("Records are pushed to ring buffer channel and routed to partitions by record");
+        }
+        
+        void offer(final long sequence) {
+            long current = tail;
+            sequences[(int) current & mask] = sequence;
+            tail = current + 1;
+            Thread consumer = waitingConsumer;
+            if (null != consumer) {
+                LockSupport.unpark(consumer);
+            }
+        }
+        
+        @Override
+        public List<Record> fetchRecords(final int batchSize, final int timeout) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
+            while (head == tail) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+                    return new ArrayList<>(0);
+                }
+                waitingConsumer = Thread.currentThread();
+                if (head == tail) {
+                    LockSupport.parkNanos(this, remaining);
+                }
+                waitingConsumer = null;
+            }
+            int count = (int) Math.min(tail - head, batchSize);
+            List<Record> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Record record = records[(int) sequences[(int) head & mask] & mask];
+                head++;
+                result.add(record);
+                if (record instanceof FinishedRecord) {
+                    break;
+                }
+            }
+            return result;
+        }
+        
+        @Override
+        public void ack() {
+            if (acknowledgedHead == head) {
+                return;
+            }
+            for (long i = acknowledgedHead; i < head; i++) {
+                acknowledged.set((int) sequences[(int) i & mask] & mask, 1);
+            }
+            acknowledgedHead = head;
+            releaseAcknowledgedRecords();
+        }
+        
+        @Override
+        public void close() {
+            RingBufferChannel.this.close();
+        }
+    }
+}
@@ -29,11 +29,13 @@ import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.exception.SyncTaskExecuteException;
 import org.apache.shardingsphere.scaling.core.execute.executor.AbstractShardingScalingExecutor;
 import org.apache.shardingsphere.scaling.core.execute.executor.channel.Channel;
+import org.apache.shardingsphere.scaling.core.execute.executor.importer.AbstractSQLBuilder;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
 import org.apache.shardingsphere.scaling.core.job.position.FinishedPosition;
+import org.apache.shardingsphere.scaling.core.job.position.KeysetPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.apache.shardingsphere.scaling.core.job.position.Position;
 import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
@@ -45,6 +47,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Abstract JDBC dumper implement.
@@ -52,6 +56,8 @@ import java.sql.SQLException;
 @Slf4j
 public abstract class AbstractJDBCDumper extends AbstractShardingScalingExecutor implements JDBCDumper {
     
+    private static final int KEYSET_BATCH_SIZE = 1000;
+    
     @Getter(AccessLevel.PROTECTED)
     private final InventoryDumperConfiguration inventoryDumperConfiguration;
     
@@ -84,18 +90,10 @@ public abstract class AbstractJDBCDumper extends AbstractShardingScalingExecutor
     
     private void dump() {
         try (Connection conn = dataSourceManager.getDataSource(inventoryDumperConfiguration.getDataSourceConfiguration()).getConnection()) {
-            String sql = String.format("SELECT * FROM %s %s", inventoryDumperConfiguration.getTableName(), RdbmsConfigurationUtil.getWhereCondition(inventoryDumperConfiguration));
-            PreparedStatement ps = createPreparedStatement(conn, sql);
-            ResultSet rs = ps.executeQuery();
-            ResultSetMetaData metaData = rs.getMetaData();
-            while (isRunning() && rs.next()) {
-                DataRecord record = new DataRecord(newPosition(rs), metaData.getColumnCount());
-                record.setType(ScalingConstant.INSERT);
-                record.setTableName(inventoryDumperConfiguration.getTableNameMap().get(inventoryDumperConfiguration.getTableName()));
-                for (int i = 1; i <= metaData.getColumnCount(); i++) {
-                    record.addColumn(new Column(metaData.getColumnName(i), readValue(rs, i), true, tableMetaData.isPrimaryKey(i - 1)));
-                }
-                pushRecord(record);
+            if (null != inventoryDumperConfiguration.getPositionManager() && inventoryDumperConfiguration.getPositionManager().getPosition() instanceof KeysetPosition) {
+                dumpByKeyset(conn, (KeysetPosition) inventoryDumperConfiguration.getPositionManager().getPosition());
+            } else {
+                dumpByRange(conn);
             }
             pushRecord(new FinishedRecord(new FinishedPosition()));
         } catch (final SQLException ex) {
@@ -107,8 +105,64 @@ public abstract class AbstractJDBCDumper extends AbstractShardingScalingExecutor
         }
     }
     
+    private void dumpByRange(final Connection conn) throws SQLException {
+        String sql = String.format("SELECT * FROM %s %s", inventoryDumperConfiguration.getTableName(), RdbmsConfigurationUtil.getWhereCondition(inventoryDumperConfiguration));
+        PreparedStatement ps = createPreparedStatement(conn, sql);
+        ResultSet rs = ps.executeQuery();
+        ResultSetMetaData metaData = rs.getMetaData();
+        while (isRunning() && rs.next()) {
+            pushRecord(newDataRecord(rs, metaData, newPosition(rs)));
+        }
+    }
+    
+    private void dumpByKeyset(final Connection conn, final KeysetPosition position) throws SQLException {
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        AbstractSQLBuilder sqlBuilder = createSQLBuilder();
+        List<Object> beginValues = position.getBeginValues();
+        int rowCount = KEYSET_BATCH_SIZE;
+        while (isRunning() && KEYSET_BATCH_SIZE == rowCount) {
+            rowCount = 0;
+            try (PreparedStatement ps = createPreparedStatement(conn,
+                    sqlBuilder.buildKeysetQuerySQL(inventoryDumperConfiguration.getTableName(), primaryKeys, null != beginValues, null != position.getEndValues(), KEYSET_BATCH_SIZE))) {
+                int parameterIndex = setKeysetParameters(ps, 1, primaryKeys, beginValues);
+                setKeysetParameters(ps, parameterIndex, primaryKeys, position.getEndValues());
+                try (ResultSet rs = ps.executeQuery()) {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    while (isRunning() && rs.next()) {
+                        beginValues = new ArrayList<>(primaryKeys.size());
+                        for (String each : primaryKeys) {
+                            beginValues.add(rs.getObject(each));
+                        }
+                        pushRecord(newDataRecord(rs, metaData, new KeysetPosition(beginValues, position.getEndValues())));
+                        rowCount++;
+                    }
+                }
+            }
+        }
+    }
+    
+    private int setKeysetParameters(final PreparedStatement ps, final int startIndex, final List<String> primaryKeys, final List<Object> values) throws SQLException {
+        if (null == values) {
+            return startIndex;
+        }
+        for (int i = 0; i < values.size(); i++) {
+            ps.setObject(startIndex + i, values.get(i), tableMetaData.getColumnMetaData(tableMetaData.findColumnIndex(primaryKeys.get(i))).getDataType());
+        }
+        return startIndex + values.size();
+    }
+    
+    private DataRecord newDataRecord(final ResultSet rs, final ResultSetMetaData metaData, final Position<?> position) throws SQLException {
+        DataRecord result = new DataRecord(position, metaData.getColumnCount());
+        result.setType(ScalingConstant.INSERT);
+        result.setTableName(inventoryDumperConfiguration.getTableNameMap().get(inventoryDumperConfiguration.getTableName()));
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            result.addColumn(new Column(metaData.getColumnName(i), readValue(rs, i), true, tableMetaData.isPrimaryKey(i - 1)));
+        }
+        return result;
+    }
+    
     private Position<?> newPosition(final ResultSet rs) throws SQLException {
-        if (null == inventoryDumperConfiguration.getPrimaryKey()) {
+        if (null == inventoryDumperConfiguration.getPrimaryKey() || !(inventoryDumperConfiguration.getPositionManager().getPosition() instanceof PrimaryKeyPosition)) {
             return new PlaceholderPosition();
         }
         return new PrimaryKeyPosition(rs.getLong(inventoryDumperConfiguration.getPrimaryKey()), ((PrimaryKeyPosition) inventoryDumperConfiguration.getPositionManager().getPosition()).getEndValue());
@@ -116,6 +170,8 @@ public abstract class AbstractJDBCDumper extends AbstractShardingScalingExecutor
     
     protected abstract PreparedStatement createPreparedStatement(Connection connection, String sql) throws SQLException;
     
+    protected abstract AbstractSQLBuilder createSQLBuilder();
+    
     protected Object readValue(final ResultSet resultSet, final int index) throws SQLException {
         return resultSet.getObject(index);
     }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.scaling.core.execute.executor.importer;
 
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
@@ -37,6 +39,7 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -50,10 +53,15 @@ public abstract class AbstractJDBCImporter extends AbstractShardingScalingExecut
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final int MULTI_ROW_INSERT_MAX_ROWS = 256;
+    
+    private static final int MULTI_ROW_INSERT_MAX_PARAMETERS = 30000;
+    
     private final ImporterConfiguration importerConfig;
     
     private final DataSourceManager dataSourceManager;
     
+    @Getter(AccessLevel.PROTECTED)
     private final AbstractSQLBuilder sqlBuilder;
     
     @Setter
@@ -152,40 +160,71 @@ public abstract class AbstractJDBCImporter extends AbstractShardingScalingExecut
         }
     }
     
-    private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
-        String insertSql = sqlBuilder.buildInsertSQL(dataRecords.get(0));
-        PreparedStatement ps = connection.prepareStatement(insertSql);
-        ps.setQueryTimeout(30);
-        for (DataRecord each : dataRecords) {
-            for (int i = 0; i < each.getColumnCount(); i++) {
-                ps.setObject(i + 1, each.getColumn(i).getValue());
+    /**
+     * Execute batch insert by multi-row insert statements.
+     *
+     * @param connection connection
+     * @param dataRecords data records of same table
+     * @throws SQLException SQL exception
+     */
+    protected void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        int rowsPerStatement = Math.max(1, Math.min(MULTI_ROW_INSERT_MAX_ROWS, MULTI_ROW_INSERT_MAX_PARAMETERS / dataRecords.get(0).getColumnCount()));
+        int fullStatementRows = dataRecords.size() / rowsPerStatement * rowsPerStatement;
+        if (fullStatementRows > 0) {
+            executeMultiRowInsert(connection, dataRecords.subList(0, fullStatementRows), rowsPerStatement);
+        }
+        if (fullStatementRows < dataRecords.size()) {
+            executeMultiRowInsert(connection, dataRecords.subList(fullStatementRows, dataRecords.size()), dataRecords.size() - fullStatementRows);
+        }
+    }
+    
+    private void executeMultiRowInsert(final Connection connection, final List<DataRecord> dataRecords, final int rowsPerStatement) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sqlBuilder.buildInsertSQL(dataRecords.get(0), rowsPerStatement))) {
+            ps.setQueryTimeout(30);
+            int parameterIndex = 1;
+            for (int i = 0; i < dataRecords.size(); i++) {
+                DataRecord each = dataRecords.get(i);
+                for (int j = 0; j < each.getColumnCount(); j++) {
+                    ps.setObject(parameterIndex++, each.getColumn(j).getValue());
+                }
+                if (0 == (i + 1) % rowsPerStatement) {
+                    ps.addBatch();
+                    parameterIndex = 1;
+                }
             }
-            ps.addBatch();
+            ps.executeBatch();
         }
-        ps.executeBatch();
     }
     
     private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
-        for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+        Map<List<String>, List<DataRecord>> updatedColumnsRecords = dataRecords.stream().collect(Collectors.groupingBy(
+                each -> RecordUtil.extractUpdatedColumns(each).stream().map(Column::getName).collect(Collectors.toList()), LinkedHashMap::new, Collectors.toList()));
+        for (List<DataRecord> each : updatedColumnsRecords.values()) {
+            executeBatchUpdate(connection, each);
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
-        List<Column> conditionColumns = RecordUtil.extractConditionColumns(record, importerConfig.getShardingColumnsMap().get(record.getTableName()));
-        List<Column> updatedColumns = RecordUtil.extractUpdatedColumns(record);
-        String updateSql = sqlBuilder.buildUpdateSQL(record, conditionColumns);
-        PreparedStatement ps = connection.prepareStatement(updateSql);
-        for (int i = 0; i < updatedColumns.size(); i++) {
-            ps.setObject(i + 1, updatedColumns.get(i).getValue());
-        }
-        for (int i = 0; i < conditionColumns.size(); i++) {
-            Column keyColumn = conditionColumns.get(i);
-            ps.setObject(updatedColumns.size() + i + 1,
-                    // sharding column can not be updated
-                    (keyColumn.isPrimaryKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
+    private void executeBatchUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        Set<String> shardingColumns = importerConfig.getShardingColumnsMap().get(dataRecords.get(0).getTableName());
+        String updateSql = sqlBuilder.buildUpdateSQL(dataRecords.get(0), RecordUtil.extractConditionColumns(dataRecords.get(0), shardingColumns));
+        try (PreparedStatement ps = connection.prepareStatement(updateSql)) {
+            ps.setQueryTimeout(30);
+            for (DataRecord each : dataRecords) {
+                List<Column> conditionColumns = RecordUtil.extractConditionColumns(each, shardingColumns);
+                List<Column> updatedColumns = RecordUtil.extractUpdatedColumns(each);
+                for (int i = 0; i < updatedColumns.size(); i++) {
+                    ps.setObject(i + 1, updatedColumns.get(i).getValue());
+                }
+                for (int i = 0; i < conditionColumns.size(); i++) {
+                    Column keyColumn = conditionColumns.get(i);
+                    ps.setObject(updatedColumns.size() + i + 1,
+                            // sharding column can not be updated
+                            (keyColumn.isPrimaryKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
+                }
+                ps.addBatch();
+            }
+            ps.executeBatch();
         }
-        ps.execute();
     }
     
     private void executeBatchDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
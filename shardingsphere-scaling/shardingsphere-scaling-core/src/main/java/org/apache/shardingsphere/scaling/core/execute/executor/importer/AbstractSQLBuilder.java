@@ -24,7 +24,9 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
 
+import java.math.BigDecimal;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -79,23 +81,39 @@ public abstract class AbstractSQLBuilder {
      * @return insert SQL
      */
     public String buildInsertSQL(final DataRecord dataRecord) {
-        String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
+        return buildInsertSQL(dataRecord, 1);
+    }
+    
+    /**
+     * Build multi-row insert SQL.
+     *
+     * @param dataRecord data record
+     * @param rowCount row count of values
+     * @return multi-row insert SQL
+     */
+    public String buildInsertSQL(final DataRecord dataRecord, final int rowCount) {
+        String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName() + "_" + rowCount;
         if (!sqlCacheMap.containsKey(sqlCacheKey)) {
-            sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(dataRecord.getTableName(), dataRecord.getColumns()));
+            sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(dataRecord.getTableName(), dataRecord.getColumns(), rowCount));
         }
         return sqlCacheMap.get(sqlCacheKey);
     }
     
-    private String buildInsertSQLInternal(final String tableName, final List<Column> columns) {
+    private String buildInsertSQLInternal(final String tableName, final List<Column> columns, final int rowCount) {
         StringBuilder columnsLiteral = new StringBuilder();
-        StringBuilder holder = new StringBuilder();
+        StringBuilder holder = new StringBuilder("(");
         for (Column each : columns) {
             columnsLiteral.append(String.format("%s,", quote(each.getName())));
             holder.append("?,");
         }
         columnsLiteral.setLength(columnsLiteral.length() - 1);
         holder.setLength(holder.length() - 1);
-        return String.format("INSERT INTO %s(%s) VALUES(%s)", quote(tableName), columnsLiteral, holder);
+        holder.append(")");
+        StringBuilder values = new StringBuilder(holder);
+        for (int i = 1; i < rowCount; i++) {
+            values.append(",").append(holder);
+        }
+        return String.format("INSERT INTO %s(%s) VALUES%s", quote(tableName), columnsLiteral, values);
     }
     
     /**
@@ -163,4 +181,157 @@ public abstract class AbstractSQLBuilder {
     public String buildCountSQL(final String tableName) {
         return String.format("SELECT COUNT(*) FROM %s", quote(tableName));
     }
+    
+    /**
+     * Build estimated row count SQL.
+     *
+     * @param tableName table name
+     * @return estimated row count SQL, exact count SQL if database has no statistics of row count
+     */
+    public String buildEstimatedRowCountSQL(final String tableName) {
+        return buildCountSQL(tableName);
+    }
+    
+    /**
+     * Build primary key sample SQL.
+     *
+     * @param tableName table name
+     * @param primaryKeys primary keys
+     * @param samplingRate sampling rate of rows, all rows are read if it is not less than 1
+     * @return select sampled primary keys ordered by primary keys SQL
+     */
+    public String buildPrimaryKeySampleSQL(final String tableName, final List<String> primaryKeys, final double samplingRate) {
+        String columns = joinColumns(primaryKeys, "%s");
+        String condition = samplingRate < 1D ? String.format(" WHERE RAND() < %s", formatDecimal(samplingRate)) : "";
+        return String.format("SELECT %s FROM %s%s ORDER BY %s", columns, quote(tableName), condition, columns);
+    }
+    
+    /**
+     * Build min and max primary key SQL.
+     *
+     * @param tableName table name
+     * @param primaryKey primary key
+     * @return select min and max primary key SQL
+     */
+    public String buildMinMaxPrimaryKeySQL(final String tableName, final String primaryKey) {
+        return String.format("SELECT MIN(%s), MAX(%s) FROM %s", quote(primaryKey), quote(primaryKey), quote(tableName));
+    }
+    
+    /**
+     * Build keyset query SQL.
+     *
+     * @param tableName table name
+     * @param primaryKeys primary keys
+     * @param lowerBounded keyset has exclusive lower bound or not
+     * @param upperBounded keyset has inclusive upper bound or not
+     * @param batchSize max row count of each query
+     * @return select rows ordered by primary keys SQL
+     */
+    public String buildKeysetQuerySQL(final String tableName, final List<String> primaryKeys, final boolean lowerBounded, final boolean upperBounded, final int batchSize) {
+        StringBuilder condition = new StringBuilder();
+        if (lowerBounded) {
+            condition.append(buildKeysetConditionSQL(primaryKeys, ">"));
+        }
+        if (upperBounded) {
+            condition.append(lowerBounded ? " AND " : "").append(buildKeysetConditionSQL(primaryKeys, "<="));
+        }
+        return String.format("SELECT * FROM %s%s ORDER BY %s LIMIT %d", quote(tableName), buildChunkWhereSQL(condition.toString()), joinColumns(primaryKeys, "%s"), batchSize);
+    }
+    
+    private String buildKeysetConditionSQL(final List<String> primaryKeys, final String operator) {
+        if (1 == primaryKeys.size()) {
+            return String.format("%s %s ?", quote(primaryKeys.get(0)), operator);
+        }
+        return String.format("(%s) %s (%s)", joinColumns(primaryKeys, "%s"), operator, String.join(",", Collections.nCopies(primaryKeys.size(), "?")));
+    }
+    
+    /**
+     * Format decimal without exponent.
+     *
+     * @param value value
+     * @return formatted decimal
+     */
+    protected final String formatDecimal(final double value) {
+        return BigDecimal.valueOf(value).toPlainString();
+    }
+    
+    /**
+     * Escape string literal.
+     *
+     * @param value value
+     * @return escaped value to put in single quotes
+     */
+    protected String escapeStringLiteral(final String value) {
+        return value.replace("'", "''");
+    }
+    
+    /**
+     * Build primary key range SQL.
+     *
+     * @param tableName table name
+     * @param primaryKey primary key
+     * @return select min and max primary key and count SQL
+     */
+    public String buildPrimaryKeyRangeSQL(final String tableName, final String primaryKey) {
+        return String.format("SELECT MIN(%s), MAX(%s), COUNT(*) FROM %s", quote(primaryKey), quote(primaryKey), quote(tableName));
+    }
+    
+    /**
+     * Build chunk condition SQL.
+     *
+     * @param primaryKey primary key
+     * @param lowerBounded chunk has exclusive lower bound or not
+     * @param upperBounded chunk has inclusive upper bound or not
+     * @return chunk condition SQL, empty if chunk is unbounded
+     */
+    public String buildChunkConditionSQL(final String primaryKey, final boolean lowerBounded, final boolean upperBounded) {
+        if (lowerBounded && upperBounded) {
+            return String.format("%s > ? AND %s <= ?", quote(primaryKey), quote(primaryKey));
+        }
+        if (lowerBounded) {
+            return String.format("%s > ?", quote(primaryKey));
+        }
+        if (upperBounded) {
+            return String.format("%s <= ?", quote(primaryKey));
+        }
+        return "";
+    }
+    
+    /**
+     * Build chunk query SQL.
+     *
+     * @param tableName table name
+     * @param columns columns
+     * @param conditionSQL chunk condition SQL
+     * @return chunk query SQL
+     */
+    public String buildChunkQuerySQL(final String tableName, final Collection<String> columns, final String conditionSQL) {
+        return String.format("SELECT %s FROM %s%s", joinColumns(columns, "%s"), quote(tableName), buildChunkWhereSQL(conditionSQL));
+    }
+    
+    /**
+     * Join formatted columns with comma.
+     *
+     * @param columns columns
+     * @param columnFormat format of each quoted column
+     * @return joined columns
+     */
+    protected final String joinColumns(final Collection<String> columns, final String columnFormat) {
+        StringBuilder result = new StringBuilder();
+        for (String each : columns) {
+            result.append(String.format(columnFormat, quote(each))).append(",");
+        }
+        result.setLength(result.length() - 1);
+        return result.toString();
+    }
+    
+    /**
+     * Build where SQL of chunk.
+     *
+     * @param conditionSQL chunk condition SQL
+     * @return where SQL, empty if chunk is unbounded
+     */
+    protected final String buildChunkWhereSQL(final String conditionSQL) {
+        return conditionSQL.isEmpty() ? "" : " WHERE " + conditionSQL;
+    }
 }
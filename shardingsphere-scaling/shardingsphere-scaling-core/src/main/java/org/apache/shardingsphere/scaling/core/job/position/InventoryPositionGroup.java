@@ -21,6 +21,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import lombok.Getter;
 import lombok.Setter;
@@ -67,6 +68,8 @@ public final class InventoryPositionGroup {
         public void write(final JsonWriter out, final Position<?> value) throws IOException {
             if (value instanceof PrimaryKeyPosition) {
                 new PrimaryKeyPosition.PositionTypeAdapter().write(out, (PrimaryKeyPosition) value);
+            } else if (value instanceof KeysetPosition) {
+                new KeysetPosition.PositionTypeAdapter().write(out, (KeysetPosition) value);
             } else if (value instanceof PlaceholderPosition) {
                 new PlaceholderPosition.PositionTypeAdapter().write(out, (PlaceholderPosition) value);
             }
@@ -75,7 +78,14 @@ public final class InventoryPositionGroup {
         @Override
         public Position<?> read(final JsonReader in) throws IOException {
             in.beginArray();
-            Position<?> result = in.hasNext() ? new PrimaryKeyPosition(in.nextLong(), in.nextLong()) : new PlaceholderPosition();
+            Position<?> result;
+            if (!in.hasNext()) {
+                result = new PlaceholderPosition();
+            } else if (JsonToken.NUMBER == in.peek()) {
+                result = new PrimaryKeyPosition(in.nextLong(), in.nextLong());
+            } else {
+                result = new KeysetPosition(KeysetPosition.PositionTypeAdapter.readValues(in), KeysetPosition.PositionTypeAdapter.readValues(in));
+            }
             in.endArray();
             return result;
         }
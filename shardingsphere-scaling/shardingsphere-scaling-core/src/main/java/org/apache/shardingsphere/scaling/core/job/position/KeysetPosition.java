@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.scaling.core.job.position;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Use primary key values as position, for composite or non integer primary key.
+ *
+ * <p>
+ * Begin values are exclusive and end values are inclusive, {@code null} means unbounded.
+ * Every value is serialized with its type, so it is bound to the same JDBC type when the job is resumed.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+@JsonAdapter(KeysetPosition.PositionTypeAdapter.class)
+public final class KeysetPosition implements Position<KeysetPosition> {
+    
+    private final List<Object> beginValues;
+    
+    private final List<Object> endValues;
+    
+    @Override
+    public int compareTo(final KeysetPosition position) {
+        if (null == position) {
+            return 1;
+        }
+        if (null == beginValues || null == position.beginValues) {
+            return Boolean.compare(null != beginValues, null != position.beginValues);
+        }
+        for (int i = 0; i < Math.min(beginValues.size(), position.beginValues.size()); i++) {
+            int result = compareValue(beginValues.get(i), position.beginValues.get(i));
+            if (0 != result) {
+                return result;
+            }
+        }
+        return Integer.compare(beginValues.size(), position.beginValues.size());
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compareValue(final Object thisValue, final Object otherValue) {
+        if (thisValue instanceof Comparable && null != otherValue && thisValue.getClass() == otherValue.getClass()) {
+            return ((Comparable) thisValue).compareTo(otherValue);
+        }
+        if (thisValue instanceof Number && otherValue instanceof Number) {
+            return new BigDecimal(thisValue.toString()).compareTo(new BigDecimal(otherValue.toString()));
+        }
+        return String.valueOf(thisValue).compareTo(String.valueOf(otherValue));
+    }
+    
+    /**
+     * Position type adapter.
+     */
+    public static class PositionTypeAdapter extends TypeAdapter<KeysetPosition> {
+        
+        @Override
+        public void write(final JsonWriter out, final KeysetPosition value) throws IOException {
+            out.beginArray();
+            writeValues(out, value.getBeginValues());
+            writeValues(out, value.getEndValues());
+            out.endArray();
+        }
+        
+        private void writeValues(final JsonWriter out, final List<Object> values) throws IOException {
+            if (null == values) {
+                out.nullValue();
+                return;
+            }
+            out.beginArray();
+            for (Object each : values) {
+                writeValue(out, each);
+            }
+            out.endArray();
+        }
+        
+        private void writeValue(final JsonWriter out, final Object value) throws IOException {
+            if (null == value) {
+                out.nullValue();
+                return;
+            }
+            ValueType valueType = ValueType.findByValue(value);
+            out.beginArray();
+            out.value(valueType.name());
+            out.value(valueType.format(value));
+            out.endArray();
+        }
+        
+        @Override
+        public KeysetPosition read(final JsonReader in) throws IOException {
+            in.beginArray();
+            KeysetPosition position = new KeysetPosition(readValues(in), readValues(in));
+            in.endArray();
+            return position;
+        }
+        
+        static List<Object> readValues(final JsonReader in) throws IOException {
+            if (JsonToken.NULL == in.peek()) {
+                in.nextNull();
+                return null;
+            }
+            List<Object> result = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                result.add(readValue(in));
+            }
+            in.endArray();
+            return result;
+        }
+        
+        private static Object readValue(final JsonReader in) throws IOException {
+            switch (in.peek()) {
+                case NULL:
+                    in.nextNull();
+                    return null;
+                case BEGIN_ARRAY:
+                    in.beginArray();
+                    Object result = ValueType.valueOf(in.nextString()).parse(in.nextString());
+                    in.endArray();
+                    return result;
+                default:
+                    return in.nextString();
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private enum ValueType {
+        
+        STRING(String.class, value -> value),
+        
+        BOOLEAN(Boolean.class, Boolean::valueOf),
+        
+        BYTE(Byte.class, Byte::valueOf),
+        
+        SHORT(Short.class, Short::valueOf),
+        
+        INTEGER(Integer.class, Integer::valueOf),
+        
+        LONG(Long.class, Long::valueOf),
+        
+        BIG_INTEGER(BigInteger.class, BigInteger::new),
+        
+        BIG_DECIMAL(BigDecimal.class, BigDecimal::new),
+        
+        FLOAT(Float.class, Float::valueOf),
+        
+        DOUBLE(Double.class, Double::valueOf),
+        
+        DATE(Date.class, Date::valueOf),
+        
+        TIME(Time.class, Time::valueOf),
+        
+        TIMESTAMP(Timestamp.class, Timestamp::valueOf),
+        
+        UUID(java.util.UUID.class, java.util.UUID::fromString),
+        
+        BYTES(byte[].class, value -> Base64.getDecoder().decode(value));
+        
+        private final Class<?> valueClass;
+        
+        private final Function<String, Object> parser;
+        
+        private static ValueType findByValue(final Object value) {
+            for (ValueType each : values()) {
+                if (each.valueClass == value.getClass()) {
+                    return each;
+                }
+            }
+            return STRING;
+        }
+        
+        private String format(final Object value) {
+            return BYTES == this ? Base64.getEncoder().encodeToString((byte[]) value) : value.toString();
+        }
+        
+        private Object parse(final String value) {
+            return parser.apply(value);
+        }
+    }
+}
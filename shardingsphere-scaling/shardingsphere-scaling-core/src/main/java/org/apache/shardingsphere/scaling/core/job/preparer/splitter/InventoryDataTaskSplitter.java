@@ -24,8 +24,12 @@ import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguratio
 import org.apache.shardingsphere.scaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.exception.PrepareFailedException;
-import org.apache.shardingsphere.scaling.core.job.position.PositionManager;
+import org.apache.shardingsphere.scaling.core.execute.executor.importer.AbstractSQLBuilder;
+import org.apache.shardingsphere.scaling.core.execute.executor.importer.SQLBuilderFactory;
+import org.apache.shardingsphere.scaling.core.job.position.KeysetPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
+import org.apache.shardingsphere.scaling.core.job.position.Position;
+import org.apache.shardingsphere.scaling.core.job.position.PositionManager;
 import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.scaling.core.job.task.DefaultSyncTaskFactory;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
@@ -38,7 +42,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -48,6 +54,8 @@ import java.util.List;
 @Slf4j
 public final class InventoryDataTaskSplitter {
     
+    private static final int SAMPLE_ROWS_PER_SPLIT = 100;
+    
     private final SyncTaskFactory syncTaskFactory = new DefaultSyncTaskFactory();
     
     /**
@@ -69,9 +77,10 @@ public final class InventoryDataTaskSplitter {
         Collection<InventoryDumperConfiguration> result = new LinkedList<>();
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfiguration());
         MetaDataManager metaDataManager = new MetaDataManager(dataSource);
+        AbstractSQLBuilder sqlBuilder = SQLBuilderFactory.newInstance(dumperConfig.getDataSourceConfiguration().getDatabaseType().getName());
         for (InventoryDumperConfiguration each : splitByTable(dumperConfig)) {
-            if (isSpiltByPrimaryKeyRange(each, metaDataManager)) {
-                result.addAll(splitByPrimaryKeyRange(concurrency, each, metaDataManager, dataSource));
+            if (isSpiltByPrimaryKey(each, metaDataManager)) {
+                result.addAll(splitByPrimaryKey(concurrency, each, metaDataManager.getTableMetaData(each.getTableName()), dataSource, sqlBuilder));
             } else {
                 result.add(each);
             }
@@ -90,7 +99,7 @@ public final class InventoryDataTaskSplitter {
         return result;
     }
     
-    private boolean isSpiltByPrimaryKeyRange(final InventoryDumperConfiguration inventoryDumperConfig, final MetaDataManager metaDataManager) {
+    private boolean isSpiltByPrimaryKey(final InventoryDumperConfiguration inventoryDumperConfig, final MetaDataManager metaDataManager) {
         TableMetaData tableMetaData = metaDataManager.getTableMetaData(inventoryDumperConfig.getTableName());
         if (null == tableMetaData) {
             log.warn("Can't split range for table {}, reason: can not get table metadata ", inventoryDumperConfig.getTableName());
@@ -101,51 +110,115 @@ public final class InventoryDataTaskSplitter {
             log.warn("Can't split range for table {}, reason: no primary key", inventoryDumperConfig.getTableName());
             return false;
         }
-        if (primaryKeys.size() > 1) {
-            log.warn("Can't split range for table {}, reason: primary key is union primary", inventoryDumperConfig.getTableName());
-            return false;
-        }
-        int index = tableMetaData.findColumnIndex(primaryKeys.get(0));
-        if (isNotIntegerPrimary(tableMetaData.getColumnMetaData(index).getDataType())) {
-            log.warn("Can't split range for table {}, reason: primary key is not integer number", inventoryDumperConfig.getTableName());
-            return false;
-        }
         return true;
     }
     
-    private boolean isNotIntegerPrimary(final int columnType) {
-        return Types.INTEGER != columnType && Types.BIGINT != columnType && Types.SMALLINT != columnType && Types.TINYINT != columnType;
+    private boolean isIntegerPrimaryKey(final TableMetaData tableMetaData) {
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        if (1 != primaryKeys.size()) {
+            return false;
+        }
+        int columnType = tableMetaData.getColumnMetaData(tableMetaData.findColumnIndex(primaryKeys.get(0))).getDataType();
+        return Types.INTEGER == columnType || Types.BIGINT == columnType || Types.SMALLINT == columnType || Types.TINYINT == columnType;
     }
     
-    private Collection<InventoryDumperConfiguration> splitByPrimaryKeyRange(final int concurrency, final InventoryDumperConfiguration inventoryDumperConfig, 
-                                                                            final MetaDataManager metaDataManager, final DataSource dataSource) {
-        Collection<InventoryDumperConfiguration> result = new LinkedList<>();
+    private Collection<InventoryDumperConfiguration> splitByPrimaryKey(final int concurrency, final InventoryDumperConfiguration inventoryDumperConfig,
+                                                                       final TableMetaData tableMetaData, final DataSource dataSource, final AbstractSQLBuilder sqlBuilder) {
         String tableName = inventoryDumperConfig.getTableName();
-        String primaryKey = metaDataManager.getTableMetaData(tableName).getPrimaryKeyColumns().get(0);
-        inventoryDumperConfig.setPrimaryKey(primaryKey);
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        inventoryDumperConfig.setPrimaryKey(primaryKeys.get(0));
         try (Connection connection = dataSource.getConnection()) {
-            PreparedStatement ps = connection.prepareStatement(String.format("SELECT MIN(%s),MAX(%s) FROM %s LIMIT 1", primaryKey, primaryKey, inventoryDumperConfig.getTableName()));
-            ResultSet rs = ps.executeQuery();
-            rs.next();
-            long min = rs.getLong(1);
-            long max = rs.getLong(2);
-            long step = (max - min) / concurrency;
-            for (int i = 0; i < concurrency && min <= max; i++) {
+            List<List<Object>> splitPoints = getSplitPoints(concurrency, tableName, primaryKeys, sqlBuilder, connection);
+            List<Position<?>> positions = isIntegerPrimaryKey(tableMetaData)
+                    ? getPrimaryKeyRangePositions(tableName, primaryKeys.get(0), splitPoints, sqlBuilder, connection) : getKeysetPositions(splitPoints);
+            Collection<InventoryDumperConfiguration> result = new LinkedList<>();
+            for (int i = 0; i < positions.size(); i++) {
                 InventoryDumperConfiguration splitDumperConfig = new InventoryDumperConfiguration(inventoryDumperConfig);
-                if (i < concurrency - 1) {
-                    splitDumperConfig.setPositionManager(new PositionManager(new PrimaryKeyPosition(min, min + step)));
-                    min += step + 1;
-                } else {
-                    splitDumperConfig.setPositionManager(new PositionManager(new PrimaryKeyPosition(min, max)));
-                }
+                splitDumperConfig.setPositionManager(new PositionManager(positions.get(i)));
                 splitDumperConfig.setSpiltNum(i);
-                splitDumperConfig.setPrimaryKey(primaryKey);
+                splitDumperConfig.setPrimaryKey(primaryKeys.get(0));
                 splitDumperConfig.setTableName(tableName);
                 result.add(splitDumperConfig);
             }
+            return result;
         } catch (final SQLException ex) {
-            throw new PrepareFailedException(String.format("Split task for table %s by primary key %s error", inventoryDumperConfig.getTableName(), primaryKey), ex);
+            throw new PrepareFailedException(String.format("Split task for table %s by primary key %s error", tableName, primaryKeys), ex);
+        }
+    }
+    
+    private List<List<Object>> getSplitPoints(final int concurrency, final String tableName, final List<String> primaryKeys,
+                                              final AbstractSQLBuilder sqlBuilder, final Connection connection) throws SQLException {
+        long rowCount = getEstimatedRowCount(tableName, sqlBuilder, connection);
+        if (rowCount < concurrency) {
+            return Collections.emptyList();
+        }
+        double samplingRate = Math.min(1D, (double) concurrency * SAMPLE_ROWS_PER_SPLIT / rowCount);
+        List<List<Object>> samples = getSamples(sqlBuilder.buildPrimaryKeySampleSQL(tableName, primaryKeys, samplingRate), primaryKeys.size(), connection);
+        List<List<Object>> result = new ArrayList<>(concurrency - 1);
+        int previousIndex = -1;
+        for (int i = 1; i < concurrency; i++) {
+            int index = (int) ((long) i * samples.size() / concurrency) - 1;
+            if (index > previousIndex) {
+                result.add(samples.get(index));
+                previousIndex = index;
+            }
+        }
+        return result;
+    }
+    
+    private long getEstimatedRowCount(final String tableName, final AbstractSQLBuilder sqlBuilder, final Connection connection) throws SQLException {
+        long result = getRowCount(sqlBuilder.buildEstimatedRowCountSQL(tableName), connection);
+        return result > 0 ? result : getRowCount(sqlBuilder.buildCountSQL(tableName), connection);
+    }
+    
+    private long getRowCount(final String sql, final Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        }
+    }
+    
+    private List<List<Object>> getSamples(final String sql, final int primaryKeyCount, final Connection connection) throws SQLException {
+        List<List<Object>> result = new ArrayList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                List<Object> sample = new ArrayList<>(primaryKeyCount);
+                for (int i = 1; i <= primaryKeyCount; i++) {
+                    sample.add(resultSet.getObject(i));
+                }
+                result.add(sample);
+            }
+        }
+        return result;
+    }
+    
+    private List<Position<?>> getPrimaryKeyRangePositions(final String tableName, final String primaryKey, final List<List<Object>> splitPoints,
+                                                          final AbstractSQLBuilder sqlBuilder, final Connection connection) throws SQLException {
+        List<Position<?>> result = new ArrayList<>(splitPoints.size() + 1);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlBuilder.buildMinMaxPrimaryKeySQL(tableName, primaryKey));
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            resultSet.next();
+            long min = resultSet.getLong(1);
+            long max = resultSet.getLong(2);
+            for (List<Object> each : splitPoints) {
+                long splitPoint = ((Number) each.get(0)).longValue();
+                result.add(new PrimaryKeyPosition(min, splitPoint));
+                min = splitPoint + 1;
+            }
+            result.add(new PrimaryKeyPosition(min, max));
+        }
+        return result;
+    }
+    
+    private List<Position<?>> getKeysetPositions(final List<List<Object>> splitPoints) {
+        List<Position<?>> result = new ArrayList<>(splitPoints.size() + 1);
+        List<Object> begin = null;
+        for (List<Object> each : splitPoints) {
+            result.add(new KeysetPosition(begin, each));
+            begin = each;
         }
+        result.add(new KeysetPosition(begin, null));
         return result;
     }
 }
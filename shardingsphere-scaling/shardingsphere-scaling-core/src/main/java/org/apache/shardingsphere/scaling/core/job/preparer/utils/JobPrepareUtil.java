@@ -17,11 +17,12 @@
 
 package org.apache.shardingsphere.scaling.core.job.preparer.utils;
 
-import com.google.common.collect.Lists;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
 
+import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -33,11 +34,23 @@ public final class JobPrepareUtil {
     /**
      * Group inventory data tasks by task number.
      *
+     * <p>
+     * Tasks are dealt to groups one by one, so split tasks of the same table are executed by different groups in parallel.
+     * </p>
+     *
      * @param taskNumber task number
      * @param allInventoryDataTasks all inventory data tasks
      * @return task group list
      */
     public static List<List<ScalingTask>> groupInventoryDataTasks(final int taskNumber, final List<ScalingTask> allInventoryDataTasks) {
-        return Lists.partition(allInventoryDataTasks, taskNumber);
+        List<List<ScalingTask>> result = new ArrayList<>(taskNumber);
+        for (int i = 0; i < Math.min(taskNumber, allInventoryDataTasks.size()); i++) {
+            result.add(new LinkedList<>());
+        }
+        int index = 0;
+        for (ScalingTask each : allInventoryDataTasks) {
+            result.get(index++ % result.size()).add(each);
+        }
+        return result;
     }
 }
@@ -25,7 +25,8 @@ import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.exception.SyncTaskExecuteException;
 import org.apache.shardingsphere.scaling.core.execute.engine.ExecuteCallback;
 import org.apache.shardingsphere.scaling.core.execute.executor.AbstractShardingScalingExecutor;
-import org.apache.shardingsphere.scaling.core.execute.executor.channel.DistributionChannel;
+import org.apache.shardingsphere.scaling.core.execute.executor.channel.Channel;
+import org.apache.shardingsphere.scaling.core.execute.executor.channel.ChannelFactory;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.Dumper;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.DumperFactory;
 import org.apache.shardingsphere.scaling.core.execute.executor.importer.Importer;
@@ -36,7 +37,6 @@ import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -71,7 +71,7 @@ public final class IncrementalDataScalingTask extends AbstractShardingScalingExe
     @Override
     public void start() {
         dumper = DumperFactory.newInstanceLogDumper(dumperConfig, getPositionManager().getPosition());
-        Collection<Importer> importers = instanceImporters();
+        List<Importer> importers = instanceImporters();
         instanceChannel(importers);
         Future<?> future = ScalingContext.getInstance().getTaskExecuteEngine().submitAll(importers, new ExecuteCallback() {
             
@@ -98,8 +98,8 @@ public final class IncrementalDataScalingTask extends AbstractShardingScalingExe
         return result;
     }
     
-    private void instanceChannel(final Collection<Importer> importers) {
-        DistributionChannel channel = new DistributionChannel(importers.size(), records -> {
+    private void instanceChannel(final List<Importer> importers) {
+        Channel channel = ChannelFactory.newInstance(importers.size(), records -> {
             Record lastHandledRecord = records.get(records.size() - 1);
             if (!(lastHandledRecord.getPosition() instanceof PlaceholderPosition)) {
                 getPositionManager().setPosition(lastHandledRecord.getPosition());
@@ -107,8 +107,8 @@ public final class IncrementalDataScalingTask extends AbstractShardingScalingExe
             delayMillisecond = System.currentTimeMillis() - lastHandledRecord.getCommitTime();
         });
         dumper.setChannel(channel);
-        for (Importer each : importers) {
-            each.setChannel(channel);
+        for (int i = 0; i < importers.size(); i++) {
+            importers.get(i).setChannel(ChannelFactory.getImporterChannel(channel, i));
         }
     }
     
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.scaling.core.service;
 
+import org.apache.shardingsphere.scaling.core.check.DataConsistencyCheckProgress;
 import org.apache.shardingsphere.scaling.core.check.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.check.DataConsistencyChecker;
 import org.apache.shardingsphere.scaling.core.config.ScalingConfiguration;
@@ -24,14 +25,21 @@ import org.apache.shardingsphere.scaling.core.job.ShardingScalingJob;
 import org.apache.shardingsphere.scaling.core.utils.ProxyConfigurationUtil;
 import org.apache.shardingsphere.scaling.core.utils.SyncConfigurationUtil;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstract scaling job service.
  */
 public abstract class AbstractScalingJobService implements ScalingJobService {
     
+    private final Map<Long, DataConsistencyChecker> dataConsistencyCheckers = new ConcurrentHashMap<>();
+    
+    private final Map<Long, Map<String, DataConsistencyCheckProgress>> finishedCheckProgresses = new ConcurrentHashMap<>();
+    
     @Override
     public boolean shouldScaling(final String oldYamlProxyConfiguration, final String newYamlProxyConfiguration) {
         ScalingConfiguration scalingConfiguration = ProxyConfigurationUtil.toScalingConfiguration(oldYamlProxyConfiguration, newYamlProxyConfiguration);
@@ -65,12 +73,38 @@ public abstract class AbstractScalingJobService implements ScalingJobService {
      * @return data consistency check result
      */
     protected Map<String, DataConsistencyCheckResult> dataConsistencyCheck(final ShardingScalingJob shardingScalingJob) {
+        long jobId = shardingScalingJob.getJobId();
         DataConsistencyChecker dataConsistencyChecker = shardingScalingJob.getDataConsistencyChecker();
-        Map<String, DataConsistencyCheckResult> result = dataConsistencyChecker.countCheck();
-        if (result.values().stream().allMatch(DataConsistencyCheckResult::isCountValid)) {
-            Map<String, Boolean> dataCheckResult = dataConsistencyChecker.dataCheck();
-            result.forEach((key, value) -> value.setDataValid(dataCheckResult.getOrDefault(key, false)));
+        dataConsistencyCheckers.put(jobId, dataConsistencyChecker);
+        try {
+            Map<String, DataConsistencyCheckResult> result = dataConsistencyChecker.countCheck();
+            if (result.values().stream().allMatch(DataConsistencyCheckResult::isCountValid)) {
+                Map<String, Boolean> dataCheckResult = dataConsistencyChecker.dataCheck();
+                result.forEach((key, value) -> value.setDataValid(dataCheckResult.getOrDefault(key, false)));
+            }
+            return result;
+        } finally {
+            finishedCheckProgresses.put(jobId, new LinkedHashMap<>(dataConsistencyChecker.getCheckProgress()));
+            dataConsistencyCheckers.remove(jobId, dataConsistencyChecker);
+        }
+    }
+    
+    /**
+     * Remove data consistency check progress.
+     *
+     * @param jobId job id
+     */
+    protected void removeCheckProgress(final long jobId) {
+        dataConsistencyCheckers.remove(jobId);
+        finishedCheckProgresses.remove(jobId);
+    }
+    
+    @Override
+    public Map<String, DataConsistencyCheckProgress> getCheckProgress(final long jobId) {
+        DataConsistencyChecker dataConsistencyChecker = dataConsistencyCheckers.get(jobId);
+        if (null != dataConsistencyChecker) {
+            return dataConsistencyChecker.getCheckProgress();
         }
-        return result;
+        return finishedCheckProgresses.getOrDefault(jobId, Collections.emptyMap());
     }
 }
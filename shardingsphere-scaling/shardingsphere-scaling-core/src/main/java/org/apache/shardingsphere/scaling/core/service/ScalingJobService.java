@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.scaling.core.service;
 
+import org.apache.shardingsphere.scaling.core.check.DataConsistencyCheckProgress;
 import org.apache.shardingsphere.scaling.core.check.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.config.ScalingConfiguration;
 import org.apache.shardingsphere.scaling.core.job.ScalingJobProgress;
@@ -96,6 +97,14 @@ public interface ScalingJobService {
      */
     Map<String, DataConsistencyCheckResult> check(long jobId);
     
+    /**
+     * Get data consistency check progress.
+     *
+     * @param jobId job id
+     * @return data check progress of each table
+     */
+    Map<String, DataConsistencyCheckProgress> getCheckProgress(long jobId);
+    
     /**
      * Reset target tables.
      *
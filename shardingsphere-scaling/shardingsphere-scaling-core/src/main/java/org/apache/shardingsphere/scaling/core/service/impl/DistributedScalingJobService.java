@@ -117,5 +117,6 @@ public final class DistributedScalingJobService extends AbstractScalingJobServic
     @Override
     public void remove(final long jobId) {
         REGISTRY_REPOSITORY.delete(ScalingTaskUtil.getScalingListenerPath(jobId));
+        removeCheckProgress(jobId);
     }
 }
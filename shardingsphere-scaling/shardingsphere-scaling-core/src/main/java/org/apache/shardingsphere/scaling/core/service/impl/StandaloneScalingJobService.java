@@ -104,5 +104,6 @@ public final class StandaloneScalingJobService extends AbstractScalingJobService
         stop(jobId);
         scalingJobMap.remove(jobId);
         scalingTaskSchedulerMap.remove(jobId);
+        removeCheckProgress(jobId);
     }
 }
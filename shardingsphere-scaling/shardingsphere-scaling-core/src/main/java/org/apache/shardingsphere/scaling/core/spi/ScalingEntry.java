@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.database.type.DatabaseTypeAwareSPI;
 import org.apache.shardingsphere.scaling.core.check.DataConsistencyChecker;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.JDBCDumper;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.LogDumper;
+import org.apache.shardingsphere.scaling.core.execute.executor.importer.AbstractSQLBuilder;
 import org.apache.shardingsphere.scaling.core.execute.executor.importer.Importer;
 import org.apache.shardingsphere.scaling.core.job.position.PositionManager;
 import org.apache.shardingsphere.scaling.core.job.preparer.checker.DataSourceChecker;
@@ -71,4 +72,11 @@ public interface ScalingEntry extends DatabaseTypeAwareSPI {
      * @return data consistency checker type
      */
     Class<? extends DataConsistencyChecker> getDataConsistencyCheckerClass();
+    
+    /**
+     * Get SQL builder type.
+     *
+     * @return SQL builder type
+     */
+    Class<? extends AbstractSQLBuilder> getSQLBuilderClass();
 }
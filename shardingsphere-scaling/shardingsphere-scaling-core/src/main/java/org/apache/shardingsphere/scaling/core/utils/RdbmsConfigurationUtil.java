@@ -40,7 +40,7 @@ public final class RdbmsConfigurationUtil {
     }
     
     private static String getWhereCondition(final String primaryKey, final PositionManager positionManager) {
-        if (null == primaryKey || null == positionManager) {
+        if (null == primaryKey || null == positionManager || !(positionManager.getPosition() instanceof PrimaryKeyPosition)) {
             return "";
         }
         PrimaryKeyPosition position = (PrimaryKeyPosition) positionManager.getPosition();
@@ -32,6 +32,7 @@ import java.sql.Statement;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -48,14 +49,46 @@ public final class AbstractDataConsistencyCheckerTest {
         assertThat(resultMap.get("t1").getSourceCount(), is(resultMap.get("t1").getTargetCount()));
     }
     
+    @Test
+    public void assertDataCheck() {
+        ShardingScalingJob shardingScalingJob = mockShardingScalingJob();
+        DataConsistencyChecker dataConsistencyChecker = DataConsistencyCheckerFactory.newInstance("H2", shardingScalingJob);
+        initTableData(shardingScalingJob.getSyncConfigurations().get(0).getDumperConfiguration().getDataSourceConfiguration());
+        initTableData(shardingScalingJob.getSyncConfigurations().get(0).getImporterConfiguration().getDataSourceConfiguration());
+        Map<String, Boolean> resultMap = dataConsistencyChecker.dataCheck();
+        assertTrue(resultMap.get("t1"));
+        DataConsistencyCheckProgress progress = dataConsistencyChecker.getCheckProgress().get("t1");
+        assertThat(progress.getTotalChunks(), is(1));
+        assertThat(progress.getCheckedChunks(), is(1));
+        assertThat(progress.getMismatchedChunks(), is(0));
+        assertThat(progress.getRecheckTimes(), is(0));
+    }
+    
+    @Test
+    public void assertDataCheckMismatched() {
+        ShardingScalingJob shardingScalingJob = mockShardingScalingJob();
+        DataConsistencyChecker dataConsistencyChecker = DataConsistencyCheckerFactory.newInstance("H2", shardingScalingJob);
+        initTableData(shardingScalingJob.getSyncConfigurations().get(0).getDumperConfiguration().getDataSourceConfiguration());
+        initTableData(shardingScalingJob.getSyncConfigurations().get(0).getImporterConfiguration().getDataSourceConfiguration(), "UPDATE t1 SET user_id = NULL WHERE id = 999");
+        Map<String, Boolean> resultMap = dataConsistencyChecker.dataCheck();
+        assertFalse(resultMap.get("t1"));
+        DataConsistencyCheckProgress progress = dataConsistencyChecker.getCheckProgress().get("t1");
+        assertThat(progress.getCheckedChunks(), is(1));
+        assertThat(progress.getMismatchedChunks(), is(1));
+        assertThat(progress.getRecheckTimes(), is(2));
+    }
+    
     @SneakyThrows(SQLException.class)
-    private void initTableData(final ScalingDataSourceConfiguration dataSourceConfig) {
+    private void initTableData(final ScalingDataSourceConfiguration dataSourceConfig, final String... extraSQLs) {
         DataSource dataSource = new DataSourceManager().getDataSource(dataSourceConfig);
         try (Connection connection = dataSource.getConnection();
              Statement statement = connection.createStatement()) {
             statement.execute("DROP TABLE IF EXISTS t1");
             statement.execute("CREATE TABLE t1 (id INT PRIMARY KEY, user_id VARCHAR(12))");
             statement.execute("INSERT INTO t1 (id, user_id) VALUES (1, 'xxx'), (999, 'yyy')");
+            for (String each : extraSQLs) {
+                statement.execute(each);
+            }
         }
     }
     
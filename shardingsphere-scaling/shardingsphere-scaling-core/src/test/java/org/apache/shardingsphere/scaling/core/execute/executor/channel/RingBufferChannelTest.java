@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.scaling.core.execute.executor.channel;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.FinishedRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.PlaceholderRecord;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.Record;
+import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
+import org.apache.shardingsphere.scaling.core.job.position.Position;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RingBufferChannelTest {
+    
+    @Test
+    public void assertAckCallbackResultSortable() throws InterruptedException {
+        int recordCount = 1000;
+        CountDownLatch acknowledgedLatch = new CountDownLatch(recordCount);
+        AtomicInteger lastId = new AtomicInteger();
+        List<Integer> disorderedIds = Collections.synchronizedList(new ArrayList<>());
+        RingBufferChannel channel = new RingBufferChannel(2, 16, records -> {
+            for (Record each : records) {
+                int currentId = ((IntPosition) each.getPosition()).getId();
+                if (currentId != lastId.get() + 1) {
+                    disorderedIds.add(currentId);
+                }
+                lastId.set(currentId);
+                acknowledgedLatch.countDown();
+            }
+        });
+        AtomicBoolean running = new AtomicBoolean(true);
+        fetchWithMultiThreading(channel, 2, running);
+        Random random = new Random();
+        for (int i = 1; i <= recordCount; i++) {
+            channel.pushRecord(random.nextBoolean() ? mockDataRecord(i) : new PlaceholderRecord(new IntPosition(i)));
+        }
+        assertTrue(acknowledgedLatch.await(10, TimeUnit.SECONDS));
+        assertTrue(disorderedIds.isEmpty());
+        running.set(false);
+        channel.close();
+    }
+    
+    @Test
+    public void assertBroadcastFinishedRecord() throws InterruptedException {
+        RingBufferChannel channel = new RingBufferChannel(2, 16, records -> { });
+        channel.pushRecord(new FinishedRecord(new PlaceholderPosition()));
+        List<List<Record>> actual = new ArrayList<>(2);
+        for (int i = 0; i < 2; i++) {
+            actual.add(channel.getPartition(i).fetchRecords(100, 1));
+        }
+        assertThat(actual.get(0).size(), is(1));
+        assertThat(actual.get(0).get(0), instanceOf(FinishedRecord.class));
+        assertThat(actual.get(1).size(), is(1));
+        assertThat(actual.get(1).get(0), instanceOf(FinishedRecord.class));
+    }
+    
+    @Test
+    public void assertFetchRecordsWakeUpWhenRecordPushed() throws InterruptedException {
+        RingBufferChannel channel = new RingBufferChannel(1, 16, records -> { });
+        List<Record> actual = new ArrayList<>();
+        Thread importer = new Thread(() -> actual.addAll(channel.getPartition(0).fetchRecords(100, 30)));
+        importer.start();
+        channel.pushRecord(mockDataRecord(1));
+        importer.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(importer.isAlive());
+        assertThat(actual.size(), is(1));
+    }
+    
+    @Test
+    public void assertPushRecordWaitForAck() throws InterruptedException {
+        AtomicInteger acknowledgedCount = new AtomicInteger();
+        RingBufferChannel channel = new RingBufferChannel(1, 2, records -> acknowledgedCount.addAndGet(records.size()));
+        channel.pushRecord(mockDataRecord(1));
+        channel.pushRecord(mockDataRecord(2));
+        Thread producer = new Thread(() -> {
+            try {
+                channel.pushRecord(mockDataRecord(3));
+            } catch (final InterruptedException ignored) {
+            }
+        });
+        producer.start();
+        producer.join(200L);
+        assertTrue(producer.isAlive());
+        channel.getPartition(0).fetchRecords(100, 1);
+        channel.getPartition(0).ack();
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(producer.isAlive());
+        assertThat(acknowledgedCount.get(), is(2));
+    }
+    
+    @Test
+    public void assertFetchRecordsByAnyThread() throws InterruptedException {
+        AtomicInteger acknowledgedCount = new AtomicInteger();
+        RingBufferChannel channel = new RingBufferChannel(1, 16, records -> acknowledgedCount.addAndGet(records.size()));
+        channel.pushRecord(mockDataRecord(1));
+        channel.pushRecord(mockDataRecord(2));
+        Channel partition = channel.getPartition(0);
+        List<Record> actual = new ArrayList<>();
+        Thread importer = new Thread(() -> actual.addAll(partition.fetchRecords(1, 1)));
+        importer.start();
+        importer.join();
+        actual.addAll(partition.fetchRecords(1, 1));
+        partition.ack();
+        assertThat(actual.size(), is(2));
+        assertThat(acknowledgedCount.get(), is(2));
+    }
+    
+    @Test
+    public void assertFetchRecordsKeepInterruptedStatus() {
+        RingBufferChannel channel = new RingBufferChannel(1, 16, records -> { });
+        Thread.currentThread().interrupt();
+        try {
+            assertTrue(channel.getPartition(0).fetchRecords(100, 30).isEmpty());
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertFetchRecordsWithoutPartition() {
+        new RingBufferChannel(1, 16, records -> { }).fetchRecords(100, 1);
+    }
+    
+    private void fetchWithMultiThreading(final RingBufferChannel channel, final int threadCount, final AtomicBoolean running) {
+        for (int i = 0; i < threadCount; i++) {
+            Channel partition = channel.getPartition(i);
+            new Thread(() -> {
+                while (running.get()) {
+                    partition.fetchRecords(100, 1);
+                    partition.ack();
+                }
+            }).start();
+        }
+    }
+    
+    private DataRecord mockDataRecord(final int id) {
+        DataRecord result = new DataRecord(new IntPosition(id), 1);
+        result.setTableName("t_order");
+        result.addColumn(new Column("id", id, true, true));
+        return result;
+    }
+    
+    @AllArgsConstructor
+    @Getter
+    private static final class IntPosition implements Position<IntPosition> {
+        
+        private final int id;
+        
+        @Override
+        public int compareTo(final IntPosition position) {
+            return id - position.id;
+        }
+    }
+}
@@ -40,14 +40,18 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -102,7 +106,7 @@ public final class AbstractJDBCImporterTest {
     @Test
     public void assertWriteInsertDataRecord() throws SQLException {
         DataRecord insertRecord = getDataRecord("INSERT");
-        when(sqlBuilder.buildInsertSQL(insertRecord)).thenReturn(INSERT_SQL);
+        when(sqlBuilder.buildInsertSQL(insertRecord, 1)).thenReturn(INSERT_SQL);
         when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
         when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(insertRecord));
         jdbcImporter.run();
@@ -110,6 +114,7 @@ public final class AbstractJDBCImporterTest {
         verify(preparedStatement).setObject(2, 10);
         verify(preparedStatement).setObject(3, "INSERT");
         verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
     }
     
     @Test
@@ -135,7 +140,8 @@ public final class AbstractJDBCImporterTest {
         verify(preparedStatement).setObject(2, "UPDATE");
         verify(preparedStatement).setObject(3, 1);
         verify(preparedStatement).setObject(4, 10);
-        verify(preparedStatement).execute();
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
     }
     
     @Test
@@ -151,7 +157,45 @@ public final class AbstractJDBCImporterTest {
         inOrder.verify(preparedStatement).setObject(3, "UPDATE");
         inOrder.verify(preparedStatement).setObject(4, 1);
         inOrder.verify(preparedStatement).setObject(5, 10);
-        inOrder.verify(preparedStatement).execute();
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    public void assertWriteMultiRowInsertDataRecords() throws SQLException {
+        List<Record> records = new LinkedList<>();
+        for (int i = 0; i < 300; i++) {
+            records.add(getDataRecord("INSERT", i));
+        }
+        records.add(new FinishedRecord(new PlaceholderPosition()));
+        when(sqlBuilder.buildInsertSQL(any(DataRecord.class), eq(256))).thenReturn(INSERT_SQL);
+        when(sqlBuilder.buildInsertSQL(any(DataRecord.class), eq(44))).thenReturn(INSERT_SQL);
+        when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(records);
+        jdbcImporter.run();
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement, times(2)).executeBatch();
+        verify(preparedStatement).setObject(768, "INSERT");
+    }
+    
+    @Test
+    public void assertUpdateDataRecordsGroupedByUpdatedColumns() throws SQLException {
+        DataRecord updateRecord = getDataRecord("UPDATE");
+        DataRecord anotherUpdateRecord = getDataRecord("UPDATE", 2);
+        DataRecord partialUpdateRecord = new DataRecord(new PlaceholderPosition(), 3);
+        partialUpdateRecord.setTableName(TABLE_NAME);
+        partialUpdateRecord.setType("UPDATE");
+        partialUpdateRecord.addColumn(new Column("id", 3, false, true));
+        partialUpdateRecord.addColumn(new Column("user", 10, false, false));
+        partialUpdateRecord.addColumn(new Column("status", "UPDATE", true, false));
+        when(sqlBuilder.buildUpdateSQL(any(DataRecord.class), any())).thenReturn(UPDATE_SQL);
+        when(connection.prepareStatement(UPDATE_SQL)).thenReturn(preparedStatement);
+        List<Record> records = new LinkedList<>(Arrays.asList(updateRecord, anotherUpdateRecord, partialUpdateRecord, new FinishedRecord(new PlaceholderPosition())));
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(records);
+        jdbcImporter.run();
+        verify(connection, times(2)).prepareStatement(UPDATE_SQL);
+        verify(preparedStatement, times(3)).addBatch();
+        verify(preparedStatement, times(2)).executeBatch();
     }
     
     private DataRecord getUpdatePrimaryKeyDataRecord() {
@@ -176,10 +220,14 @@ public final class AbstractJDBCImporterTest {
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
         result.addColumn(new Column("status", recordType, true, false));
         return result;
@@ -26,7 +26,9 @@ import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -57,6 +59,12 @@ public final class AbstractSqlBuilderTest {
         assertThat(actual, is("INSERT INTO `t1`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?)"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        String actual = sqlBuilder.buildInsertSQL(mockDataRecord("t1"), 3);
+        assertThat(actual, is("INSERT INTO `t1`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?),(?,?,?,?,?),(?,?,?,?,?)"));
+    }
+    
     @Test
     public void assertBuildUpdateSQLWithPrimaryKey() {
         String actual = sqlBuilder.buildUpdateSQL(mockDataRecord("t2"), RecordUtil.extractPrimaryColumns(mockDataRecord("t2")));
@@ -83,6 +91,36 @@ public final class AbstractSqlBuilderTest {
         assertThat(actual, is("DELETE FROM `t3` WHERE `id` = ? and `sc` = ?"));
     }
     
+    @Test
+    public void assertBuildPrimaryKeySampleSQL() {
+        String actual = sqlBuilder.buildPrimaryKeySampleSQL("t1", Arrays.asList("id", "sc"), 0.005D);
+        assertThat(actual, is("SELECT `id`,`sc` FROM `t1` WHERE RAND() < 0.005 ORDER BY `id`,`sc`"));
+    }
+    
+    @Test
+    public void assertBuildPrimaryKeySampleSQLWithAllRows() {
+        String actual = sqlBuilder.buildPrimaryKeySampleSQL("t1", Collections.singletonList("id"), 1D);
+        assertThat(actual, is("SELECT `id` FROM `t1` ORDER BY `id`"));
+    }
+    
+    @Test
+    public void assertBuildKeysetQuerySQL() {
+        String actual = sqlBuilder.buildKeysetQuerySQL("t1", Collections.singletonList("id"), true, true, 1000);
+        assertThat(actual, is("SELECT * FROM `t1` WHERE `id` > ? AND `id` <= ? ORDER BY `id` LIMIT 1000"));
+    }
+    
+    @Test
+    public void assertBuildKeysetQuerySQLWithUnionPrimaryKey() {
+        String actual = sqlBuilder.buildKeysetQuerySQL("t1", Arrays.asList("id", "sc"), false, true, 1000);
+        assertThat(actual, is("SELECT * FROM `t1` WHERE (`id`,`sc`) <= (?,?) ORDER BY `id`,`sc` LIMIT 1000"));
+    }
+    
+    @Test
+    public void assertBuildKeysetQuerySQLWithoutBound() {
+        String actual = sqlBuilder.buildKeysetQuerySQL("t1", Collections.singletonList("id"), false, false, 1000);
+        assertThat(actual, is("SELECT * FROM `t1` ORDER BY `id` LIMIT 1000"));
+    }
+    
     private Collection<Column> mockConditionColumns(final DataRecord dataRecord) {
         return RecordUtil.extractConditionColumns(dataRecord, Sets.newHashSet("sc"));
     }
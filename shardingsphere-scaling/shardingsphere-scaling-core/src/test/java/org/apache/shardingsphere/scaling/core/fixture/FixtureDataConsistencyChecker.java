@@ -24,7 +24,6 @@ import org.apache.shardingsphere.scaling.core.check.DataConsistencyChecker;
 import org.apache.shardingsphere.scaling.core.execute.executor.importer.AbstractSQLBuilder;
 import org.apache.shardingsphere.scaling.core.job.ShardingScalingJob;
 
-import java.util.Collections;
 import java.util.Map;
 
 public final class FixtureDataConsistencyChecker extends AbstractDataConsistencyChecker implements DataConsistencyChecker {
@@ -38,11 +37,6 @@ public final class FixtureDataConsistencyChecker extends AbstractDataConsistency
         return super.countCheck();
     }
     
-    @Override
-    public Map<String, Boolean> dataCheck() {
-        return Collections.emptyMap();
-    }
-    
     @Override
     protected AbstractSQLBuilder getSqlBuilder() {
         return new AbstractSQLBuilder(Maps.newHashMap()) {
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.scaling.core.fixture;
 import org.apache.shardingsphere.scaling.core.check.DataConsistencyChecker;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.JDBCDumper;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.LogDumper;
+import org.apache.shardingsphere.scaling.core.execute.executor.importer.AbstractSQLBuilder;
 import org.apache.shardingsphere.scaling.core.execute.executor.importer.Importer;
 import org.apache.shardingsphere.scaling.core.job.position.PositionManager;
 import org.apache.shardingsphere.scaling.core.job.preparer.checker.DataSourceChecker;
@@ -57,6 +58,11 @@ public final class FixtureH2ScalingEntry implements ScalingEntry {
         return FixtureDataConsistencyChecker.class;
     }
     
+    @Override
+    public Class<? extends AbstractSQLBuilder> getSQLBuilderClass() {
+        return FixtureH2SQLBuilder.class;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "H2";
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.scaling.core.job.position;
+
+import com.google.gson.Gson;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class KeysetPositionTest {
+    
+    @Test
+    public void assertCompareTo() {
+        KeysetPosition position1 = new KeysetPosition(Arrays.<Object>asList(1, "a"), null);
+        KeysetPosition position2 = new KeysetPosition(Arrays.<Object>asList(1, "b"), null);
+        KeysetPosition position3 = new KeysetPosition(Arrays.<Object>asList(10, "a"), null);
+        assertThat(position1.compareTo(null), is(1));
+        assertTrue(position1.compareTo(position2) < 0);
+        assertTrue(position2.compareTo(position3) < 0);
+        assertTrue(new KeysetPosition(null, null).compareTo(position1) < 0);
+    }
+    
+    @Test
+    public void assertFromJsonWithoutValueType() {
+        KeysetPosition position = new Gson().fromJson("[null,[\"1\",\"a\"]]", KeysetPosition.class);
+        assertNull(position.getBeginValues());
+        assertThat(position.getEndValues(), is(Arrays.<Object>asList("1", "a")));
+    }
+    
+    @Test
+    public void assertToJson() {
+        KeysetPosition position = new KeysetPosition(Collections.<Object>singletonList("a"), null);
+        assertThat(new Gson().toJson(position), is("[[[\"STRING\",\"a\"]],null]"));
+    }
+    
+    @Test
+    public void assertToJsonWithBytes() {
+        KeysetPosition position = new KeysetPosition(Collections.<Object>singletonList(new byte[]{(byte) 0xff, 0x00}), null);
+        assertThat(new Gson().toJson(position), is("[[[\"BYTES\",\"/wA=\"]],null]"));
+    }
+    
+    @Test
+    public void assertJsonRoundTrip() {
+        List<Object> beginValues = Arrays.asList(1, 2L, new BigInteger("18446744073709551615"), new BigDecimal("1.50"), "a\tb", Timestamp.valueOf("2020-01-01 00:00:00.123"), UUID.randomUUID(), null);
+        List<Object> endValues = Collections.singletonList(new byte[]{(byte) 0xff, 0x00, 0x7f});
+        KeysetPosition actual = new Gson().fromJson(new Gson().toJson(new KeysetPosition(beginValues, endValues)), KeysetPosition.class);
+        assertThat(actual.getBeginValues(), is(beginValues));
+        assertThat(actual.getEndValues().size(), is(1));
+        assertThat((byte[]) actual.getEndValues().get(0), is(new byte[]{(byte) 0xff, 0x00, 0x7f}));
+    }
+    
+    @Test
+    public void assertInventoryPositionGroupJson() {
+        String json = "{\"unfinished\":{\"ds0.t_order#0\":[[[\"LONG\",\"1\"],[\"STRING\",\"a\"]],[[\"LONG\",\"2\"],[\"STRING\",\"b\"]]],\"ds0.t_order#1\":[1,100]},\"finished\":[]}";
+        InventoryPositionGroup actual = InventoryPositionGroup.fromJson(json);
+        assertThat(((KeysetPosition) actual.getUnfinished().get("ds0.t_order#0")).getBeginValues(), is(Arrays.<Object>asList(1L, "a")));
+        assertThat(((PrimaryKeyPosition) actual.getUnfinished().get("ds0.t_order#1")).getEndValue(), is(100L));
+        assertThat(actual.toJson(), is(json));
+    }
+}
@@ -23,6 +23,9 @@ import org.apache.shardingsphere.scaling.core.config.JDBCScalingDataSourceConfig
 import org.apache.shardingsphere.scaling.core.config.ScalingDataSourceConfiguration;
 import org.apache.shardingsphere.scaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.job.position.KeysetPosition;
+import org.apache.shardingsphere.scaling.core.job.position.Position;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
 import org.junit.After;
 import org.junit.Before;
@@ -32,8 +35,12 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -71,25 +78,39 @@ public final class InventoryDataTaskSplitterTest {
     @Test
     public void assertSplitInventoryDataWithIntPrimary() throws SQLException {
         initIntPrimaryEnvironment(syncConfig.getDumperConfiguration());
-        Collection<ScalingTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfig, dataSourceManager);
-        assertNotNull(actual);
+        List<ScalingTask> actual = new ArrayList<>(inventoryDataTaskSplitter.splitInventoryData(syncConfig, dataSourceManager));
         assertThat(actual.size(), is(3));
+        assertPrimaryKeyPosition(actual.get(0).getPositionManager().getPosition(), 1L, 3L);
+        assertPrimaryKeyPosition(actual.get(1).getPositionManager().getPosition(), 4L, 6L);
+        assertPrimaryKeyPosition(actual.get(2).getPositionManager().getPosition(), 7L, 999L);
     }
     
     @Test
-    public void assertSplitInventoryDataWithCharPrimary() throws SQLException {
-        initCharPrimaryEnvironment(syncConfig.getDumperConfiguration());
+    public void assertSplitInventoryDataWithFewRows() throws SQLException {
+        initFewRowsEnvironment(syncConfig.getDumperConfiguration());
         Collection<ScalingTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfig, dataSourceManager);
         assertNotNull(actual);
         assertThat(actual.size(), is(1));
     }
     
+    @Test
+    public void assertSplitInventoryDataWithCharPrimary() throws SQLException {
+        initCharPrimaryEnvironment(syncConfig.getDumperConfiguration());
+        List<ScalingTask> actual = new ArrayList<>(inventoryDataTaskSplitter.splitInventoryData(syncConfig, dataSourceManager));
+        assertThat(actual.size(), is(3));
+        assertKeysetPosition(actual.get(0).getPositionManager().getPosition(), null, Collections.<Object>singletonList("c"));
+        assertKeysetPosition(actual.get(1).getPositionManager().getPosition(), Collections.<Object>singletonList("c"), Collections.<Object>singletonList("f"));
+        assertKeysetPosition(actual.get(2).getPositionManager().getPosition(), Collections.<Object>singletonList("f"), null);
+    }
+    
     @Test
     public void assertSplitInventoryDataWithUnionPrimary() throws SQLException {
         initUnionPrimaryEnvironment(syncConfig.getDumperConfiguration());
-        Collection<ScalingTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfig, dataSourceManager);
-        assertNotNull(actual);
-        assertThat(actual.size(), is(1));
+        List<ScalingTask> actual = new ArrayList<>(inventoryDataTaskSplitter.splitInventoryData(syncConfig, dataSourceManager));
+        assertThat(actual.size(), is(3));
+        assertKeysetPosition(actual.get(0).getPositionManager().getPosition(), null, Arrays.<Object>asList(1, "c"));
+        assertKeysetPosition(actual.get(1).getPositionManager().getPosition(), Arrays.<Object>asList(1, "c"), Arrays.<Object>asList(2, "c"));
+        assertKeysetPosition(actual.get(2).getPositionManager().getPosition(), Arrays.<Object>asList(2, "c"), null);
     }
     
     @Test
@@ -100,7 +121,27 @@ public final class InventoryDataTaskSplitterTest {
         assertThat(actual.size(), is(1));
     }
     
+    private void assertPrimaryKeyPosition(final Position<?> actual, final long expectedBeginValue, final long expectedEndValue) {
+        assertThat(((PrimaryKeyPosition) actual).getBeginValue(), is(expectedBeginValue));
+        assertThat(((PrimaryKeyPosition) actual).getEndValue(), is(expectedEndValue));
+    }
+    
+    private void assertKeysetPosition(final Position<?> actual, final List<Object> expectedBeginValues, final List<Object> expectedEndValues) {
+        assertThat(((KeysetPosition) actual).getBeginValues(), is(expectedBeginValues));
+        assertThat(((KeysetPosition) actual).getEndValues(), is(expectedEndValues));
+    }
+    
     private void initIntPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfiguration());
+        try (Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (id INT PRIMARY KEY, user_id VARCHAR(12))");
+            statement.execute("INSERT INTO t_order (id, user_id) VALUES (1, 'a'), (2, 'b'), (3, 'c'), (4, 'd'), (5, 'e'), (6, 'f'), (7, 'g'), (8, 'h'), (999, 'i')");
+        }
+    }
+    
+    private void initFewRowsEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfiguration());
         try (Connection connection = dataSource.getConnection();
             Statement statement = connection.createStatement()) {
@@ -115,8 +156,8 @@ public final class InventoryDataTaskSplitterTest {
         try (Connection connection = dataSource.getConnection();
             Statement statement = connection.createStatement()) {
             statement.execute("DROP TABLE IF EXISTS t_order");
-            statement.execute("CREATE TABLE t_order (id CHAR(3) PRIMARY KEY, user_id VARCHAR(12))");
-            statement.execute("INSERT INTO t_order (id, user_id) VALUES ('1', 'xxx'), ('999', 'yyy')");
+            statement.execute("CREATE TABLE t_order (id CHAR(1) PRIMARY KEY, user_id VARCHAR(12))");
+            statement.execute("INSERT INTO t_order (id, user_id) VALUES ('a', 'x'), ('b', 'x'), ('c', 'x'), ('d', 'x'), ('e', 'x'), ('f', 'x'), ('g', 'x'), ('h', 'x'), ('i', 'x')");
         }
     }
     
@@ -126,7 +167,7 @@ public final class InventoryDataTaskSplitterTest {
             Statement statement = connection.createStatement()) {
             statement.execute("DROP TABLE IF EXISTS t_order");
             statement.execute("CREATE TABLE t_order (id INT, user_id VARCHAR(12), PRIMARY KEY (id, user_id))");
-            statement.execute("INSERT INTO t_order (id, user_id) VALUES (1, 'xxx'), (999, 'yyy')");
+            statement.execute("INSERT INTO t_order (id, user_id) VALUES (1, 'a'), (1, 'b'), (1, 'c'), (2, 'a'), (2, 'b'), (2, 'c'), (3, 'a'), (3, 'b'), (3, 'c')");
         }
     }
     
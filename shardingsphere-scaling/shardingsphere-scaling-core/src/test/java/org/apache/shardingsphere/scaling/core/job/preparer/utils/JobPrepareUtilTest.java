@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.preparer.utils;
+
+import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class JobPrepareUtilTest {
+    
+    @Test
+    public void assertGroupInventoryDataTasksRoundRobin() {
+        List<ScalingTask> tasks = mockTasks(5);
+        List<List<ScalingTask>> actual = JobPrepareUtil.groupInventoryDataTasks(2, tasks);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(Arrays.asList(tasks.get(0), tasks.get(2), tasks.get(4))));
+        assertThat(actual.get(1), is(Arrays.asList(tasks.get(1), tasks.get(3))));
+    }
+    
+    @Test
+    public void assertGroupInventoryDataTasksWithMoreGroupsThanTasks() {
+        List<ScalingTask> tasks = mockTasks(2);
+        List<List<ScalingTask>> actual = JobPrepareUtil.groupInventoryDataTasks(4, tasks);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(Collections.singletonList(tasks.get(0))));
+        assertThat(actual.get(1), is(Collections.singletonList(tasks.get(1))));
+    }
+    
+    @Test
+    public void assertGroupInventoryDataTasksWithoutTasks() {
+        assertTrue(JobPrepareUtil.groupInventoryDataTasks(3, Collections.emptyList()).isEmpty());
+    }
+    
+    private List<ScalingTask> mockTasks(final int count) {
+        List<ScalingTask> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(mock(ScalingTask.class));
+        }
+        return result;
+    }
+}
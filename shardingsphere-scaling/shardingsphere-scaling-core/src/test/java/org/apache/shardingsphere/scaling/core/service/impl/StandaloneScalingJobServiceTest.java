@@ -19,6 +19,7 @@ package org.apache.shardingsphere.scaling.core.service.impl;
 
 import com.google.common.collect.Maps;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.scaling.core.check.DataConsistencyCheckProgress;
 import org.apache.shardingsphere.scaling.core.check.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.check.DataConsistencyChecker;
 import org.apache.shardingsphere.scaling.core.config.ScalingConfiguration;
@@ -39,6 +40,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
@@ -121,10 +123,18 @@ public final class StandaloneScalingJobServiceTest {
                 result.put("t1", true);
                 return result;
             }
+            
+            @Override
+            public Map<String, DataConsistencyCheckProgress> getCheckProgress() {
+                return Collections.singletonMap("t1", new DataConsistencyCheckProgress(1));
+            }
         });
         Map<String, DataConsistencyCheckResult> checkResult = scalingJobService.check(shardingScalingJob.get().getJobId());
         assertTrue(checkResult.get("t1").isCountValid());
         assertTrue(checkResult.get("t1").isDataValid());
+        assertThat(scalingJobService.getCheckProgress(shardingScalingJob.get().getJobId()).get("t1").getTotalChunks(), is(1));
+        scalingJobService.remove(shardingScalingJob.get().getJobId());
+        assertTrue(scalingJobService.getCheckProgress(shardingScalingJob.get().getJobId()).isEmpty());
     }
     
     @Test(expected = ScalingJobNotFoundException.class)
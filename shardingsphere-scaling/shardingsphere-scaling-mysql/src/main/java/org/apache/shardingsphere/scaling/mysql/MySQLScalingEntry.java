@@ -20,6 +20,7 @@ package org.apache.shardingsphere.scaling.mysql;
 import org.apache.shardingsphere.scaling.core.check.DataConsistencyChecker;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.JDBCDumper;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.LogDumper;
+import org.apache.shardingsphere.scaling.core.execute.executor.importer.AbstractSQLBuilder;
 import org.apache.shardingsphere.scaling.core.execute.executor.importer.Importer;
 import org.apache.shardingsphere.scaling.core.job.position.PositionManager;
 import org.apache.shardingsphere.scaling.core.job.preparer.checker.DataSourceChecker;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.scaling.mysql.component.MySQLDataSourceChecker;
 import org.apache.shardingsphere.scaling.mysql.component.MySQLImporter;
 import org.apache.shardingsphere.scaling.mysql.component.MySQLJdbcDumper;
 import org.apache.shardingsphere.scaling.mysql.component.MySQLPositionManager;
+import org.apache.shardingsphere.scaling.mysql.component.MySQLSQLBuilder;
 
 /**
  * MySQL scaling entry.
@@ -66,6 +68,11 @@ public final class MySQLScalingEntry implements ScalingEntry {
         return MySQLDataConsistencyChecker.class;
     }
     
+    @Override
+    public Class<? extends AbstractSQLBuilder> getSQLBuilderClass() {
+        return MySQLSQLBuilder.class;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "MySQL";
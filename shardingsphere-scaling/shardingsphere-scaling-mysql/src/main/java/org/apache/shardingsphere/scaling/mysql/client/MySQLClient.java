@@ -38,15 +38,22 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.binlog.MySQLCo
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.AbstractBinlogEvent;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.scaling.mysql.client.netty.MySQLBinlogEventPacketDecoder;
 import org.apache.shardingsphere.scaling.mysql.client.netty.MySQLCommandPacketDecoder;
 import org.apache.shardingsphere.scaling.mysql.client.netty.MySQLNegotiateHandler;
 
 import java.net.InetSocketAddress;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
 
 /**
  * MySQL Connector.
@@ -55,6 +62,8 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public final class MySQLClient {
     
+    private static final int ROWS_DECODE_THREAD_NUMBER = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    
     private final ConnectInfo connectInfo;
     
     private EventLoopGroup eventLoopGroup;
@@ -63,10 +72,18 @@ public final class MySQLClient {
     
     private Promise<Object> responseCallback;
     
-    private final ArrayBlockingQueue<AbstractBinlogEvent> blockingEventQueue = new ArrayBlockingQueue<>(10000);
+    private final ArrayBlockingQueue<Future<AbstractBinlogEvent>> blockingEventQueue = new ArrayBlockingQueue<>(10000);
+    
+    private ThreadPoolExecutor rowsDecodeExecutor;
+    
+    private BiPredicate<String, String> tableFilter = (schemaName, tableName) -> true;
+    
+    private AbstractBinlogEvent lastBinlogEvent;
     
     private ServerInfo serverInfo;
     
+    private volatile boolean closed;
+    
     /**
      * Connect to MySQL.
      */
@@ -135,11 +152,31 @@ public final class MySQLClient {
      * @param binlogPosition binlog position
      */
     public synchronized void subscribe(final String binlogFileName, final long binlogPosition) {
+        lastBinlogEvent = createStartEvent(binlogFileName, binlogPosition);
         initDumpConnectSession();
         registerSlave();
         dumpBinlog(binlogFileName, binlogPosition, queryChecksumLength());
     }
     
+    /**
+     * Start dump binlog, rows of tables rejected by table filter are not decoded.
+     *
+     * @param binlogFileName binlog file name
+     * @param binlogPosition binlog position
+     * @param tableFilter filter of schema name and table name
+     */
+    public synchronized void subscribe(final String binlogFileName, final long binlogPosition, final BiPredicate<String, String> tableFilter) {
+        this.tableFilter = tableFilter;
+        subscribe(binlogFileName, binlogPosition);
+    }
+    
+    private AbstractBinlogEvent createStartEvent(final String binlogFileName, final long binlogPosition) {
+        PlaceholderEvent result = new PlaceholderEvent();
+        result.setFileName(binlogFileName);
+        result.setPosition(binlogPosition);
+        return result;
+    }
+    
     private void initDumpConnectSession() {
         if (serverInfo.getServerVersion().greaterThanOrEqualTo(5, 6, 0)) {
             execute("SET @MASTER_BINLOG_CHECKSUM= @@GLOBAL.BINLOG_CHECKSUM");
@@ -175,24 +212,61 @@ public final class MySQLClient {
         responseCallback = null;
         channel.pipeline().remove(MySQLCommandPacketDecoder.class);
         channel.pipeline().remove(MySQLCommandResponseHandler.class);
-        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength));
+        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, tableFilter, getRowsDecodeExecutor()));
         channel.pipeline().addLast(new MySQLBinlogEventHandler());
         channel.writeAndFlush(new MySQLComBinlogDumpCommandPacket((int) binlogPosition, connectInfo.getServerId(), binlogFileName));
     }
     
+    private ThreadPoolExecutor getRowsDecodeExecutor() {
+        if (null == rowsDecodeExecutor) {
+            rowsDecodeExecutor = new ThreadPoolExecutor(ROWS_DECODE_THREAD_NUMBER, ROWS_DECODE_THREAD_NUMBER, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), ExecutorThreadFactoryBuilder.build("ShardingScaling-binlog-decode-%d"));
+            rowsDecodeExecutor.allowCoreThreadTimeOut(true);
+        }
+        return rowsDecodeExecutor;
+    }
+    
     /**
      * Poll binlog event.
      *
+     * <p>
+     * Rows may be decoded in parallel, but binlog events are always polled in the order of binlog.
+     * </p>
+     *
      * @return binlog event
      */
     public synchronized AbstractBinlogEvent poll() {
         try {
-            return blockingEventQueue.poll(100, TimeUnit.MILLISECONDS);
+            Future<AbstractBinlogEvent> future = blockingEventQueue.poll(100, TimeUnit.MILLISECONDS);
+            if (null == future) {
+                return null;
+            }
+            lastBinlogEvent = future.get();
+            return lastBinlogEvent;
         } catch (final InterruptedException ignored) {
             return null;
+        } catch (final ExecutionException ex) {
+            throw new RuntimeException(ex.getCause());
         }
     }
     
+    /**
+     * Close MySQL client, the connection and threads are released and will not reconnect.
+     */
+    public synchronized void close() {
+        closed = true;
+        if (null != channel) {
+            channel.close();
+        }
+        if (null != eventLoopGroup) {
+            eventLoopGroup.shutdownGracefully();
+        }
+        if (null != rowsDecodeExecutor) {
+            rowsDecodeExecutor.shutdownNow();
+        }
+        blockingEventQueue.clear();
+    }
+    
     @SuppressWarnings("unchecked")
     private <T> T waitExpectedResponse(final Class<T> type) {
         try {
@@ -232,13 +306,13 @@ public final class MySQLClient {
     
     private final class MySQLBinlogEventHandler extends ChannelInboundHandlerAdapter {
         
-        private AbstractBinlogEvent lastBinlogEvent;
-        
+        @SuppressWarnings("unchecked")
         @Override
         public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
             if (msg instanceof AbstractBinlogEvent) {
-                lastBinlogEvent = (AbstractBinlogEvent) msg;
-                blockingEventQueue.put(lastBinlogEvent);
+                blockingEventQueue.put(CompletableFuture.completedFuture((AbstractBinlogEvent) msg));
+            } else if (msg instanceof Future) {
+                blockingEventQueue.put((Future<AbstractBinlogEvent>) msg);
             }
         }
         
@@ -255,10 +329,16 @@ public final class MySQLClient {
         }
         
         private void reconnect() {
+            if (closed) {
+                return;
+            }
             log.info("reconnect mysql client.");
             closeOldChannel();
-            connect();
-            subscribe(lastBinlogEvent.getFileName(), lastBinlogEvent.getPosition());
+            synchronized (MySQLClient.this) {
+                blockingEventQueue.clear();
+                connect();
+                subscribe(lastBinlogEvent.getFileName(), lastBinlogEvent.getPosition());
+            }
         }
         
         private void closeOldChannel() {
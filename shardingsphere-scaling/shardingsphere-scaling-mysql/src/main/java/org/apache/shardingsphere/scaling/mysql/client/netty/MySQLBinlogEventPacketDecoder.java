@@ -35,7 +35,10 @@ import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import lombok.extern.slf4j.Slf4j;
+
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiPredicate;
 
 /**
  * MySQL binlog event packet decoder.
@@ -45,9 +48,31 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private final BinlogContext binlogContext;
     
+    private final BiPredicate<String, String> tableFilter;
+    
+    private final ExecutorService rowsDecodeExecutor;
+    
     public MySQLBinlogEventPacketDecoder(final int checksumLength) {
+        this(checksumLength, (schemaName, tableName) -> true, null);
+    }
+    
+    /**
+     * Create MySQL binlog event packet decoder.
+     *
+     * <p>
+     * Rows of events whose table is rejected by table filter are skipped without decoding.
+     * If rows decode executor is present, rows are decoded by the executor and a future of event is output instead of event, in the same order of binlog.
+     * </p>
+     *
+     * @param checksumLength checksum length
+     * @param tableFilter filter of schema name and table name
+     * @param rowsDecodeExecutor rows decode executor, null means decoding rows in event loop
+     */
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final BiPredicate<String, String> tableFilter, final ExecutorService rowsDecodeExecutor) {
         binlogContext = new BinlogContext();
         binlogContext.setChecksumLength(checksumLength);
+        this.tableFilter = tableFilter;
+        this.rowsDecodeExecutor = rowsDecodeExecutor;
     }
     
     @Override
@@ -69,15 +94,15 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 break;
             case WRITE_ROWS_EVENTv1:
             case WRITE_ROWS_EVENTv2:
-                out.add(decodeWriteRowsEventV2(binlogEventHeader, payload));
+                out.add(decodeRowsEvent(binlogEventHeader, payload, new WriteRowsEvent()));
                 break;
             case UPDATE_ROWS_EVENTv1:
             case UPDATE_ROWS_EVENTv2:
-                out.add(decodeUpdateRowsEventV2(binlogEventHeader, payload));
+                out.add(decodeRowsEvent(binlogEventHeader, payload, new UpdateRowsEvent()));
                 break;
             case DELETE_ROWS_EVENTv1:
             case DELETE_ROWS_EVENTv2:
-                out.add(decodeDeleteRowsEventV2(binlogEventHeader, payload));
+                out.add(decodeRowsEvent(binlogEventHeader, payload, new DeleteRowsEvent()));
                 break;
             default:
                 out.add(createPlaceholderEvent(binlogEventHeader));
@@ -126,32 +151,41 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         binlogContext.putTableMapEvent(tableMapEventPacket.getTableId(), tableMapEventPacket);
     }
     
-    private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
-        DeleteRowsEvent result = new DeleteRowsEvent();
-        initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setBeforeRows(rowsEventPacket.getRows());
-        return result;
-    }
-    
-    private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private Object decodeRowsEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload, final AbstractRowsEvent rowsEvent) {
         MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
-        UpdateRowsEvent result = new UpdateRowsEvent();
-        initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setBeforeRows(rowsEventPacket.getRows());
-        result.setAfterRows(rowsEventPacket.getRows2());
-        return result;
+        long tableId = rowsEventPacket.getTableId();
+        if (!tableFilter.test(binlogContext.getSchemaName(tableId), binlogContext.getTableName(tableId))) {
+            payload.skipReserved(payload.getByteBuf().readableBytes());
+            return createPlaceholderEvent(binlogEventHeader);
+        }
+        initRowsEvent(rowsEvent, binlogEventHeader, tableId);
+        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(tableId);
+        if (null == rowsDecodeExecutor) {
+            readRows(rowsEvent, rowsEventPacket, tableMapEventPacket, payload);
+            return rowsEvent;
+        }
+        ByteBuf rows = payload.getByteBuf().readRetainedSlice(payload.getByteBuf().readableBytes());
+        return rowsDecodeExecutor.submit(() -> {
+            try {
+                readRows(rowsEvent, rowsEventPacket, tableMapEventPacket, new MySQLPacketPayload(rows));
+                return rowsEvent;
+            } finally {
+                rows.release();
+            }
+        });
     }
     
-    private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
-        WriteRowsEvent result = new WriteRowsEvent();
-        initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setAfterRows(rowsEventPacket.getRows());
-        return result;
+    private void readRows(final AbstractRowsEvent rowsEvent, final MySQLBinlogRowsEventPacket rowsEventPacket,
+                          final MySQLBinlogTableMapEventPacket tableMapEventPacket, final MySQLPacketPayload payload) {
+        rowsEventPacket.readRows(tableMapEventPacket, payload);
+        if (rowsEvent instanceof WriteRowsEvent) {
+            ((WriteRowsEvent) rowsEvent).setAfterRows(rowsEventPacket.getRows());
+        } else if (rowsEvent instanceof UpdateRowsEvent) {
+            ((UpdateRowsEvent) rowsEvent).setBeforeRows(rowsEventPacket.getRows());
+            ((UpdateRowsEvent) rowsEvent).setAfterRows(rowsEventPacket.getRows2());
+        } else if (rowsEvent instanceof DeleteRowsEvent) {
+            ((DeleteRowsEvent) rowsEvent).setBeforeRows(rowsEventPacket.getRows());
+        }
     }
     
     private void initRowsEvent(final AbstractRowsEvent rowsEvent, final MySQLBinlogEventHeader binlogEventHeader, final long tableId) {
@@ -87,12 +87,17 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor imp
         JdbcUri uri = new JdbcUri(jdbcDataSourceConfig.getJdbcUrl());
         MySQLClient client = new MySQLClient(new ConnectInfo(random.nextInt(), uri.getHostname(), uri.getPort(), jdbcDataSourceConfig.getUsername(), jdbcDataSourceConfig.getPassword()));
         client.connect();
-        client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
-        while (isRunning()) {
-            AbstractBinlogEvent event = client.poll();
-            if (null != event) {
-                handleEvent(uri, event);
+        client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition(),
+                (schemaName, tableName) -> uri.getDatabase().equals(schemaName) && dumperConfig.getTableNameMap().containsKey(tableName));
+        try {
+            while (isRunning()) {
+                AbstractBinlogEvent event = client.poll();
+                if (null != event) {
+                    handleEvent(uri, event);
+                }
             }
+        } finally {
+            client.close();
         }
         pushRecord(new FinishedRecord(new PlaceholderPosition()));
     }
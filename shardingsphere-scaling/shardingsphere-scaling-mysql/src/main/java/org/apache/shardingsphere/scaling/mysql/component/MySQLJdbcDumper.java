@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.scaling.mysql.component;
 
+import com.google.common.collect.Maps;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.JDBCScalingDataSourceConfiguration;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.AbstractJDBCDumper;
+import org.apache.shardingsphere.scaling.core.execute.executor.importer.AbstractSQLBuilder;
 import org.apache.shardingsphere.scaling.core.metadata.JdbcUri;
 
 import java.sql.Connection;
@@ -86,4 +88,9 @@ public final class MySQLJdbcDumper extends AbstractJDBCDumper {
         result.setFetchSize(Integer.MIN_VALUE);
         return result;
     }
+    
+    @Override
+    protected AbstractSQLBuilder createSQLBuilder() {
+        return new MySQLSQLBuilder(Maps.newHashMap());
+    }
 }
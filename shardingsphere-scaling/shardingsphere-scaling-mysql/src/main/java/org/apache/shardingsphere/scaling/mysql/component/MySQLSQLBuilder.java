@@ -22,6 +22,7 @@ import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.utils.ShardingColumnsUtil;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
@@ -45,8 +46,8 @@ public final class MySQLSQLBuilder extends AbstractSQLBuilder {
     }
     
     @Override
-    public String buildInsertSQL(final DataRecord dataRecord) {
-        return super.buildInsertSQL(dataRecord) + buildDuplicateUpdateSQL(dataRecord);
+    public String buildInsertSQL(final DataRecord dataRecord, final int rowCount) {
+        return super.buildInsertSQL(dataRecord, rowCount) + buildDuplicateUpdateSQL(dataRecord);
     }
     
     private String buildDuplicateUpdateSQL(final DataRecord dataRecord) {
@@ -63,14 +64,26 @@ public final class MySQLSQLBuilder extends AbstractSQLBuilder {
         return result.toString();
     }
     
+    @Override
+    public String buildEstimatedRowCountSQL(final String tableName) {
+        return String.format("SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '%s'", escapeStringLiteral(tableName));
+    }
+    
+    @Override
+    protected String escapeStringLiteral(final String value) {
+        return super.escapeStringLiteral(value.replace("\\", "\\\\"));
+    }
+    
     /**
-     * Build select sum crc32 SQL.
+     * Build chunk checksum SQL.
      *
-     * @param tableName table Name
-     * @param column column
-     * @return select sum crc32 SQL
+     * @param tableName table name
+     * @param columns columns
+     * @param conditionSQL chunk condition SQL
+     * @return select count and sum crc32 of chunk rows SQL
      */
-    public String buildSumCrc32SQL(final String tableName, final String column) {
-        return String.format("SELECT SUM(CRC32(%s)) from %s", quote(column), quote(tableName));
+    public String buildChunkChecksumSQL(final String tableName, final Collection<String> columns, final String conditionSQL) {
+        return String.format("SELECT COUNT(*), SUM(CRC32(CONCAT_WS('#',%s,%s))) FROM %s%s",
+                joinColumns(columns, "%s"), joinColumns(columns, "ISNULL(%s)"), quote(tableName), buildChunkWhereSQL(conditionSQL));
     }
 }
@@ -26,6 +26,9 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.binlog.MySQLCo
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.scaling.core.utils.ReflectionUtil;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.AbstractBinlogEvent;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.WriteRowsEvent;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -34,8 +37,14 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
@@ -111,6 +120,34 @@ public final class MySQLClientTest {
         verify(channel).writeAndFlush(ArgumentMatchers.any(MySQLComBinlogDumpCommandPacket.class));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertPollInBinlogOrder() throws NoSuchFieldException, IllegalAccessException {
+        ArrayBlockingQueue<CompletableFuture<AbstractBinlogEvent>> blockingEventQueue = ReflectionUtil.getFieldValue(mysqlClient, "blockingEventQueue", ArrayBlockingQueue.class);
+        CompletableFuture<AbstractBinlogEvent> rowsEventFuture = new CompletableFuture<>();
+        PlaceholderEvent placeholderEvent = new PlaceholderEvent();
+        blockingEventQueue.add(rowsEventFuture);
+        blockingEventQueue.add(CompletableFuture.completedFuture(placeholderEvent));
+        WriteRowsEvent writeRowsEvent = new WriteRowsEvent();
+        new Thread(() -> rowsEventFuture.complete(writeRowsEvent)).start();
+        assertThat(mysqlClient.poll(), is(writeRowsEvent));
+        assertThat(mysqlClient.poll(), is(placeholderEvent));
+        assertThat(mysqlClient.poll(), nullValue());
+    }
+    
+    @Test
+    public void assertClose() throws NoSuchFieldException, IllegalAccessException {
+        NioEventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+        ThreadPoolExecutor rowsDecodeExecutor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        ReflectionUtil.setFieldValue(mysqlClient, "channel", channel);
+        ReflectionUtil.setFieldValue(mysqlClient, "eventLoopGroup", eventLoopGroup);
+        ReflectionUtil.setFieldValue(mysqlClient, "rowsDecodeExecutor", rowsDecodeExecutor);
+        mysqlClient.close();
+        verify(channel).close();
+        assertTrue(eventLoopGroup.isShuttingDown());
+        assertTrue(rowsDecodeExecutor.isShutdown());
+    }
+    
     @SuppressWarnings("unchecked")
     private void mockChannelResponse(final Object response) {
         new Thread(() -> {
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlog
 import org.apache.shardingsphere.scaling.core.utils.ReflectionUtil;
 import org.apache.shardingsphere.scaling.mysql.binlog.BinlogContext;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.DeleteRowsEvent;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.WriteRowsEvent;
 import org.junit.Before;
@@ -35,6 +36,10 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -136,4 +141,38 @@ public final class MySQLBinlogEventPacketDecoderTest {
         assertThat(decodedEvents.size(), is(1));
         assertThat(decodedEvents.get(0), instanceOf(DeleteRowsEvent.class));
     }
+    
+    @Test
+    public void assertDecodeRowEventOfFilteredTable() throws NoSuchFieldException, IllegalAccessException {
+        binlogEventPacketDecoder = new MySQLBinlogEventPacketDecoder(4, (schemaName, tableName) -> false, null);
+        binlogContext = ReflectionUtil.getFieldValue(binlogEventPacketDecoder, "binlogContext", BinlogContext.class);
+        when(byteBuf.readUnsignedByte()).thenReturn((short) 0, (short) 0, (short) MySQLBinlogEventType.WRITE_ROWS_EVENTv2.getValue(), (short) 0);
+        when(byteBuf.readUnsignedShortLE()).thenReturn(2);
+        binlogContext.getTableMap().put(0L, tableMapEventPacket);
+        List<Object> decodedEvents = new ArrayList<>();
+        binlogEventPacketDecoder.decode(null, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(1));
+        assertThat(decodedEvents.get(0), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    public void assertDecodeRowEventByExecutor() throws NoSuchFieldException, IllegalAccessException, InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            binlogEventPacketDecoder = new MySQLBinlogEventPacketDecoder(4, (schemaName, tableName) -> true, executorService);
+            binlogContext = ReflectionUtil.getFieldValue(binlogEventPacketDecoder, "binlogContext", BinlogContext.class);
+            when(byteBuf.readUnsignedByte()).thenReturn((short) 0, (short) 0, (short) MySQLBinlogEventType.WRITE_ROWS_EVENTv2.getValue(), (short) 0);
+            when(byteBuf.readUnsignedShortLE()).thenReturn(2);
+            when(byteBuf.readRetainedSlice(0)).thenReturn(byteBuf);
+            binlogContext.getTableMap().put(0L, tableMapEventPacket);
+            when(tableMapEventPacket.getColumnDefs()).thenReturn(Collections.emptyList());
+            List<Object> decodedEvents = new ArrayList<>();
+            binlogEventPacketDecoder.decode(null, byteBuf, decodedEvents);
+            assertThat(decodedEvents.size(), is(1));
+            assertThat(decodedEvents.get(0), instanceOf(Future.class));
+            assertThat(((Future<?>) decodedEvents.get(0)).get(), instanceOf(WriteRowsEvent.class));
+        } finally {
+            executorService.shutdown();
+        }
+    }
 }
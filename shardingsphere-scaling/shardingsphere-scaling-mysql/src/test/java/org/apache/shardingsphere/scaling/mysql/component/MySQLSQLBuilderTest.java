@@ -24,6 +24,7 @@ import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -46,9 +47,27 @@ public final class MySQLSQLBuilderTest {
     }
     
     @Test
-    public void assertBuildSumCrc32SQL() {
-        String actual = sqlBuilder.buildSumCrc32SQL("t2", "id");
-        assertThat(actual, is("SELECT SUM(CRC32(`id`)) from `t2`"));
+    public void assertBuildMultiRowInsertSQL() {
+        String actual = sqlBuilder.buildInsertSQL(mockDataRecord("t2"), 2);
+        assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?),(?,?,?,?,?) ON DUPLICATE KEY UPDATE `c1`=VALUES(`c1`),`c2`=VALUES(`c2`),`c3`=VALUES(`c3`)"));
+    }
+    
+    @Test
+    public void assertBuildEstimatedRowCountSQL() {
+        String actual = sqlBuilder.buildEstimatedRowCountSQL("t_'order");
+        assertThat(actual, is("SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 't_''order'"));
+    }
+    
+    @Test
+    public void assertBuildChunkChecksumSQL() {
+        String actual = sqlBuilder.buildChunkChecksumSQL("t2", Arrays.asList("id", "c1"), "`id` > ? AND `id` <= ?");
+        assertThat(actual, is("SELECT COUNT(*), SUM(CRC32(CONCAT_WS('#',`id`,`c1`,ISNULL(`id`),ISNULL(`c1`)))) FROM `t2` WHERE `id` > ? AND `id` <= ?"));
+    }
+    
+    @Test
+    public void assertBuildChunkChecksumSQLWithoutCondition() {
+        String actual = sqlBuilder.buildChunkChecksumSQL("t2", Arrays.asList("id", "c1"), "");
+        assertThat(actual, is("SELECT COUNT(*), SUM(CRC32(CONCAT_WS('#',`id`,`c1`,ISNULL(`id`),ISNULL(`c1`)))) FROM `t2`"));
     }
     
     private DataRecord mockDataRecord(final String tableName) {
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.postgresql.component;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
+import org.postgresql.util.PGobject;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * PostgreSQL COPY text format utility.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyTextUtil {
+    
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    
+    /**
+     * Convert data records to rows of COPY text format.
+     *
+     * @param dataRecords data records
+     * @return COPY text, empty if any value can not be converted to its text representation, then the records should be inserted with parameters
+     * @throws SQLException SQL exception
+     */
+    public static Optional<String> toCopyText(final List<DataRecord> dataRecords) throws SQLException {
+        StringBuilder result = new StringBuilder();
+        for (DataRecord each : dataRecords) {
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                if (i > 0) {
+                    result.append('\t');
+                }
+                Object value = each.getColumn(i).getValue();
+                if (null == value) {
+                    result.append("\\N");
+                    continue;
+                }
+                Optional<String> text = toText(value);
+                if (!text.isPresent()) {
+                    return Optional.empty();
+                }
+                appendEscaped(result, text.get());
+            }
+            result.append('\n');
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private static Optional<String> toText(final Object value) throws SQLException {
+        if (value instanceof byte[]) {
+            return Optional.of(toByteaText((byte[]) value));
+        }
+        if (value instanceof java.sql.Array) {
+            return toArrayText(((java.sql.Array) value).getArray());
+        }
+        if (value.getClass().isArray()) {
+            return toArrayText(value);
+        }
+        if (value instanceof PGobject) {
+            return Optional.ofNullable(((PGobject) value).getValue());
+        }
+        if (value instanceof BigDecimal) {
+            return Optional.of(((BigDecimal) value).toPlainString());
+        }
+        if (value instanceof Time) {
+            return Optional.of(new Timestamp(((Time) value).getTime()).toLocalDateTime().toLocalTime().toString());
+        }
+        if (value instanceof java.sql.Date || value instanceof Timestamp) {
+            return Optional.of(value.toString());
+        }
+        if (value instanceof Date) {
+            return Optional.of(new Timestamp(((Date) value).getTime()).toString());
+        }
+        if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof UUID || isISOTemporal(value)) {
+            return Optional.of(value.toString());
+        }
+        return Optional.empty();
+    }
+    
+    private static boolean isISOTemporal(final Object value) {
+        return value instanceof LocalDate || value instanceof LocalTime || value instanceof LocalDateTime || value instanceof OffsetDateTime || value instanceof OffsetTime || value instanceof Instant;
+    }
+    
+    private static String toByteaText(final byte[] value) {
+        StringBuilder result = new StringBuilder(2 + value.length * 2).append("\\x");
+        for (byte each : value) {
+            result.append(HEX_DIGITS[(each >> 4) & 0xF]).append(HEX_DIGITS[each & 0xF]);
+        }
+        return result.toString();
+    }
+    
+    private static Optional<String> toArrayText(final Object array) throws SQLException {
+        StringBuilder result = new StringBuilder("{");
+        for (int i = 0; i < Array.getLength(array); i++) {
+            if (i > 0) {
+                result.append(',');
+            }
+            Object element = Array.get(array, i);
+            if (null == element) {
+                result.append("NULL");
+                continue;
+            }
+            Optional<String> text = toText(element);
+            if (!text.isPresent()) {
+                return Optional.empty();
+            }
+            if (element.getClass().isArray() && !(element instanceof byte[])) {
+                result.append(text.get());
+            } else {
+                appendQuotedArrayElement(result, text.get());
+            }
+        }
+        return Optional.of(result.append('}').toString());
+    }
+    
+    private static void appendQuotedArrayElement(final StringBuilder builder, final String text) {
+        builder.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char each = text.charAt(i);
+            if ('"' == each || '\\' == each) {
+                builder.append('\\');
+            }
+            builder.append(each);
+        }
+        builder.append('"');
+    }
+    
+    private static void appendEscaped(final StringBuilder builder, final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char each = text.charAt(i);
+            switch (each) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                default:
+                    builder.append(each);
+                    break;
+            }
+        }
+    }
+}
@@ -20,11 +20,10 @@ package org.apache.shardingsphere.scaling.postgresql.component;
 import com.google.common.collect.Maps;
 import org.apache.shardingsphere.scaling.core.check.AbstractDataConsistencyChecker;
 import org.apache.shardingsphere.scaling.core.check.DataConsistencyChecker;
-import org.apache.shardingsphere.scaling.core.execute.executor.importer.AbstractSQLBuilder;
 import org.apache.shardingsphere.scaling.core.job.ShardingScalingJob;
 
-import java.util.Collections;
-import java.util.Map;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * PostgreSQL data consistency checker.
@@ -36,12 +35,12 @@ public final class PostgreSQLDataConsistencyChecker extends AbstractDataConsiste
     }
     
     @Override
-    public Map<String, Boolean> dataCheck() {
-        return Collections.emptyMap();
+    protected Optional<String> buildChunkChecksumSQL(final String tableName, final List<String> columns, final String conditionSQL) {
+        return Optional.of(getSqlBuilder().buildChunkChecksumSQL(tableName, columns, conditionSQL));
     }
     
     @Override
-    protected AbstractSQLBuilder getSqlBuilder() {
+    protected PostgreSQLSQLBuilder getSqlBuilder() {
         return new PostgreSQLSQLBuilder(Maps.newHashMap());
     }
 }
@@ -17,19 +17,39 @@
 
 package org.apache.shardingsphere.scaling.postgresql.component;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.execute.executor.importer.AbstractJDBCImporter;
 import org.apache.shardingsphere.scaling.core.execute.executor.importer.AbstractSQLBuilder;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
  * postgreSQL importer.
  */
+@Slf4j
 public final class PostgreSQLImporter extends AbstractJDBCImporter {
     
+    private static final String FEATURE_NOT_SUPPORTED_SQL_STATE_CLASS = "0A";
+    
+    private static final Collection<String> COPY_UNSUPPORTED_SQL_STATES = Arrays.asList("42501", "42601");
+    
+    private volatile boolean copyEnabled = true;
+    
     public PostgreSQLImporter(final ImporterConfiguration importerConfig, final DataSourceManager dataSourceManager) {
         super(importerConfig, dataSourceManager);
     }
@@ -38,5 +58,42 @@ public final class PostgreSQLImporter extends AbstractJDBCImporter {
     protected AbstractSQLBuilder createSQLBuilder(final Map<String, Set<String>> shardingColumnsMap) {
         return new PostgreSQLSQLBuilder(shardingColumnsMap);
     }
+    
+    @Override
+    protected void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        if (copyEnabled && connection.isWrapperFor(BaseConnection.class)) {
+            Optional<String> copyText = PostgreSQLCopyTextUtil.toCopyText(dataRecords);
+            if (copyText.isPresent()) {
+                try {
+                    executeCopyInsert(connection, dataRecords.get(0), copyText.get());
+                    return;
+                } catch (final SQLException ex) {
+                    if (!isCopyUnsupported(ex)) {
+                        throw ex;
+                    }
+                    log.warn("Copy into staging table is unsupported by target, fall back to multi-row insert.", ex);
+                    copyEnabled = false;
+                    connection.rollback();
+                }
+            }
+        }
+        super.executeBatchInsert(connection, dataRecords);
+    }
+    
+    private void executeCopyInsert(final Connection connection, final DataRecord dataRecord, final String copyText) throws SQLException {
+        PostgreSQLSQLBuilder sqlBuilder = (PostgreSQLSQLBuilder) getSqlBuilder();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sqlBuilder.buildCreateStagingTableSQL(dataRecord.getTableName()));
+            new CopyManager(connection.unwrap(BaseConnection.class)).copyIn(sqlBuilder.buildCopyStagingSQL(dataRecord), new StringReader(copyText));
+            statement.execute(sqlBuilder.buildMergeStagingSQL(dataRecord));
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    // ShardingSphere-Proxy as target reports failures without SQL state, while PostgreSQL server always reports one.
+    private boolean isCopyUnsupported(final SQLException ex) {
+        String sqlState = ex.getSQLState();
+        return null == sqlState || (sqlState.startsWith(FEATURE_NOT_SUPPORTED_SQL_STATE_CLASS) || COPY_UNSUPPORTED_SQL_STATES.contains(sqlState));
+    }
 }
-
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.scaling.postgresql.component;
 
+import com.google.common.collect.Maps;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
 import org.apache.shardingsphere.scaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.execute.executor.dumper.AbstractJDBCDumper;
+import org.apache.shardingsphere.scaling.core.execute.executor.importer.AbstractSQLBuilder;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -41,4 +43,9 @@ public final class PostgreSQLJdbcDumper extends AbstractJDBCDumper {
         result.setFetchSize(1);
         return result;
     }
+    
+    @Override
+    protected AbstractSQLBuilder createSQLBuilder() {
+        return new PostgreSQLSQLBuilder(Maps.newHashMap());
+    }
 }
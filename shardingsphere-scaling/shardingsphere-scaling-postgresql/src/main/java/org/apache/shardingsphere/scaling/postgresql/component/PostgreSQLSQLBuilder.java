@@ -22,6 +22,10 @@ import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord
 import org.apache.shardingsphere.scaling.core.execute.executor.record.RecordUtil;
 import org.apache.shardingsphere.scaling.core.execute.executor.importer.AbstractSQLBuilder;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -30,6 +34,10 @@ import java.util.Set;
  */
 public final class PostgreSQLSQLBuilder extends AbstractSQLBuilder {
     
+    private static final String STAGING_TABLE_PREFIX = "scaling_staging_";
+    
+    private static final int MAX_IDENTIFIER_BYTES = 63;
+    
     public PostgreSQLSQLBuilder(final Map<String, Set<String>> shardingColumnsMap) {
         super(shardingColumnsMap);
     }
@@ -45,8 +53,8 @@ public final class PostgreSQLSQLBuilder extends AbstractSQLBuilder {
     }
     
     @Override
-    public String buildInsertSQL(final DataRecord dataRecord) {
-        return super.buildInsertSQL(dataRecord) + buildConflictSQL(dataRecord);
+    public String buildInsertSQL(final DataRecord dataRecord, final int rowCount) {
+        return super.buildInsertSQL(dataRecord, rowCount) + buildConflictSQL(dataRecord);
     }
     
     private String buildConflictSQL(final DataRecord dataRecord) {
@@ -58,4 +66,91 @@ public final class PostgreSQLSQLBuilder extends AbstractSQLBuilder {
         result.append(") DO NOTHING");
         return result.toString();
     }
+    
+    @Override
+    public String buildEstimatedRowCountSQL(final String tableName) {
+        return String.format("SELECT reltuples::BIGINT FROM pg_class WHERE oid = TO_REGCLASS('%s')", escapeStringLiteral(quote(tableName).toString()));
+    }
+    
+    @Override
+    public String buildPrimaryKeySampleSQL(final String tableName, final List<String> primaryKeys, final double samplingRate) {
+        String columns = joinColumns(primaryKeys, "%s");
+        String tableSample = samplingRate < 1D ? String.format(" TABLESAMPLE SYSTEM (%s)", formatDecimal(samplingRate * 100)) : "";
+        return String.format("SELECT %s FROM %s%s ORDER BY %s", columns, quote(tableName), tableSample, columns);
+    }
+    
+    /**
+     * Build create staging table SQL.
+     *
+     * @param tableName table name
+     * @return create temporary staging table SQL, rows are deleted on commit
+     */
+    public String buildCreateStagingTableSQL(final String tableName) {
+        return String.format("CREATE TEMPORARY TABLE IF NOT EXISTS %s (LIKE %s) ON COMMIT DELETE ROWS", quote(getStagingTableName(tableName)), quote(tableName));
+    }
+    
+    /**
+     * Build copy into staging table SQL.
+     *
+     * @param dataRecord data record
+     * @return copy from stdin SQL
+     */
+    public String buildCopyStagingSQL(final DataRecord dataRecord) {
+        return String.format("COPY %s(%s) FROM STDIN", quote(getStagingTableName(dataRecord.getTableName())), joinColumns(getColumnNames(dataRecord), "%s"));
+    }
+    
+    /**
+     * Build merge staging table into target table SQL.
+     *
+     * @param dataRecord data record
+     * @return insert select SQL
+     */
+    public String buildMergeStagingSQL(final DataRecord dataRecord) {
+        String columns = joinColumns(getColumnNames(dataRecord), "%s");
+        return String.format("INSERT INTO %s(%s) SELECT %s FROM %s", quote(dataRecord.getTableName()), columns, columns, quote(getStagingTableName(dataRecord.getTableName())))
+                + buildConflictSQL(dataRecord);
+    }
+    
+    private String getStagingTableName(final String tableName) {
+        String result = STAGING_TABLE_PREFIX + tableName;
+        if (getByteLength(result) <= MAX_IDENTIFIER_BYTES) {
+            return result;
+        }
+        String suffix = String.format("_%08x", tableName.hashCode());
+        int maxTableNameBytes = MAX_IDENTIFIER_BYTES - STAGING_TABLE_PREFIX.length() - suffix.length();
+        StringBuilder truncatedTableName = new StringBuilder();
+        for (int i = 0; i < tableName.length(); i = tableName.offsetByCodePoints(i, 1)) {
+            String codePoint = new String(Character.toChars(tableName.codePointAt(i)));
+            if (getByteLength(truncatedTableName + codePoint) > maxTableNameBytes) {
+                break;
+            }
+            truncatedTableName.append(codePoint);
+        }
+        return STAGING_TABLE_PREFIX + truncatedTableName + suffix;
+    }
+    
+    private int getByteLength(final String identifier) {
+        return identifier.getBytes(StandardCharsets.UTF_8).length;
+    }
+    
+    private List<String> getColumnNames(final DataRecord dataRecord) {
+        List<String> result = new ArrayList<>(dataRecord.getColumnCount());
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            result.add(dataRecord.getColumn(i).getName());
+        }
+        return result;
+    }
+    
+    /**
+     * Build chunk checksum SQL.
+     *
+     * @param tableName table name
+     * @param columns columns
+     * @param conditionSQL chunk condition SQL
+     * @return select count and sum of 32 bits md5 prefix of chunk rows SQL
+     */
+    public String buildChunkChecksumSQL(final String tableName, final Collection<String> columns, final String conditionSQL) {
+        return String.format("SELECT COUNT(*), SUM(('x' || SUBSTR(MD5(ROW(%s)::TEXT), 1, 8))::BIT(32)::BIGINT) FROM %s%s",
+                joinColumns(columns, "%s"), quote(tableName), buildChunkWhereSQL(conditionSQL));
+    }
 }
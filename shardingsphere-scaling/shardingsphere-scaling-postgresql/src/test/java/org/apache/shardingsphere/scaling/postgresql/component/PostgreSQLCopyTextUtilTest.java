@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.postgresql.component;
+
+import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
+import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.scaling.postgresql.wal.WalPosition;
+import org.junit.Test;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.util.PGobject;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLCopyTextUtilTest {
+    
+    @Test
+    public void assertToCopyTextWithEscapedCharacters() throws SQLException {
+        assertThat(toCopyText("a\\b\tc\nd\re"), is("a\\\\b\\tc\\nd\\re\n"));
+    }
+    
+    @Test
+    public void assertToCopyTextWithNull() throws SQLException {
+        assertThat(toCopyText(null), is("\\N\n"));
+    }
+    
+    @Test
+    public void assertToCopyTextWithNullString() throws SQLException {
+        assertThat(toCopyText("\\N"), is("\\\\N\n"));
+    }
+    
+    @Test
+    public void assertToCopyTextWithBytes() throws SQLException {
+        assertThat(toCopyText(new byte[]{(byte) 0xff, 0x00, 0x1a}), is("\\\\xff001a\n"));
+    }
+    
+    @Test
+    public void assertToCopyTextWithMultipleColumnsAndRecords() throws SQLException {
+        DataRecord dataRecord = new DataRecord(new WalPosition(LogSequenceNumber.valueOf(100L)), 3);
+        dataRecord.addColumn(new Column("id", 1, true, true));
+        dataRecord.addColumn(new Column("name", "foo", true, false));
+        dataRecord.addColumn(new Column("remark", null, true, false));
+        assertThat(PostgreSQLCopyTextUtil.toCopyText(Arrays.asList(dataRecord, dataRecord)), is(Optional.of("1\tfoo\t\\N\n1\tfoo\t\\N\n")));
+    }
+    
+    @Test
+    public void assertToCopyTextWithBigDecimal() throws SQLException {
+        assertThat(toCopyText(new BigDecimal("1E+3")), is("1000\n"));
+    }
+    
+    @Test
+    public void assertToCopyTextWithTimestamp() throws SQLException {
+        assertThat(toCopyText(Timestamp.valueOf("2020-01-01 10:00:00.123")), is("2020-01-01 10:00:00.123\n"));
+    }
+    
+    @Test
+    public void assertToCopyTextWithJavaArray() throws SQLException {
+        assertThat(toCopyText(new String[]{"a\"b", null, "c\\d"}), is("{\"a\\\\\"b\",NULL,\"c\\\\\\\\d\"}\n"));
+        assertThat(toCopyText(new int[]{1, 2}), is("{\"1\",\"2\"}\n"));
+    }
+    
+    @Test
+    public void assertToCopyTextWithSQLArray() throws SQLException {
+        Array array = mock(Array.class);
+        when(array.getArray()).thenReturn(new Integer[][]{{1, 2}, {3, 4}});
+        assertThat(toCopyText(array), is("{{\"1\",\"2\"},{\"3\",\"4\"}}\n"));
+    }
+    
+    @Test
+    public void assertToCopyTextWithPGobject() throws SQLException {
+        PGobject value = new PGobject();
+        value.setType("json");
+        value.setValue("{\"a\":\"b\\tc\"}");
+        assertThat(toCopyText(value), is("{\"a\":\"b\\\\tc\"}\n"));
+    }
+    
+    @Test
+    public void assertToCopyTextWithUnsupportedValue() throws SQLException {
+        DataRecord dataRecord = new DataRecord(new WalPosition(LogSequenceNumber.valueOf(100L)), 1);
+        dataRecord.addColumn(new Column("id", new Object(), true, true));
+        assertFalse(PostgreSQLCopyTextUtil.toCopyText(Collections.singletonList(dataRecord)).isPresent());
+    }
+    
+    private String toCopyText(final Object value) throws SQLException {
+        DataRecord dataRecord = new DataRecord(new WalPosition(LogSequenceNumber.valueOf(100L)), 1);
+        dataRecord.addColumn(new Column("value", value, true, false));
+        return PostgreSQLCopyTextUtil.toCopyText(Collections.singletonList(dataRecord)).orElse(null);
+    }
+}
@@ -27,10 +27,25 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.postgresql.core.BaseConnection;
 import org.postgresql.replication.LogSequenceNumber;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class PostgreSQLImporterTest {
@@ -41,6 +56,9 @@ public final class PostgreSQLImporterTest {
     @Mock
     private DataSourceManager dataSourceManager;
     
+    @Mock
+    private Connection connection;
+    
     @Test
     public void assertCreateSQLBuilder() {
         PostgreSQLImporter postgreSQLImporter = new PostgreSQLImporter(importerConfig, dataSourceManager);
@@ -48,6 +66,74 @@ public final class PostgreSQLImporterTest {
         assertThat(insertSQL, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?) ON CONFLICT (id) DO NOTHING"));
     }
     
+    @Test
+    public void assertExecuteBatchInsertFallbackWhenCopyUnsupported() throws SQLException {
+        when(connection.isWrapperFor(BaseConnection.class)).thenReturn(true);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.execute(anyString())).thenThrow(new SQLException("COPY is not supported", "0A000"));
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        PostgreSQLImporter importer = new PostgreSQLImporter(importerConfig, dataSourceManager);
+        List<DataRecord> dataRecords = Collections.singletonList(mockDataRecord());
+        importer.executeBatchInsert(connection, dataRecords);
+        verify(connection).rollback();
+        verify(preparedStatement).executeBatch();
+        importer.executeBatchInsert(connection, dataRecords);
+        verify(connection).createStatement();
+        verify(preparedStatement, times(2)).executeBatch();
+    }
+    
+    @Test
+    public void assertExecuteBatchInsertFallbackWhenCopyFailedWithoutSQLState() throws SQLException {
+        when(connection.isWrapperFor(BaseConnection.class)).thenReturn(true);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.execute(anyString())).thenThrow(new SQLException("Unsupported command"));
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        PostgreSQLImporter importer = new PostgreSQLImporter(importerConfig, dataSourceManager);
+        List<DataRecord> dataRecords = Collections.singletonList(mockDataRecord());
+        importer.executeBatchInsert(connection, dataRecords);
+        importer.executeBatchInsert(connection, dataRecords);
+        verify(connection).createStatement();
+        verify(connection).rollback();
+        verify(preparedStatement, times(2)).executeBatch();
+    }
+    
+    @Test
+    public void assertExecuteBatchInsertWithCopyDataError() throws SQLException {
+        when(connection.isWrapperFor(BaseConnection.class)).thenReturn(true);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.execute(anyString())).thenThrow(new SQLException("invalid input syntax for type integer", "22P02"));
+        PostgreSQLImporter importer = new PostgreSQLImporter(importerConfig, dataSourceManager);
+        List<DataRecord> dataRecords = Collections.singletonList(mockDataRecord());
+        for (int i = 0; i < 2; i++) {
+            try {
+                importer.executeBatchInsert(connection, dataRecords);
+                fail("Expected SQLException");
+            } catch (final SQLException ex) {
+                assertThat(ex.getSQLState(), is("22P02"));
+            }
+        }
+        verify(connection, times(2)).createStatement();
+        verify(connection, never()).rollback();
+        verify(connection, never()).prepareStatement(anyString());
+    }
+    
+    @Test
+    public void assertExecuteBatchInsertWithValueUnsupportedByCopy() throws SQLException {
+        when(connection.isWrapperFor(BaseConnection.class)).thenReturn(true);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        DataRecord dataRecord = mockDataRecord();
+        dataRecord.addColumn(new Column("extra", new Object(), true, false));
+        new PostgreSQLImporter(importerConfig, dataSourceManager).executeBatchInsert(connection, Collections.singletonList(dataRecord));
+        verify(connection, never()).createStatement();
+        verify(preparedStatement).executeBatch();
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WalPosition(LogSequenceNumber.valueOf(100L)), 2);
         result.setTableName("t_order");
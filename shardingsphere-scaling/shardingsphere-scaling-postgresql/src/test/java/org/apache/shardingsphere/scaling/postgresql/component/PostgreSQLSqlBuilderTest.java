@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.scaling.postgresql.component;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.Maps;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.scaling.core.execute.executor.record.DataRecord;
@@ -24,7 +25,10 @@ import org.apache.shardingsphere.scaling.postgresql.wal.WalPosition;
 import org.junit.Test;
 import org.postgresql.replication.LogSequenceNumber;
 
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
 public final class PostgreSQLSqlBuilderTest {
@@ -35,6 +39,53 @@ public final class PostgreSQLSqlBuilderTest {
         assertThat(actual, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?) ON CONFLICT (id) DO NOTHING"));
     }
     
+    @Test
+    public void assertBuildCreateStagingTableSQL() {
+        String actual = new PostgreSQLSQLBuilder(Maps.newHashMap()).buildCreateStagingTableSQL("t_order");
+        assertThat(actual, is("CREATE TEMPORARY TABLE IF NOT EXISTS \"scaling_staging_t_order\" (LIKE \"t_order\") ON COMMIT DELETE ROWS"));
+    }
+    
+    @Test
+    public void assertBuildCreateStagingTableSQLWithLongTableName() {
+        String tableName = "t_order_" + Strings.repeat("x", 54);
+        String actual = new PostgreSQLSQLBuilder(Maps.newHashMap()).buildCreateStagingTableSQL(tableName);
+        String stagingTableName = actual.substring(actual.indexOf('"') + 1, actual.indexOf('"', actual.indexOf('"') + 1));
+        assertThat(stagingTableName.length(), is(63));
+        assertThat(stagingTableName, is("scaling_staging_t_order_" + Strings.repeat("x", 30) + String.format("_%08x", tableName.hashCode())));
+        String otherActual = new PostgreSQLSQLBuilder(Maps.newHashMap()).buildCreateStagingTableSQL(tableName + "y");
+        assertFalse(otherActual.contains(stagingTableName));
+    }
+    
+    @Test
+    public void assertBuildCopyStagingSQL() {
+        String actual = new PostgreSQLSQLBuilder(Maps.newHashMap()).buildCopyStagingSQL(mockDataRecord());
+        assertThat(actual, is("COPY \"scaling_staging_t_order\"(\"id\",\"name\") FROM STDIN"));
+    }
+    
+    @Test
+    public void assertBuildMergeStagingSQL() {
+        String actual = new PostgreSQLSQLBuilder(Maps.newHashMap()).buildMergeStagingSQL(mockDataRecord());
+        assertThat(actual, is("INSERT INTO \"t_order\"(\"id\",\"name\") SELECT \"id\",\"name\" FROM \"scaling_staging_t_order\" ON CONFLICT (id) DO NOTHING"));
+    }
+    
+    @Test
+    public void assertBuildEstimatedRowCountSQL() {
+        String actual = new PostgreSQLSQLBuilder(Maps.newHashMap()).buildEstimatedRowCountSQL("t_order");
+        assertThat(actual, is("SELECT reltuples::BIGINT FROM pg_class WHERE oid = TO_REGCLASS('\"t_order\"')"));
+    }
+    
+    @Test
+    public void assertBuildPrimaryKeySampleSQL() {
+        String actual = new PostgreSQLSQLBuilder(Maps.newHashMap()).buildPrimaryKeySampleSQL("t_order", Arrays.asList("id", "name"), 0.005D);
+        assertThat(actual, is("SELECT \"id\",\"name\" FROM \"t_order\" TABLESAMPLE SYSTEM (0.5) ORDER BY \"id\",\"name\""));
+    }
+    
+    @Test
+    public void assertBuildChunkChecksumSQL() {
+        String actual = new PostgreSQLSQLBuilder(Maps.newHashMap()).buildChunkChecksumSQL("t_order", Arrays.asList("id", "name"), "\"id\" > ?");
+        assertThat(actual, is("SELECT COUNT(*), SUM(('x' || SUBSTR(MD5(ROW(\"id\",\"name\")::TEXT), 1, 8))::BIT(32)::BIGINT) FROM \"t_order\" WHERE \"id\" > ?"));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WalPosition(LogSequenceNumber.valueOf(100L)), 2);
         result.setTableName("t_order");